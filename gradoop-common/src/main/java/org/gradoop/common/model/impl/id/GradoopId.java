@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.MemorySegment;
@@ -23,19 +24,23 @@ import org.apache.flink.types.NormalizableKey;
 import org.bson.types.ObjectId;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
 
-import edu.umd.cs.findbugs.annotations.SuppressWarnings;
-
 import java.io.IOException;
 
 /**
  * Primary key for an EPGM element.
  *
- * This implementation uses a BSON {@link ObjectId} to guarantee uniqueness. Performance critical
- * methods, e.g. {@link GradoopId#equals(Object)} and {@link GradoopId#hashCode()} contain code
- * copied from {@link ObjectId} to avoid unnecessary object instantiations.
+ * This implementation uses a BSON {@link ObjectId} to guarantee uniqueness. The 12 bytes of the
+ * object id are stored in two primitive fields (the upper eight bytes as long, the lower four
+ * bytes as int) to avoid a per-instance byte array. Performance critical methods, e.g.
+ * {@link GradoopId#equals(Object)} and {@link GradoopId#hashCode()} work directly on these
+ * fields. Ordering, string and binary representation are the same as for {@link ObjectId}.
+ *
+ * Flink uses {@link GradoopIdTypeInfo} to (de-)serialize and compare ids, which avoids the generic
+ * {@link org.apache.flink.types.Value} code path.
  *
  * @see EPGMIdentifiable
  */
+@TypeInfo(GradoopIdTypeInfoFactory.class)
 public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<GradoopId> {
 
   /**
@@ -69,15 +74,21 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
 
   /**
-   * Internal byte representation
+   * Bytes 0 to 7 of the id (big-endian), i.e. timestamp, machine identifier and the upper byte
+   * of the process identifier.
+   */
+  private long highBits;
+
+  /**
+   * Bytes 8 to 11 of the id (big-endian), i.e. the lower byte of the process identifier and the
+   * counter.
    */
-  private byte[] bytes;
+  private int lowBits;
 
   /**
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopId() {
-    bytes = new byte[ID_SIZE];
   }
 
   /**
@@ -86,16 +97,19 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @param objectId ObjectId
    */
   GradoopId(ObjectId objectId) {
-    this.bytes = objectId.toByteArray();
+    this(objectId.toByteArray(), 0);
   }
 
   /**
    * Creates a GradoopId from a given byte representation
    *
    * @param bytes the GradoopId represented by the byte array
+   * @param offset start index of the id in the byte array
    */
-  private GradoopId(byte[] bytes) {
-    this.bytes = bytes;
+  private GradoopId(byte[] bytes, int offset) {
+    this.highBits = makeLong(bytes, offset);
+    this.lowBits = makeInt(bytes[offset + 8], bytes[offset + 9], bytes[offset + 10],
+      bytes[offset + 11]);
   }
 
   /**
@@ -110,9 +124,6 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   /**
    * Returns the Gradoop ID represented by a specified hexadecimal string.
    *
-   * Note: Implementation taken from {@link ObjectId#ObjectId(String)} to avoid object
-   * instantiation.
-   *
    * @param string hexadecimal GradoopId representation
    * @return GradoopId
    */
@@ -122,11 +133,63 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         "invalid hexadecimal representation of a GradoopId: [" + string + "]");
     }
 
-    byte[] b = new byte[12];
-    for (int i = 0; i < b.length; i++) {
-      b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
+    return fromBits(
+      Long.parseUnsignedLong(string.substring(0, 16), 16),
+      (int) Long.parseLong(string.substring(16), 16));
+  }
+
+  /**
+   * Returns the Gradoop ID represented by 24 hexadecimal ASCII characters starting at the given
+   * offset, e.g. inside a line of a text file. Avoids creating a String for the representation.
+   *
+   * @param bytes ASCII bytes
+   * @param offset index of the first character
+   * @return Gradoop ID
+   * @throws IllegalArgumentException if the characters are no valid representation
+   */
+  public static GradoopId fromHexBytes(byte[] bytes, int offset) {
+    if (offset < 0 || offset + 2 * ID_SIZE > bytes.length) {
+      throw new IllegalArgumentException(
+        "invalid hexadecimal representation of a GradoopId: too few characters");
+    }
+    long high = 0;
+    for (int i = offset; i < offset + 16; i++) {
+      high = (high << 4) | hexDigit(bytes[i]);
+    }
+    int low = 0;
+    for (int i = offset + 16; i < offset + 2 * ID_SIZE; i++) {
+      low = (low << 4) | hexDigit(bytes[i]);
+    }
+    return fromBits(high, low);
+  }
+
+  /**
+   * Returns the value of a hexadecimal ASCII character.
+   *
+   * @param c character
+   * @return value between 0 and 15
+   * @throws IllegalArgumentException if the character is no hexadecimal digit
+   */
+  private static int hexDigit(byte c) {
+    int digit = Character.digit((char) (c & 0xFF), 16);
+    if (digit == -1) {
+      throw new IllegalArgumentException(
+        "invalid hexadecimal representation of a GradoopId: [" + (char) (c & 0xFF) + "]");
     }
-    return new GradoopId(b);
+    return digit;
+  }
+
+  /**
+   * Returns the Gradoop ID represented by its upper eight and lower four bytes.
+   *
+   * @param high upper eight bytes (big-endian)
+   * @param low lower four bytes (big-endian)
+   * @return Gradoop ID
+   */
+  static GradoopId fromBits(long high, int low) {
+    GradoopId id = new GradoopId();
+    id.setBits(high, low);
+    return id;
   }
 
   /**
@@ -136,7 +199,18 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Gradoop ID
    */
   public static GradoopId fromByteArray(byte[] bytes) {
-    return new GradoopId(bytes);
+    return new GradoopId(bytes, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the 12 bytes starting at the given offset.
+   *
+   * @param bytes byte array containing the id
+   * @param offset start index of the id
+   * @return Gradoop ID
+   */
+  public static GradoopId fromByteArray(byte[] bytes, int offset) {
+    return new GradoopId(bytes, offset);
   }
 
   /**
@@ -144,11 +218,27 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    *
    * @return Byte representation
    */
-  @SuppressWarnings(value = "EI_EXPOSE_REP", justification = "never mutated")
   public byte[] toByteArray() {
+    byte[] bytes = new byte[ID_SIZE];
+    copyTo(bytes, 0);
     return bytes;
   }
 
+  /**
+   * Writes the byte representation of the id into the given array.
+   *
+   * @param target target array
+   * @param offset start index in the target array
+   */
+  public void copyTo(byte[] target, int offset) {
+    for (int i = 0; i < 8; i++) {
+      target[offset + i] = (byte) (highBits >>> (56 - 8 * i));
+    }
+    for (int i = 0; i < 4; i++) {
+      target[offset + 8 + i] = (byte) (lowBits >>> (24 - 8 * i));
+    }
+  }
+
   /**
    * Checks if the specified object is equal to the current id.
    *
@@ -163,8 +253,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     if (o == null || getClass() != o.getClass()) {
       return false;
     }
-
-    return equals(bytes, ((GradoopId) o).bytes, 0, 0);
+    GradoopId that = (GradoopId) o;
+    return lowBits == that.lowBits && highBits == that.highBits;
   }
 
   /**
@@ -184,7 +274,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   }
 
   /**
-   * Performs a byte-wise comparison of this and the specified GradoopId.
+   * Performs an unsigned comparison of this and the specified GradoopId which is equivalent to
+   * an unsigned byte-wise comparison of their byte representations.
    *
    * @param o the object to be compared.
    * @return  a negative integer, zero, or a positive integer as this object
@@ -192,23 +283,22 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int compareTo(GradoopId o) {
-    return compare(this.bytes, o.bytes);
+    return compare(highBits, lowBits, o.highBits, o.lowBits);
   }
 
   /**
    * Returns hex string representation of a GradoopId.
    *
-   * Note: Implementation is taken from {@link ObjectId#toString()} to avoid object instantiation.
-   *
    * @return GradoopId string representation.
    */
   @Override
   public String toString() {
     char[] chars = new char[24];
-    int i = 0;
-    for (byte b : bytes) {
-      chars[i++] = HEX_CHARS[b >> 4 & 0xF];
-      chars[i++] = HEX_CHARS[b & 0xF];
+    for (int i = 0; i < 16; i++) {
+      chars[i] = HEX_CHARS[(int) (highBits >>> (60 - 4 * i)) & 0xF];
+    }
+    for (int i = 0; i < 8; i++) {
+      chars[16 + i] = HEX_CHARS[(lowBits >>> (28 - 4 * i)) & 0xF];
     }
     return new String(chars);
   }
@@ -224,17 +314,30 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyNormalizedKey(MemorySegment target, int offset, int len) {
-    target.put(offset, bytes, 0, len);
+    if (len >= ID_SIZE) {
+      target.putLongBigEndian(offset, highBits);
+      target.putIntBigEndian(offset + 8, lowBits);
+      for (int i = ID_SIZE; i < len; i++) {
+        target.put(offset + i, (byte) 0);
+      }
+    } else {
+      for (int i = 0; i < len; i++) {
+        target.put(offset + i,
+          i < 8 ? (byte) (highBits >>> (56 - 8 * i)) : (byte) (lowBits >>> (88 - 8 * i)));
+      }
+    }
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.write(bytes);
+    out.writeLong(highBits);
+    out.writeInt(lowBits);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    in.readFully(bytes);
+    highBits = in.readLong();
+    lowBits = in.readInt();
   }
 
   //------------------------------------------------------------------------------------------------
@@ -248,12 +351,13 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyTo(GradoopId target) {
-    target.bytes = this.bytes;
+    target.highBits = this.highBits;
+    target.lowBits = this.lowBits;
   }
 
   @Override
   public GradoopId copy() {
-    return new GradoopId(this.bytes);
+    return fromBits(highBits, lowBits);
   }
 
   @Override
@@ -261,6 +365,39 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     target.write(source, ID_SIZE);
   }
 
+  //------------------------------------------------------------------------------------------------
+  // primitive access used by GradoopIdSerializer and GradoopIdComparator
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the upper eight bytes of the id as big-endian long.
+   *
+   * @return bytes 0 to 7
+   */
+  long getHighBits() {
+    return highBits;
+  }
+
+  /**
+   * Returns the lower four bytes of the id as big-endian int.
+   *
+   * @return bytes 8 to 11
+   */
+  int getLowBits() {
+    return lowBits;
+  }
+
+  /**
+   * Overwrites the id in place with the given upper eight and lower four bytes.
+   *
+   * @param high upper eight bytes (big-endian)
+   * @param low lower four bytes (big-endian)
+   */
+  void setBits(long high, int low) {
+    this.highBits = high;
+    this.lowBits = low;
+  }
+
   //------------------------------------------------------------------------------------------------
   // private little helpers
   //------------------------------------------------------------------------------------------------
@@ -271,7 +408,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the timestamp
    */
   private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
+    return (int) (highBits >>> 32);
   }
 
   /**
@@ -280,7 +417,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the machine identifier
    */
   private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
+    return (int) (highBits >>> 8) & 0xFFFFFF;
   }
 
   /**
@@ -289,7 +426,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the process identifier
    */
   private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
+    return (short) ((((int) highBits & 0xFF) << 8) | (lowBits >>> 24));
   }
 
   /**
@@ -298,10 +435,9 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the counter
    */
   private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
+    return lowBits & 0xFFFFFF;
   }
 
-
   //------------------------------------------------------------------------------------------------
   // static helper functions
   //------------------------------------------------------------------------------------------------
@@ -315,103 +451,85 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return smaller GradoopId or first if equal
    */
   public static GradoopId min(GradoopId first, GradoopId second) {
-    int comparison = first.compareTo(second);
-    return comparison == 0 ? first : (comparison == -1 ? first : second);
+    return first.compareTo(second) <= 0 ? first : second;
   }
 
   /**
-   * Checks if the Gradoop ids stored at the specified positions are equal.
+   * Compares two ids given by their upper eight and lower four bytes. The result is consistent
+   * with {@link GradoopId#compareTo(GradoopId)}.
    *
-   * Note: The order in which the id components are compared is taken from
-   * {@link ObjectId#equals(Object)}. However, we compare the values of the byte arrays directly.
+   * @param firstHigh upper bytes of the first id
+   * @param firstLow lower bytes of the first id
+   * @param secondHigh upper bytes of the second id
+   * @param secondLow lower bytes of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second id
+   */
+  static int compare(long firstHigh, int firstLow, long secondHigh, int secondLow) {
+    int comparison = Long.compareUnsigned(firstHigh, secondHigh);
+    return comparison != 0 ? comparison : Integer.compareUnsigned(firstLow, secondLow);
+  }
+
+  /**
+   * Checks if the id stored at the specified position of the byte array is equal to the given id.
    *
-   * @param first first gradoop id
-   * @param second second gradoop id
-   * @param firstPos start index in the first byte array
-   * @param secondPos start index in the second byte array
+   * @param bytes byte representation of multiple gradoop ids
+   * @param pos start index in the byte array
+   * @param id gradoop id
    *
-   * @return true, iff first is equal to second
+   * @return true, iff the id at the given position is equal to the given id
    */
-  static boolean equals(byte[] first, byte[] second, int firstPos, int secondPos) {
-    // compare counter (byte 9 to 11)
-    if (!equalsInRange(first, second, firstPos + 9, secondPos + 9, 3)) {
-      return false;
-    }
-    // compare machine identifier (byte 4 to 6)
-    if (!equalsInRange(first, second, firstPos + 4, secondPos + 4, 2)) {
-      return false;
-    }
-    // compare process identifier (byte 7 to 8)
-    if (!equalsInRange(first, second, firstPos + 7, secondPos + 7, 1)) {
-      return false;
-    }
-    // compare timestamp (byte 0 to 3)
-    if (!equalsInRange(first, second, firstPos, secondPos, 3)) {
-      return false;
-    }
-
-    return true;
+  static boolean equals(byte[] bytes, int pos, GradoopId id) {
+    int low = makeInt(bytes[pos + 8], bytes[pos + 9], bytes[pos + 10], bytes[pos + 11]);
+    return low == id.lowBits && makeLong(bytes, pos) == id.highBits;
   }
 
   /**
-   * Compares the specified GradoopIds based on their byte representation
-   * (to avoid object instantiation).
+   * Compares the id stored at the specified position of the byte array with the given id.
    *
-   * Note: Implementation is taken from {@link ObjectId#compareTo(Object)} to avoid object
-   * instantiation.
+   * @param bytes byte representation of multiple gradoop ids
+   * @param pos start index in the byte array
+   * @param id gradoop id
    *
-   * @param first first GradoopId
-   * @param second second GradoopId
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @return a negative integer, zero, or a positive integer as the id at the given position is
+   *         less than, equal to, or greater than the given id
    */
-  private static int compare(byte[] first, byte[] second) {
-    return compare(first, second, 0, 0, GradoopId.ID_SIZE);
+  static int compare(byte[] bytes, int pos, GradoopId id) {
+    int low = makeInt(bytes[pos + 8], bytes[pos + 9], bytes[pos + 10], bytes[pos + 11]);
+    return compare(makeLong(bytes, pos), low, id.highBits, id.lowBits);
   }
 
   /**
-   * Compares multiple GradoopIds represented a byte arrays at the specified ranges.
+   * Compares two ids stored at the specified positions of the given byte arrays.
    *
-   * @param first first byte representation of multiple gradoop ids
-   * @param second second byte representation of multiple gradoop ids
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length length of the range
+   * @param first byte representation of multiple gradoop ids
+   * @param firstPos start index in the first byte array
+   * @param second byte representation of multiple gradoop ids
+   * @param secondPos start index in the second byte array
    *
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second id
    */
-  private static int compare(byte[] first, byte[] second, int firstPos, int secondPos, int length) {
-    for (int i = 0; i < length; i++) {
+  static int compare(byte[] first, int firstPos, byte[] second, int secondPos) {
+    for (int i = 0; i < ID_SIZE; i++) {
       if (first[firstPos + i] != second[secondPos + i]) {
-        return ((first[firstPos + i] & 0xff) < (second[secondPos + i] & 0xff)) ? -1 : 1;
+        return (first[firstPos + i] & 0xff) < (second[secondPos + i] & 0xff) ? -1 : 1;
       }
     }
     return 0;
   }
 
   /**
-   * Checks if the given byte arrays contain equal elements in specified given range.
+   * Returns a primitive long represented by the 8 bytes starting at the given position.
    *
-   * @param first first array
-   * @param second second array
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length number of bytes to compare for equality
+   * @param bytes byte array
+   * @param pos start index
    *
-   * @return true, iff both arrays have equal values in the specified range
+   * @return long value
    */
-  private static boolean equalsInRange(byte[] first, byte[] second, int firstPos, int secondPos,
-    int length) {
-    int upperBound = firstPos + length;
-    while (firstPos < upperBound) {
-      if (first[firstPos] != second[secondPos]) {
-        return false;
-      }
-      ++firstPos;
-      ++secondPos;
-    }
-    return true;
+  private static long makeLong(byte[] bytes, int pos) {
+    return ((long) makeInt(bytes[pos], bytes[pos + 1], bytes[pos + 2], bytes[pos + 3]) << 32) |
+      (makeInt(bytes[pos + 4], bytes[pos + 5], bytes[pos + 6], bytes[pos + 7]) & 0xFFFFFFFFL);
   }
 
   /**
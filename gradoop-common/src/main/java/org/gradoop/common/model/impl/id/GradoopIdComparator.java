@@ -0,0 +1,165 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.io.IOException;
+
+/**
+ * Comparator for {@link GradoopId}.
+ *
+ * Serialized ids are compared by reading one long and one int from each input, without
+ * materializing {@link GradoopId} instances. The normalized key is the 12 byte big-endian
+ * representation which is consistent with {@link GradoopId#compareTo(GradoopId)}.
+ */
+public class GradoopIdComparator extends TypeComparator<GradoopId> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * True, iff ids are sorted in ascending order.
+   */
+  private final boolean ascending;
+
+  /**
+   * Flat comparators (this comparator)
+   */
+  private final TypeComparator[] comparators = new TypeComparator[] { this };
+
+  /**
+   * Upper eight bytes of the reference id.
+   */
+  private transient long referenceHigh;
+
+  /**
+   * Lower four bytes of the reference id.
+   */
+  private transient int referenceLow;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, iff ids shall be sorted in ascending order
+   */
+  public GradoopIdComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(GradoopId record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(GradoopId toCompare) {
+    referenceHigh = toCompare.getHighBits();
+    referenceLow = toCompare.getLowBits();
+  }
+
+  @Override
+  public boolean equalToReference(GradoopId candidate) {
+    return candidate.getLowBits() == referenceLow && candidate.getHighBits() == referenceHigh;
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<GradoopId> referencedComparator) {
+    GradoopIdComparator other = (GradoopIdComparator) referencedComparator;
+    int comparison = GradoopId.compare(
+      other.referenceHigh, other.referenceLow, referenceHigh, referenceLow);
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public int compare(GradoopId first, GradoopId second) {
+    int comparison = GradoopId.compare(
+      first.getHighBits(), first.getLowBits(), second.getHighBits(), second.getLowBits());
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+      throws IOException {
+    long firstHigh = firstSource.readLong();
+    int firstLow = firstSource.readInt();
+    long secondHigh = secondSource.readLong();
+    int secondLow = secondSource.readInt();
+    int comparison = GradoopId.compare(firstHigh, firstLow, secondHigh, secondLow);
+    return ascending ? comparison : -comparison;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(GradoopId record, MemorySegment target, int offset, int numBytes) {
+    record.copyNormalizedKey(target, offset, numBytes);
+  }
+
+  @Override
+  public void writeWithKeyNormalization(GradoopId record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public GradoopId readWithKeyDenormalization(GradoopId reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<GradoopId> duplicate() {
+    return new GradoopIdComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return comparators;
+  }
+}
@@ -29,17 +29,39 @@ import java.util.Objects;
 /**
  * Represents a list of {@link GradoopId} instances, possibly containing duplicates.
  *
+ * A list can be switched to sorted mode via {@link #sort()} or created sorted via
+ * {@link #sortedFromExisting(Collection)}. In sorted mode the ids are kept in ascending order on
+ * insertion, {@link #contains(GradoopId)} uses binary search and the set operations
+ * {@link #intersect(GradoopIdList)}, {@link #union(GradoopIdList)} and
+ * {@link #difference(GradoopIdList)} are computed by merging.
+ *
  * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
  * (de-)serializing the list.
  *
  * @see GradoopId
  */
 public class GradoopIdList implements Iterable<GradoopId>, Value {
+  /**
+   * Bit in the serialized length which marks a sorted list.
+   */
+  private static final int SORTED_FLAG = 0x80000000;
+
+  /**
+   * Up to this number of probed ids, an unsorted list is scanned linearly instead of being
+   * sorted first.
+   */
+  private static final int LINEAR_SCAN_THRESHOLD = 8;
+
   /**
    * Contains the serialized representation of gradoop ids.
    */
   private byte[] bytes;
 
+  /**
+   * True, iff the ids are kept in ascending order.
+   */
+  private boolean sorted;
+
   /**
    * Required default constructor for instantiation by serialization logic.
    */
@@ -54,6 +76,17 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
     this.bytes = bytes;
   }
 
+  /**
+   * Initializes the list with the given byte array.
+   *
+   * @param bytes bytes representing multiple gradoop ids
+   * @param sorted true, iff the ids are in ascending order
+   */
+  private GradoopIdList(byte[] bytes, boolean sorted) {
+    this.bytes = bytes;
+    this.sorted = sorted;
+  }
+
   /**
    * Creates a new instance from multiple GradoopIDs.
    *
@@ -75,13 +108,25 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
 
     int i = 0;
     for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+      id.copyTo(bytes, i * GradoopId.ID_SIZE);
       i++;
     }
 
     return new GradoopIdList(bytes);
   }
 
+  /**
+   * Creates a new sorted instance from multiple GradoopIDs.
+   *
+   * @param ids given ids
+   * @return sorted gradoop id list
+   */
+  public static GradoopIdList sortedFromExisting(Collection<GradoopId> ids) {
+    GradoopIdList list = fromExisting(ids);
+    list.sort();
+    return list;
+  }
+
   /**
    * Creates a new instance from multiple GradoopIDs represented as byte array.
    *
@@ -92,6 +137,35 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
     return new GradoopIdList(bytes);
   }
 
+  /**
+   * Sorts the ids in ascending order and keeps them sorted on subsequent insertions.
+   */
+  public void sort() {
+    if (!sorted && size() > 1) {
+      GradoopId[] ids = new GradoopId[size()];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = GradoopId.fromByteArray(bytes, i * GradoopId.ID_SIZE);
+      }
+      Arrays.sort(ids);
+      // the array may be shared with other lists, thus it is not sorted in place
+      byte[] sortedBytes = new byte[bytes.length];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i].copyTo(sortedBytes, i * GradoopId.ID_SIZE);
+      }
+      bytes = sortedBytes;
+    }
+    sorted = true;
+  }
+
+  /**
+   * Checks if the list is in sorted mode.
+   *
+   * @return true, iff the ids are kept in ascending order
+   */
+  public boolean isSorted() {
+    return sorted;
+  }
+
   /**
    * Adds the given gradoop id to the list.
    *
@@ -100,9 +174,17 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
   public void add(GradoopId id) {
     if (isEmpty()) {
       bytes = id.toByteArray();
+    } else if (sorted) {
+      int index = binarySearch(id);
+      int pos = (index < 0 ? -(index + 1) : index) * GradoopId.ID_SIZE;
+      byte[] extended = new byte[bytes.length + GradoopId.ID_SIZE];
+      System.arraycopy(bytes, 0, extended, 0, pos);
+      id.copyTo(extended, pos);
+      System.arraycopy(bytes, pos, extended, pos + GradoopId.ID_SIZE, bytes.length - pos);
+      this.bytes = extended;
     } else {
       byte[] extended = Arrays.copyOf(bytes, bytes.length + GradoopId.ID_SIZE);
-      System.arraycopy(id.toByteArray(), 0, extended, bytes.length, GradoopId.ID_SIZE);
+      id.copyTo(extended, bytes.length);
       this.bytes = extended;
     }
   }
@@ -113,7 +195,12 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdList ids) {
-    if (isEmpty()) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (sorted) {
+      bytes = merge(toByteArray(), ids.sortedBytes());
+    } else if (isEmpty()) {
       bytes = ids.toByteArray();
     } else {
       byte[] extended = Arrays.copyOf(bytes, bytes.length + ids.bytes.length);
@@ -128,13 +215,7 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @param ids the ids to add
    */
   public void addAll(Collection<GradoopId> ids) {
-    byte[] bytesArray = new byte[ids.size() * GradoopId.ID_SIZE];
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytesArray, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    addAll(new GradoopIdList(bytesArray));
+    addAll(fromExisting(ids));
   }
 
   /**
@@ -147,9 +228,11 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
     if (isEmpty()) {
       return false;
     }
-    byte[] idBytes = identifier.toByteArray();
+    if (sorted) {
+      return binarySearch(identifier) >= 0;
+    }
     for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      if (GradoopId.equals(bytes, idBytes, i * GradoopId.ID_SIZE, 0)) {
+      if (GradoopId.equals(bytes, i * GradoopId.ID_SIZE, identifier)) {
         return true;
       }
     }
@@ -163,8 +246,13 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @return true, iff all specified ids are contained in the list
    */
   public boolean containsAll(GradoopIdList ids) {
+    if (sorted && ids.sorted) {
+      return distinctSize(intersect(toByteArray(), ids.toByteArray())) ==
+        distinctSize(ids.toByteArray());
+    }
+    GradoopIdList probed = sortedForProbing(ids.size());
     for (GradoopId id : ids) {
-      if (!this.contains(id)) {
+      if (!probed.contains(id)) {
         return false;
       }
     }
@@ -178,8 +266,9 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @return true, iff all specified ids are contained in the list
    */
   public boolean containsAll(Collection<GradoopId> ids) {
+    GradoopIdList probed = sortedForProbing(ids.size());
     for (GradoopId id : ids) {
-      if (!this.contains(id)) {
+      if (!probed.contains(id)) {
         return false;
       }
     }
@@ -193,8 +282,15 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @return true, iff any of the specified ids is contained in the list
    */
   public boolean containsAny(GradoopIdList ids) {
+    if (sorted && ids.sorted) {
+      return intersect(toByteArray(), ids.toByteArray()).length > 0;
+    }
+    if (!sorted && ids.sorted) {
+      return ids.containsAny(this);
+    }
+    GradoopIdList probed = sortedForProbing(ids.size());
     for (GradoopId id : ids) {
-      if (this.contains(id)) {
+      if (probed.contains(id)) {
         return true;
       }
     }
@@ -208,14 +304,45 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
    * @return true, iff any of the specified ids is contained in the list
    */
   public boolean containsAny(Collection<GradoopId> ids) {
+    GradoopIdList probed = sortedForProbing(ids.size());
     for (GradoopId id : ids) {
-      if (this.contains(id)) {
+      if (probed.contains(id)) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Returns the ids contained in this and the given list.
+   *
+   * @param ids other list
+   * @return sorted list without duplicates
+   */
+  public GradoopIdList intersect(GradoopIdList ids) {
+    return new GradoopIdList(distinct(intersect(sortedBytes(), ids.sortedBytes())), true);
+  }
+
+  /**
+   * Returns the ids contained in this or the given list.
+   *
+   * @param ids other list
+   * @return sorted list without duplicates
+   */
+  public GradoopIdList union(GradoopIdList ids) {
+    return new GradoopIdList(distinct(merge(sortedBytes(), ids.sortedBytes())), true);
+  }
+
+  /**
+   * Returns the ids contained in this but not in the given list.
+   *
+   * @param ids other list
+   * @return sorted list without duplicates
+   */
+  public GradoopIdList difference(GradoopIdList ids) {
+    return new GradoopIdList(distinct(difference(sortedBytes(), ids.sortedBytes())), true);
+  }
+
   /**
    * Checks if the list is empty.
    *
@@ -258,12 +385,18 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
     return bytes != null ? bytes : new byte[0];
   }
 
+  /**
+   * The number of bytes is written as int. If the list is sorted, the highest bit of that int is
+   * set.
+   *
+   * @param out the output view to write the data into
+   * @throws IOException on failure
+   */
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (bytes == null) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(bytes.length);
+    int length = bytes == null ? 0 : bytes.length;
+    out.writeInt(sorted ? length | SORTED_FLAG : length);
+    if (length > 0) {
       out.write(bytes);
     }
   }
@@ -271,7 +404,8 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
   @Override
   public void read(DataInputView in) throws IOException {
     int n = in.readInt();
-    bytes = new byte[n];
+    sorted = (n & SORTED_FLAG) != 0;
+    bytes = new byte[n & ~SORTED_FLAG];
     in.readFully(bytes);
   }
 
@@ -286,7 +420,7 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
 
       if (equal) {
         // same ids
-        equal = Objects.deepEquals(this.bytes, that.bytes);
+        equal = Objects.deepEquals(this.toByteArray(), that.toByteArray());
       }
     }
 
@@ -322,6 +456,176 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
     }
   }
 
+  //------------------------------------------------------------------------------------------------
+  // private helpers for sorted mode
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the given id in the sorted list.
+   *
+   * @param id id to search
+   * @return index of the id, if it is contained; otherwise (-(insertion point) - 1)
+   */
+  private int binarySearch(GradoopId id) {
+    int low = 0;
+    int high = size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = GradoopId.compare(bytes, mid * GradoopId.ID_SIZE, id);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns a list which is used to probe the given number of ids. If this list is unsorted and
+   * the number of probes is large, a sorted copy is returned.
+   *
+   * @param probes number of ids to look up
+   * @return this or a sorted copy of this
+   */
+  private GradoopIdList sortedForProbing(int probes) {
+    if (sorted || probes <= LINEAR_SCAN_THRESHOLD || size() <= LINEAR_SCAN_THRESHOLD) {
+      return this;
+    }
+    return new GradoopIdList(sortedBytes(), true);
+  }
+
+  /**
+   * Returns the ids in ascending order. The internal array is returned if the list is sorted.
+   *
+   * @return sorted byte representation
+   */
+  private byte[] sortedBytes() {
+    if (sorted || size() < 2) {
+      return toByteArray();
+    }
+    GradoopIdList copy = new GradoopIdList(bytes);
+    copy.sort();
+    return copy.bytes;
+  }
+
+  /**
+   * Merges two sorted byte representations, keeping duplicates.
+   *
+   * @param first sorted ids
+   * @param second sorted ids
+   * @return sorted ids
+   */
+  private static byte[] merge(byte[] first, byte[] second) {
+    byte[] result = new byte[first.length + second.length];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < first.length && j < second.length) {
+      if (GradoopId.compare(first, i, second, j) <= 0) {
+        System.arraycopy(first, i, result, k, GradoopId.ID_SIZE);
+        i += GradoopId.ID_SIZE;
+      } else {
+        System.arraycopy(second, j, result, k, GradoopId.ID_SIZE);
+        j += GradoopId.ID_SIZE;
+      }
+      k += GradoopId.ID_SIZE;
+    }
+    System.arraycopy(first, i, result, k, first.length - i);
+    System.arraycopy(second, j, result, k + first.length - i, second.length - j);
+    return result;
+  }
+
+  /**
+   * Returns the ids of the first sorted byte representation which are contained in the second.
+   *
+   * @param first sorted ids
+   * @param second sorted ids
+   * @return sorted ids
+   */
+  private static byte[] intersect(byte[] first, byte[] second) {
+    byte[] result = new byte[Math.min(first.length, second.length)];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < first.length && j < second.length) {
+      int comparison = GradoopId.compare(first, i, second, j);
+      if (comparison < 0) {
+        i += GradoopId.ID_SIZE;
+      } else if (comparison > 0) {
+        j += GradoopId.ID_SIZE;
+      } else {
+        System.arraycopy(first, i, result, k, GradoopId.ID_SIZE);
+        i += GradoopId.ID_SIZE;
+        j += GradoopId.ID_SIZE;
+        k += GradoopId.ID_SIZE;
+      }
+    }
+    return k == result.length ? result : Arrays.copyOf(result, k);
+  }
+
+  /**
+   * Returns the ids of the first sorted byte representation which are not contained in the
+   * second.
+   *
+   * @param first sorted ids
+   * @param second sorted ids
+   * @return sorted ids
+   */
+  private static byte[] difference(byte[] first, byte[] second) {
+    byte[] result = new byte[first.length];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < first.length) {
+      int comparison = j < second.length ? GradoopId.compare(first, i, second, j) : -1;
+      if (comparison < 0) {
+        System.arraycopy(first, i, result, k, GradoopId.ID_SIZE);
+        i += GradoopId.ID_SIZE;
+        k += GradoopId.ID_SIZE;
+      } else if (comparison > 0) {
+        j += GradoopId.ID_SIZE;
+      } else {
+        i += GradoopId.ID_SIZE;
+      }
+    }
+    return k == result.length ? result : Arrays.copyOf(result, k);
+  }
+
+  /**
+   * Removes duplicates from a sorted byte representation.
+   *
+   * @param sortedIds sorted ids
+   * @return sorted ids without duplicates
+   */
+  private static byte[] distinct(byte[] sortedIds) {
+    if (sortedIds.length <= GradoopId.ID_SIZE) {
+      return sortedIds;
+    }
+    byte[] result = new byte[sortedIds.length];
+    System.arraycopy(sortedIds, 0, result, 0, GradoopId.ID_SIZE);
+    int k = GradoopId.ID_SIZE;
+    for (int i = GradoopId.ID_SIZE; i < sortedIds.length; i += GradoopId.ID_SIZE) {
+      if (GradoopId.compare(sortedIds, i, result, k - GradoopId.ID_SIZE) != 0) {
+        System.arraycopy(sortedIds, i, result, k, GradoopId.ID_SIZE);
+        k += GradoopId.ID_SIZE;
+      }
+    }
+    return k == result.length ? result : Arrays.copyOf(result, k);
+  }
+
+  /**
+   * Returns the number of distinct ids in a sorted byte representation.
+   *
+   * @param sortedIds sorted ids
+   * @return number of distinct ids
+   */
+  private static int distinctSize(byte[] sortedIds) {
+    return distinct(sortedIds).length / GradoopId.ID_SIZE;
+  }
+
   /**
    * Iterates through the byte array and returns {@link GradoopId} instances.
    */
@@ -361,9 +665,8 @@ public class GradoopIdList implements Iterable<GradoopId>, Value {
         throw new NoSuchElementException();
       }
       int from = GradoopId.ID_SIZE * i;
-      int to = from + GradoopId.ID_SIZE;
       i++;
-      return GradoopId.fromByteArray(Arrays.copyOfRange(bytes, from, to));
+      return GradoopId.fromByteArray(bytes, from);
     }
   }
 }
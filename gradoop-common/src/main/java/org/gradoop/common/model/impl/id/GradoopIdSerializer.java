@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link GradoopId}.
+ *
+ * An id is written as one long and one int (big-endian) which results in the same 12 bytes as
+ * {@link GradoopId#write(DataOutputView)}. Deserialization into a reused instance does not
+ * allocate any objects.
+ */
+public class GradoopIdSerializer extends TypeSerializerSingleton<GradoopId> {
+
+  /**
+   * Shared instance.
+   */
+  public static final GradoopIdSerializer INSTANCE = new GradoopIdSerializer();
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public GradoopId createInstance() {
+    return new GradoopId();
+  }
+
+  @Override
+  public GradoopId copy(GradoopId from) {
+    return GradoopId.fromBits(from.getHighBits(), from.getLowBits());
+  }
+
+  @Override
+  public GradoopId copy(GradoopId from, GradoopId reuse) {
+    reuse.setBits(from.getHighBits(), from.getLowBits());
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void serialize(GradoopId record, DataOutputView target) throws IOException {
+    target.writeLong(record.getHighBits());
+    target.writeInt(record.getLowBits());
+  }
+
+  @Override
+  public GradoopId deserialize(DataInputView source) throws IOException {
+    return GradoopId.fromBits(source.readLong(), source.readInt());
+  }
+
+  @Override
+  public GradoopId deserialize(GradoopId reuse, DataInputView source) throws IOException {
+    reuse.setBits(source.readLong(), source.readInt());
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    target.write(source, GradoopId.ID_SIZE);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof GradoopIdSerializer;
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.AtomicType;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+/**
+ * Type information for {@link GradoopId}.
+ *
+ * Provides {@link GradoopIdSerializer} and {@link GradoopIdComparator} instead of the generic
+ * serializer and comparator used for {@link org.apache.flink.types.Value} types.
+ */
+public class GradoopIdTypeInfo extends TypeInformation<GradoopId> implements AtomicType<GradoopId> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  public Class<GradoopId> getTypeClass() {
+    return GradoopId.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return true;
+  }
+
+  @Override
+  public TypeSerializer<GradoopId> createSerializer(ExecutionConfig config) {
+    return GradoopIdSerializer.INSTANCE;
+  }
+
+  @Override
+  public TypeComparator<GradoopId> createComparator(boolean sortOrderAscending,
+    ExecutionConfig executionConfig) {
+    return new GradoopIdComparator(sortOrderAscending);
+  }
+
+  @Override
+  public String toString() {
+    return GradoopId.class.getSimpleName();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof GradoopIdTypeInfo && ((GradoopIdTypeInfo) obj).canEqual(this);
+  }
+
+  @Override
+  public int hashCode() {
+    return GradoopIdTypeInfo.class.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof GradoopIdTypeInfo;
+  }
+}
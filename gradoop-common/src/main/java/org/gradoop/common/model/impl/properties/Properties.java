@@ -15,21 +15,30 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents the properties of an {@link org.gradoop.common.model.impl.pojo.Element}.
+ *
+ * Properties created with a {@link PropertySchema} store the values of schema keys in an array
+ * indexed by the key index. Other keys are stored in a map.
  */
+@TypeInfo(PropertiesTypeInfoFactory.class)
 public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
@@ -38,7 +47,22 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Schema of the properties, may be {@code null}
+   */
+  private PropertySchema schema;
+
+  /**
+   * Values of the schema keys by key index, {@code null} if the key is not set
+   */
+  private PropertyValue[] schemaValues;
+
+  /**
+   * Number of non-null schema values
+   */
+  private int schemaValueCount;
+
+  /**
+   * Internal representation of properties whose key is not part of the schema
    */
   private Map<String, PropertyValue> properties;
 
@@ -49,6 +73,17 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     properties = new HashMap<>(DEFAULT_CAPACITY);
   }
 
+  /**
+   * Creates property list for the given schema.
+   *
+   * @param schema property schema
+   */
+  private Properties(PropertySchema schema) {
+    this.schema = schema;
+    this.schemaValues = new PropertyValue[schema.size()];
+    this.properties = new HashMap<>(0);
+  }
+
   /**
    * Creates property list with given capacity.
    *
@@ -77,6 +112,17 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     return new Properties(capacity);
   }
 
+  /**
+   * Creates a new property list for the given schema.
+   *
+   * @param schema property schema
+   * @return PropertyList
+   */
+  public static Properties createWithSchema(PropertySchema schema) {
+    Objects.requireNonNull(schema);
+    return new Properties(schema);
+  }
+
   /**
    * Creates a new property collection from a given map.
    *
@@ -107,7 +153,26 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    if (schemaValueCount == 0) {
+      return properties.keySet();
+    }
+    List<String> keys = new ArrayList<>(size());
+    for (int i = 0; i < schemaValues.length; i++) {
+      if (schemaValues[i] != null) {
+        keys.add(schema.getKey(i));
+      }
+    }
+    keys.addAll(properties.keySet());
+    return keys;
+  }
+
+  /**
+   * Returns the schema of the properties.
+   *
+   * @return property schema or {@code null} if the properties have no schema
+   */
+  public PropertySchema getSchema() {
+    return schema;
   }
 
   /**
@@ -129,7 +194,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    int index = getSchemaIndex(key);
+    return index == -1 ? properties.get(key) : schemaValues[index];
   }
 
   /**
@@ -152,7 +218,15 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    int index = getSchemaIndex(key);
+    if (index == -1) {
+      properties.put(key, value);
+    } else {
+      if (schemaValues[index] == null) {
+        schemaValueCount++;
+      }
+      schemaValues[index] = value;
+    }
   }
 
   /**
@@ -183,7 +257,16 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    int index = getSchemaIndex(key);
+    if (index == -1) {
+      return properties.remove(key);
+    }
+    PropertyValue previous = schemaValues[index];
+    if (previous != null) {
+      schemaValues[index] = null;
+      schemaValueCount--;
+    }
+    return previous;
   }
 
   /**
@@ -203,6 +286,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public void clear() {
     this.properties.clear();
+    if (schemaValueCount > 0) {
+      Arrays.fill(schemaValues, null);
+      schemaValueCount = 0;
+    }
   }
 
   /**
@@ -211,7 +298,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return schemaValueCount + properties.size();
   }
 
   /**
@@ -242,8 +329,20 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return !(properties != null ? !properties.equals(that.properties) :
-      that.properties != null);
+    if (size() != that.size()) {
+      return false;
+    }
+    for (int i = 0; schemaValueCount > 0 && i < schemaValues.length; i++) {
+      if (schemaValues[i] != null && !schemaValues[i].equals(that.get(schema.getKey(i)))) {
+        return false;
+      }
+    }
+    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+      if (!entry.getValue().equals(that.get(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -254,29 +353,64 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    int hashCode = properties.hashCode();
+    for (int i = 0; schemaValueCount > 0 && i < schemaValues.length; i++) {
+      if (schemaValues[i] != null) {
+        hashCode += schema.getKey(i).hashCode() ^ schemaValues[i].hashCode();
+      }
+    }
+    return hashCode;
+  }
+
+  /**
+   * Calls the visitor for each property. In contrast to {@link #iterator()}, no {@link Property}
+   * instances are created.
+   *
+   * @param visitor property visitor
+   * @param <E> exception thrown by the visitor
+   * @throws E if the visitor fails
+   */
+  public <E extends Exception> void forEachEntry(PropertyVisitor<E> visitor) throws E {
+    for (int i = 0; schemaValueCount > 0 && i < schemaValues.length; i++) {
+      if (schemaValues[i] != null) {
+        visitor.visit(schema.getKey(i), schemaValues[i]);
+      }
+    }
+    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+      visitor.visit(entry.getKey(), entry.getValue());
+    }
   }
 
   @Override
   public Iterator<Property> iterator() {
-    return properties.entrySet().stream()
-      .map(e -> Property.create(e.getKey(), e.getValue()))
-      .collect(Collectors.toList()).iterator();
+    List<Property> list = new ArrayList<>(size());
+    for (int i = 0; schemaValueCount > 0 && i < schemaValues.length; i++) {
+      if (schemaValues[i] != null) {
+        list.add(Property.create(schema.getKey(i), schemaValues[i]));
+      }
+    }
+    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+      list.add(Property.create(entry.getKey(), entry.getValue()));
+    }
+    return list.iterator();
   }
 
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
+    outputView.writeInt(size());
 
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      outputView.writeUTF(entry.getKey());
-      entry.getValue().write(outputView);
-    }
+    forEachEntry((key, value) -> {
+        outputView.writeUTF(key);
+        value.write(outputView);
+      });
   }
 
   @Override
   public void read(DataInputView inputView) throws IOException {
     int propertyCount = inputView.readInt();
+    this.schema = null;
+    this.schemaValues = null;
+    this.schemaValueCount = 0;
     this.properties = new HashMap<>(propertyCount);
 
     String key;
@@ -292,8 +426,54 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   @Override
   public String toString() {
-    return properties.entrySet().stream()
-      .map(e -> Property.create(e.getKey(), e.getValue()).toString())
+    return StreamSupport.stream(spliterator(), false)
+      .map(Property::toString)
       .collect(Collectors.joining(","));
   }
+
+  /**
+   * Returns the schema index of the given key.
+   *
+   * @param key property key
+   * @return key index or -1 if the properties have no schema or the key is not part of it
+   */
+  private int getSchemaIndex(String key) {
+    return schema == null ? -1 : schema.getIndex(key);
+  }
+
+  //----------------------------------------------------------------------------
+  // Access for PropertiesSerializer
+  //----------------------------------------------------------------------------
+
+  /**
+   * Returns the value of the schema key at the given index.
+   *
+   * @param index key index
+   * @return property value or {@code null} if the key is not set
+   */
+  PropertyValue getSchemaValue(int index) {
+    return schemaValues[index];
+  }
+
+  /**
+   * Sets the value of the schema key at the given index.
+   *
+   * @param index key index
+   * @param value property value
+   */
+  void setSchemaValue(int index, PropertyValue value) {
+    if (schemaValues[index] == null) {
+      schemaValueCount++;
+    }
+    schemaValues[index] = value;
+  }
+
+  /**
+   * Returns the properties whose key is not part of the schema.
+   *
+   * @return properties without schema
+   */
+  Map<String, PropertyValue> getPropertiesWithoutSchema() {
+    return properties;
+  }
 }
@@ -0,0 +1,242 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.typeutils.CompatibilityResult;
+import org.apache.flink.api.common.typeutils.ParameterlessTypeSerializerConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerConfigSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializer for {@link Properties}.
+ *
+ * The serializer holds the {@link PropertySchema}s registered at the execution config it was
+ * created from. Properties of a registered schema are written as schema index, a bitmap of the
+ * set schema keys and the packed values, i.e. without any key strings. All other properties are
+ * written as key-value pairs like in {@link Properties#write(DataOutputView)}:
+ *
+ * short        : schema index + 1 or 0 if there is no registered schema
+ * byte[]       : bitmap of set schema keys (ceil(schema size / 8) bytes), only for schemas
+ * values       : values of set schema keys, only for schemas
+ * int          : number of remaining properties
+ * (key, value) : remaining properties
+ */
+public class PropertiesSerializer extends TypeSerializer<Properties> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Registered schemas
+   */
+  private final PropertySchema[] schemas;
+
+  /**
+   * Maps a schema to its position in {@link #schemas}, built lazily.
+   */
+  private transient Map<PropertySchema, Integer> schemaIndices;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param schemas registered schemas
+   */
+  public PropertiesSerializer(PropertySchema[] schemas) {
+    if (schemas.length >= Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many property schemas: " + schemas.length);
+    }
+    this.schemas = schemas;
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Properties> duplicate() {
+    return new PropertiesSerializer(schemas);
+  }
+
+  @Override
+  public Properties createInstance() {
+    return Properties.create();
+  }
+
+  @Override
+  public Properties copy(Properties from) {
+    Properties copy = from.getSchema() == null ?
+      Properties.createWithCapacity(from.size()) : Properties.createWithSchema(from.getSchema());
+    for (Property property : from) {
+      byte[] rawBytes = property.getValue().getRawBytes();
+      copy.set(property.getKey(), PropertyValue.fromRawBytes(Arrays.copyOf(rawBytes,
+        rawBytes.length)));
+    }
+    return copy;
+  }
+
+  @Override
+  public Properties copy(Properties from, Properties reuse) {
+    return copy(from);
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(Properties record, DataOutputView target) throws IOException {
+    int schemaIndex = getSchemaIndex(record.getSchema());
+    target.writeShort(schemaIndex + 1);
+
+    if (schemaIndex == -1) {
+      target.writeInt(record.size());
+      record.forEachEntry((key, value) -> {
+          target.writeUTF(key);
+          value.write(target);
+        });
+      return;
+    }
+
+    PropertySchema schema = schemas[schemaIndex];
+    for (int offset = 0; offset < schema.size(); offset += Byte.SIZE) {
+      int bits = 0;
+      for (int i = offset; i < Math.min(offset + Byte.SIZE, schema.size()); i++) {
+        if (record.getSchemaValue(i) != null) {
+          bits |= 1 << (i - offset);
+        }
+      }
+      target.writeByte(bits);
+    }
+    for (int i = 0; i < schema.size(); i++) {
+      PropertyValue value = record.getSchemaValue(i);
+      if (value != null) {
+        value.write(target);
+      }
+    }
+
+    Map<String, PropertyValue> remaining = record.getPropertiesWithoutSchema();
+    target.writeInt(remaining.size());
+    for (Map.Entry<String, PropertyValue> entry : remaining.entrySet()) {
+      target.writeUTF(entry.getKey());
+      entry.getValue().write(target);
+    }
+  }
+
+  @Override
+  public Properties deserialize(DataInputView source) throws IOException {
+    int schemaIndex = source.readShort() - 1;
+    Properties properties;
+
+    if (schemaIndex == -1) {
+      properties = Properties.create();
+    } else {
+      PropertySchema schema = schemas[schemaIndex];
+      properties = Properties.createWithSchema(schema);
+
+      byte[] bitmap = new byte[(schema.size() + Byte.SIZE - 1) / Byte.SIZE];
+      source.readFully(bitmap);
+      for (int i = 0; i < schema.size(); i++) {
+        if ((bitmap[i / Byte.SIZE] & (1 << (i % Byte.SIZE))) != 0) {
+          PropertyValue value = new PropertyValue();
+          value.read(source);
+          properties.setSchemaValue(i, value);
+        }
+      }
+    }
+
+    int remaining = source.readInt();
+    for (int i = 0; i < remaining; i++) {
+      String key = source.readUTF();
+      PropertyValue value = new PropertyValue();
+      value.read(source);
+      properties.set(key, value);
+    }
+    return properties;
+  }
+
+  @Override
+  public Properties deserialize(Properties reuse, DataInputView source) throws IOException {
+    return deserialize(source);
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    serialize(deserialize(source), target);
+  }
+
+  /**
+   * Returns the position of the given schema in the registered schemas.
+   *
+   * @param schema property schema, may be {@code null}
+   * @return position or -1 if the schema is not registered
+   */
+  private int getSchemaIndex(PropertySchema schema) {
+    if (schema == null || schemas.length == 0) {
+      return -1;
+    }
+    if (schemaIndices == null) {
+      Map<PropertySchema, Integer> map = new HashMap<>(schemas.length * 2);
+      for (int i = 0; i < schemas.length; i++) {
+        map.put(schemas[i], i);
+      }
+      schemaIndices = map;
+    }
+    Integer index = schemaIndices.get(schema);
+    return index == null ? -1 : index;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof PropertiesSerializer &&
+      ((PropertiesSerializer) obj).canEqual(this) &&
+      Arrays.equals(schemas, ((PropertiesSerializer) obj).schemas);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertiesSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(schemas);
+  }
+
+  @Override
+  public TypeSerializerConfigSnapshot snapshotConfiguration() {
+    return new ParameterlessTypeSerializerConfig(getClass().getName());
+  }
+
+  @Override
+  public CompatibilityResult<Properties> ensureCompatibility(
+    TypeSerializerConfigSnapshot configSnapshot) {
+    return configSnapshot instanceof ParameterlessTypeSerializerConfig &&
+      getClass().getName().equals(((ParameterlessTypeSerializerConfig) configSnapshot)
+        .getSerializationFormatIdentifier()) ?
+      CompatibilityResult.compatible() : CompatibilityResult.requiresMigration();
+  }
+}
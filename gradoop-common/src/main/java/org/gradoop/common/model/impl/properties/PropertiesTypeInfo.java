@@ -0,0 +1,90 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+/**
+ * Type information for {@link Properties}.
+ *
+ * Provides a {@link PropertiesSerializer} holding the {@link PropertySchemas} registered at the
+ * execution config instead of the generic serializer used for
+ * {@link org.apache.flink.types.Value} types.
+ */
+public class PropertiesTypeInfo extends TypeInformation<Properties> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  public Class<Properties> getTypeClass() {
+    return Properties.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Properties> createSerializer(ExecutionConfig config) {
+    return new PropertiesSerializer(PropertySchemas.getSchemas(config));
+  }
+
+  @Override
+  public String toString() {
+    return Properties.class.getSimpleName();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof PropertiesTypeInfo && ((PropertiesTypeInfo) obj).canEqual(this);
+  }
+
+  @Override
+  public int hashCode() {
+    return PropertiesTypeInfo.class.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertiesTypeInfo;
+  }
+}
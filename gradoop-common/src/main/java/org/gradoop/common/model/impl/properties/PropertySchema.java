@@ -0,0 +1,141 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A dictionary of the property keys used by elements of the same label.
+ *
+ * {@link Properties} created with a schema store the values of schema keys by their key index
+ * and {@link PropertiesSerializer} writes them without the key strings. Keys which are not part
+ * of the schema can still be set.
+ */
+public class PropertySchema implements Serializable {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Property keys ordered by their index.
+   */
+  private final String[] keys;
+
+  /**
+   * Maps a property key to its index, built lazily.
+   */
+  private transient Map<String, Integer> indices;
+
+  /**
+   * Creates a new schema.
+   *
+   * @param keys distinct property keys
+   */
+  private PropertySchema(String[] keys) {
+    this.keys = keys;
+  }
+
+  /**
+   * Creates a schema containing the given property keys. The key index is defined by the
+   * iteration order of the collection.
+   *
+   * @param keys distinct property keys
+   * @return property schema
+   */
+  public static PropertySchema create(Collection<String> keys) {
+    checkNotNull(keys, "Property keys were null");
+    PropertySchema schema = new PropertySchema(keys.toArray(new String[keys.size()]));
+    checkArgument(schema.getIndices().size() == schema.keys.length,
+      "Property keys are not distinct: %s", keys);
+    return schema;
+  }
+
+  /**
+   * Returns the index of the given key.
+   *
+   * @param key property key
+   * @return key index or -1 if the key is not part of the schema
+   */
+  public int getIndex(String key) {
+    Integer index = getIndices().get(key);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the key at the given index.
+   *
+   * @param index key index
+   * @return property key
+   */
+  public String getKey(int index) {
+    return keys[index];
+  }
+
+  /**
+   * Returns the number of keys in the schema.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the key index map and creates it if necessary.
+   *
+   * @return key index map
+   */
+  private Map<String, Integer> getIndices() {
+    if (indices == null) {
+      Map<String, Integer> map = new HashMap<>(keys.length * 2);
+      for (int i = 0; i < keys.length; i++) {
+        map.put(checkNotNull(keys[i], "Property key was null"), i);
+      }
+      indices = map;
+    }
+    return indices;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(keys, ((PropertySchema) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(keys);
+  }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Property schemas per element type and label which are registered at the global job parameters
+ * of a Flink job.
+ *
+ * The {@link PropertiesSerializer} of a job is created from the execution config and writes
+ * {@link Properties} of a registered schema as key-index bitmap and packed values. Schemas need
+ * to be registered before the job is executed, e.g. while creating the data sources.
+ *
+ * A job has a single global job parameters object. If it holds user-defined parameters, schemas
+ * are not registered and properties are serialized without schema. User-defined parameters which
+ * extend this class are combined with the schemas.
+ */
+public class PropertySchemas extends ExecutionConfig.GlobalJobParameters {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Element type to label to schema mapping
+   */
+  private final Map<Class<?>, Map<String, PropertySchema>> schemasByLabel = new LinkedHashMap<>();
+
+  /**
+   * Distinct schemas in registration order
+   */
+  private final List<PropertySchema> schemas = new ArrayList<>();
+
+  /**
+   * Registers a schema with the given property keys for the given element type and label at the
+   * execution config. Registration is skipped if the config holds user-defined global job
+   * parameters.
+   *
+   * @param config execution config
+   * @param elementType element type, e.g. the vertex class
+   * @param label element label
+   * @param keys distinct property keys
+   * @return registered schema or {@code null} if the config holds user-defined job parameters
+   */
+  public static PropertySchema register(ExecutionConfig config, Class<?> elementType,
+    String label, Collection<String> keys) {
+    checkNotNull(elementType, "Element type was null");
+    checkNotNull(label, "Label was null");
+    ExecutionConfig.GlobalJobParameters parameters = config.getGlobalJobParameters();
+
+    PropertySchemas propertySchemas;
+    if (parameters instanceof PropertySchemas) {
+      propertySchemas = (PropertySchemas) parameters;
+    } else if (parameters == null ||
+      parameters.getClass() == ExecutionConfig.GlobalJobParameters.class) {
+      propertySchemas = new PropertySchemas();
+      config.setGlobalJobParameters(propertySchemas);
+    } else {
+      return null;
+    }
+
+    PropertySchema schema = PropertySchema.create(keys);
+    int index = propertySchemas.schemas.indexOf(schema);
+    if (index == -1) {
+      propertySchemas.schemas.add(schema);
+    } else {
+      schema = propertySchemas.schemas.get(index);
+    }
+    propertySchemas.schemasByLabel
+      .computeIfAbsent(elementType, type -> new LinkedHashMap<>())
+      .put(label, schema);
+    return schema;
+  }
+
+  /**
+   * Returns the schemas registered at the given execution config.
+   *
+   * @param config execution config
+   * @return registered schemas, empty if there are none
+   */
+  public static PropertySchema[] getSchemas(ExecutionConfig config) {
+    ExecutionConfig.GlobalJobParameters parameters = config.getGlobalJobParameters();
+    return parameters instanceof PropertySchemas ?
+      ((PropertySchemas) parameters).schemas.toArray(new PropertySchema[0]) :
+      new PropertySchema[0];
+  }
+
+  /**
+   * Returns the schema registered for the given element type and label at the given execution
+   * config.
+   *
+   * @param config execution config
+   * @param elementType element type
+   * @param label element label
+   * @return property schema or {@code null} if there is none
+   */
+  public static PropertySchema getSchema(ExecutionConfig config, Class<?> elementType,
+    String label) {
+    ExecutionConfig.GlobalJobParameters parameters = config.getGlobalJobParameters();
+    if (!(parameters instanceof PropertySchemas)) {
+      return null;
+    }
+    Map<String, PropertySchema> schemas =
+      ((PropertySchemas) parameters).schemasByLabel.get(elementType);
+    return schemas != null ? schemas.get(label) : null;
+  }
+
+  @Override
+  public Map<String, String> toMap() {
+    Map<String, String> map = new LinkedHashMap<>();
+    schemasByLabel.forEach((type, schemas) -> schemas.forEach((label, schema) ->
+      map.put(type.getSimpleName() + "." + label, schema.toString())));
+    return map;
+  }
+}
@@ -20,6 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.apache.flink.types.Value;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -47,7 +49,8 @@ import java.util.Map;
  *
  * A property value wraps a value that implements a supported data type.
  */
-public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
+public class PropertyValue
+  implements Value, Serializable, Comparable<PropertyValue>, NormalizableKey<PropertyValue> {
 
   /**
    * Represents a property value that is {@code null}.
@@ -398,8 +401,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code GradoopId} value
    */
   public GradoopId getGradoopId() {
-    return GradoopId.fromByteArray(
-      Arrays.copyOfRange(rawBytes, OFFSET, GradoopId.ID_SIZE + OFFSET));
+    return GradoopId.fromByteArray(rawBytes, OFFSET);
   }
 
   /**
@@ -619,10 +621,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param gradoopIdValue value
    */
   public void setGradoopId(GradoopId gradoopIdValue) {
-    byte[] valueBytes = gradoopIdValue.toByteArray();
     rawBytes = new byte[OFFSET + GradoopId.ID_SIZE];
     rawBytes[0] = TYPE_GRADOOP_ID;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    gradoopIdValue.copyTo(rawBytes, OFFSET);
   }
 
   /**
@@ -780,37 +781,195 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return Arrays.hashCode(rawBytes);
   }
 
+  /**
+   * Compares two property values of the same type on their byte representation.
+   *
+   * @param o property value of the same type
+   * @return a negative integer, zero, or a positive integer as this value is less than, equal
+   *         to, or greater than the given value
+   * @see PropertyValueComparator for comparing values of different numerical types
+   */
   @Override
   public int compareTo(PropertyValue o) {
-    int result;
-
-    if (this.isNull() && o.isNull()) {
-      result = 0;
-    } else if (this.isBoolean() && o.isBoolean()) {
-      result = Boolean.compare(this.getBoolean(), o.getBoolean());
-    } else if (this.isInt() && o.isInt()) {
-      result = Integer.compare(this.getInt(), o.getInt());
-    } else if (this.isLong() && o.isLong()) {
-      result = Long.compare(this.getLong(), o.getLong());
-    } else if (this.isFloat() && o.isFloat()) {
-      result = Float.compare(this.getFloat(), o.getFloat());
-    } else if (this.isDouble() && o.isDouble()) {
-      result = Double.compare(this.getDouble(), o.getDouble());
-    } else if (this.isString() && o.isString()) {
-      result = this.getString().compareTo(o.getString());
-    } else if (this.isBigDecimal() && o.isBigDecimal()) {
-      result = this.getBigDecimal().compareTo(o.getBigDecimal());
-    } else if (this.isGradoopId() && o.isGradoopId()) {
-      result = this.getGradoopId().compareTo(o.getGradoopId());
-    } else if (this.isMap() || o.isMap() || this.isList() || o.isList()) {
-      throw new UnsupportedOperationException(String.format(
-        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
-    } else {
+    if (rawBytes[0] != o.rawBytes[0]) {
+      if (this.isMap() || o.isMap() || this.isList() || o.isList()) {
+        throw new UnsupportedOperationException(String.format(
+          "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
+      }
       throw new IllegalArgumentException(String.format(
         "Incompatible types: %s, %s", this.getClass(), o.getClass()));
     }
+    return PropertyValueComparator.compareSameType(rawBytes, o.rawBytes);
+  }
+
+  //----------------------------------------------------------------------------
+  // Normalized key
+  //----------------------------------------------------------------------------
+
+  /**
+   * The normalized key of strings, big decimals and collections is only a prefix of the value,
+   * so Flink falls back to {@link #compareTo(PropertyValue)} if two keys are equal.
+   *
+   * @return {@link Integer#MAX_VALUE}
+   */
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Writes the type byte followed by an order preserving encoding of the value:
+   *
+   * int, long, float, double  : sign adjusted bits (unsigned order equals numerical order)
+   * String                    : UTF-8 bytes, lead bytes remapped to UTF-16 order
+   * BigDecimal                : signum
+   * GradoopId                 : id bytes
+   * date, time, datetime      : sign adjusted year, single bytes for month, day, hour, minute
+   *                             and second, nano of second
+   * null, Map, List           : no value bytes
+   *
+   * The remaining bytes are filled with zeros. Values of different types are ordered by type.
+   *
+   * @param target memory segment to write to
+   * @param offset start offset in the memory segment
+   * @param len number of bytes to write
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int end = offset + len;
+    int pos = putKeyBytes(target, offset, end, rawBytes[0], 1);
+
+    switch (rawBytes[0]) {
+    case TYPE_BOOLEAN:
+      pos = putKeyBytes(target, pos, end, getBoolean() ? 1 : 0, 1);
+      break;
+    case TYPE_INTEGER:
+      pos = putKeyBytes(target, pos, end, getInt() ^ Integer.MIN_VALUE, Bytes.SIZEOF_INT);
+      break;
+    case TYPE_LONG:
+      pos = putKeyBytes(target, pos, end, getLong() ^ Long.MIN_VALUE, Bytes.SIZEOF_LONG);
+      break;
+    case TYPE_FLOAT:
+      int floatBits = Float.floatToIntBits(getFloat());
+      floatBits ^= (floatBits >> 31) | Integer.MIN_VALUE;
+      pos = putKeyBytes(target, pos, end, floatBits, Bytes.SIZEOF_FLOAT);
+      break;
+    case TYPE_DOUBLE:
+      long doubleBits = Double.doubleToLongBits(getDouble());
+      doubleBits ^= (doubleBits >> 63) | Long.MIN_VALUE;
+      pos = putKeyBytes(target, pos, end, doubleBits, Bytes.SIZEOF_DOUBLE);
+      break;
+    case TYPE_STRING:
+      for (int i = OFFSET; i < rawBytes.length && pos < end; i++) {
+        target.put(pos++, toUtf16OrderedByte(rawBytes[i]));
+      }
+      break;
+    case TYPE_BIG_DECIMAL:
+      pos = putKeyBytes(target, pos, end, bigDecimalSignum() + 1, 1);
+      break;
+    case TYPE_GRADOOP_ID:
+      for (int i = OFFSET; i < OFFSET + GradoopId.ID_SIZE && pos < end; i++) {
+        target.put(pos++, rawBytes[i]);
+      }
+      break;
+    case TYPE_DATE:
+      pos = putKeyDateTime(target, pos, end, true, false);
+      break;
+    case TYPE_TIME:
+      pos = putKeyDateTime(target, pos, end, false, true);
+      break;
+    case TYPE_DATETIME:
+      pos = putKeyDateTime(target, pos, end, true, true);
+      break;
+    default:
+      break;
+    }
+
+    for (; pos < end; pos++) {
+      target.put(pos, (byte) 0);
+    }
+  }
+
+  /**
+   * Writes the {@code size} least significant bytes of the given value in big-endian order as
+   * long as they fit into the normalized key.
+   *
+   * @param target memory segment to write to
+   * @param pos current write position
+   * @param end end position of the normalized key (exclusive)
+   * @param value value to write
+   * @param size number of bytes to write
+   * @return next write position
+   */
+  private static int putKeyBytes(MemorySegment target, int pos, int end, long value, int size) {
+    for (int shift = (size - 1) * Byte.SIZE; shift >= 0 && pos < end; shift -= Byte.SIZE) {
+      target.put(pos++, (byte) (value >>> shift));
+    }
+    return pos;
+  }
+
+  /**
+   * Writes the int fields of a date, time or datetime value into the normalized key. The year
+   * is written as sign adjusted int, nano of second as int and all other fields as single byte.
+   *
+   * @param target memory segment to write to
+   * @param pos current write position
+   * @param end end position of the normalized key (exclusive)
+   * @param startsWithYear true, iff the first field is the year
+   * @param endsWithNano true, iff the last field is nano of second
+   * @return next write position
+   */
+  private int putKeyDateTime(MemorySegment target, int pos, int end, boolean startsWithYear,
+    boolean endsWithNano) {
+    int fields = (rawBytes.length - OFFSET) / Bytes.SIZEOF_INT;
+    for (int field = 0; field < fields; field++) {
+      int value = Bytes.toInt(rawBytes, OFFSET + field * Bytes.SIZEOF_INT);
+      if (field == 0 && startsWithYear) {
+        pos = putKeyBytes(target, pos, end, value ^ Integer.MIN_VALUE, Bytes.SIZEOF_INT);
+      } else if (field == fields - 1 && endsWithNano) {
+        pos = putKeyBytes(target, pos, end, value, Bytes.SIZEOF_INT);
+      } else {
+        pos = putKeyBytes(target, pos, end, value, 1);
+      }
+    }
+    return pos;
+  }
+
+  /**
+   * Maps an UTF-8 byte such that unsigned byte-wise comparison yields the UTF-16 order of
+   * {@link String#compareTo(String)}. Lead bytes of supplementary characters (0xF0 - 0xF4) are
+   * moved before the lead bytes of characters U+E000 to U+FFFF (0xEE, 0xEF).
+   *
+   * @param b UTF-8 byte
+   * @return remapped byte
+   */
+  private static byte toUtf16OrderedByte(byte b) {
+    int unsigned = b & 0xFF;
+    if (unsigned >= 0xF0) {
+      unsigned -= 2;
+    } else if (unsigned >= 0xEE) {
+      unsigned += 5;
+    }
+    return (byte) unsigned;
+  }
 
-    return result;
+  /**
+   * Determines the signum of a big decimal value without materializing it. The value is stored
+   * as scale (int) followed by the two's complement of the unscaled value.
+   *
+   * @return -1, 0 or 1 as the value is negative, zero or positive
+   */
+  private int bigDecimalSignum() {
+    int unscaledOffset = OFFSET + Bytes.SIZEOF_INT;
+    if (rawBytes[unscaledOffset] < 0) {
+      return -1;
+    }
+    for (int i = unscaledOffset; i < rawBytes.length; i++) {
+      if (rawBytes[i] != 0) {
+        return 1;
+      }
+    }
+    return 0;
   }
 
   /**
@@ -0,0 +1,180 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * Compares property values on their internal byte representation.
+ *
+ * Values of the same type are compared without creating objects, except for
+ * {@link java.math.BigDecimal}. Values of different numerical types are compared after
+ * promotion to a common type as done in {@link PropertyValueUtils.Numeric}.
+ */
+public class PropertyValueComparator implements Comparator<PropertyValue>, Serializable {
+
+  /**
+   * Shared instance.
+   */
+  public static final PropertyValueComparator INSTANCE = new PropertyValueComparator();
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public int compare(PropertyValue first, PropertyValue second) {
+    byte firstType = first.getRawBytes()[0];
+    byte secondType = second.getRawBytes()[0];
+
+    if (firstType == secondType) {
+      return compareSameType(first.getRawBytes(), second.getRawBytes());
+    }
+    if (isNumerical(firstType) && isNumerical(secondType)) {
+      return PropertyValueUtils.Numeric.compare(first, second);
+    }
+    if (isCollection(firstType) || isCollection(secondType)) {
+      throw new UnsupportedOperationException(String.format(
+        "Comparison is not supported for %s, %s", first.getType(), second.getType()));
+    }
+    throw new IllegalArgumentException(String.format(
+      "Incompatible types: %s, %s", first.getType(), second.getType()));
+  }
+
+  /**
+   * Compares the byte representations of two property values of the same type.
+   *
+   * @param first byte representation of the first value
+   * @param second byte representation of the second value (same type as first)
+   * @return a negative integer, zero, or a positive integer as the first value is less than,
+   *         equal to, or greater than the second value
+   */
+  static int compareSameType(byte[] first, byte[] second) {
+    int offset = PropertyValue.OFFSET;
+
+    switch (first[0]) {
+    case PropertyValue.TYPE_NULL:
+      return 0;
+    case PropertyValue.TYPE_BOOLEAN:
+      return Boolean.compare(first[offset] == -1, second[offset] == -1);
+    case PropertyValue.TYPE_INTEGER:
+      return Integer.compare(Bytes.toInt(first, offset), Bytes.toInt(second, offset));
+    case PropertyValue.TYPE_LONG:
+      return Long.compare(Bytes.toLong(first, offset), Bytes.toLong(second, offset));
+    case PropertyValue.TYPE_FLOAT:
+      return Float.compare(Bytes.toFloat(first, offset), Bytes.toFloat(second, offset));
+    case PropertyValue.TYPE_DOUBLE:
+      return Double.compare(Bytes.toDouble(first, offset), Bytes.toDouble(second, offset));
+    case PropertyValue.TYPE_STRING:
+      return compareUtf8(first, second, offset);
+    case PropertyValue.TYPE_BIG_DECIMAL:
+      return Bytes.toBigDecimal(first, offset, first.length - offset)
+        .compareTo(Bytes.toBigDecimal(second, offset, second.length - offset));
+    case PropertyValue.TYPE_GRADOOP_ID:
+      return Bytes.compareTo(
+        first, offset, GradoopId.ID_SIZE, second, offset, GradoopId.ID_SIZE);
+    case PropertyValue.TYPE_DATE:
+    case PropertyValue.TYPE_TIME:
+    case PropertyValue.TYPE_DATETIME:
+      return compareInts(first, second, offset);
+    case PropertyValue.TYPE_MAP:
+    case PropertyValue.TYPE_LIST:
+      throw new UnsupportedOperationException(
+        "Comparison is not supported for maps and lists");
+    default:
+      throw new IllegalArgumentException("Unknown type: " + first[0]);
+    }
+  }
+
+  /**
+   * Compares two UTF-8 encoded strings consistent with {@link String#compareTo(String)}.
+   *
+   * Unsigned byte-wise comparison of UTF-8 yields code point order. This differs from the
+   * UTF-16 order of {@link String#compareTo(String)} only for supplementary characters
+   * (four byte sequences) compared to characters in range U+E000 to U+FFFF (three byte sequences
+   * starting with 0xEE or 0xEF), which is corrected at the first differing lead byte.
+   *
+   * @param first first encoded string
+   * @param second second encoded string
+   * @param offset start index of both strings
+   * @return a negative integer, zero, or a positive integer as the first string is less than,
+   *         equal to, or greater than the second string
+   */
+  private static int compareUtf8(byte[] first, byte[] second, int offset) {
+    int length = Math.min(first.length, second.length);
+    for (int i = offset; i < length; i++) {
+      int a = first[i] & 0xFF;
+      int b = second[i] & 0xFF;
+      if (a != b) {
+        if (a >= 0xF0 && (b == 0xEE || b == 0xEF)) {
+          return -1;
+        }
+        if (b >= 0xF0 && (a == 0xEE || a == 0xEF)) {
+          return 1;
+        }
+        return a < b ? -1 : 1;
+      }
+    }
+    return Integer.compare(first.length, second.length);
+  }
+
+  /**
+   * Compares two sequences of big-endian signed ints of equal length, e.g. the fields of dates
+   * and times ordered from the most to the least significant.
+   *
+   * @param first first sequence
+   * @param second second sequence
+   * @param offset start index of both sequences
+   * @return a negative integer, zero, or a positive integer as the first sequence is less than,
+   *         equal to, or greater than the second sequence
+   */
+  private static int compareInts(byte[] first, byte[] second, int offset) {
+    for (int i = offset; i < first.length; i += Bytes.SIZEOF_INT) {
+      int comparison = Integer.compare(Bytes.toInt(first, i), Bytes.toInt(second, i));
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Checks if the given type is numerical.
+   *
+   * @param type property value type
+   * @return true, iff the type is int, long, float, double or big decimal
+   */
+  private static boolean isNumerical(byte type) {
+    return type == PropertyValue.TYPE_INTEGER || type == PropertyValue.TYPE_LONG ||
+      type == PropertyValue.TYPE_FLOAT || type == PropertyValue.TYPE_DOUBLE ||
+      type == PropertyValue.TYPE_BIG_DECIMAL;
+  }
+
+  /**
+   * Checks if the given type is a map or a list.
+   *
+   * @param type property value type
+   * @return true, iff the type is map or list
+   */
+  private static boolean isCollection(byte type) {
+    return type == PropertyValue.TYPE_MAP || type == PropertyValue.TYPE_LIST;
+  }
+}
@@ -20,6 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.apache.flink.types.Value;
 import org.apache.hadoop.hbase.util.Bytes;
 
@@ -36,8 +38,8 @@ import java.util.Iterator;
 /**
  * Represents a list of property values.
  */
-public class PropertyValueList
-  implements Iterable<PropertyValue>, Serializable, Value, Comparable<PropertyValueList> {
+public class PropertyValueList implements Iterable<PropertyValue>, Serializable, Value,
+  Comparable<PropertyValueList>, NormalizableKey<PropertyValueList> {
 
   /**
    * Class version for serialization.
@@ -134,6 +136,34 @@ public class PropertyValueList
     return Bytes.compareTo(bytes, o.bytes);
   }
 
+  /**
+   * The normalized key is a prefix of the byte representation, so Flink falls back to
+   * {@link #compareTo(PropertyValueList)} if two keys are equal.
+   *
+   * @return {@link Integer#MAX_VALUE}
+   */
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Writes a prefix of the byte representation, which is compared unsigned like in
+   * {@link #compareTo(PropertyValueList)}. The remaining bytes are filled with zeros.
+   *
+   * @param target memory segment to write to
+   * @param offset start offset in the memory segment
+   * @param len number of bytes to write
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int copied = Math.min(len, bytes.length);
+    target.put(offset, bytes, 0, copied);
+    for (int i = copied; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
   @Override
   public String toString() {
     return StringUtils.join(iterator(), ',');
@@ -307,6 +307,64 @@ public class PropertyValueUtils {
       return isLessOrEqualThan(a, b) ? b : a;
     }
 
+    /**
+     * Compares two numerical property values. Values of different types are promoted to a
+     * common type like in {@link #add(PropertyValue, PropertyValue)}.
+     *
+     * @param aValue first value
+     * @param bValue second value
+     *
+     * @return a negative integer, zero, or a positive integer as a is less than, equal to, or
+     *         greater than b
+     */
+    public static int compare(PropertyValue aValue, PropertyValue bValue) {
+
+      int aType = checkNumericalAndGetType(aValue);
+      int bType = checkNumericalAndGetType(bValue);
+
+      boolean sameType = aType == bType;
+
+      int returnType = sameType ? aType : maxType(aType, bType);
+
+      int result;
+
+      if (returnType == INT) {
+        result = Integer.compare(aValue.getInt(), bValue.getInt());
+
+      } else if (returnType == FLOAT) {
+
+        float a = aType == FLOAT ? aValue.getFloat() : aValue.getInt();
+        float b = bType == FLOAT ? bValue.getFloat() : bValue.getInt();
+
+        result = Float.compare(a, b);
+
+      } else if (returnType == LONG) {
+
+        long a = aType == LONG ? aValue.getLong() : aValue.getInt();
+        long b = bType == LONG ? bValue.getLong() : bValue.getInt();
+
+        result = Long.compare(a, b);
+
+      } else if (returnType == DOUBLE) {
+
+        double a = aType == DOUBLE ? aValue.getDouble() : doubleValue(aValue, aType);
+        double b = bType == DOUBLE ? bValue.getDouble() : doubleValue(bValue, bType);
+
+        result = Double.compare(a, b);
+
+      } else {
+
+        BigDecimal a = aType == BIG_DECIMAL ? aValue.getBigDecimal() :
+          bigDecimalValue(aValue, aType);
+        BigDecimal b = bType == BIG_DECIMAL ? bValue.getBigDecimal() :
+          bigDecimalValue(bValue, bType);
+
+        result = a.compareTo(b);
+      }
+
+      return result;
+    }
+
     /**
      * Compares two numerical property values and returns true,
      * if the first one is smaller.
@@ -0,0 +1,36 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+/**
+ * Visits the properties of a {@link Properties} instance without creating {@link Property}
+ * objects.
+ *
+ * @param <E> exception thrown by the visitor
+ * @see Properties#forEachEntry(PropertyVisitor)
+ */
+@FunctionalInterface
+public interface PropertyVisitor<E extends Exception> {
+
+  /**
+   * Called for each property.
+   *
+   * @param key property key
+   * @param value property value
+   * @throws E if the visitor fails
+   */
+  void visit(String key, PropertyValue value) throws E;
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link org.apache.flink.types.Value} methods of {@link GradoopId} with
+ * {@link GradoopIdSerializer} and {@link GradoopIdComparator}.
+ *
+ * Run via {@code org.openjdk.jmh.Main GradoopIdBenchmark} on the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GradoopIdBenchmark {
+
+  /**
+   * Number of ids per invocation.
+   */
+  private static final int COUNT = 1024;
+
+  /**
+   * Ids to write and compare
+   */
+  private GradoopId[] ids;
+
+  /**
+   * Serialized ids
+   */
+  private byte[] serialized;
+
+  /**
+   * Target stream
+   */
+  private ByteArrayOutputStream outputStream;
+
+  /**
+   * Reused id
+   */
+  private GradoopId reuse;
+
+  /**
+   * Comparator
+   */
+  private GradoopIdComparator comparator;
+
+  @Setup
+  public void setup() throws IOException {
+    ids = new GradoopId[COUNT];
+    outputStream = new ByteArrayOutputStream(COUNT * GradoopId.ID_SIZE);
+    DataOutputViewStreamWrapper out = new DataOutputViewStreamWrapper(outputStream);
+    for (int i = 0; i < COUNT; i++) {
+      ids[i] = GradoopId.get();
+      ids[i].write(out);
+    }
+    serialized = outputStream.toByteArray();
+    reuse = new GradoopId();
+    comparator = new GradoopIdComparator(true);
+  }
+
+  @Benchmark
+  public int valueWrite() throws IOException {
+    outputStream.reset();
+    DataOutputViewStreamWrapper out = new DataOutputViewStreamWrapper(outputStream);
+    for (GradoopId id : ids) {
+      id.write(out);
+    }
+    return outputStream.size();
+  }
+
+  @Benchmark
+  public int serializerWrite() throws IOException {
+    outputStream.reset();
+    DataOutputViewStreamWrapper out = new DataOutputViewStreamWrapper(outputStream);
+    for (GradoopId id : ids) {
+      GradoopIdSerializer.INSTANCE.serialize(id, out);
+    }
+    return outputStream.size();
+  }
+
+  @Benchmark
+  public int valueRead() throws IOException {
+    DataInputViewStreamWrapper in =
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(serialized));
+    int h = 0;
+    for (int i = 0; i < COUNT; i++) {
+      GradoopId id = new GradoopId();
+      id.read(in);
+      h += id.hashCode();
+    }
+    return h;
+  }
+
+  @Benchmark
+  public int serializerRead() throws IOException {
+    DataInputViewStreamWrapper in =
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(serialized));
+    int h = 0;
+    for (int i = 0; i < COUNT; i++) {
+      h += GradoopIdSerializer.INSTANCE.deserialize(reuse, in).hashCode();
+    }
+    return h;
+  }
+
+  @Benchmark
+  public int valueCompareTo() {
+    int c = 0;
+    for (int i = 1; i < COUNT; i++) {
+      c += ids[i - 1].compareTo(ids[i]);
+    }
+    return c;
+  }
+
+  @Benchmark
+  public int comparatorCompare() {
+    int c = 0;
+    for (int i = 1; i < COUNT; i++) {
+      c += comparator.compare(ids[i - 1], ids[i]);
+    }
+    return c;
+  }
+
+  @Benchmark
+  public int comparatorCompareSerialized() throws IOException {
+    DataInputViewStreamWrapper first =
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(serialized));
+    DataInputViewStreamWrapper second =
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(serialized));
+    second.skipBytesToRead(GradoopId.ID_SIZE);
+    int c = 0;
+    for (int i = 1; i < COUNT; i++) {
+      c += comparator.compareSerialized(first, second);
+    }
+    return c;
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class GradoopIdComparatorTest {
+
+  @Test
+  public void testCompare() {
+    GradoopIdComparator ascending = new GradoopIdComparator(true);
+    GradoopIdComparator descending = new GradoopIdComparator(false);
+
+    for (int i = 0; i < 100; i++) {
+      GradoopId first = GradoopId.get();
+      GradoopId second = GradoopId.get();
+      int expected = Integer.signum(first.compareTo(second));
+
+      assertEquals(expected, Integer.signum(ascending.compare(first, second)));
+      assertEquals(-expected, Integer.signum(descending.compare(first, second)));
+    }
+
+    assertTrue(ascending.compare(GradoopId.MIN_VALUE, GradoopId.MAX_VALUE) < 0);
+    assertTrue(ascending.compare(GradoopId.NULL_VALUE, GradoopId.MAX_VALUE) < 0);
+    assertTrue(ascending.compare(GradoopId.MIN_VALUE, GradoopId.NULL_VALUE) > 0);
+  }
+
+  @Test
+  public void testCompareSerialized() throws IOException {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+
+    for (int i = 0; i < 100; i++) {
+      GradoopId first = GradoopId.get();
+      GradoopId second = GradoopId.get();
+
+      assertEquals(Integer.signum(first.compareTo(second)),
+        Integer.signum(comparator.compareSerialized(serialize(first), serialize(second))));
+      assertEquals(0, comparator.compareSerialized(serialize(first), serialize(first)));
+    }
+  }
+
+  @Test
+  public void testReference() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    GradoopIdComparator other = new GradoopIdComparator(true);
+
+    GradoopId id = GradoopId.get();
+    GradoopId greater = GradoopId.get();
+
+    comparator.setReference(id);
+    assertTrue(comparator.equalToReference(GradoopId.fromString(id.toString())));
+    assertFalse(comparator.equalToReference(greater));
+
+    other.setReference(greater);
+    assertEquals(Integer.signum(greater.compareTo(id)),
+      Integer.signum(comparator.compareToReference(other)));
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    MemorySegment first = MemorySegmentFactory.wrap(new byte[GradoopId.ID_SIZE]);
+    MemorySegment second = MemorySegmentFactory.wrap(new byte[GradoopId.ID_SIZE]);
+
+    for (int i = 0; i < 100; i++) {
+      GradoopId firstId = GradoopId.get();
+      GradoopId secondId = GradoopId.get();
+      comparator.putNormalizedKey(firstId, first, 0, GradoopId.ID_SIZE);
+      comparator.putNormalizedKey(secondId, second, 0, GradoopId.ID_SIZE);
+
+      for (int j = 0; j < GradoopId.ID_SIZE; j++) {
+        assertEquals(firstId.toByteArray()[j], first.get(j));
+      }
+      assertEquals(Integer.signum(firstId.compareTo(secondId)),
+        Integer.signum(first.compare(second, 0, 0, GradoopId.ID_SIZE)));
+    }
+  }
+
+  @Test
+  public void testNormalizedKeyPrefix() {
+    GradoopIdComparator comparator = new GradoopIdComparator(true);
+    GradoopId id = GradoopId.get();
+
+    for (int len = 1; len < GradoopId.ID_SIZE; len++) {
+      MemorySegment segment = MemorySegmentFactory.wrap(new byte[len]);
+      comparator.putNormalizedKey(id, segment, 0, len);
+      for (int i = 0; i < len; i++) {
+        assertEquals(id.toByteArray()[i], segment.get(i));
+      }
+    }
+  }
+
+  private DataInputViewStreamWrapper serialize(GradoopId id) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GradoopIdSerializer.INSTANCE.serialize(id, new DataOutputViewStreamWrapper(bytes));
+    return new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray()));
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the retained heap per {@link GradoopId} compared to a plain 12 byte array, which was
+ * the previous internal representation.
+ *
+ * The retained bytes per element are reported as secondary result {@code bytesPerElement}. Run
+ * via {@code org.openjdk.jmh.Main GradoopIdFootprintBenchmark} on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2G")
+public class GradoopIdFootprintBenchmark {
+
+  /**
+   * Number of allocated elements.
+   */
+  private static final int COUNT = 1_000_000;
+
+  /**
+   * Holds the allocated elements to keep them reachable.
+   */
+  private Object[] holder;
+
+  /**
+   * Retained bytes per element.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    /**
+     * retained bytes per element of the last invocation
+     */
+    public long bytesPerElement;
+  }
+
+  @Setup(Level.Invocation)
+  public void setup() {
+    holder = new Object[COUNT];
+  }
+
+  @Benchmark
+  public Object gradoopId(Footprint footprint) {
+    long before = usedHeap();
+    for (int i = 0; i < COUNT; i++) {
+      holder[i] = GradoopId.get();
+    }
+    footprint.bytesPerElement = (usedHeap() - before) / COUNT;
+    return holder;
+  }
+
+  @Benchmark
+  public Object byteArray(Footprint footprint) {
+    long before = usedHeap();
+    for (int i = 0; i < COUNT; i++) {
+      holder[i] = GradoopId.get().toByteArray();
+    }
+    footprint.bytesPerElement = (usedHeap() - before) / COUNT;
+    return holder;
+  }
+
+  /**
+   * Returns the used heap after a full garbage collection.
+   *
+   * @return used heap in bytes
+   */
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
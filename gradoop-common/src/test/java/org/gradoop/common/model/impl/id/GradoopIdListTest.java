@@ -306,4 +306,121 @@ public class GradoopIdListTest {
     assertTrue("equals failed for two empty lists", empty2.equals(empty));
     assertTrue("hashCode failed two one empty lists", empty2.hashCode() == empty.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSortedAdd() {
+    GradoopIdList ids = new GradoopIdList();
+    ids.sort();
+    List<GradoopId> expected = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      expected.add(GradoopId.get());
+    }
+    // duplicates
+    expected.addAll(new ArrayList<>(expected.subList(0, 10)));
+    for (GradoopId id : expected) {
+      ids.add(id);
+    }
+    Collections.sort(expected);
+
+    assertTrue(ids.isSorted());
+    assertEquals(GradoopIdList.fromExisting(expected), ids);
+    for (GradoopId id : expected) {
+      assertTrue(ids.contains(id));
+    }
+    assertFalse(ids.contains(GradoopId.get()));
+  }
+
+  @Test
+  public void testSortedFromExisting() {
+    List<GradoopId> expected = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      expected.add(GradoopId.get());
+    }
+    Collections.reverse(expected);
+
+    GradoopIdList ids = GradoopIdList.sortedFromExisting(expected);
+    Collections.sort(expected);
+
+    assertTrue(ids.isSorted());
+    assertEquals(GradoopIdList.fromExisting(expected), ids);
+  }
+
+  @Test
+  public void testSortedAddAll() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    GradoopIdList ids = GradoopIdList.sortedFromExisting(Arrays.asList(id3, id1));
+    ids.addAll(GradoopIdList.fromExisting(id2, id1));
+
+    assertEquals(GradoopIdList.fromExisting(id1, id1, id2, id3), ids);
+  }
+
+  @Test
+  public void testSortedContainsAllAndAny() {
+    List<GradoopId> all = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      all.add(GradoopId.get());
+    }
+    GradoopIdList sorted = GradoopIdList.sortedFromExisting(all);
+    GradoopIdList unsorted = GradoopIdList.fromExisting(all);
+    GradoopIdList sortedSubset = GradoopIdList.sortedFromExisting(all.subList(5, 20));
+    GradoopIdList unsortedSubset = GradoopIdList.fromExisting(all.subList(5, 20));
+    GradoopIdList other = GradoopIdList.sortedFromExisting(
+      Arrays.asList(GradoopId.get(), GradoopId.get()));
+
+    for (GradoopIdList list : Arrays.asList(sorted, unsorted)) {
+      for (GradoopIdList subset : Arrays.asList(sortedSubset, unsortedSubset)) {
+        assertTrue(list.containsAll(subset));
+        assertTrue(list.containsAny(subset));
+        assertTrue(subset.containsAny(list));
+        assertFalse(subset.containsAll(list));
+      }
+      assertFalse(list.containsAny(other));
+      assertFalse(list.containsAll(other));
+    }
+  }
+
+  @Test
+  public void testSetOperations() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+    GradoopId id4 = GradoopId.get();
+
+    GradoopIdList first = GradoopIdList.fromExisting(id3, id1, id2, id1);
+    GradoopIdList second = GradoopIdList.sortedFromExisting(Arrays.asList(id4, id2, id3));
+
+    assertEquals(GradoopIdList.fromExisting(id2, id3), first.intersect(second));
+    assertEquals(GradoopIdList.fromExisting(id1, id2, id3, id4), first.union(second));
+    assertEquals(GradoopIdList.fromExisting(id1), first.difference(second));
+    assertEquals(GradoopIdList.fromExisting(id4), second.difference(first));
+    assertTrue(first.union(second).isSorted());
+  }
+
+  @Test
+  public void testWriteAndReadSorted() throws Exception {
+    GradoopIdList ids = GradoopIdList.sortedFromExisting(
+      Arrays.asList(GradoopId.get(), GradoopId.get(), GradoopId.get()));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ids.write(new DataOutputViewStreamWrapper(out));
+
+    GradoopIdList result = new GradoopIdList();
+    result.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray())));
+
+    assertTrue(result.isSorted());
+    assertEquals(ids, result);
+
+    GradoopIdList empty = new GradoopIdList();
+    empty.sort();
+    out = new ByteArrayOutputStream();
+    empty.write(new DataOutputViewStreamWrapper(out));
+    result = new GradoopIdList();
+    result.read(new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray())));
+
+    assertTrue(result.isSorted());
+    assertTrue(result.isEmpty());
+  }
+}
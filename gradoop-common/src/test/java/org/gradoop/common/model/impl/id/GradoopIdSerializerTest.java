@@ -0,0 +1,82 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.id;
+
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class GradoopIdSerializerTest {
+
+  @Test
+  public void testSerializeDeserialize() throws IOException {
+    GradoopIdSerializer serializer = GradoopIdSerializer.INSTANCE;
+    GradoopId id = GradoopId.get();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    serializer.serialize(id, new DataOutputViewStreamWrapper(bytes));
+    assertEquals(GradoopId.ID_SIZE, bytes.size());
+
+    GradoopId result = serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(id, result);
+
+    GradoopId reuse = serializer.createInstance();
+    result = serializer.deserialize(reuse,
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray())));
+    assertSame(reuse, result);
+    assertEquals(id, result);
+  }
+
+  @Test
+  public void testWireFormatCompatibility() throws IOException {
+    GradoopId id = GradoopId.get();
+
+    ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+    id.write(new DataOutputViewStreamWrapper(valueBytes));
+
+    ByteArrayOutputStream serializerBytes = new ByteArrayOutputStream();
+    GradoopIdSerializer.INSTANCE.serialize(id, new DataOutputViewStreamWrapper(serializerBytes));
+
+    assertArrayEquals(valueBytes.toByteArray(), serializerBytes.toByteArray());
+  }
+
+  @Test
+  public void testCopy() {
+    GradoopIdSerializer serializer = GradoopIdSerializer.INSTANCE;
+    GradoopId id = GradoopId.get();
+
+    assertEquals(id, serializer.copy(id));
+
+    GradoopId reuse = serializer.createInstance();
+    assertSame(reuse, serializer.copy(id, reuse));
+    assertEquals(id, reuse);
+  }
+
+  @Test
+  public void testSpecialValues() {
+    GradoopIdSerializer serializer = GradoopIdSerializer.INSTANCE;
+    assertEquals(GradoopId.NULL_VALUE, serializer.copy(GradoopId.NULL_VALUE));
+    assertEquals(GradoopId.MIN_VALUE, serializer.copy(GradoopId.MIN_VALUE));
+    assertEquals(GradoopId.MAX_VALUE, serializer.copy(GradoopId.MAX_VALUE));
+  }
+}
@@ -19,6 +19,7 @@ import org.bson.types.ObjectId;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -112,4 +113,61 @@ public class GradoopIdTest {
 
     assertEquals(expectedId, newId);
   }
+
+  @Test
+  public void testObjectIdCompatibility() {
+    for (int i = 0; i < 100; i++) {
+      ObjectId first = ObjectId.get();
+      ObjectId second = new ObjectId(
+        first.getTimestamp() - 1, (first.getMachineIdentifier() + 1) & 0xFFFFFF,
+        first.getProcessIdentifier(), first.getCounter());
+
+      GradoopId firstId = new GradoopId(first);
+      GradoopId secondId = new GradoopId(second);
+
+      assertEquals(first.toHexString(), firstId.toString());
+      assertEquals(first.hashCode(), firstId.hashCode());
+      assertArrayEquals(first.toByteArray(), firstId.toByteArray());
+      assertEquals(Integer.signum(first.compareTo(second)),
+        Integer.signum(firstId.compareTo(secondId)));
+    }
+  }
+
+  @Test
+  public void testSpecialValues() {
+    assertEquals(GradoopId.NULL_VALUE, new GradoopId());
+    assertTrue(GradoopId.MIN_VALUE.compareTo(GradoopId.MAX_VALUE) < 0);
+    assertEquals(GradoopId.MAX_VALUE, GradoopId.fromString(GradoopId.MAX_VALUE.toString()));
+    assertEquals(GradoopId.MIN_VALUE, GradoopId.fromString(GradoopId.MIN_VALUE.toString()));
+    assertEquals(GradoopId.NULL_VALUE, GradoopId.fromString(GradoopId.NULL_VALUE.toString()));
+  }
+
+  @Test
+  public void testCopyToAndFromByteArrayWithOffset() {
+    GradoopId id = GradoopId.get();
+    byte[] bytes = new byte[GradoopId.ID_SIZE + 3];
+    id.copyTo(bytes, 3);
+
+    assertEquals(id, GradoopId.fromByteArray(bytes, 3));
+  }
+
+  @Test
+  public void testFromHexBytes() {
+    GradoopId id = GradoopId.get();
+    byte[] bytes = (";" + id + ";").getBytes(StandardCharsets.US_ASCII);
+    assertEquals(id, GradoopId.fromHexBytes(bytes, 1));
+
+    bytes = GradoopId.MAX_VALUE.toString().toUpperCase().getBytes(StandardCharsets.US_ASCII);
+    assertEquals(GradoopId.MAX_VALUE, GradoopId.fromHexBytes(bytes, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromHexBytesWithInvalidCharacter() {
+    GradoopId.fromHexBytes("58g3ff8ffbd7d222690a90999".getBytes(StandardCharsets.US_ASCII), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFromHexBytesWithTooFewCharacters() {
+    GradoopId.fromHexBytes("583ff8ffbd7d222690a9099".getBytes(StandardCharsets.US_ASCII), 0);
+  }
 }
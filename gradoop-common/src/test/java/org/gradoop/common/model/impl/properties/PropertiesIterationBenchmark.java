@@ -0,0 +1,114 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Properties#iterator()} with {@link Properties#forEachEntry(PropertyVisitor)}
+ * for vertices with and without a {@link PropertySchema}.
+ *
+ * Run via {@code org.openjdk.jmh.Main PropertiesIterationBenchmark} on the test classpath, add
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PropertiesIterationBenchmark {
+
+  /**
+   * Number of vertices per invocation.
+   */
+  private static final int COUNT = 256;
+
+  /**
+   * Number of properties per vertex.
+   */
+  @Param({"5", "10", "25", "50"})
+  private int propertyCount;
+
+  /**
+   * True, if the properties are created with a schema.
+   */
+  @Param({"false", "true"})
+  private boolean withSchema;
+
+  /**
+   * Benchmarked vertices
+   */
+  private Vertex[] vertices;
+
+  @Setup
+  public void setup() {
+    List<String> keys = new ArrayList<>(propertyCount);
+    for (int i = 0; i < propertyCount; i++) {
+      keys.add("property_" + i);
+    }
+    PropertySchema schema = PropertySchema.create(keys);
+    VertexFactory factory = new VertexFactory();
+
+    vertices = new Vertex[COUNT];
+    for (int v = 0; v < COUNT; v++) {
+      Properties properties = withSchema ?
+        Properties.createWithSchema(schema) : Properties.createWithCapacity(propertyCount);
+      for (int i = 0; i < propertyCount; i++) {
+        properties.set(keys.get(i), i % 2 == 0 ? (Object) (long) v : "value_" + v);
+      }
+      vertices[v] = factory.createVertex("Person", properties);
+    }
+  }
+
+  @Benchmark
+  public void iterator(Blackhole blackhole) {
+    for (Vertex vertex : vertices) {
+      for (Property property : vertex.getProperties()) {
+        blackhole.consume(property.getKey());
+        blackhole.consume(property.getValue());
+      }
+    }
+  }
+
+  @Benchmark
+  public void forEachEntry(Blackhole blackhole) {
+    PropertyVisitor<RuntimeException> visitor = (key, value) -> {
+      blackhole.consume(key);
+      blackhole.consume(value);
+    };
+    for (Vertex vertex : vertices) {
+      vertex.getProperties().forEachEntry(visitor);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.junit.Assert.*;
+
+public class PropertiesSerializerTest {
+
+  private static final List<String> KEYS = Lists.newArrayList(SUPPORTED_PROPERTIES.keySet());
+
+  @Test
+  public void testRegisteredSchema() throws IOException {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertySchema schema = PropertySchemas.register(config, Vertex.class, "A", KEYS);
+    assertNotNull(schema);
+    assertSame(schema, PropertySchemas.getSchema(config, Vertex.class, "A"));
+    assertSame(schema, PropertySchemas.register(config, Vertex.class, "B", KEYS));
+    assertEquals(1, PropertySchemas.getSchemas(config).length);
+
+    PropertiesSerializer serializer =
+      (PropertiesSerializer) new PropertiesTypeInfo().createSerializer(config);
+
+    Properties properties = Properties.createWithSchema(schema);
+    for (String key : KEYS) {
+      properties.set(key, SUPPORTED_PROPERTIES.get(key));
+    }
+    properties.remove(KEY_2);
+    properties.set("other", STRING_VAL_6);
+
+    Properties result = serializeAndDeserialize(serializer, properties);
+    assertEquals(properties, result);
+    assertEquals(schema, result.getSchema());
+    assertNull(result.get(KEY_2));
+
+    Properties withoutSchema = Properties.create();
+    for (Property property : properties) {
+      withoutSchema.set(property);
+    }
+    assertTrue("schema based representation was not smaller",
+      serializedSize(serializer, properties) < serializedSize(serializer, withoutSchema));
+  }
+
+  @Test
+  public void testUnregisteredSchema() throws IOException {
+    PropertiesSerializer serializer =
+      (PropertiesSerializer) new PropertiesTypeInfo().createSerializer(new ExecutionConfig());
+
+    Properties properties = Properties.createWithSchema(PropertySchema.create(KEYS));
+    properties.set(KEY_1, BOOL_VAL_1);
+    properties.set("other", STRING_VAL_6);
+
+    Properties result = serializeAndDeserialize(serializer, properties);
+    assertEquals(properties, result);
+    assertNull(result.getSchema());
+  }
+
+  @Test
+  public void testCopy() {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertySchema schema = PropertySchemas.register(config, Vertex.class, "A", KEYS);
+    PropertiesSerializer serializer = new PropertiesSerializer(PropertySchemas.getSchemas(config));
+
+    Properties properties = Properties.createWithSchema(schema);
+    properties.set(KEY_1, BOOL_VAL_1);
+
+    Properties copy = serializer.copy(properties);
+    assertEquals(properties, copy);
+    assertEquals(schema, copy.getSchema());
+    assertNotSame(properties.get(KEY_1), copy.get(KEY_1));
+  }
+
+  @Test
+  public void testSchemasByElementType() {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertySchema vertexSchema = PropertySchemas.register(config, Vertex.class, "A", KEYS);
+    PropertySchema edgeSchema =
+      PropertySchemas.register(config, Edge.class, "A", Lists.newArrayList(KEY_1));
+
+    assertNotEquals(vertexSchema, edgeSchema);
+    assertSame(vertexSchema, PropertySchemas.getSchema(config, Vertex.class, "A"));
+    assertSame(edgeSchema, PropertySchemas.getSchema(config, Edge.class, "A"));
+    assertNull(PropertySchemas.getSchema(config, GraphHead.class, "A"));
+  }
+
+  @Test
+  public void testUserDefinedJobParameters() throws IOException {
+    ExecutionConfig config = new ExecutionConfig();
+    ExecutionConfig.GlobalJobParameters parameters = new ExecutionConfig.GlobalJobParameters() {
+    };
+    config.setGlobalJobParameters(parameters);
+
+    assertNull(PropertySchemas.register(config, Vertex.class, "A", KEYS));
+    assertSame(parameters, config.getGlobalJobParameters());
+    assertEquals(0, PropertySchemas.getSchemas(config).length);
+
+    // properties are serialized without schema
+    PropertiesSerializer serializer =
+      (PropertiesSerializer) new PropertiesTypeInfo().createSerializer(config);
+    Properties properties = Properties.createWithSchema(PropertySchema.create(KEYS));
+    properties.set(KEY_1, BOOL_VAL_1);
+    assertEquals(properties, serializeAndDeserialize(serializer, properties));
+  }
+
+  @Test
+  public void testUserDefinedPropertySchemas() {
+    ExecutionConfig config = new ExecutionConfig();
+    PropertySchemas parameters = new PropertySchemas() {
+    };
+    config.setGlobalJobParameters(parameters);
+
+    PropertySchema schema = PropertySchemas.register(config, Vertex.class, "A", KEYS);
+    assertSame(parameters, config.getGlobalJobParameters());
+    assertSame(schema, PropertySchemas.getSchema(config, Vertex.class, "A"));
+  }
+
+  private Properties serializeAndDeserialize(PropertiesSerializer serializer,
+    Properties properties) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    serializer.serialize(properties, new DataOutputViewStreamWrapper(bytes));
+    return serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+  private int serializedSize(PropertiesSerializer serializer, Properties properties)
+    throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    serializer.serialize(properties, new DataOutputViewStreamWrapper(bytes));
+    return bytes.size();
+  }
+}
@@ -16,10 +16,13 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.gradoop.common.GradoopTestUtils.*;
 import static org.junit.Assert.*;
@@ -204,6 +207,22 @@ public class PropertiesTest {
     }
   }
 
+  @Test
+  public void testForEachEntry() throws Exception {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties withSchema = Properties.createWithSchema(
+      PropertySchema.create(Lists.newArrayList(KEY_1, KEY_2)));
+    for (Property property : properties) {
+      withSchema.set(property);
+    }
+
+    for (Properties p : Lists.newArrayList(properties, withSchema)) {
+      Map<String, Object> visited = Maps.newHashMap();
+      p.forEachEntry((key, value) -> visited.put(key, value.getObject()));
+      assertEquals(SUPPORTED_PROPERTIES, visited);
+    }
+  }
+
   @Test
   public void testWriteAndReadFields() throws Exception {
     Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
@@ -212,4 +231,47 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSchema() throws Exception {
+    PropertySchema schema = PropertySchema.create(Lists.newArrayList(KEY_1, KEY_2, KEY_3));
+    Properties properties = Properties.createWithSchema(schema);
+    assertSame(schema, properties.getSchema());
+    assertTrue(properties.isEmpty());
+
+    properties.set(KEY_1, BOOL_VAL_1);
+    properties.set(KEY_3, LONG_VAL_3);
+    properties.set(KEY_6, STRING_VAL_6);
+    assertEquals(3, properties.size());
+    assertEquals(BOOL_VAL_1, properties.get(KEY_1).getObject());
+    assertNull(properties.get(KEY_2));
+    assertEquals(LONG_VAL_3, properties.get(KEY_3).getObject());
+    assertEquals(STRING_VAL_6, properties.get(KEY_6).getObject());
+
+    Set<String> keys = Sets.newHashSet(properties.getKeys());
+    assertEquals(Sets.newHashSet(KEY_1, KEY_3, KEY_6), keys);
+
+    Properties withoutSchema = Properties.create();
+    withoutSchema.set(KEY_1, BOOL_VAL_1);
+    withoutSchema.set(KEY_3, LONG_VAL_3);
+    withoutSchema.set(KEY_6, STRING_VAL_6);
+    assertEquals(withoutSchema, properties);
+    assertEquals(properties, withoutSchema);
+    assertEquals(withoutSchema.hashCode(), properties.hashCode());
+    assertEquals(withoutSchema, writeAndReadFields(Properties.class, properties));
+
+    assertEquals(LONG_VAL_3, properties.remove(KEY_3).getObject());
+    assertNull(properties.remove(KEY_3));
+    assertEquals(2, properties.size());
+    assertNotEquals(withoutSchema, properties);
+
+    properties.clear();
+    assertTrue(properties.isEmpty());
+    assertFalse(properties.iterator().hasNext());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSchemaWithDuplicateKeys() {
+    PropertySchema.create(Lists.newArrayList(KEY_1, KEY_2, KEY_1));
+  }
+}
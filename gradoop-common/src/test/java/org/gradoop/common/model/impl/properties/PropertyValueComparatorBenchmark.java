@@ -0,0 +1,150 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PropertyValueComparator} with a comparison that materializes the values, which
+ * is how {@link PropertyValue#compareTo(PropertyValue)} used to work.
+ *
+ * Run via {@code org.openjdk.jmh.Main PropertyValueComparatorBenchmark} on the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PropertyValueComparatorBenchmark {
+
+  /**
+   * Number of values per invocation.
+   */
+  private static final int COUNT = 1024;
+
+  /**
+   * Type of the compared values.
+   */
+  @Param({"int", "long", "double", "string", "date", "gradoopId", "intLong"})
+  private String type;
+
+  /**
+   * First operands
+   */
+  private PropertyValue[] first;
+
+  /**
+   * Second operands
+   */
+  private PropertyValue[] second;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    first = new PropertyValue[COUNT];
+    second = new PropertyValue[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      first[i] = createValue(random, false);
+      second[i] = createValue(random, "intLong".equals(type));
+    }
+  }
+
+  @Benchmark
+  public int materialized() {
+    int c = 0;
+    for (int i = 0; i < COUNT; i++) {
+      c += materializedCompare(first[i], second[i]);
+    }
+    return c;
+  }
+
+  @Benchmark
+  public int binary() {
+    int c = 0;
+    for (int i = 0; i < COUNT; i++) {
+      c += PropertyValueComparator.INSTANCE.compare(first[i], second[i]);
+    }
+    return c;
+  }
+
+  /**
+   * Creates a random value of the benchmarked type.
+   *
+   * @param random random generator
+   * @param secondOperand true, if the second operand of a cross type comparison is created
+   * @return property value
+   */
+  private PropertyValue createValue(Random random, boolean secondOperand) {
+    switch (type) {
+    case "int":
+      return PropertyValue.create(random.nextInt());
+    case "long":
+      return PropertyValue.create(random.nextLong());
+    case "double":
+      return PropertyValue.create(random.nextDouble());
+    case "string":
+      return PropertyValue.create("property-value-" + random.nextInt(1000));
+    case "date":
+      return PropertyValue.create(LocalDate.ofEpochDay(random.nextInt(20000)));
+    case "gradoopId":
+      return PropertyValue.create(GradoopId.get());
+    default:
+      return secondOperand ?
+        PropertyValue.create((long) random.nextInt()) : PropertyValue.create(random.nextInt());
+    }
+  }
+
+  /**
+   * Compares two values by materializing them as Java objects.
+   *
+   * @param a first value
+   * @param b second value
+   * @return comparison result
+   */
+  private static int materializedCompare(PropertyValue a, PropertyValue b) {
+    if (a.isInt() && b.isInt()) {
+      return Integer.compare(a.getInt(), b.getInt());
+    } else if (a.isLong() && b.isLong()) {
+      return Long.compare(a.getLong(), b.getLong());
+    } else if (a.isDouble() && b.isDouble()) {
+      return Double.compare(a.getDouble(), b.getDouble());
+    } else if (a.isString() && b.isString()) {
+      return a.getString().compareTo(b.getString());
+    } else if (a.isDate() && b.isDate()) {
+      return a.getDate().compareTo(b.getDate());
+    } else if (a.isGradoopId() && b.isGradoopId()) {
+      return a.getGradoopId().compareTo(b.getGradoopId());
+    } else {
+      return a.getBigDecimal().compareTo(b.getBigDecimal());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.gradoop.common.GradoopTestUtils.LIST_VAL_a;
+import static org.gradoop.common.model.impl.properties.PropertyValue.create;
+import static org.junit.Assert.*;
+
+public class PropertyValueComparatorTest {
+
+  private final PropertyValueComparator comparator = PropertyValueComparator.INSTANCE;
+
+  @Test
+  public void testSameType() {
+    validate(create(false), create(false), create(true));
+    validate(create(-10), create(-10), create(10));
+    validate(create(-10L), create(-10L), create(12L));
+    validate(create(-10F), create(-10F), create(12F));
+    validate(create(-10.), create(-10.), create(12.));
+    validate(create("10"), create("10"), create("12"));
+    validate(create("ab"), create("ab"), create("abc"));
+    validate(create(new BigDecimal(-10)), create(new BigDecimal(-10)),
+      create(new BigDecimal(11)));
+    validate(
+      create(GradoopId.fromString("583ff8ffbd7d222690a90999")),
+      create(GradoopId.fromString("583ff8ffbd7d222690a90999")),
+      create(GradoopId.fromString("583ff8ffbd7d222690a9099a")));
+    validate(create(LocalDate.of(2016, 12, 31)), create(LocalDate.of(2016, 12, 31)),
+      create(LocalDate.of(2017, 1, 1)));
+    validate(create(LocalTime.of(23, 59)), create(LocalTime.of(23, 59)),
+      create(LocalTime.of(23, 59, 0, 1)));
+    validate(create(LocalDateTime.of(-1, 1, 1, 0, 0)), create(LocalDateTime.of(-1, 1, 1, 0, 0)),
+      create(LocalDateTime.of(2017, 1, 1, 0, 0)));
+  }
+
+  @Test
+  public void testStringConsistency() {
+    String[] strings = {
+      "", "a", "abc", "ä", "€", "￠", "😀", "z😀", "z"
+    };
+    for (String a : strings) {
+      for (String b : strings) {
+        assertEquals(a + " vs " + b, Integer.signum(a.compareTo(b)),
+          Integer.signum(comparator.compare(create(a), create(b))));
+      }
+    }
+  }
+
+  @Test
+  public void testCompareToConsistency() {
+    PropertyValue[] values = {
+      create(1), create(2), create("a"), create("b"), create(1.5), create(2.5),
+      create(LocalDate.of(2017, 1, 1)), create(LocalDate.of(2017, 1, 2))
+    };
+    for (int i = 0; i < values.length; i += 2) {
+      assertEquals(Integer.signum(values[i].compareTo(values[i + 1])),
+        Integer.signum(comparator.compare(values[i], values[i + 1])));
+    }
+  }
+
+  @Test
+  public void testNumericalCrossType() {
+    validate(create(10), create(10L), create(11L));
+    validate(create(10L), create(10), create(11));
+    validate(create(10), create(10F), create(10.5F));
+    validate(create(10), create(10.), create(10.5));
+    validate(create(10L), create(10.), create(10.5));
+    validate(create(10F), create(10.), create(10.5));
+    validate(create(10), create(new BigDecimal(10)), create(new BigDecimal("10.1")));
+    validate(create(Long.MAX_VALUE - 1), create(Long.MAX_VALUE - 1),
+      create((double) Long.MAX_VALUE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIncompatibleTypes() {
+    comparator.compare(create(10), create("10"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testList() {
+    comparator.compare(create(LIST_VAL_a), create(LIST_VAL_a));
+  }
+
+  /**
+   * Assumes that p1 == p2 < p3
+   */
+  private void validate(PropertyValue p1, PropertyValue p2, PropertyValue p3) {
+    assertTrue(comparator.compare(p1, p1) == 0);
+    assertTrue(comparator.compare(p1, p2) == 0);
+    assertTrue(comparator.compare(p2, p1) == 0);
+    assertTrue(comparator.compare(p1, p3) < 0);
+    assertTrue(comparator.compare(p3, p1) > 0);
+    assertTrue(comparator.compare(p3, p2) > 0);
+  }
+}
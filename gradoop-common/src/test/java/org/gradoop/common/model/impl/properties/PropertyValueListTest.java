@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.GradoopTestUtils;
 import org.junit.Test;
 
@@ -126,4 +128,31 @@ public class PropertyValueListTest {
     List<PropertyValue> expected = Lists.newArrayList(p);
     assertEquals(0, expected.size());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testNormalizedKey() throws IOException {
+    PropertyValueList p1 = PropertyValueList.fromPropertyValues(
+      Lists.newArrayList(PropertyValue.create(1L), PropertyValue.create("a"))
+    );
+    PropertyValueList p2 = PropertyValueList.fromPropertyValues(
+      Lists.newArrayList(PropertyValue.create(1L), PropertyValue.create("b"))
+    );
+    PropertyValueList empty = PropertyValueList.createEmptyList();
+
+    for (int len : new int[] {4, 16, 32}) {
+      MemorySegment k1 = MemorySegmentFactory.wrap(new byte[len]);
+      MemorySegment k2 = MemorySegmentFactory.wrap(new byte[len]);
+      MemorySegment k3 = MemorySegmentFactory.wrap(new byte[len]);
+      p1.copyNormalizedKey(k1, 0, len);
+      p2.copyNormalizedKey(k2, 0, len);
+      empty.copyNormalizedKey(k3, 0, len);
+
+      int comparison = k1.compare(k2, 0, 0, len);
+      if (comparison != 0) {
+        assertEquals(Integer.signum(p1.compareTo(p2)), Integer.signum(comparison));
+      }
+      assertTrue(k3.compare(k1, 0, 0, len) <= 0);
+    }
+    assertEquals(Integer.MAX_VALUE, new PropertyValueList().getMaxNormalizedKeyLen());
+  }
+}
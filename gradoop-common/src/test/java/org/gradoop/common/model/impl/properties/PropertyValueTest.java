@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.exceptions.UnsupportedTypeException;
 import org.junit.Rule;
@@ -898,6 +900,63 @@ public class PropertyValueTest {
     p = create(DATETIME_VAL_d);
     assertEquals(p, writeAndReadFields(PropertyValue.class, p));
   }
+  @Test
+  public void testNormalizedKey() {
+    PropertyValue[][] ascendingValues = {
+      {create(false), create(true)},
+      {create(Integer.MIN_VALUE), create(-1), create(0), create(1), create(Integer.MAX_VALUE)},
+      {create(Long.MIN_VALUE), create(-1L), create(0L), create(Long.MAX_VALUE)},
+      {create(Float.NEGATIVE_INFINITY), create(-1.5F), create(-0F), create(0F), create(1.5F),
+        create(Float.POSITIVE_INFINITY), create(Float.NaN)},
+      {create(Double.NEGATIVE_INFINITY), create(-1.5), create(-0.), create(0.), create(1.5),
+        create(Double.POSITIVE_INFINITY), create(Double.NaN)},
+      {create(""), create("a"), create("abcdefghijklmnopqrstuvwxyz"),
+        create("abcdefghijklmnopqrstuvwxz"), create("ä"), create("😀"), create("￠")},
+      {create(new BigDecimal("-1.5")), create(BigDecimal.ZERO), create(new BigDecimal("1E20"))},
+      {create(GradoopId.fromString("583ff8ffbd7d222690a90999")),
+        create(GradoopId.fromString("f83ff8ffbd7d222690a90999"))},
+      {create(LocalDate.of(-1, 12, 31)), create(LocalDate.of(2017, 1, 1)),
+        create(LocalDate.of(2017, 1, 2))},
+      {create(LocalTime.of(0, 0)), create(LocalTime.of(0, 0, 0, 1)), create(LocalTime.of(23, 59))},
+      {create(LocalDateTime.of(2017, 1, 1, 0, 0)), create(LocalDateTime.of(2017, 1, 1, 0, 0, 0, 1)),
+        create(LocalDateTime.of(2017, 1, 1, 0, 1))}
+    };
+
+    for (int len : new int[] {1, 4, 8, 16, 32}) {
+      for (PropertyValue[] values : ascendingValues) {
+        for (int i = 0; i < values.length; i++) {
+          for (int j = 0; j < values.length; j++) {
+            int keyComparison = compareNormalizedKeys(values[i], values[j], len);
+            if (keyComparison != 0) {
+              assertEquals(values[i] + " vs " + values[j], Integer.compare(i, j), keyComparison);
+            }
+          }
+        }
+      }
+    }
+
+    // different types are ordered by type
+    assertTrue(compareNormalizedKeys(create(Integer.MAX_VALUE), create(Long.MIN_VALUE), 1) < 0);
+    assertTrue(compareNormalizedKeys(create("z"), create(1.0), 16) > 0);
+    assertEquals(Integer.MAX_VALUE, new PropertyValue().getMaxNormalizedKeyLen());
+  }
+
+  /**
+   * Compares the normalized keys of the given values.
+   *
+   * @param first first value
+   * @param second second value
+   * @param len normalized key length
+   * @return signum of the unsigned byte-wise comparison
+   */
+  private int compareNormalizedKeys(PropertyValue first, PropertyValue second, int len) {
+    MemorySegment firstKey = MemorySegmentFactory.wrap(new byte[len + 2]);
+    MemorySegment secondKey = MemorySegmentFactory.wrap(new byte[len + 2]);
+    first.copyNormalizedKey(firstKey, 1, len);
+    second.copyNormalizedKey(secondKey, 1, len);
+    return Integer.signum(firstKey.compare(secondKey, 0, 0, len + 2));
+  }
+
   /**
    * Assumes that p1 == p2 < p3
    */
@@ -29,6 +29,8 @@ import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.io.IOException;
+
 /**
  * Base class for example runners.
  */
@@ -65,9 +67,10 @@ public abstract class AbstractRunner {
    *
    * @param directory path to EPGM database
    * @return EPGM logical graph
+   * @throws IOException
    */
   @SuppressWarnings("unchecked")
-  protected static LogicalGraph readLogicalGraph(String directory) {
+  protected static LogicalGraph readLogicalGraph(String directory) throws IOException {
     return readLogicalGraph(directory, "json");
   }
 
@@ -77,9 +80,11 @@ public abstract class AbstractRunner {
    * @param directory path to EPGM database
    * @param format    format in which the graph is stored (csv, json)
    * @return EPGM logical graph
+   * @throws IOException
    */
   @SuppressWarnings("unchecked")
-  protected static LogicalGraph readLogicalGraph(String directory, String format) {
+  protected static LogicalGraph readLogicalGraph(String directory, String format)
+    throws IOException {
     directory = appendSeparator(directory);
 
     GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
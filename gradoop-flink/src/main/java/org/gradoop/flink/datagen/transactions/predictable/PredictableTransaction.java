@@ -20,7 +20,6 @@ import com.google.common.collect.Sets;
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
-import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
 import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
@@ -204,9 +203,6 @@ public class PredictableTransaction implements
 
   @Override
   public TypeInformation<GraphTransaction> getProducedType() {
-    return new TupleTypeInfo<>(
-      TypeExtractor.getForClass(graphHeadFactory.getType()),
-      TypeExtractor.getForClass(Set.class),
-      TypeExtractor.getForClass(Set.class));
+    return TypeExtractor.createTypeInfo(GraphTransaction.class);
   }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Base class for the columnar data source and data sink.
+ */
+public abstract class ColumnarBase {
+  /**
+   * Directory for graph heads.
+   */
+  private static final String GRAPH_HEAD_DIRECTORY = "graphs";
+  /**
+   * Directory for vertices.
+   */
+  private static final String VERTEX_DIRECTORY = "vertices";
+  /**
+   * Directory for edges.
+   */
+  private static final String EDGE_DIRECTORY = "edges";
+  /**
+   * Root directory containing the graph head, vertex and edge directories.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param path root directory
+   * @param config Gradoop Flink configuration
+   */
+  protected ColumnarBase(String path, GradoopFlinkConfig config) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(config);
+    this.root = path.endsWith(File.separator) ? path : path + File.separator;
+    this.config = config;
+  }
+
+  protected String getGraphHeadPath() {
+    return root + GRAPH_HEAD_DIRECTORY;
+  }
+
+  protected String getVertexPath() {
+    return root + VERTEX_DIRECTORY;
+  }
+
+  protected String getEdgePath() {
+    return root + EDGE_DIRECTORY;
+  }
+
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
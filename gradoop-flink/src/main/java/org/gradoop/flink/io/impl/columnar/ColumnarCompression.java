@@ -13,24 +13,18 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.io.impl.hbase.functions;
-
-import org.gradoop.common.model.impl.pojo.Edge;
+package org.gradoop.flink.io.impl.columnar;
 
 /**
- * Takes grouped edges as input and outputs a tuple containing source vertex id
- * and the edges.
- *
- * edge+ -> (sourceId, edge+)
- *
- * @param <E> EPGM edge type
+ * Compression codecs for the column data of a block in the columnar format.
  */
-public class EdgeSetBySourceId<E extends Edge> extends EdgeSet<E> {
-
+public enum ColumnarCompression {
+  /**
+   * Columns are stored uncompressed.
+   */
+  NONE,
   /**
-   * Constructor
+   * Columns are compressed using {@link java.util.zip.Deflater}.
    */
-  public EdgeSetBySourceId() {
-    extractBySourceId = true;
-  }
+  DEFLATE
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+/**
+ * Constants of the binary columnar format.
+ *
+ * Each file written by a task consists of the column data of all blocks followed by a footer.
+ * A block contains up to {@link #MAX_BLOCK_ROWS} elements with the same label, each column of a
+ * block is compressed separately. The footer stores the label, the property keys and the column
+ * positions of each block, followed by the footer length and {@link #MAGIC}.
+ */
+public class ColumnarConstants {
+  /**
+   * Marks the end of a file written in the columnar format ("GDPC").
+   */
+  public static final int MAGIC = 0x47445043;
+  /**
+   * Version of the file format.
+   */
+  public static final byte VERSION = 1;
+  /**
+   * Maximum number of elements in a block.
+   */
+  public static final int MAX_BLOCK_ROWS = 1 << 14;
+  /**
+   * Maximum number of uncompressed bytes buffered for a block.
+   */
+  public static final int MAX_BLOCK_BYTES = 1 << 22;
+  /**
+   * Length of the trailer, i.e. footer length and magic number.
+   */
+  public static final int TRAILER_LENGTH = 2 * Integer.BYTES;
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarEdgeOutputFormat;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarGraphHeadOutputFormat;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarVertexOutputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A graph data sink for the binary columnar format.
+ *
+ * The sink writes graph heads, vertices and edges into separate directories, e.g.:
+ *
+ * root
+ *   |- graphs   # one file per task containing graph heads
+ *   |- vertices # one file per task containing vertices
+ *   |- edges    # one file per task containing edges
+ *
+ * Each file stores the elements in blocks of a single label. Inside a block, every fixed field
+ * (e.g. id, graph ids) and every property key is stored in a separately compressed column, so
+ * that {@link ColumnarDataSource} can skip labels and property keys that are not needed.
+ */
+public class ColumnarDataSink extends ColumnarBase implements DataSink {
+  /**
+   * Compression codec for the columns.
+   */
+  private final ColumnarCompression compression;
+
+  /**
+   * Creates a new data sink which compresses the columns using
+   * {@link ColumnarCompression#DEFLATE}.
+   *
+   * @param path directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String path, GradoopFlinkConfig config) {
+    this(path, config, ColumnarCompression.DEFLATE);
+  }
+
+  /**
+   * Creates a new data sink.
+   *
+   * @param path directory to write to
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec for the columns
+   */
+  public ColumnarDataSink(String path, GradoopFlinkConfig config,
+    ColumnarCompression compression) {
+    super(path, config);
+    this.compression = Objects.requireNonNull(compression);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) throws IOException {
+    FileSystem.WriteMode writeMode = overWrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    graphCollection.getGraphHeads()
+      .output(new ColumnarGraphHeadOutputFormat(getGraphHeadPath(), compression, writeMode));
+    graphCollection.getVertices()
+      .output(new ColumnarVertexOutputFormat(getVertexPath(), compression, writeMode));
+    graphCollection.getEdges()
+      .output(new ColumnarEdgeOutputFormat(getEdgePath(), compression, writeMode));
+  }
+}
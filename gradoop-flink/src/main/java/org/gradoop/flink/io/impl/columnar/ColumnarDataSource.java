@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarEdgeInputFormat;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.columnar.formats.ColumnarVertexInputFormat;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Set;
+
+/**
+ * A graph data source for the binary columnar format written by {@link ColumnarDataSink}.
+ *
+ * The source optionally reads only vertices and edges with specific labels and only specific
+ * property keys. Blocks of other labels and columns of other property keys are skipped without
+ * being read. Note that the label filter is applied to vertices and edges independently, i.e.
+ * edges are not removed if their source or target vertex is filtered out. Graph heads are not
+ * affected by the label filter.
+ */
+public class ColumnarDataSource extends ColumnarBase implements DataSource {
+  /**
+   * Labels of the vertices and edges to read or {@code null} to read all elements.
+   */
+  private final Set<String> labels;
+  /**
+   * Property keys to read or {@code null} to read all properties.
+   */
+  private final Set<String> propertyKeys;
+
+  /**
+   * Creates a new data source which reads all elements and properties.
+   *
+   * @param path root directory of the columnar files
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSource(String path, GradoopFlinkConfig config) {
+    this(path, config, null, null);
+  }
+
+  /**
+   * Creates a new data source which reads only the specified labels and property keys.
+   *
+   * @param path root directory of the columnar files
+   * @param config Gradoop Flink configuration
+   * @param labels labels of the vertices and edges to read or {@code null} to read all
+   * @param propertyKeys property keys to read or {@code null} to read all
+   */
+  public ColumnarDataSource(String path, GradoopFlinkConfig config, Set<String> labels,
+    Set<String> propertyKeys) {
+    super(path, config);
+    this.labels = labels;
+    this.propertyKeys = propertyKeys;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    TypeInformation<GraphHead> graphHeadType =
+      TypeExtractor.createTypeInfo(getConfig().getGraphHeadFactory().getType());
+    TypeInformation<Vertex> vertexType =
+      TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType());
+    TypeInformation<Edge> edgeType =
+      TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType());
+
+    DataSet<GraphHead> graphHeads = env.createInput(
+      new ColumnarGraphHeadInputFormat(getGraphHeadPath(), propertyKeys), graphHeadType);
+    DataSet<Vertex> vertices = env.createInput(
+      new ColumnarVertexInputFormat(getVertexPath(), labels, propertyKeys), vertexType);
+    DataSet<Edge> edges = env.createInput(
+      new ColumnarEdgeInputFormat(getEdgePath(), labels, propertyKeys), edgeType);
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+}
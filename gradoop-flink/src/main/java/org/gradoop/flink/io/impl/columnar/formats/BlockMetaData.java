@@ -0,0 +1,174 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+
+/**
+ * Describes a block of elements with the same label inside a file of the columnar format. The
+ * first columns of a block contain the fixed fields of the element type (e.g. id, source id),
+ * followed by one column per property key.
+ */
+class BlockMetaData {
+  /**
+   * Label of all elements in the block.
+   */
+  private final String label;
+  /**
+   * Number of elements in the block.
+   */
+  private final int rowCount;
+  /**
+   * Number of columns storing the fixed fields of the element type.
+   */
+  private final int fixedColumnCount;
+  /**
+   * Property keys of the property columns.
+   */
+  private final String[] propertyKeys;
+  /**
+   * File position of each column.
+   */
+  private final long[] offsets;
+  /**
+   * Stored (i.e. compressed) length of each column.
+   */
+  private final int[] lengths;
+  /**
+   * Uncompressed length of each column.
+   */
+  private final int[] sizes;
+
+  /**
+   * Constructor.
+   *
+   * @param label label of all elements in the block
+   * @param rowCount number of elements
+   * @param fixedColumnCount number of fixed columns
+   * @param propertyKeys property keys of the property columns
+   * @param offsets file position of each column
+   * @param lengths stored length of each column
+   * @param sizes uncompressed length of each column
+   */
+  BlockMetaData(String label, int rowCount, int fixedColumnCount, String[] propertyKeys,
+    long[] offsets, int[] lengths, int[] sizes) {
+    this.label = label;
+    this.rowCount = rowCount;
+    this.fixedColumnCount = fixedColumnCount;
+    this.propertyKeys = propertyKeys;
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.sizes = sizes;
+  }
+
+  String getLabel() {
+    return label;
+  }
+
+  int getRowCount() {
+    return rowCount;
+  }
+
+  int getFixedColumnCount() {
+    return fixedColumnCount;
+  }
+
+  String[] getPropertyKeys() {
+    return propertyKeys;
+  }
+
+  /**
+   * Returns the file position of the specified column.
+   *
+   * @param column column index
+   * @return file position
+   */
+  long getOffset(int column) {
+    return offsets[column];
+  }
+
+  /**
+   * Returns the stored length of the specified column.
+   *
+   * @param column column index
+   * @return stored length in bytes
+   */
+  int getLength(int column) {
+    return lengths[column];
+  }
+
+  /**
+   * Returns the uncompressed length of the specified column.
+   *
+   * @param column column index
+   * @return uncompressed length in bytes
+   */
+  int getSize(int column) {
+    return sizes[column];
+  }
+
+  /**
+   * Writes the block meta data into the footer.
+   *
+   * @param out footer output
+   * @throws IOException on failure
+   */
+  void write(DataOutputView out) throws IOException {
+    out.writeUTF(label);
+    out.writeInt(rowCount);
+    out.writeInt(fixedColumnCount);
+    out.writeInt(propertyKeys.length);
+    for (String key : propertyKeys) {
+      out.writeUTF(key);
+    }
+    for (int i = 0; i < offsets.length; i++) {
+      out.writeLong(offsets[i]);
+      out.writeInt(lengths[i]);
+      out.writeInt(sizes[i]);
+    }
+  }
+
+  /**
+   * Reads block meta data from the footer.
+   *
+   * @param in footer input
+   * @return block meta data
+   * @throws IOException on failure
+   */
+  static BlockMetaData read(DataInputView in) throws IOException {
+    String label = in.readUTF();
+    int rowCount = in.readInt();
+    int fixedColumnCount = in.readInt();
+    String[] propertyKeys = new String[in.readInt()];
+    for (int i = 0; i < propertyKeys.length; i++) {
+      propertyKeys[i] = in.readUTF();
+    }
+    int columnCount = fixedColumnCount + propertyKeys.length;
+    long[] offsets = new long[columnCount];
+    int[] lengths = new int[columnCount];
+    int[] sizes = new int[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      offsets[i] = in.readLong();
+      lengths[i] = in.readInt();
+      sizes[i] = in.readInt();
+    }
+    return new BlockMetaData(label, rowCount, fixedColumnCount, propertyKeys,
+      offsets, lengths, sizes);
+  }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads {@link Edge} objects in the binary columnar format.
+ */
+public class ColumnarEdgeInputFormat extends ColumnarInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param path input directory
+   * @param labels labels of the edges to read or {@code null} to read all edges
+   * @param propertyKeys property keys to read or {@code null} to read all properties
+   */
+  public ColumnarEdgeInputFormat(String path, Set<String> labels, Set<String> propertyKeys) {
+    super(path, labels, propertyKeys);
+  }
+
+  @Override
+  int getFixedColumnCount() {
+    return 4;
+  }
+
+  @Override
+  void readFixedColumns(Edge reuse, DataInputView[] columns) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(columns[0]);
+    GradoopId sourceId = new GradoopId();
+    sourceId.read(columns[1]);
+    GradoopId targetId = new GradoopId();
+    targetId.read(columns[2]);
+    GradoopIdList graphIds = new GradoopIdList();
+    graphIds.read(columns[3]);
+
+    reuse.setId(id);
+    reuse.setSourceId(sourceId);
+    reuse.setTargetId(targetId);
+    reuse.setGraphIds(graphIds);
+  }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.columnar.ColumnarCompression;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link Edge} objects in the binary columnar format. The fixed columns are the id, the
+ * source id, the target id and the graph ids.
+ */
+public class ColumnarEdgeOutputFormat extends ColumnarOutputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Written for edges without graph ids.
+   */
+  private static final GradoopIdList EMPTY_GRAPH_IDS = new GradoopIdList();
+
+  /**
+   * Constructor.
+   *
+   * @param path output directory
+   * @param compression compression codec for the columns
+   * @param writeMode file system write mode
+   */
+  public ColumnarEdgeOutputFormat(String path, ColumnarCompression compression,
+    FileSystem.WriteMode writeMode) {
+    super(path, compression, writeMode);
+  }
+
+  @Override
+  int getFixedColumnCount() {
+    return 4;
+  }
+
+  @Override
+  void writeFixedColumns(Edge edge, DataOutputView[] columns) throws IOException {
+    edge.getId().write(columns[0]);
+    edge.getSourceId().write(columns[1]);
+    edge.getTargetId().write(columns[2]);
+    GradoopIdList graphIds = edge.getGraphIds();
+    (graphIds == null ? EMPTY_GRAPH_IDS : graphIds).write(columns[3]);
+  }
+}
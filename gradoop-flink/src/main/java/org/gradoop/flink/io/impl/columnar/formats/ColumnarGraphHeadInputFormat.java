@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads {@link GraphHead} objects in the binary columnar format.
+ */
+public class ColumnarGraphHeadInputFormat extends ColumnarInputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param path input directory
+   * @param propertyKeys property keys to read or {@code null} to read all properties
+   */
+  public ColumnarGraphHeadInputFormat(String path, Set<String> propertyKeys) {
+    super(path, null, propertyKeys);
+  }
+
+  @Override
+  int getFixedColumnCount() {
+    return 1;
+  }
+
+  @Override
+  void readFixedColumns(GraphHead reuse, DataInputView[] columns) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(columns[0]);
+    reuse.setId(id);
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.columnar.ColumnarCompression;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link GraphHead} objects in the binary columnar format. The only fixed column is the id.
+ */
+public class ColumnarGraphHeadOutputFormat extends ColumnarOutputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param path output directory
+   * @param compression compression codec for the columns
+   * @param writeMode file system write mode
+   */
+  public ColumnarGraphHeadOutputFormat(String path, ColumnarCompression compression,
+    FileSystem.WriteMode writeMode) {
+    super(path, compression, writeMode);
+  }
+
+  @Override
+  int getFixedColumnCount() {
+    return 1;
+  }
+
+  @Override
+  void writeFixedColumns(GraphHead graphHead, DataOutputView[] columns) throws IOException {
+    graphHead.getId().write(columns[0]);
+  }
+}
@@ -0,0 +1,321 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertySchema;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.columnar.ColumnarCompression;
+import org.gradoop.flink.io.impl.columnar.ColumnarConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Base class for reading {@link Element}s in the binary columnar format. The format supports a
+ * label filter and a projection on property keys. Blocks of other labels and columns of other
+ * property keys are skipped without being read.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnarInputFormat<E extends Element> extends FileInputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Labels of the elements to read or {@code null} to read all elements.
+   */
+  private final HashSet<String> labels;
+  /**
+   * Property keys to read or {@code null} to read all properties.
+   */
+  private final HashSet<String> propertyKeys;
+  /**
+   * Data input for the file.
+   */
+  private transient DataInputStream in;
+  /**
+   * Blocks of the file that match the label filter.
+   */
+  private transient List<BlockMetaData> blocks;
+  /**
+   * Index of the next block to read.
+   */
+  private transient int nextBlock;
+  /**
+   * Compression codec of the file.
+   */
+  private transient ColumnarCompression compression;
+  /**
+   * Decompressor, if the columns are compressed.
+   */
+  private transient Inflater inflater;
+  /**
+   * Buffer for compressed columns.
+   */
+  private transient byte[] buffer;
+  /**
+   * Label of the current block.
+   */
+  private transient String label;
+  /**
+   * Number of elements in the current block.
+   */
+  private transient int rowCount;
+  /**
+   * Index of the next element in the current block.
+   */
+  private transient int row;
+  /**
+   * Fixed columns of the current block.
+   */
+  private transient DataInputView[] fixedColumns;
+  /**
+   * Projected property keys of the current block.
+   */
+  private transient String[] keys;
+  /**
+   * Projected property columns of the current block.
+   */
+  private transient DataInputView[] propertyColumns;
+  /**
+   * Schema of the projected property keys of the current block.
+   */
+  private transient PropertySchema schema;
+  /**
+   * Reused properties of the current block, only used if object reuse is enabled.
+   */
+  private transient Properties reusedProperties;
+
+  /**
+   * Constructor.
+   *
+   * @param path input directory
+   * @param labels labels of the elements to read or {@code null} to read all elements
+   * @param propertyKeys property keys to read or {@code null} to read all properties
+   */
+  ColumnarInputFormat(String path, Set<String> labels, Set<String> propertyKeys) {
+    super(new Path(Objects.requireNonNull(path)));
+    this.labels = labels == null ? null : new HashSet<>(labels);
+    this.propertyKeys = propertyKeys == null ? null : new HashSet<>(propertyKeys);
+    this.unsplittable = true;
+  }
+
+  /**
+   * Returns the number of fixed columns of the element type.
+   *
+   * @return number of fixed columns
+   */
+  abstract int getFixedColumnCount();
+
+  /**
+   * Reads the fixed fields of the element (e.g. id, source id) from the fixed columns.
+   *
+   * @param reuse element to read into
+   * @param columns fixed columns
+   * @throws IOException on failure
+   */
+  abstract void readFixedColumns(E reuse, DataInputView[] columns) throws IOException;
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    in = new DataInputStream(stream);
+    long fileLength = split.getPath().getFileSystem().getFileStatus(split.getPath()).getLen();
+    if (fileLength < ColumnarConstants.TRAILER_LENGTH) {
+      throw new IOException("Not a columnar file: " + split.getPath());
+    }
+
+    stream.seek(fileLength - ColumnarConstants.TRAILER_LENGTH);
+    int footerLength = in.readInt();
+    if (in.readInt() != ColumnarConstants.MAGIC) {
+      throw new IOException("Not a columnar file: " + split.getPath());
+    }
+    byte[] footer = new byte[footerLength];
+    stream.seek(fileLength - ColumnarConstants.TRAILER_LENGTH - footerLength);
+    in.readFully(footer);
+    readFooter(new DataInputViewStreamWrapper(new ByteArrayInputStream(footer)));
+
+    nextBlock = 0;
+    rowCount = 0;
+    row = 0;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (row == rowCount) {
+      if (nextBlock == blocks.size()) {
+        return true;
+      }
+      readBlock(blocks.get(nextBlock++));
+    }
+    return false;
+  }
+
+  @Override
+  public E nextRecord(E reuse) throws IOException {
+    if (reachedEnd()) {
+      return null;
+    }
+    readFixedColumns(reuse, fixedColumns);
+    reuse.setLabel(label);
+
+    Properties properties;
+    if (reusedProperties == null) {
+      properties = Properties.createWithSchema(schema);
+    } else {
+      properties = reusedProperties;
+      properties.clear();
+    }
+    for (int i = 0; i < propertyColumns.length; i++) {
+      if (propertyColumns[i].readBoolean()) {
+        PropertyValue value = new PropertyValue();
+        value.read(propertyColumns[i]);
+        properties.set(keys[i], value);
+      }
+    }
+    reuse.setProperties(properties);
+    row++;
+    return reuse;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+    super.close();
+  }
+
+  /**
+   * Reads the format version, the compression codec and the meta data of all blocks which match
+   * the label filter.
+   *
+   * @param footer footer input
+   * @throws IOException on failure
+   */
+  private void readFooter(DataInputView footer) throws IOException {
+    byte version = footer.readByte();
+    if (version != ColumnarConstants.VERSION) {
+      throw new IOException("Unsupported columnar format version: " + version);
+    }
+    compression = ColumnarCompression.values()[footer.readByte()];
+    if (compression == ColumnarCompression.DEFLATE && inflater == null) {
+      inflater = new Inflater();
+    }
+
+    int blockCount = footer.readInt();
+    blocks = new ArrayList<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      BlockMetaData block = BlockMetaData.read(footer);
+      if (block.getFixedColumnCount() != getFixedColumnCount()) {
+        throw new IOException("Unexpected number of fixed columns: " +
+          block.getFixedColumnCount());
+      }
+      if (labels == null || labels.contains(block.getLabel())) {
+        blocks.add(block);
+      }
+    }
+  }
+
+  /**
+   * Reads the fixed columns and the projected property columns of the block.
+   *
+   * @param block block meta data
+   * @throws IOException on failure
+   */
+  private void readBlock(BlockMetaData block) throws IOException {
+    int fixedColumnCount = block.getFixedColumnCount();
+    fixedColumns = new DataInputView[fixedColumnCount];
+    for (int i = 0; i < fixedColumnCount; i++) {
+      fixedColumns[i] = readColumn(block, i);
+    }
+
+    String[] blockKeys = block.getPropertyKeys();
+    List<String> projectedKeys = new ArrayList<>(blockKeys.length);
+    List<DataInputView> projectedColumns = new ArrayList<>(blockKeys.length);
+    for (int i = 0; i < blockKeys.length; i++) {
+      if (propertyKeys == null || propertyKeys.contains(blockKeys[i])) {
+        projectedKeys.add(blockKeys[i]);
+        projectedColumns.add(readColumn(block, fixedColumnCount + i));
+      }
+    }
+    keys = projectedKeys.toArray(new String[0]);
+    propertyColumns = projectedColumns.toArray(new DataInputView[0]);
+    schema = PropertySchema.create(projectedKeys);
+    reusedProperties = getRuntimeContext().getExecutionConfig().isObjectReuseEnabled() ?
+      Properties.createWithSchema(schema) : null;
+
+    label = block.getLabel();
+    rowCount = block.getRowCount();
+    row = 0;
+  }
+
+  /**
+   * Reads and decompresses the specified column of the block.
+   *
+   * @param block block meta data
+   * @param column column index
+   * @return column input
+   * @throws IOException on failure
+   */
+  private DataInputView readColumn(BlockMetaData block, int column) throws IOException {
+    int length = block.getLength(column);
+    byte[] data = new byte[block.getSize(column)];
+    stream.seek(block.getOffset(column));
+
+    if (compression == ColumnarCompression.NONE) {
+      in.readFully(data);
+    } else {
+      if (buffer == null || buffer.length < length) {
+        buffer = new byte[length];
+      }
+      in.readFully(buffer, 0, length);
+      inflater.reset();
+      inflater.setInput(buffer, 0, length);
+      try {
+        int inflated = 0;
+        while (!inflater.finished()) {
+          int count = inflater.inflate(data, inflated, data.length - inflated);
+          if (count == 0 && (inflated == data.length || inflater.needsInput() ||
+            inflater.needsDictionary())) {
+            throw new IOException("Corrupt column in block with label " + block.getLabel());
+          }
+          inflated += count;
+        }
+      } catch (DataFormatException e) {
+        throw new IOException("Corrupt column in block with label " + block.getLabel(), e);
+      }
+    }
+    return new DataInputViewStreamWrapper(new ByteArrayInputStream(data));
+  }
+}
@@ -0,0 +1,369 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.columnar.ColumnarCompression;
+import org.gradoop.flink.io.impl.columnar.ColumnarConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Base class for writing {@link Element}s in the binary columnar format. Each task buffers the
+ * columns of one block per label and writes a block as soon as it is full. The footer describing
+ * all written blocks is appended when the task is closed.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnarOutputFormat<E extends Element> extends FileOutputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Compression codec for the columns.
+   */
+  private final ColumnarCompression compression;
+  /**
+   * Buffered blocks by label.
+   */
+  private transient Map<String, Block> blocks;
+  /**
+   * Meta data of the blocks written so far.
+   */
+  private transient List<BlockMetaData> writtenBlocks;
+  /**
+   * Output stream for the file.
+   */
+  private transient DataOutputStream out;
+  /**
+   * Current file position.
+   */
+  private transient long position;
+  /**
+   * Compressor, if the columns are compressed.
+   */
+  private transient Deflater deflater;
+  /**
+   * Buffer for compressed columns.
+   */
+  private transient byte[] compressed;
+
+  /**
+   * Constructor.
+   *
+   * @param path output directory
+   * @param compression compression codec for the columns
+   * @param writeMode file system write mode
+   */
+  ColumnarOutputFormat(String path, ColumnarCompression compression,
+    FileSystem.WriteMode writeMode) {
+    super(new Path(Objects.requireNonNull(path)));
+    this.compression = Objects.requireNonNull(compression);
+    setWriteMode(writeMode);
+    setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+  }
+
+  /**
+   * Returns the number of fixed columns of the element type.
+   *
+   * @return number of fixed columns
+   */
+  abstract int getFixedColumnCount();
+
+  /**
+   * Writes the fixed fields of the element (e.g. id, source id) into the fixed columns.
+   *
+   * @param element EPGM element
+   * @param columns fixed columns
+   * @throws IOException on failure
+   */
+  abstract void writeFixedColumns(E element, DataOutputView[] columns) throws IOException;
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    blocks = new HashMap<>();
+    writtenBlocks = new ArrayList<>();
+    out = new DataOutputStream(stream);
+    position = 0L;
+    if (compression == ColumnarCompression.DEFLATE) {
+      deflater = new Deflater(Deflater.BEST_SPEED);
+      compressed = new byte[1024];
+    }
+  }
+
+  @Override
+  public void writeRecord(E element) throws IOException {
+    Block block = blocks.computeIfAbsent(element.getLabel(), Block::new);
+    writeFixedColumns(element, block.getFixedColumns());
+
+    int row = block.rowCount;
+    Properties properties = element.getProperties();
+    if (properties != null) {
+      properties.forEachEntry((key, value) -> {
+          Column column = block.getPropertyColumn(key);
+          column.view.writeBoolean(true);
+          value.write(column.view);
+          column.lastRow = row;
+        });
+    }
+    for (Column column : block.propertyColumns) {
+      if (column.lastRow != row) {
+        column.view.writeBoolean(false);
+      }
+    }
+    block.rowCount++;
+
+    if (block.rowCount >= ColumnarConstants.MAX_BLOCK_ROWS ||
+      block.size() >= ColumnarConstants.MAX_BLOCK_BYTES) {
+      writeBlock(block);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out != null) {
+      for (Block block : blocks.values()) {
+        writeBlock(block);
+      }
+      writeFooter();
+      out.flush();
+      if (deflater != null) {
+        deflater.end();
+      }
+      out = null;
+    }
+    super.close();
+  }
+
+  /**
+   * Writes the columns of the block to the file and resets it.
+   *
+   * @param block buffered block
+   * @throws IOException on failure
+   */
+  private void writeBlock(Block block) throws IOException {
+    if (block.rowCount == 0) {
+      return;
+    }
+    int fixedColumnCount = block.fixedColumns.length;
+    int columnCount = fixedColumnCount + block.propertyColumns.size();
+    long[] offsets = new long[columnCount];
+    int[] lengths = new int[columnCount];
+    int[] sizes = new int[columnCount];
+
+    for (int i = 0; i < columnCount; i++) {
+      Column column = i < fixedColumnCount ?
+        block.fixedColumns[i] : block.propertyColumns.get(i - fixedColumnCount);
+      offsets[i] = position;
+      sizes[i] = column.size();
+      lengths[i] = writeColumn(column);
+    }
+
+    writtenBlocks.add(new BlockMetaData(block.label, block.rowCount, fixedColumnCount,
+      block.propertyKeys.toArray(new String[0]), offsets, lengths, sizes));
+    block.reset();
+  }
+
+  /**
+   * Writes the (compressed) column data to the file.
+   *
+   * @param column column
+   * @return number of written bytes
+   * @throws IOException on failure
+   */
+  private int writeColumn(Column column) throws IOException {
+    int length;
+    if (deflater == null) {
+      column.writeTo(out);
+      length = column.size();
+    } else {
+      deflater.reset();
+      deflater.setInput(column.getBuffer(), 0, column.size());
+      deflater.finish();
+      length = 0;
+      while (!deflater.finished()) {
+        int count = deflater.deflate(compressed);
+        out.write(compressed, 0, count);
+        length += count;
+      }
+    }
+    position += length;
+    return length;
+  }
+
+  /**
+   * Writes the footer, i.e. the format version, the compression codec and the meta data of all
+   * blocks, followed by the footer length and the magic number.
+   *
+   * @throws IOException on failure
+   */
+  private void writeFooter() throws IOException {
+    ByteArrayOutputStream footer = new ByteArrayOutputStream();
+    DataOutputViewStreamWrapper footerView = new DataOutputViewStreamWrapper(footer);
+    footerView.writeByte(ColumnarConstants.VERSION);
+    footerView.writeByte(compression.ordinal());
+    footerView.writeInt(writtenBlocks.size());
+    for (BlockMetaData blockMetaData : writtenBlocks) {
+      blockMetaData.write(footerView);
+    }
+    footer.writeTo(out);
+    out.writeInt(footer.size());
+    out.writeInt(ColumnarConstants.MAGIC);
+  }
+
+  /**
+   * Buffers the column data of a single column.
+   */
+  private static class Column extends ByteArrayOutputStream {
+    /**
+     * Data output view of the buffer.
+     */
+    private final DataOutputView view = new DataOutputViewStreamWrapper(this);
+    /**
+     * Last row with a value in this column.
+     */
+    private int lastRow = -1;
+
+    /**
+     * Returns the internal buffer.
+     *
+     * @return buffer
+     */
+    byte[] getBuffer() {
+      return buf;
+    }
+  }
+
+  /**
+   * Buffers the columns of a block of elements with the same label.
+   */
+  private class Block {
+    /**
+     * Label of the elements.
+     */
+    private final String label;
+    /**
+     * Columns storing the fixed fields of the element type.
+     */
+    private final Column[] fixedColumns;
+    /**
+     * Data output views of the fixed columns.
+     */
+    private final DataOutputView[] fixedColumnViews;
+    /**
+     * Property keys of the property columns.
+     */
+    private final List<String> propertyKeys = new ArrayList<>();
+    /**
+     * Columns storing the property values.
+     */
+    private final List<Column> propertyColumns = new ArrayList<>();
+    /**
+     * Property columns by key.
+     */
+    private final Map<String, Column> propertyColumnsByKey = new HashMap<>();
+    /**
+     * Number of buffered elements.
+     */
+    private int rowCount;
+
+    /**
+     * Constructor.
+     *
+     * @param label label of the elements
+     */
+    Block(String label) {
+      this.label = label;
+      this.fixedColumns = new Column[getFixedColumnCount()];
+      this.fixedColumnViews = new DataOutputView[fixedColumns.length];
+      for (int i = 0; i < fixedColumns.length; i++) {
+        fixedColumns[i] = new Column();
+        fixedColumnViews[i] = fixedColumns[i].view;
+      }
+    }
+
+    DataOutputView[] getFixedColumns() {
+      return fixedColumnViews;
+    }
+
+    /**
+     * Returns the column of the specified property key. A new column is marked as absent for all
+     * previous rows of the block.
+     *
+     * @param key property key
+     * @return property column
+     * @throws IOException on failure
+     */
+    Column getPropertyColumn(String key) throws IOException {
+      Column column = propertyColumnsByKey.get(key);
+      if (column == null) {
+        column = new Column();
+        for (int i = 0; i < rowCount; i++) {
+          column.view.writeBoolean(false);
+        }
+        propertyKeys.add(key);
+        propertyColumns.add(column);
+        propertyColumnsByKey.put(key, column);
+      }
+      return column;
+    }
+
+    /**
+     * Returns the number of buffered bytes.
+     *
+     * @return buffered bytes
+     */
+    int size() {
+      int size = 0;
+      for (Column column : fixedColumns) {
+        size += column.size();
+      }
+      for (Column column : propertyColumns) {
+        size += column.size();
+      }
+      return size;
+    }
+
+    /**
+     * Removes all buffered elements.
+     */
+    void reset() {
+      for (Column column : fixedColumns) {
+        column.reset();
+      }
+      propertyKeys.clear();
+      propertyColumns.clear();
+      propertyColumnsByKey.clear();
+      rowCount = 0;
+    }
+  }
+}
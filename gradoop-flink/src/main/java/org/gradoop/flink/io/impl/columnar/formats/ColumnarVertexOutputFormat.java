@@ -0,0 +1,63 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.formats;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.columnar.ColumnarCompression;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link Vertex} objects in the binary columnar format. The fixed columns are the id and
+ * the graph ids.
+ */
+public class ColumnarVertexOutputFormat extends ColumnarOutputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Written for vertices without graph ids.
+   */
+  private static final GradoopIdList EMPTY_GRAPH_IDS = new GradoopIdList();
+
+  /**
+   * Constructor.
+   *
+   * @param path output directory
+   * @param compression compression codec for the columns
+   * @param writeMode file system write mode
+   */
+  public ColumnarVertexOutputFormat(String path, ColumnarCompression compression,
+    FileSystem.WriteMode writeMode) {
+    super(path, compression, writeMode);
+  }
+
+  @Override
+  int getFixedColumnCount() {
+    return 2;
+  }
+
+  @Override
+  void writeFixedColumns(Vertex vertex, DataOutputView[] columns) throws IOException {
+    vertex.getId().write(columns[0]);
+    GradoopIdList graphIds = vertex.getGraphIds();
+    (graphIds == null ? EMPTY_GRAPH_IDS : graphIds).write(columns[1]);
+  }
+}
@@ -13,24 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.io.impl.hbase.functions;
-
-import org.gradoop.common.model.impl.pojo.Edge;
-
 /**
- * Takes grouped edges as input and outputs a tuple containing target vertex id
- * and the edges.
- *
- * edge+ -> (targetId, edge+)
- *
- * @param <E> EPGM edge type
+ * Contains input and output formats used for the binary columnar format.
  */
-public class EdgeSetByTargetId<E extends Edge> extends EdgeSet<E> {
-
-  /**
-   * Constructor
-   */
-  public EdgeSetByTargetId() {
-    extractBySourceId = false;
-  }
-}
+package org.gradoop.flink.io.impl.columnar.formats;
@@ -0,0 +1,275 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.core.fs.FSDataInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.gradoop.flink.io.impl.compression.BlockCompressedOutputStream.HEADER_LENGTH;
+import static org.gradoop.flink.io.impl.compression.BlockCompressedOutputStream.HEADER_PREFIX;
+import static org.gradoop.flink.io.impl.compression.BlockCompressedOutputStream.TRAILER_LENGTH;
+
+/**
+ * Decompresses the blocks of a file written by {@link BlockCompressedOutputStream} which start
+ * inside a given file split. Since blocks contain complete lines only, the lines of a file are read
+ * exactly once if all of its splits are read.
+ *
+ * A split which does not start at the beginning of the file scans for the first block header after
+ * its start. The last block of a split may end behind the end of the split.
+ */
+public class BlockCompressedInputStream extends InputStream {
+  /**
+   * Number of bytes read at once while scanning for a block header.
+   */
+  private static final int SCAN_BUFFER_SIZE = 1 << 16;
+  /**
+   * Compressed input stream.
+   */
+  private final FSDataInputStream in;
+  /**
+   * End of the split, blocks starting at or behind this position are not read.
+   */
+  private final long end;
+  /**
+   * Decompressor, reused for all blocks.
+   */
+  private final Inflater inflater = new Inflater(true);
+  /**
+   * Checksum, reused for all blocks.
+   */
+  private final CRC32 crc = new CRC32();
+  /**
+   * File position of the next block.
+   */
+  private long position;
+  /**
+   * Compressed bytes of the current block.
+   */
+  private byte[] block = new byte[HEADER_LENGTH];
+  /**
+   * Uncompressed bytes of the current block.
+   */
+  private byte[] buffer = new byte[0];
+  /**
+   * Index of the next byte to read from the buffer.
+   */
+  private int bufferPos;
+  /**
+   * Number of uncompressed bytes in the buffer.
+   */
+  private int bufferLength;
+
+  /**
+   * Creates a new stream reading the blocks starting in the specified split.
+   *
+   * @param in compressed input stream
+   * @param start start of the split
+   * @param length length of the split, a negative value reads until the end of the file
+   * @throws IOException if the stream can not be positioned at the first block
+   */
+  public BlockCompressedInputStream(FSDataInputStream in, long start, long length)
+    throws IOException {
+    this.in = in;
+    this.end = length < 0 ? Long.MAX_VALUE : start + length;
+    this.position = start == 0 ? 0 : findBlock(start);
+    if (position < end) {
+      in.seek(position);
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (bufferPos == bufferLength && !readBlock()) {
+      return -1;
+    }
+    return buffer[bufferPos++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (bufferPos == bufferLength && !readBlock()) {
+      return -1;
+    }
+    int read = Math.min(length, bufferLength - bufferPos);
+    System.arraycopy(buffer, bufferPos, bytes, offset, read);
+    bufferPos += read;
+    return read;
+  }
+
+  @Override
+  public int available() {
+    return bufferLength - bufferPos;
+  }
+
+  @Override
+  public void close() throws IOException {
+    inflater.end();
+    in.close();
+  }
+
+  /**
+   * Returns the position of the first block header at or after the specified position.
+   *
+   * @param start file position to start scanning at
+   * @return position of the block or {@link #end} if there is none before the end of the split
+   * @throws IOException if the file can not be read
+   */
+  private long findBlock(long start) throws IOException {
+    in.seek(start);
+    byte[] scanBuffer = new byte[SCAN_BUFFER_SIZE];
+    int overlap = HEADER_PREFIX.length - 1;
+    long bufferStart = start;
+    int length = 0;
+    while (bufferStart < end) {
+      int read = in.read(scanBuffer, length, scanBuffer.length - length);
+      if (read == -1) {
+        break;
+      }
+      length += read;
+      for (int i = 0; i + HEADER_PREFIX.length <= length; i++) {
+        if (isHeaderPrefix(scanBuffer, i)) {
+          return Math.min(bufferStart + i, end);
+        }
+      }
+      int keep = Math.min(overlap, length);
+      System.arraycopy(scanBuffer, length - keep, scanBuffer, 0, keep);
+      bufferStart += length - keep;
+      length = keep;
+    }
+    return end;
+  }
+
+  /**
+   * Reads and decompresses the next block of the split.
+   *
+   * @return true, if a block was read, false if the split contains no further block
+   * @throws IOException if the block is corrupt or can not be read
+   */
+  private boolean readBlock() throws IOException {
+    if (position >= end) {
+      return false;
+    }
+    int read = readFully(block, 0, HEADER_LENGTH);
+    if (read == 0) {
+      position = end;
+      return false;
+    } else if (read < HEADER_LENGTH || !isHeaderPrefix(block, 0)) {
+      throw new IOException("Invalid block header at position " + position);
+    }
+    int blockLength = readInt(block, HEADER_PREFIX.length);
+    if (blockLength < HEADER_LENGTH + TRAILER_LENGTH) {
+      throw new IOException("Invalid block length at position " + position + ": " + blockLength);
+    }
+    if (block.length < blockLength) {
+      block = new byte[Math.max(blockLength, 2 * block.length)];
+    }
+    if (readFully(block, HEADER_LENGTH, blockLength - HEADER_LENGTH) <
+      blockLength - HEADER_LENGTH) {
+      throw new EOFException("Truncated block at position " + position);
+    }
+
+    int dataLength = blockLength - HEADER_LENGTH - TRAILER_LENGTH;
+    int uncompressedLength = readInt(block, blockLength - 4);
+    if (buffer.length < uncompressedLength) {
+      buffer = new byte[Math.max(uncompressedLength, 2 * buffer.length)];
+    }
+    inflater.reset();
+    inflater.setInput(block, HEADER_LENGTH, dataLength);
+    try {
+      int inflated = 0;
+      while (inflated < uncompressedLength && !inflater.finished()) {
+        int n = inflater.inflate(buffer, inflated, uncompressedLength - inflated);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        inflated += n;
+      }
+      if (inflated != uncompressedLength) {
+        throw new IOException("Corrupt block at position " + position);
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt block at position " + position, e);
+    }
+    crc.reset();
+    crc.update(buffer, 0, uncompressedLength);
+    if ((int) crc.getValue() != readInt(block, blockLength - TRAILER_LENGTH)) {
+      throw new IOException("Checksum mismatch in block at position " + position);
+    }
+
+    position += blockLength;
+    bufferPos = 0;
+    bufferLength = uncompressedLength;
+    return uncompressedLength > 0 || readBlock();
+  }
+
+  /**
+   * Reads bytes until the specified number of bytes is read or the end of the file is reached.
+   *
+   * @param bytes target array
+   * @param offset index of the first byte
+   * @param length number of bytes to read
+   * @return number of bytes read
+   * @throws IOException if the file can not be read
+   */
+  private int readFully(byte[] bytes, int offset, int length) throws IOException {
+    int total = 0;
+    while (total < length) {
+      int read = in.read(bytes, offset + total, length - total);
+      if (read == -1) {
+        break;
+      }
+      total += read;
+    }
+    return total;
+  }
+
+  /**
+   * Checks if the bytes at the specified index equal the fixed bytes of a block header.
+   *
+   * @param bytes byte array
+   * @param offset index of the first byte
+   * @return true, iff the bytes start a block header
+   */
+  private static boolean isHeaderPrefix(byte[] bytes, int offset) {
+    for (int i = 0; i < HEADER_PREFIX.length; i++) {
+      if (bytes[offset + i] != HEADER_PREFIX[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads a little endian int value.
+   *
+   * @param bytes byte array
+   * @param offset index of the first byte
+   * @return int value
+   */
+  private static int readInt(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8 |
+      (bytes[offset + 2] & 0xff) << 16 | (bytes[offset + 3] & 0xff) << 24;
+  }
+}
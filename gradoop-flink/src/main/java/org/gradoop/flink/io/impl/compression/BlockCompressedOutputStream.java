@@ -0,0 +1,220 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses a text file into a sequence of independent gzip members (blocks). A block is cut at
+ * the last line break after at least {@value #DEFAULT_BLOCK_SIZE} bytes, so that each block
+ * contains complete lines only. The file stays a valid gzip file.
+ *
+ * The header of each member contains an extra field "GB" which stores the length of the whole
+ * member. Together with the fixed header bytes, this allows {@link BlockCompressedInputStream} to
+ * find the first block after an arbitrary file position and to read a file split without reading
+ * the preceding blocks.
+ */
+public class BlockCompressedOutputStream extends OutputStream {
+  /**
+   * Default number of uncompressed bytes per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 18;
+  /**
+   * Fixed bytes at the beginning of each block: gzip magic, deflate, extra field flag, no
+   * modification time, no extra flags, unknown OS, extra field length and the "GB" sub field of
+   * length 4.
+   */
+  static final byte[] HEADER_PREFIX = {
+    0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 8, 0, 'G', 'B', 4, 0
+  };
+  /**
+   * Length of the header, i.e. the fixed bytes followed by the member length.
+   */
+  static final int HEADER_LENGTH = HEADER_PREFIX.length + 4;
+  /**
+   * Length of the trailer storing the CRC32 and the number of uncompressed bytes.
+   */
+  static final int TRAILER_LENGTH = 8;
+  /**
+   * Wrapped output stream.
+   */
+  private final OutputStream out;
+  /**
+   * Number of uncompressed bytes after which a block is cut at the next line break.
+   */
+  private final int blockSize;
+  /**
+   * Compressor, reused for all blocks.
+   */
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+  /**
+   * Checksum, reused for all blocks.
+   */
+  private final CRC32 crc = new CRC32();
+  /**
+   * Uncompressed bytes of the current block.
+   */
+  private byte[] buffer;
+  /**
+   * Number of bytes in the buffer.
+   */
+  private int count;
+  /**
+   * Compressed block.
+   */
+  private byte[] block;
+  /**
+   * True, if the stream is finished.
+   */
+  private boolean finished;
+
+  /**
+   * Creates a new stream using the default block size.
+   *
+   * @param out wrapped output stream
+   */
+  public BlockCompressedOutputStream(OutputStream out) {
+    this(out, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a new stream.
+   *
+   * @param out wrapped output stream
+   * @param blockSize number of uncompressed bytes after which a block is cut at the next line
+   *                  break
+   */
+  public BlockCompressedOutputStream(OutputStream out, int blockSize) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.out = out;
+    this.blockSize = blockSize;
+    this.buffer = new byte[blockSize + (blockSize >> 2)];
+    this.block = new byte[HEADER_LENGTH + TRAILER_LENGTH + blockSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureCapacity(1);
+    buffer[count++] = (byte) b;
+    if (count >= blockSize && b == '\n') {
+      writeBlock(count);
+    }
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, count, length);
+    int lineSearchStart = Math.max(count, blockSize - 1);
+    count += length;
+    if (count >= blockSize) {
+      for (int i = count - 1; i >= lineSearchStart; i--) {
+        if (buffer[i] == '\n') {
+          writeBlock(i + 1);
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the remaining bytes as last block without closing the wrapped stream.
+   *
+   * @throws IOException if the block can not be written
+   */
+  public void finish() throws IOException {
+    if (!finished) {
+      if (count > 0) {
+        writeBlock(count);
+      }
+      deflater.end();
+      finished = true;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    finish();
+    out.close();
+  }
+
+  /**
+   * Compresses the first bytes of the buffer into a block and keeps the remaining ones.
+   *
+   * @param length number of bytes to compress
+   * @throws IOException if the block can not be written
+   */
+  private void writeBlock(int length) throws IOException {
+    deflater.reset();
+    deflater.setInput(buffer, 0, length);
+    deflater.finish();
+    int blockLength = HEADER_LENGTH;
+    while (!deflater.finished()) {
+      if (blockLength == block.length - TRAILER_LENGTH) {
+        block = Arrays.copyOf(block, 2 * block.length);
+      }
+      blockLength += deflater.deflate(block, blockLength,
+        block.length - TRAILER_LENGTH - blockLength);
+    }
+    crc.reset();
+    crc.update(buffer, 0, length);
+
+    System.arraycopy(HEADER_PREFIX, 0, block, 0, HEADER_PREFIX.length);
+    writeInt(block, HEADER_PREFIX.length, blockLength + TRAILER_LENGTH);
+    writeInt(block, blockLength, (int) crc.getValue());
+    writeInt(block, blockLength + 4, length);
+    out.write(block, 0, blockLength + TRAILER_LENGTH);
+
+    count -= length;
+    System.arraycopy(buffer, length, buffer, 0, count);
+  }
+
+  /**
+   * Grows the buffer to hold the specified number of additional bytes.
+   *
+   * @param length number of additional bytes
+   */
+  private void ensureCapacity(int length) {
+    if (count + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(count + length, 2 * buffer.length));
+    }
+  }
+
+  /**
+   * Writes a little endian int value.
+   *
+   * @param bytes target array
+   * @param offset index of the first byte
+   * @param value int value
+   */
+  static void writeInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) value;
+    bytes[offset + 1] = (byte) (value >>> 8);
+    bytes[offset + 2] = (byte) (value >>> 16);
+    bytes[offset + 3] = (byte) (value >>> 24);
+  }
+}
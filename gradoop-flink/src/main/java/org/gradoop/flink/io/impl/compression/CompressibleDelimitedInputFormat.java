@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.common.io.DelimitedInputFormat;
+import org.apache.flink.api.common.io.InputStreamFSInputWrapper;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+
+import java.io.IOException;
+
+/**
+ * Base class for delimited input formats reading files which may be compressed. The compression
+ * codec of each file is detected by its extension, see {@link TextCompression}.
+ *
+ * Files compressed by {@link TextCompression#BLOCK_GZIP} are split like uncompressed files. Each
+ * split decompresses the blocks starting inside of it and passes their lines to the input format
+ * as if they were a complete file.
+ *
+ * @param <T> record type
+ */
+public abstract class CompressibleDelimitedInputFormat<T> extends DelimitedInputFormat<T> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Split of the block compressed file currently read, null for other files.
+   */
+  private transient FileInputSplit blockSplit;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the file or directory
+   * @param configuration input format configuration, may be null
+   */
+  protected CompressibleDelimitedInputFormat(Path filePath, Configuration configuration) {
+    super(filePath, configuration);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    if (TextCompression.fromPath(split.getPath()) == TextCompression.BLOCK_GZIP) {
+      blockSplit = split;
+      super.open(new FileInputSplit(split.getSplitNumber(), split.getPath(), 0,
+        READ_WHOLE_SPLIT_FLAG, split.getHostnames()));
+    } else {
+      blockSplit = null;
+      super.open(split);
+    }
+  }
+
+  @Override
+  protected FSDataInputStream decorateInputStream(FSDataInputStream inputStream,
+    FileInputSplit fileSplit) throws Throwable {
+    if (blockSplit != null) {
+      return new InputStreamFSInputWrapper(new BlockCompressedInputStream(inputStream,
+        blockSplit.getStart(), blockSplit.getLength()));
+    }
+    return super.decorateInputStream(inputStream, fileSplit);
+  }
+}
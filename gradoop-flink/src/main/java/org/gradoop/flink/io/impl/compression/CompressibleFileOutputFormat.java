@@ -0,0 +1,99 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Base class for file output formats which optionally compress their output. Subclasses write
+ * their records to {@link #getOutputStream()}, which is buffered.
+ *
+ * Compressed output is always written to a directory containing one file per task. The files are
+ * named by the task number and the file extension of the compression codec, so that the codec is
+ * detected when the files are read by a {@link CompressibleDelimitedInputFormat}.
+ *
+ * @param <T> record type
+ */
+public abstract class CompressibleFileOutputFormat<T> extends FileOutputFormat<T> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Size of the write buffer for uncompressed output.
+   */
+  private static final int BUFFER_SIZE = 1 << 16;
+  /**
+   * Compression codec.
+   */
+  private final TextCompression compression;
+  /**
+   * Buffered or compressing stream wrapping the file stream.
+   */
+  private transient OutputStream out;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the output file or directory
+   * @param compression compression codec
+   */
+  protected CompressibleFileOutputFormat(Path filePath, TextCompression compression) {
+    super(filePath);
+    this.compression = Objects.requireNonNull(compression);
+    if (compression != TextCompression.NONE) {
+      setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+    }
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    out = compression == TextCompression.BLOCK_GZIP ?
+      new BlockCompressedOutputStream(stream) : new BufferedOutputStream(stream, BUFFER_SIZE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out instanceof BlockCompressedOutputStream) {
+      ((BlockCompressedOutputStream) out).finish();
+    } else if (out != null) {
+      out.flush();
+    }
+    out = null;
+    super.close();
+  }
+
+  @Override
+  protected String getDirectoryFileName(int taskNumber) {
+    return super.getDirectoryFileName(taskNumber) + compression.getFileExtension();
+  }
+
+  /**
+   * Returns the stream the records are written to.
+   *
+   * @return output stream, compressing if a compression codec is set
+   */
+  protected OutputStream getOutputStream() {
+    return out;
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.core.fs.Path;
+
+/**
+ * Compression codecs for text files written by the line based data sinks. The codec of a file is
+ * detected by its file extension when it is read.
+ *
+ * Besides the codecs below, files with the extensions ".gz", ".gzip" and ".deflate" are
+ * decompressed by Flink as a whole, i.e. they can not be split.
+ */
+public enum TextCompression {
+  /**
+   * Files are written uncompressed.
+   */
+  NONE(""),
+  /**
+   * Files are written as a sequence of gzip members, each containing complete lines, see
+   * {@link BlockCompressedOutputStream}. The files can be split and are readable by gzip.
+   */
+  BLOCK_GZIP(".gzb");
+
+  /**
+   * File extension of compressed files.
+   */
+  private final String fileExtension;
+
+  /**
+   * Constructor.
+   *
+   * @param fileExtension file extension of compressed files
+   */
+  TextCompression(String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  /**
+   * Returns the file extension of compressed files.
+   *
+   * @return file extension, empty for uncompressed files
+   */
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  /**
+   * Returns the compression codec of the specified file, detected by its file extension.
+   *
+   * @param path file path
+   * @return compression codec, {@link #NONE} if the extension is not known
+   */
+  public static TextCompression fromPath(Path path) {
+    return path.getName().endsWith(BLOCK_GZIP.fileExtension) ? BLOCK_GZIP : NONE;
+  }
+}
@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * Contains functions to transform EPGM entities into JSON and vice versa.
+ * Contains compression codecs and base formats for compressed text files.
  */
-package org.gradoop.flink.io.impl.json.functions;
+package org.gradoop.flink.io.impl.compression;
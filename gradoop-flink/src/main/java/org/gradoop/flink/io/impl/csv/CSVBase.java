@@ -15,9 +15,16 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,7 +38,7 @@ public abstract class CSVBase {
   /**
    * File ending for CSV files.
    */
-  private static final String CSV_FILE_SUFFIX = ".csv";
+  private static final String CSV_FILE_SUFFIX = CSVConstants.FILE_SUFFIX;
   /**
    * CSV file for vertices.
    */
@@ -44,6 +51,10 @@ public abstract class CSVBase {
    * CSV file for meta data.
    */
   private static final String METADATA_FILE = "metadata" + CSV_FILE_SUFFIX;
+  /**
+   * Prefix of the directories containing appended vertex and edge files.
+   */
+  private static final String PART_DIRECTORY_PREFIX = "part-";
   /**
    * Root directory containing the CSV and metadata files.
    */
@@ -96,6 +107,74 @@ public abstract class CSVBase {
     return csvRoot + label + CSV_FILE_SUFFIX;
   }
 
+  /**
+   * Returns the path to the vertex file of the specified part.
+   *
+   * @param partNumber part number
+   * @return path to csv file
+   */
+  protected String getVertexCSVPath(int partNumber) {
+    return getPartPath(partNumber) + VERTEX_FILE;
+  }
+
+  /**
+   * Returns the path to the edge file of the specified part.
+   *
+   * @param partNumber part number
+   * @return path to csv file
+   */
+  protected String getEdgeCSVPath(int partNumber) {
+    return getPartPath(partNumber) + EDGE_FILE;
+  }
+
+  /**
+   * Returns the path to the directory of the specified part. Each appended graph is written to a
+   * separate part directory below the root directory.
+   *
+   * @param partNumber part number
+   * @return path to part directory
+   */
+  protected String getPartPath(int partNumber) {
+    return csvRoot + String.format("%s%05d", PART_DIRECTORY_PREFIX, partNumber) + File.separator;
+  }
+
+  /**
+   * Returns the numbers of all part directories below the root directory in ascending order.
+   *
+   * @return part numbers
+   * @throws IOException if the root directory cannot be listed
+   */
+  protected List<Integer> getPartNumbers() throws IOException {
+    Path root = new Path(csvRoot);
+    FileSystem fs = root.getFileSystem();
+    List<Integer> partNumbers = new ArrayList<>();
+    if (fs.exists(root)) {
+      for (FileStatus status : fs.listStatus(root)) {
+        String name = status.getPath().getName();
+        if (status.isDir() && isPartDirectory(name)) {
+          partNumbers.add(Integer.parseInt(name.substring(PART_DIRECTORY_PREFIX.length())));
+        }
+      }
+    }
+    Collections.sort(partNumbers);
+    return partNumbers;
+  }
+
+  /**
+   * Returns true, if the specified file name is the name of a part directory.
+   *
+   * @param name file name
+   * @return true, iff the name has the form part-N
+   */
+  public static boolean isPartDirectory(String name) {
+    return name.startsWith(PART_DIRECTORY_PREFIX) &&
+      name.substring(PART_DIRECTORY_PREFIX.length()).matches("\\d+");
+  }
+
+  protected String getCSVRoot() {
+    return csvRoot;
+  }
+
   protected String getMetaDataPath() {
     return csvRoot + METADATA_FILE;
   }
@@ -27,6 +27,10 @@ public class CSVConstants {
    * Used to separate the property values in the CSV file.
    */
   public static final String VALUE_DELIMITER = "|";
+  /**
+   * File ending for CSV files.
+   */
+  public static final String FILE_SUFFIX = ".csv";
   /**
    * Used to separate lines in the output CSV files.
    */
@@ -17,17 +17,23 @@ package org.gradoop.flink.io.impl.csv;
 
 import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.TextCompression;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
 import org.gradoop.flink.io.impl.csv.functions.ElementToPropertyMetaData;
+import org.gradoop.flink.io.impl.csv.functions.MergeMetaData;
 import org.gradoop.flink.io.impl.csv.functions.ReducePropertyMetaData;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+import org.gradoop.flink.io.impl.csv.outputformats.CSVTupleOutputFormat;
 import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
 import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
@@ -35,15 +41,22 @@ import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 
 /**
- * A graph data sink for CSV files.
+ * A graph data sink for CSV files. Optionally, the vertex and edge files are compressed, see
+ * {@link TextCompression}. The meta data is always written uncompressed.
  */
 public class CSVDataSink extends CSVBase implements DataSink {
   /**
    * Path to meta data file that is used to write the output.
    */
   private final String metaDataPath;
+  /**
+   * Compression codec of the vertex and edge files.
+   */
+  private final TextCompression compression;
 
   /**
    * Creates a new CSV data sink. Computes the meta data based on the given graph.
@@ -52,8 +65,7 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, GradoopFlinkConfig config) {
-    super(csvPath, config);
-    this.metaDataPath = null;
+    this(csvPath, null, config);
   }
 
   /**
@@ -64,8 +76,35 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
+    this(csvPath, metaDataPath, config, TextCompression.NONE);
+  }
+
+  /**
+   * Creates a new CSV data sink which compresses the vertex and edge files. Computes the meta data
+   * based on the given graph.
+   *
+   * @param csvPath directory to write to
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public CSVDataSink(String csvPath, GradoopFlinkConfig config, TextCompression compression) {
+    this(csvPath, null, config, compression);
+  }
+
+  /**
+   * Creates a new CSV data sink which compresses the vertex and edge files. Uses the specified
+   * meta data to write the CSV output.
+   *
+   * @param csvPath directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file, null to compute the meta data
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public CSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config,
+    TextCompression compression) {
     super(csvPath, config);
     this.metaDataPath = metaDataPath;
+    this.compression = Objects.requireNonNull(compression);
   }
 
   @Override
@@ -102,11 +141,104 @@ public class CSVDataSink extends CSVBase implements DataSink {
     metaData.writeAsCsv(getMetaDataPath(), CSVConstants.ROW_DELIMITER,
       CSVConstants.TOKEN_DELIMITER, writeMode).setParallelism(1);
 
-    csvVertices.writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeVertices(csvVertices, writeMode);
+    writeEdges(csvEdges, writeMode);
+  }
+
+  /**
+   * Appends the given graph to the CSV graph at the sink's location. Only the vertices and edges of
+   * the given graph are written, into a new part directory below the root directory. The meta data
+   * of the given graph is merged into the existing meta data: properties keep their position and
+   * property types are widened if necessary, see
+   * {@link MetaDataParser#mergePropertiesMetaData(String, Iterable)}. Hence, previously written
+   * files stay readable and {@link CSVDataSource} reads all parts. The same holds for the label
+   * files of the {@link org.gradoop.flink.io.impl.csv.indexed.IndexedCSVDataSink} and the
+   * {@link org.gradoop.flink.io.impl.csv.indexed.IndexedCSVDataSource}.
+   *
+   * If the sink's location contains no meta data yet, the graph is written like by
+   * {@link #write(LogicalGraph)}.
+   *
+   * @param logicalGraph graph to append
+   * @throws IOException if the existing meta data or part directories cannot be read
+   */
+  public void append(LogicalGraph logicalGraph) throws IOException {
+    Path existingMetaDataPath = new Path(getMetaDataPath());
+    if (!existingMetaDataPath.getFileSystem().exists(existingMetaDataPath)) {
+      write(logicalGraph);
+      return;
+    }
+
+    // the meta data file is overwritten by this job, so it has to be read in advance
+    List<Tuple2<String, String>> existingMetaData = MetaData.readLines(getMetaDataPath());
+    TupleTypeInfo<Tuple2<String, String>> metaDataType =
+      new TupleTypeInfo<>(BasicTypeInfo.STRING_TYPE_INFO, BasicTypeInfo.STRING_TYPE_INFO);
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<Tuple2<String, String>> metaData = (reuseMetadata() ?
+      env.fromCollection(MetaData.readLines(metaDataPath), metaDataType) :
+      createMetaData(logicalGraph))
+      .union(env.fromCollection(existingMetaData, metaDataType))
+      .groupBy(0)
+      .reduceGroup(new MergeMetaData(existingMetaData));
+
+    DataSet<CSVVertex> csvVertices = logicalGraph.getVertices()
+      .map(new VertexToCSVVertex())
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    DataSet<CSVEdge> csvEdges = logicalGraph.getEdges()
+      .map(new EdgeToCSVEdge())
+      .withBroadcastSet(metaData, BC_METADATA);
+
+    List<Integer> partNumbers = getPartNumbers();
+    int partNumber = partNumbers.isEmpty() ? 1 : partNumbers.get(partNumbers.size() - 1) + 1;
+
+    metaData.writeAsCsv(getMetaDataPath(), CSVConstants.ROW_DELIMITER,
+      CSVConstants.TOKEN_DELIMITER, FileSystem.WriteMode.OVERWRITE).setParallelism(1);
+
+    appendVertices(csvVertices, partNumber);
+    appendEdges(csvEdges, partNumber);
+  }
+
+  /**
+   * Writes the CSV representation of the vertices.
+   *
+   * @param csvVertices CSV vertices
+   * @param writeMode file system write mode
+   */
+  protected void writeVertices(DataSet<CSVVertex> csvVertices, FileSystem.WriteMode writeMode) {
+    csvVertices.output(createOutputFormat(getVertexCSVPath(), writeMode));
+  }
+
+  /**
+   * Writes the CSV representation of the edges.
+   *
+   * @param csvEdges CSV edges
+   * @param writeMode file system write mode
+   */
+  protected void writeEdges(DataSet<CSVEdge> csvEdges, FileSystem.WriteMode writeMode) {
+    csvEdges.output(createOutputFormat(getEdgeCSVPath(), writeMode));
+  }
+
+  /**
+   * Writes the CSV representation of the vertices of an appended graph.
+   *
+   * @param csvVertices CSV vertices
+   * @param partNumber number of the part directory to write to
+   */
+  protected void appendVertices(DataSet<CSVVertex> csvVertices, int partNumber) {
+    csvVertices.output(createOutputFormat(getVertexCSVPath(partNumber),
+      FileSystem.WriteMode.NO_OVERWRITE));
+  }
 
-    csvEdges.writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+  /**
+   * Writes the CSV representation of the edges of an appended graph.
+   *
+   * @param csvEdges CSV edges
+   * @param partNumber number of the part directory to write to
+   */
+  protected void appendEdges(DataSet<CSVEdge> csvEdges, int partNumber) {
+    csvEdges.output(createOutputFormat(getEdgeCSVPath(partNumber),
+      FileSystem.WriteMode.NO_OVERWRITE));
   }
 
   @Override
@@ -115,6 +247,30 @@ public class CSVDataSink extends CSVBase implements DataSink {
       "Writing a graph collection is currently not supported by this data sink");
   }
 
+  /**
+   * Returns the compression codec of the vertex and edge files.
+   *
+   * @return compression codec
+   */
+  protected TextCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * Creates an output format for CSV tuples using the compression codec of this sink.
+   *
+   * @param path path to the csv file or directory
+   * @param writeMode file system write mode
+   * @param <T> CSV tuple type
+   * @return output format
+   */
+  private <T extends Tuple> CSVTupleOutputFormat<T> createOutputFormat(String path,
+    FileSystem.WriteMode writeMode) {
+    CSVTupleOutputFormat<T> outputFormat = new CSVTupleOutputFormat<>(path, compression);
+    outputFormat.setWriteMode(writeMode);
+    return outputFormat;
+  }
+
   /**
    * Returns true, if the meta data shall be reused.
    *
@@ -130,7 +286,7 @@ public class CSVDataSink extends CSVBase implements DataSink {
    * @param graph logical graph
    * @return meta data information
    */
-  private DataSet<Tuple2<String, String>> createMetaData(LogicalGraph graph) {
+  protected DataSet<Tuple2<String, String>> createMetaData(LogicalGraph graph) {
     return createMetaData(graph.getVertices())
       .union(createMetaData(graph.getEdges()));
   }
@@ -15,18 +15,21 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
-import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVVertexInputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.io.IOException;
+
 /**
  * A graph data source for CSV files.
  *
@@ -37,6 +40,10 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  *   |- vertices.csv # all vertex data
  *   |- edges.csv    # all edge data
  *   |- metadata.csv # Meta data for all data contained in the graph
+ *   |- part-00001   # vertices.csv and edges.csv of a graph appended by
+ *   |- ...          # {@link CSVDataSink#append(LogicalGraph)}
+ *
+ * All vertex and edge files are read using the meta data in the root directory.
  */
 public class CSVDataSource extends CSVBase implements DataSource {
 
@@ -51,24 +58,31 @@ public class CSVDataSource extends CSVBase implements DataSource {
   }
 
   @Override
-  public LogicalGraph getLogicalGraph() {
-    DataSet<Tuple2<String, String>> metaData = MetaData.fromFile(getMetaDataPath(), getConfig());
+  public LogicalGraph getLogicalGraph() throws IOException {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    TypeInformation<Vertex> vertexType =
+      TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType());
+    TypeInformation<Edge> edgeType =
+      TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType());
+
+    DataSet<Vertex> vertices = env
+      .createInput(new CSVVertexInputFormat(getVertexCSVPath(), getMetaDataPath()), vertexType);
 
-    DataSet<Vertex> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(new CSVLineToVertex(getConfig().getVertexFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    DataSet<Edge> edges = env
+      .createInput(new CSVEdgeInputFormat(getEdgeCSVPath(), getMetaDataPath()), edgeType);
 
-    DataSet<Edge> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(new CSVLineToEdge(getConfig().getEdgeFactory()))
-      .withBroadcastSet(metaData, BC_METADATA);
+    for (int partNumber : getPartNumbers()) {
+      vertices = vertices.union(env.createInput(
+        new CSVVertexInputFormat(getVertexCSVPath(partNumber), getMetaDataPath()), vertexType));
+      edges = edges.union(env.createInput(
+        new CSVEdgeInputFormat(getEdgeCSVPath(partNumber), getMetaDataPath()), edgeType));
+    }
 
     return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
   }
 
   @Override
-  public GraphCollection getGraphCollection() {
+  public GraphCollection getGraphCollection() throws IOException {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
   }
 }
@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+
+import java.util.Iterator;
+
+/**
+ * Forwards the (label, metadata) tuple of a label. The input contains one tuple per label and
+ * element type, so a second tuple of the same label means that vertices and edges share the label,
+ * which is rejected.
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class CheckUniqueLabel implements
+  GroupReduceFunction<Tuple2<String, String>, Tuple2<String, String>> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<String, String>> iterable,
+    Collector<Tuple2<String, String>> collector) throws Exception {
+    Iterator<Tuple2<String, String>> iterator = iterable.iterator();
+    Tuple2<String, String> metaData = iterator.next();
+    if (iterator.hasNext()) {
+      throw new IllegalArgumentException(String.format(
+        "Label '%s' is used by vertices and edges, which is not supported by this data sink.",
+        metaData.f0));
+    }
+    collector.collect(metaData);
+  }
+}
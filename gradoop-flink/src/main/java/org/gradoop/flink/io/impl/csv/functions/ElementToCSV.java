@@ -19,28 +19,31 @@ import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
 
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
- * Base class to convert an EPGM element into a CSV representation.
+ * Base class to convert an EPGM element into a CSV representation. Labels and property values are
+ * escaped, see {@link StringEscaper}.
  *
  * @param <E> EPGM element type
  * @param <T> output tuple type
  */
 public abstract class ElementToCSV<E extends Element, T extends Tuple> extends RichMapFunction<E , T> {
-  /**
-   * Constant for an empty string.
-   */
-  private static final String EMPTY_STRING = "";
   /**
    * Meta data that provides parsers for a specific {@link Element}.
    */
   private MetaData metaData;
+  /**
+   * Reused to build the property string.
+   */
+  private final StringBuilder propertyString = new StringBuilder();
 
   @Override
   public void open(Configuration parameters) throws Exception {
@@ -56,9 +59,27 @@ public abstract class ElementToCSV<E extends Element, T extends Tuple> extends R
    * @return property value string
    */
   String getPropertyString(E element) {
-    return metaData.getPropertyMetaData(element.getLabel()).stream()
-      .map(metaData -> element.getPropertyValue(metaData.getKey()))
-      .map(value -> value == null ? EMPTY_STRING : value.toString())
-      .collect(Collectors.joining(CSVConstants.VALUE_DELIMITER));
+    List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(element.getLabel());
+    propertyString.setLength(0);
+    for (int i = 0; i < metaDataList.size(); i++) {
+      if (i > 0) {
+        propertyString.append(CSVConstants.VALUE_DELIMITER);
+      }
+      PropertyValue value = element.getPropertyValue(metaDataList.get(i).getKey());
+      if (value != null) {
+        StringEscaper.escape(propertyString, value.toString());
+      }
+    }
+    return propertyString.toString();
+  }
+
+  /**
+   * Returns the escaped label of the specified element.
+   *
+   * @param element EPGM element
+   * @return label string
+   */
+  String getLabelString(E element) {
+    return StringEscaper.escape(element.getLabel());
   }
 }
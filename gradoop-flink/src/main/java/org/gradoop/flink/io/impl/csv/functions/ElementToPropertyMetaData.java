@@ -19,7 +19,6 @@ import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.pojo.Element;
-import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
 
 import java.util.HashSet;
@@ -49,9 +48,8 @@ public class ElementToPropertyMetaData<E extends Element> implements MapFunction
     reuseTuple.f0 = e.getLabel();
     reuseTuple.f1.clear();
     if (e.getProperties() != null) {
-      for (Property property : e.getProperties()) {
-        reuseTuple.f1.add(MetaDataParser.getPropertyMetaData(property));
-      }
+      e.getProperties().forEachEntry((key, value) ->
+        reuseTuple.f1.add(MetaDataParser.getPropertyMetaData(key, value)));
     }
     return reuseTuple;
   }
@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Merges all (label, metadata) tuples of a label into a single tuple. The properties of the
+ * existing meta data keep their position, see
+ * {@link MetaDataParser#mergePropertiesMetaData(String, Iterable)}.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class MergeMetaData implements
+  GroupReduceFunction<Tuple2<String, String>, Tuple2<String, String>> {
+  /**
+   * Existing property meta data by label.
+   */
+  private final HashMap<String, String> existingMetaData;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<String, String> tuple = new Tuple2<>();
+
+  /**
+   * Constructor
+   *
+   * @param existingMetaData existing (label, metadata) tuples
+   */
+  public MergeMetaData(List<Tuple2<String, String>> existingMetaData) {
+    this.existingMetaData = new HashMap<>(existingMetaData.size());
+    existingMetaData.forEach(t -> this.existingMetaData.put(t.f0, t.f1));
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple2<String, String>> iterable,
+    Collector<Tuple2<String, String>> collector) throws Exception {
+    List<String> propertiesMetaData = new ArrayList<>();
+    for (Tuple2<String, String> metaData : iterable) {
+      tuple.f0 = metaData.f0;
+      propertiesMetaData.add(metaData.f1);
+    }
+    tuple.f1 = MetaDataParser.mergePropertiesMetaData(
+      existingMetaData.getOrDefault(tuple.f0, ""), propertiesMetaData);
+    collector.collect(tuple);
+  }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+/**
+ * Escapes labels and property values written into CSV lines. Delimiters and backslashes are
+ * escaped by a backslash, line breaks are written as "\n" and "\r". The CSV input formats
+ * unescape the tokens while tokenizing the lines.
+ */
+public class StringEscaper {
+
+  /**
+   * Escape character.
+   */
+  private static final char ESCAPE_CHARACTER = '\\';
+
+  /**
+   * Private constructor.
+   */
+  private StringEscaper() {
+  }
+
+  /**
+   * Returns the escaped string.
+   *
+   * @param value string to escape
+   * @return escaped string, the given string if nothing needs to be escaped
+   */
+  public static String escape(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (needsEscape(value.charAt(i))) {
+        return escape(new StringBuilder(value.length() + 8), value).toString();
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Appends the escaped string to the builder.
+   *
+   * @param builder string builder
+   * @param value string to escape
+   * @return the string builder
+   */
+  public static StringBuilder escape(StringBuilder builder, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+      case '\n':
+        builder.append(ESCAPE_CHARACTER).append('n');
+        break;
+      case '\r':
+        builder.append(ESCAPE_CHARACTER).append('r');
+        break;
+      case ESCAPE_CHARACTER:
+      case ';':
+      case '|':
+        builder.append(ESCAPE_CHARACTER).append(c);
+        break;
+      default:
+        builder.append(c);
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Returns the unescaped string.
+   *
+   * @param value escaped string
+   * @return unescaped string
+   */
+  public static String unescape(String value) {
+    if (value.indexOf(ESCAPE_CHARACTER) < 0) {
+      return value;
+    }
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ESCAPE_CHARACTER && i + 1 < value.length()) {
+        c = value.charAt(++i);
+        if (c == 'n') {
+          c = '\n';
+        } else if (c == 'r') {
+          c = '\r';
+        }
+      }
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Checks if the character has to be escaped.
+   *
+   * @param c character
+   * @return true, iff the character has to be escaped
+   */
+  private static boolean needsEscape(char c) {
+    return c == '\n' || c == '\r' || c == ESCAPE_CHARACTER || c == ';' || c == '|';
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.indexed;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.functions.CheckUniqueLabel;
+import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
+import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * A graph data sink for CSV files indexed by label. The output can be read using the
+ * {@link IndexedCSVDataSource}.
+ *
+ * The sink writes one directory per label, e.g.:
+ *
+ * csvRoot
+ *   |- Person.csv     # contains all vertices with label 'Person', one file per task
+ *   |- University.csv # contains all vertices with label 'University', one file per task
+ *   |- knows.csv      # contains all edges with label 'knows', one file per task
+ *   |- studyAt.csv    # contains all edges with label 'studyAt', one file per task
+ *   |- metadata.csv   # Meta data for all data contained in the graph
+ *
+ * As vertices and edges share the root directory, a label may not be used by both vertices and
+ * edges. Writing such a graph fails before any label file is written.
+ *
+ * An appended graph is written into a new part directory with the same layout, e.g.
+ * csvRoot/part-00001/Person.csv. The {@link IndexedCSVDataSource} reads the label files of the
+ * root directory and of all part directories.
+ */
+public class IndexedCSVDataSink extends CSVDataSink {
+
+  /**
+   * Creates a new indexed CSV data sink. Computes the meta data based on the given graph.
+   *
+   * @param csvPath directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public IndexedCSVDataSink(String csvPath, GradoopFlinkConfig config) {
+    super(csvPath, config);
+  }
+
+  /**
+   * Creates a new indexed CSV data sink. Uses the specified meta data to write the CSV output.
+   *
+   * @param csvPath directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file
+   * @param config Gradoop Flink configuration
+   */
+  public IndexedCSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config) {
+    super(csvPath, metaDataPath, config);
+  }
+
+  /**
+   * Creates a new indexed CSV data sink which compresses the label files. Uses the specified meta
+   * data to write the CSV output.
+   *
+   * @param csvPath directory to write CSV files to
+   * @param metaDataPath path to meta data CSV file, null to compute the meta data
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public IndexedCSVDataSink(String csvPath, String metaDataPath, GradoopFlinkConfig config,
+    TextCompression compression) {
+    super(csvPath, metaDataPath, config, compression);
+  }
+
+  @Override
+  protected DataSet<Tuple2<String, String>> createMetaData(LogicalGraph graph) {
+    return super.createMetaData(graph)
+      .groupBy(0)
+      .reduceGroup(new CheckUniqueLabel());
+  }
+
+  @Override
+  protected void writeVertices(DataSet<CSVVertex> csvVertices, FileSystem.WriteMode writeMode) {
+    csvVertices.output(new IndexedCSVOutputFormat<>(getCSVRoot(), 1, writeMode, getCompression()));
+  }
+
+  @Override
+  protected void writeEdges(DataSet<CSVEdge> csvEdges, FileSystem.WriteMode writeMode) {
+    csvEdges.output(new IndexedCSVOutputFormat<>(getCSVRoot(), 3, writeMode, getCompression()));
+  }
+
+  @Override
+  protected void appendVertices(DataSet<CSVVertex> csvVertices, int partNumber) {
+    csvVertices.output(new IndexedCSVOutputFormat<>(getPartPath(partNumber), 1,
+      FileSystem.WriteMode.NO_OVERWRITE, getCompression()));
+  }
+
+  @Override
+  protected void appendEdges(DataSet<CSVEdge> csvEdges, int partNumber) {
+    csvEdges.output(new IndexedCSVOutputFormat<>(getPartPath(partNumber), 3,
+      FileSystem.WriteMode.NO_OVERWRITE, getCompression()));
+  }
+}
@@ -15,26 +15,45 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.io.FilePathFilter;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.log4j.Logger;
 import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.PropertySchemas;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.csv.CSVBase;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
-import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVEdgeInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVElementInputFormat;
+import org.gradoop.flink.io.impl.csv.inputformats.CSVVertexInputFormat;
 import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -48,12 +67,29 @@ import java.util.stream.Collectors;
  *   |- knows.csv      # contains all edges with label 'knows'
  *   |- studyAy.csv    # contains all edges with label 'studyAt'
  *   |- metadata.csv   # Meta data for all data contained in the graph
+ *
+ * Each label file may also be a directory of files, as written by {@link IndexedCSVDataSink}.
+ * Label files of appended graphs are read from the part directories below the root directory, e.g.
+ * csvRoot/part-00001/Person.csv. The meta data is read once and passed to the input formats.
+ *
+ * Each label is read by a separate input, so that accessing the elements of a label does not read
+ * any other file. Optionally, labels whose files are smaller than a given size are read by a
+ * single shared input per element type, which keeps the program small for many labels. Accessing
+ * such a label filters the shared input.
  */
 public class IndexedCSVDataSource extends CSVBase implements DataSource {
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(IndexedCSVDataSource.class);
   /**
    * HDFS Configuration
    */
   private final Configuration hdfsConfig;
+  /**
+   * Labels whose files are smaller than this number of bytes are read by a shared input.
+   */
+  private final long smallLabelSize;
 
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
@@ -76,36 +112,268 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
    */
   public IndexedCSVDataSource(String csvPath, GradoopFlinkConfig conf, Configuration hdfsConf)
     throws IOException {
+    this(csvPath, conf, hdfsConf, 0L);
+  }
+
+  /**
+   * Creates a new data source which reads small labels using a shared input.
+   *
+   * @param csvPath root path of csv files
+   * @param conf gradoop configuration
+   * @param hdfsConf HDFS configuration
+   * @param smallLabelSize labels whose files are smaller than this number of bytes are read by a
+   *                       shared input, 0 reads each label separately
+   * @throws IOException
+   */
+  public IndexedCSVDataSource(String csvPath, GradoopFlinkConfig conf, Configuration hdfsConf,
+    long smallLabelSize) throws IOException {
     super(csvPath, conf);
     Objects.requireNonNull(hdfsConf);
     this.hdfsConfig = hdfsConf;
+    this.smallLabelSize = smallLabelSize;
   }
 
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
-    MetaData metaData = MetaData.fromFile(getMetaDataPath(), hdfsConfig);
+    List<Tuple2<String, String>> metaDataLines = MetaData.readLines(getMetaDataPath(), hdfsConfig);
+    MetaData metaData = MetaDataParser.create(metaDataLines);
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
-    VertexFactory vertexFactory = getConfig().getVertexFactory();
-    EdgeFactory edgeFactory = getConfig().getEdgeFactory();
+    registerPropertySchemas(metaData, env);
 
-    Map<String, DataSet<Vertex>> vertices = metaData.getVertexLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getVertexCSVPath(l))
-        .map(new CSVLineToVertex(vertexFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+    Map<String, DataSet<Vertex>> vertices = readLabels(metaData.getVertexLabels(), metaDataLines,
+      this::getVertexCSVPath, CSVVertexInputFormat::new,
+      TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType()));
 
-    Map<String, DataSet<Edge>> edges = metaData.getEdgeLabels().stream()
-      .map(l -> Tuple2.of(l, env.readTextFile(getEdgeCSVPath(l))
-        .map(new CSVLineToEdge(edgeFactory))
-        .withBroadcastSet(MetaData.fromFile(getMetaDataPath(), getConfig()), BC_METADATA)))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+    Map<String, DataSet<Edge>> edges = readLabels(metaData.getEdgeLabels(), metaDataLines,
+      this::getEdgeCSVPath, CSVEdgeInputFormat::new,
+      TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType()));
 
     return getConfig().getLogicalGraphFactory().fromIndexedDataSets(vertices, edges);
   }
 
+  /**
+   * Creates one dataset per label. Small labels share a single dataset.
+   *
+   * @param labels labels to read
+   * @param metaDataLines (label, metadata) tuples of all labels
+   * @param labelPath returns the path of a label
+   * @param inputFormat creates an input format for a path and the meta data of its labels
+   * @param type element type
+   * @param <E> EPGM element type
+   * @return mapping from label to dataset
+   * @throws IOException if the file sizes cannot be determined
+   */
+  private <E extends Element> Map<String, DataSet<E>> readLabels(Set<String> labels,
+    List<Tuple2<String, String>> metaDataLines, Function<String, String> labelPath,
+    BiFunction<String, List<Tuple2<String, String>>, CSVElementInputFormat<E>> inputFormat,
+    TypeInformation<E> type) throws IOException {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    FileSystem fs = FileSystem.get(hdfsConfig);
+
+    List<String> directories = new ArrayList<>();
+    directories.add(getCSVRoot());
+    for (int partNumber : getPartNumbers()) {
+      directories.add(getPartPath(partNumber));
+    }
+
+    Map<String, DataSet<E>> dataSets = new HashMap<>();
+    Map<String, List<String>> labelPaths = new HashMap<>();
+    List<String> smallLabels = new ArrayList<>();
+    for (String label : labels) {
+      List<String> paths = getLabelPaths(fs, directories, labelPath.apply(label));
+      labelPaths.put(label, paths);
+      if (smallLabelSize > 0 && getSize(fs, paths) < smallLabelSize) {
+        smallLabels.add(label);
+      } else {
+        dataSets.put(label, createInput(paths,
+          path -> inputFormat.apply(path, getMetaData(metaDataLines, label)), type));
+      }
+    }
+
+    if (smallLabels.size() == 1) {
+      String label = smallLabels.get(0);
+      dataSets.put(label, createInput(labelPaths.get(label),
+        path -> inputFormat.apply(path, getMetaData(metaDataLines, label)), type));
+    } else if (smallLabels.size() > 1) {
+      CSVElementInputFormat<E> sharedInputFormat = inputFormat.apply(getCSVRoot(),
+        getMetaData(metaDataLines, smallLabels));
+      sharedInputFormat.setFilesFilter(new LabelFileFilter(smallLabels.stream()
+        .map(label -> new Path(labelPath.apply(label)).getName())
+        .collect(Collectors.toSet())));
+
+      org.apache.flink.configuration.Configuration parameters =
+        new org.apache.flink.configuration.Configuration();
+      parameters.setBoolean(FileInputFormat.ENUMERATE_NESTED_FILES_FLAG, true);
+
+      DataSet<E> shared = env.createInput(sharedInputFormat, type).withParameters(parameters);
+      smallLabels.forEach(label -> dataSets.put(label, shared));
+    }
+    return dataSets;
+  }
+
+  /**
+   * Returns the (label, metadata) tuples of the specified labels.
+   *
+   * @param metaDataLines (label, metadata) tuples of all labels
+   * @param labels labels
+   * @return (label, metadata) tuples of the specified labels
+   */
+  private List<Tuple2<String, String>> getMetaData(List<Tuple2<String, String>> metaDataLines,
+    Collection<String> labels) {
+    return metaDataLines.stream()
+      .filter(tuple -> labels.contains(tuple.f0))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the (label, metadata) tuple of the specified label.
+   *
+   * @param metaDataLines (label, metadata) tuples of all labels
+   * @param label label
+   * @return (label, metadata) tuple of the label
+   */
+  private List<Tuple2<String, String>> getMetaData(List<Tuple2<String, String>> metaDataLines,
+    String label) {
+    return metaDataLines.stream()
+      .filter(tuple -> tuple.f0.equals(label))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the paths of the existing label files inside the specified directories. If no label
+   * file exists, the label file inside the root directory is returned.
+   *
+   * @param fs file system
+   * @param directories root and part directories
+   * @param labelPath path of the label file inside the root directory
+   * @return paths of the label files
+   * @throws IOException on failure
+   */
+  private List<String> getLabelPaths(FileSystem fs, List<String> directories, String labelPath)
+    throws IOException {
+    String fileName = new Path(labelPath).getName();
+    List<String> paths = new ArrayList<>();
+    for (String directory : directories) {
+      if (fs.exists(new Path(directory + fileName))) {
+        paths.add(directory + fileName);
+      }
+    }
+    return paths.isEmpty() ? Collections.singletonList(labelPath) : paths;
+  }
+
+  /**
+   * Creates a dataset which reads all specified files.
+   *
+   * @param paths file or directory paths
+   * @param inputFormat creates an input format for a path
+   * @param type element type
+   * @param <E> EPGM element type
+   * @return union of the inputs of all paths
+   */
+  private <E extends Element> DataSet<E> createInput(List<String> paths,
+    Function<String, CSVElementInputFormat<E>> inputFormat, TypeInformation<E> type) {
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+    DataSet<E> dataSet = null;
+    for (String path : paths) {
+      DataSet<E> input = env.createInput(inputFormat.apply(path), type);
+      dataSet = dataSet == null ? input : dataSet.union(input);
+    }
+    return dataSet;
+  }
+
+  /**
+   * Returns the total size of the specified files or directories.
+   *
+   * @param fs file system
+   * @param paths file or directory paths
+   * @return size in bytes, paths which do not exist are ignored
+   * @throws IOException on failure
+   */
+  private long getSize(FileSystem fs, List<String> paths) throws IOException {
+    long size = 0L;
+    for (String path : paths) {
+      Path file = new Path(path);
+      size += fs.exists(file) ? fs.getContentSummary(file).getLength() : 0L;
+    }
+    return size;
+  }
+
+  /**
+   * Registers the property keys of each label as property schema, so that the properties of the
+   * read elements are serialized without their keys. If the job holds user-defined global job
+   * parameters, no schema is registered and the properties are serialized with their keys.
+   *
+   * @param metaData meta data
+   * @param env execution environment
+   */
+  private void registerPropertySchemas(MetaData metaData, ExecutionEnvironment env) {
+    if (!registerPropertySchemas(metaData, metaData.getVertexLabels(),
+      getConfig().getVertexFactory().getType(), env) ||
+      !registerPropertySchemas(metaData, metaData.getEdgeLabels(),
+        getConfig().getEdgeFactory().getType(), env)) {
+      LOG.warn("Property schemas were not registered, as the global job parameters are " +
+        "user-defined. Properties are serialized with their keys.");
+    }
+  }
+
+  /**
+   * Registers the property keys of each of the given labels as property schema of the element
+   * type.
+   *
+   * @param metaData meta data
+   * @param labels labels of the element type
+   * @param elementType element type
+   * @param env execution environment
+   * @return false, if the schemas could not be registered
+   */
+  private boolean registerPropertySchemas(MetaData metaData, Set<String> labels,
+    Class<?> elementType, ExecutionEnvironment env) {
+    for (String label : labels) {
+      List<String> keys = metaData.getPropertyMetaData(label).stream()
+        .map(PropertyMetaData::getKey)
+        .collect(Collectors.toList());
+      if (PropertySchemas.register(env.getConfig(), elementType, label, keys) == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
   }
+
+  /**
+   * Accepts only the files of the given labels, i.e. files or directories with one of the given
+   * names and the files inside such a directory. Part directories are accepted, so that the label
+   * files inside them are read as well.
+   */
+  private static class LabelFileFilter extends FilePathFilter {
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Names of the label files.
+     */
+    private final HashSet<String> fileNames;
+
+    /**
+     * Constructor.
+     *
+     * @param fileNames names of the label files
+     */
+    LabelFileFilter(Set<String> fileNames) {
+      this.fileNames = new HashSet<>(fileNames);
+    }
+
+    @Override
+    public boolean filterPath(org.apache.flink.core.fs.Path filePath) {
+      org.apache.flink.core.fs.Path parent = filePath.getParent();
+      return !fileNames.contains(filePath.getName()) && !isPartDirectory(filePath.getName()) &&
+        (parent == null || !fileNames.contains(parent.getName()));
+    }
+  }
 }
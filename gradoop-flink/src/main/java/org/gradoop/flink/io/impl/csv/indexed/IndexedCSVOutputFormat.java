@@ -0,0 +1,216 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.indexed;
+
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.RichOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.BlockCompressedOutputStream;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.csv.CSVBase;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes CSV tuples into one directory per label. Each task writes the tuples of a label into a
+ * separate file inside the directory of the label, e.g.:
+ *
+ * csvRoot
+ *   |- Person.csv
+ *     |- 1 # vertices with label 'Person' written by the first task
+ *     |- 2 # vertices with label 'Person' written by the second task
+ *
+ * The files are only created for labels which occur in the tuples of a task. Compressed files are
+ * named by the task number and the file extension of the compression codec, e.g. "1.gzb".
+ *
+ * Before the job is executed, existing label and part directories inside the root directory are
+ * deleted if the write mode is {@link FileSystem.WriteMode#OVERWRITE}. Otherwise, such directories
+ * let the job fail before any task is started.
+ *
+ * @param <T> CSV tuple type
+ */
+public class IndexedCSVOutputFormat<T extends Tuple> extends RichOutputFormat<T>
+  implements InitializeOnMaster {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Size of the write buffer of each file.
+   */
+  private static final int BUFFER_SIZE = 1 << 16;
+  /**
+   * Root directory of the csv files.
+   */
+  private final String csvRoot;
+  /**
+   * Position of the label in the tuple.
+   */
+  private final int labelField;
+  /**
+   * File system write mode.
+   */
+  private final FileSystem.WriteMode writeMode;
+  /**
+   * Compression codec.
+   */
+  private final TextCompression compression;
+  /**
+   * Number of the task, used as file name.
+   */
+  private transient int taskNumber;
+  /**
+   * Output streams by label.
+   */
+  private transient Map<String, OutputStream> streams;
+  /**
+   * Reused to build the lines.
+   */
+  private transient StringBuilder line;
+
+  /**
+   * Constructor.
+   *
+   * @param csvRoot root directory of the csv files
+   * @param labelField position of the label in the tuple
+   * @param writeMode file system write mode
+   */
+  public IndexedCSVOutputFormat(String csvRoot, int labelField, FileSystem.WriteMode writeMode) {
+    this(csvRoot, labelField, writeMode, TextCompression.NONE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param csvRoot root directory of the csv files
+   * @param labelField position of the label in the tuple
+   * @param writeMode file system write mode
+   * @param compression compression codec
+   */
+  public IndexedCSVOutputFormat(String csvRoot, int labelField, FileSystem.WriteMode writeMode,
+    TextCompression compression) {
+    this.csvRoot = Objects.requireNonNull(csvRoot);
+    this.labelField = labelField;
+    this.writeMode = Objects.requireNonNull(writeMode);
+    this.compression = Objects.requireNonNull(compression);
+  }
+
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    Path root = new Path(csvRoot);
+    FileSystem fs = root.getFileSystem();
+    if (!fs.exists(root)) {
+      return;
+    }
+    for (FileStatus status : fs.listStatus(root)) {
+      String name = status.getPath().getName();
+      if (status.isDir() &&
+        (name.endsWith(CSVConstants.FILE_SUFFIX) || CSVBase.isPartDirectory(name))) {
+        if (writeMode == FileSystem.WriteMode.NO_OVERWRITE) {
+          throw new IOException("Output directory '" + status.getPath() + "' already exists.");
+        }
+        if (!fs.delete(status.getPath(), true)) {
+          throw new IOException(
+            "Output directory '" + status.getPath() + "' could not be deleted.");
+        }
+      }
+    }
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    this.taskNumber = taskNumber;
+    this.streams = new HashMap<>();
+    this.line = new StringBuilder();
+  }
+
+  @Override
+  public void writeRecord(T tuple) throws IOException {
+    String label = tuple.getField(labelField);
+    OutputStream out = streams.get(label);
+    if (out == null) {
+      out = createStream(label);
+      streams.put(label, out);
+    }
+
+    line.setLength(0);
+    for (int i = 0; i < tuple.getArity(); i++) {
+      if (i > 0) {
+        line.append(CSVConstants.TOKEN_DELIMITER);
+      }
+      line.append((Object) tuple.getField(i));
+    }
+    line.append(CSVConstants.ROW_DELIMITER);
+    out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (streams == null) {
+      return;
+    }
+    IOException exception = null;
+    for (OutputStream out : streams.values()) {
+      try {
+        out.close();
+      } catch (IOException e) {
+        if (exception == null) {
+          exception = e;
+        }
+      }
+    }
+    streams = null;
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Creates the file of this task inside the directory of the specified label.
+   *
+   * @param label escaped label
+   * @return output stream
+   * @throws IOException if the file cannot be created
+   */
+  private OutputStream createStream(String label) throws IOException {
+    Path directory = new Path(csvRoot, StringEscaper.unescape(label) + CSVConstants.FILE_SUFFIX);
+    FileSystem fs = directory.getFileSystem();
+    // distributed file systems create parent directories on demand
+    if (!fs.isDistributedFS() && !fs.initOutPathLocalFS(directory, writeMode, true)) {
+      throw new IOException("Output directory '" + directory + "' could not be created.");
+    }
+    Path file = new Path(directory, (taskNumber + 1) + compression.getFileExtension());
+    OutputStream out = fs.create(file, writeMode == FileSystem.WriteMode.OVERWRITE);
+    return compression == TextCompression.BLOCK_GZIP ?
+      new BlockCompressedOutputStream(out) : new BufferedOutputStream(out, BUFFER_SIZE);
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reads {@link Edge} objects from CSV files. The lines need to be encoded in the following
+ * format:
+ *
+ * edge-id;source-id;target-id;edge-label;value_1|value_2|...|value_n
+ */
+public class CSVEdgeInputFormat extends CSVElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge csv file or directory
+   * @param metaDataPath path to the meta data csv file
+   */
+  public CSVEdgeInputFormat(String filePath, String metaDataPath) {
+    super(filePath, metaDataPath);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge csv file or directory
+   * @param metaData (label, metadata) tuples of the labels to read
+   */
+  public CSVEdgeInputFormat(String filePath, List<Tuple2<String, String>> metaData) {
+    super(filePath, metaData);
+  }
+
+  @Override
+  public Edge readRecord(Edge reuse, byte[] bytes, int offset, int numBytes) throws IOException {
+    int end = lineEnd(bytes, offset, numBytes);
+    if (end == offset) {
+      return null;
+    }
+    int idEnd = requiredTokenEnd(bytes, offset, end);
+    int sourceIdEnd = requiredTokenEnd(bytes, idEnd + 1, end);
+    int targetIdEnd = requiredTokenEnd(bytes, sourceIdEnd + 1, end);
+    int labelEnd = tokenEnd(bytes, targetIdEnd + 1, end, TOKEN_DELIMITER);
+    int labelId = parseLabel(bytes, targetIdEnd + 1, labelEnd);
+
+    reuse.setId(parseId(bytes, offset, idEnd));
+    reuse.setSourceId(parseId(bytes, idEnd + 1, sourceIdEnd));
+    reuse.setTargetId(parseId(bytes, sourceIdEnd + 1, targetIdEnd));
+    reuse.setLabel(getLabel(labelId));
+    reuse.setProperties(parseProperties(labelId, bytes, labelEnd + 1, end));
+    reuse.setGraphIds(null);
+    return reuse;
+  }
+}
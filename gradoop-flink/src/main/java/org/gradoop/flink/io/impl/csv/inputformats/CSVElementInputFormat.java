@@ -0,0 +1,427 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertySchema;
+import org.gradoop.flink.io.impl.compression.CompressibleDelimitedInputFormat;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.metadata.MetaDataParser;
+import org.gradoop.flink.io.impl.csv.metadata.PropertyMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.ValueBytesParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for reading {@link Element}s from CSV files. The input format tokenizes the lines
+ * directly on their bytes and parses the property values with the byte parsers provided by the
+ * {@link MetaData}. The meta data is either passed to the input format or read once per task. It
+ * is indexed by a label id.
+ *
+ * Tokens are separated by unescaped '{@value #TOKEN_DELIMITER}', property values by unescaped
+ * '{@value #VALUE_DELIMITER}'. Inside labels and property values, a backslash escapes the following
+ * character, "\n" and "\r" denote line breaks. Empty lines are skipped.
+ *
+ * Files written before the escaping was introduced remain readable, unless their labels or
+ * property values contain backslashes, which are now read as escape characters. Such files have
+ * to be written again, e.g. by reading them with a previous version and writing them with the
+ * current {@link org.gradoop.flink.io.impl.csv.CSVDataSink}.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class CSVElementInputFormat<E extends Element>
+  extends CompressibleDelimitedInputFormat<E> {
+  /**
+   * Used to separate the tokens (id, label, values) of a line.
+   */
+  static final char TOKEN_DELIMITER = ';';
+  /**
+   * Used to separate the property values of a line.
+   */
+  static final char VALUE_DELIMITER = '|';
+  /**
+   * Escapes the following character.
+   */
+  private static final byte ESCAPE_CHARACTER = '\\';
+  /**
+   * Trailing character of lines written on Windows.
+   */
+  private static final byte CARRIAGE_RETURN = '\r';
+  /**
+   * Length of the hexadecimal representation of a {@link GradoopId}.
+   */
+  private static final int ID_LENGTH = 2 * GradoopId.ID_SIZE;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Path to the meta data file, if the meta data is read by the tasks.
+   */
+  private final String metaDataPath;
+  /**
+   * (label, metadata) tuples, if the meta data is passed to the input format.
+   */
+  private final ArrayList<Tuple2<String, String>> metaDataTuples;
+  /**
+   * Labels by label id.
+   */
+  private transient String[] labels;
+  /**
+   * UTF-8 encoded labels by label id.
+   */
+  private transient byte[][] labelBytes;
+  /**
+   * Open addressing hash table storing (label id + 1) at the slot of the label hash.
+   */
+  private transient int[] labelTable;
+  /**
+   * Id of the label read last, lines are often grouped by label.
+   */
+  private transient int lastLabelId;
+  /**
+   * Property keys by label id and value index.
+   */
+  private transient String[][] propertyKeys;
+  /**
+   * Property value parsers by label id and value index.
+   */
+  private transient ValueBytesParser[][] valueParsers;
+  /**
+   * Property schemas by label id.
+   */
+  private transient PropertySchema[] propertySchemas;
+  /**
+   * Reused properties by label id, only used if object reuse is enabled.
+   */
+  private transient Properties[] reusedProperties;
+  /**
+   * Buffer for unescaped tokens.
+   */
+  private transient byte[] buffer;
+  /**
+   * True, if the token found last contains an escape character.
+   */
+  private transient boolean escaped;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the csv file or directory
+   * @param metaDataPath path to the meta data csv file
+   */
+  CSVElementInputFormat(String filePath, String metaDataPath) {
+    super(new Path(Objects.requireNonNull(filePath)), null);
+    this.metaDataPath = Objects.requireNonNull(metaDataPath);
+    this.metaDataTuples = null;
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the csv file or directory
+   * @param metaData (label, metadata) tuples of the labels to read
+   */
+  CSVElementInputFormat(String filePath, List<Tuple2<String, String>> metaData) {
+    super(new Path(Objects.requireNonNull(filePath)), null);
+    this.metaDataPath = null;
+    this.metaDataTuples = new ArrayList<>(metaData);
+  }
+
+  @Override
+  public void openInputFormat() throws IOException {
+    super.openInputFormat();
+    MetaData metaData = metaDataTuples != null ?
+      MetaDataParser.create(metaDataTuples) : MetaData.fromFile(metaDataPath);
+    List<String> labelList = new ArrayList<>(metaData.getLabels());
+
+    int labelCount = labelList.size();
+    labels = new String[labelCount];
+    labelBytes = new byte[labelCount][];
+    labelTable = new int[Integer.highestOneBit(Math.max(1, labelCount)) << 2];
+    propertyKeys = new String[labelCount][];
+    valueParsers = new ValueBytesParser[labelCount][];
+    propertySchemas = new PropertySchema[labelCount];
+    reusedProperties = getRuntimeContext().getExecutionConfig().isObjectReuseEnabled() ?
+      new Properties[labelCount] : null;
+
+    for (int labelId = 0; labelId < labelCount; labelId++) {
+      String label = labelList.get(labelId);
+      byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+      int slot = hash(bytes, 0, bytes.length) & (labelTable.length - 1);
+      while (labelTable[slot] != 0) {
+        slot = (slot + 1) & (labelTable.length - 1);
+      }
+      labelTable[slot] = labelId + 1;
+      labels[labelId] = label;
+      labelBytes[labelId] = bytes;
+
+      List<PropertyMetaData> propertyMetaData = metaData.getPropertyMetaData(label);
+      propertyKeys[labelId] = propertyMetaData.stream()
+        .map(PropertyMetaData::getKey)
+        .toArray(String[]::new);
+      valueParsers[labelId] = propertyMetaData.stream()
+        .map(PropertyMetaData::getValueBytesParser)
+        .toArray(ValueBytesParser[]::new);
+      propertySchemas[labelId] = PropertySchema.create(propertyMetaData.stream()
+        .map(PropertyMetaData::getKey)
+        .collect(Collectors.toList()));
+      if (reusedProperties != null) {
+        reusedProperties[labelId] = Properties.createWithSchema(propertySchemas[labelId]);
+      }
+    }
+    buffer = new byte[128];
+  }
+
+  /**
+   * Returns the end of the line, i.e. the index after its last byte without a trailing carriage
+   * return.
+   *
+   * @param bytes line bytes
+   * @param offset index of the first byte
+   * @param numBytes number of bytes
+   * @return end of the line
+   */
+  int lineEnd(byte[] bytes, int offset, int numBytes) {
+    int end = offset + numBytes;
+    return end > offset && bytes[end - 1] == CARRIAGE_RETURN ? end - 1 : end;
+  }
+
+  /**
+   * Returns the index of the next unescaped delimiter or the end of the line if there is none.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end end of the line
+   * @param delimiter token delimiter
+   * @return index of the delimiter or the end of the line
+   */
+  int tokenEnd(byte[] bytes, int start, int end, char delimiter) {
+    escaped = false;
+    for (int i = start; i < end; i++) {
+      if (bytes[i] == delimiter) {
+        return i;
+      } else if (bytes[i] == ESCAPE_CHARACTER) {
+        escaped = true;
+        i++;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Returns the index of the next unescaped token delimiter and fails if there is none.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end end of the line
+   * @return index of the delimiter
+   * @throws IOException if the line contains no further delimiter
+   */
+  int requiredTokenEnd(byte[] bytes, int start, int end) throws IOException {
+    int tokenEnd = tokenEnd(bytes, start, end, TOKEN_DELIMITER);
+    if (tokenEnd == end) {
+      throw new IOException("Malformed line, missing token after '" +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8) + "'");
+    }
+    return tokenEnd;
+  }
+
+  /**
+   * Parses a {@link GradoopId} from the token.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end index after the last byte of the token
+   * @return parsed id
+   * @throws IOException if the token is not a valid id
+   */
+  GradoopId parseId(byte[] bytes, int start, int end) throws IOException {
+    if (end - start != ID_LENGTH) {
+      throw new IOException("Invalid GradoopId: " +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    }
+    try {
+      return GradoopId.fromHexBytes(bytes, start);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid GradoopId: " +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8), e);
+    }
+  }
+
+  /**
+   * Returns the id of the label in the token. The token has to be found by
+   * {@link #tokenEnd(byte[], int, int, char)} right before, since it may contain escaped
+   * characters.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end index after the last byte of the token
+   * @return label id
+   * @throws IOException if the label is not contained in the meta data
+   */
+  int parseLabel(byte[] bytes, int start, int end) throws IOException {
+    return escaped ?
+      labelId(buffer, 0, unescape(bytes, start, end)) : labelId(bytes, start, end - start);
+  }
+
+  /**
+   * Returns the label with the specified id.
+   *
+   * @param labelId label id
+   * @return label
+   */
+  String getLabel(int labelId) {
+    return labels[labelId];
+  }
+
+  /**
+   * Parses the property values of the specified label. Empty values are treated as absent.
+   *
+   * @param labelId label id
+   * @param bytes line bytes
+   * @param start index of the first byte of the property values
+   * @param end end of the line
+   * @return parsed properties
+   * @throws IOException if there are more values than property keys in the meta data
+   */
+  Properties parseProperties(int labelId, byte[] bytes, int start, int end) throws IOException {
+    Properties properties;
+    if (reusedProperties == null) {
+      properties = Properties.createWithSchema(propertySchemas[labelId]);
+    } else {
+      properties = reusedProperties[labelId];
+      properties.clear();
+    }
+    String[] keys = propertyKeys[labelId];
+    ValueBytesParser[] parsers = valueParsers[labelId];
+
+    int valueStart = start;
+    for (int i = 0; valueStart <= end; i++) {
+      int valueEnd = tokenEnd(bytes, valueStart, end, VALUE_DELIMITER);
+      if (valueEnd > valueStart) {
+        if (i >= parsers.length) {
+          throw new IOException("Too many property values for label " + labels[labelId]);
+        }
+        properties.set(keys[i], escaped ?
+          parsers[i].parse(buffer, 0, unescape(bytes, valueStart, valueEnd)) :
+          parsers[i].parse(bytes, valueStart, valueEnd - valueStart));
+      }
+      valueStart = valueEnd + 1;
+    }
+    return properties;
+  }
+
+  /**
+   * Looks up the id of the specified label bytes.
+   *
+   * @param bytes label bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return label id
+   * @throws IOException if the label is not contained in the meta data
+   */
+  private int labelId(byte[] bytes, int offset, int length) throws IOException {
+    if (labels.length > 0 && equals(labelBytes[lastLabelId], bytes, offset, length)) {
+      return lastLabelId;
+    }
+    int slot = hash(bytes, offset, length) & (labelTable.length - 1);
+    while (labelTable[slot] != 0) {
+      int labelId = labelTable[slot] - 1;
+      if (equals(labelBytes[labelId], bytes, offset, length)) {
+        lastLabelId = labelId;
+        return labelId;
+      }
+      slot = (slot + 1) & (labelTable.length - 1);
+    }
+    throw new IOException("Label not contained in meta data: " +
+      new String(bytes, offset, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes the unescaped token into the buffer.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end index after the last byte of the token
+   * @return length of the unescaped token
+   */
+  private int unescape(byte[] bytes, int start, int end) {
+    if (buffer.length < end - start) {
+      buffer = new byte[Math.max(end - start, 2 * buffer.length)];
+    }
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      byte b = bytes[i];
+      if (b == ESCAPE_CHARACTER && i + 1 < end) {
+        b = bytes[++i];
+        if (b == 'n') {
+          b = '\n';
+        } else if (b == 'r') {
+          b = '\r';
+        }
+      }
+      buffer[length++] = b;
+    }
+    return length;
+  }
+
+  /**
+   * Computes the hash of the specified bytes.
+   *
+   * @param bytes bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return hash
+   */
+  private static int hash(byte[] bytes, int offset, int length) {
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Checks if the specified byte range equals the given label bytes.
+   *
+   * @param label label bytes
+   * @param bytes bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return true, if the bytes are equal
+   */
+  private static boolean equals(byte[] label, byte[] bytes, int offset, int length) {
+    if (label.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (label[i] != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
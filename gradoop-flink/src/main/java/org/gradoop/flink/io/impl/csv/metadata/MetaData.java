@@ -18,6 +18,7 @@ package org.gradoop.flink.io.impl.csv.metadata;
 import org.apache.flink.api.common.typeinfo.TypeHint;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileStatus;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -28,6 +29,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,16 +82,90 @@ public class MetaData {
    * @throws IOException
    */
   public static MetaData fromFile(String path, Configuration hdfsConfig) throws IOException {
+    return MetaDataParser.create(readLines(path, hdfsConfig));
+  }
+
+  /**
+   * Reads the (label, metadata) tuples from a specified csv file. The file can be either located
+   * in a local file system or in HDFS. The tuples can be passed to tasks which then do not need
+   * to read the file again.
+   *
+   * @param path path to metadata csv file
+   * @param hdfsConfig file system configuration
+   * @return (label, metadata) tuples
+   * @throws IOException
+   */
+  public static List<Tuple2<String, String>> readLines(String path, Configuration hdfsConfig)
+    throws IOException {
     FileSystem fs = FileSystem.get(hdfsConfig);
     Path file = new Path(path);
     Charset charset = Charset.forName("UTF-8");
 
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(file), charset))) {
-      return MetaDataParser.create(br.lines()
+      return br.lines()
+        .filter(line -> !line.isEmpty())
         .map(line -> line.split(CSVConstants.TOKEN_DELIMITER, 2))
         .map(tokens -> Tuple2.of(tokens[0], tokens[1]))
-        .collect(Collectors.toList()));
+        .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Reads the meta data from a specified csv file using Flink's file system abstraction, e.g.
+   * inside an input format. The path may also point to a directory of csv files.
+   *
+   * @param path path to metadata csv file or directory
+   * @return meta data
+   * @throws IOException
+   */
+  public static MetaData fromFile(String path) throws IOException {
+    return MetaDataParser.create(readLines(path));
+  }
+
+  /**
+   * Reads the (label, metadata) tuples from a specified csv file using Flink's file system
+   * abstraction. The path may also point to a directory of csv files.
+   *
+   * @param path path to metadata csv file or directory
+   * @return (label, metadata) tuples
+   * @throws IOException
+   */
+  public static List<Tuple2<String, String>> readLines(String path) throws IOException {
+    org.apache.flink.core.fs.Path metaDataPath = new org.apache.flink.core.fs.Path(path);
+    org.apache.flink.core.fs.FileSystem fs = metaDataPath.getFileSystem();
+
+    List<org.apache.flink.core.fs.Path> files = new ArrayList<>();
+    FileStatus status = fs.getFileStatus(metaDataPath);
+    if (status.isDir()) {
+      for (FileStatus fileStatus : fs.listStatus(metaDataPath)) {
+        if (!fileStatus.isDir()) {
+          files.add(fileStatus.getPath());
+        }
+      }
+    } else {
+      files.add(metaDataPath);
     }
+
+    List<Tuple2<String, String>> lines = new ArrayList<>();
+    for (org.apache.flink.core.fs.Path file : files) {
+      try (BufferedReader br = new BufferedReader(
+        new InputStreamReader(fs.open(file), StandardCharsets.UTF_8))) {
+        br.lines()
+          .filter(line -> !line.isEmpty())
+          .map(line -> line.split(CSVConstants.TOKEN_DELIMITER, 2))
+          .forEach(tokens -> lines.add(Tuple2.of(tokens[0], tokens[1])));
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Returns all labels available in the meta data.
+   *
+   * @return vertex and edge labels
+   */
+  public Set<String> getLabels() {
+    return metaData.keySet();
   }
 
   /**
@@ -20,13 +20,17 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Responsible for creating a {@link MetaData} instance from its string representation.
@@ -58,8 +62,8 @@ public class MetaDataParser {
         propertyMetaDataList = new ArrayList<>(propertyStrings.length);
         for (String propertyString : propertyStrings) {
           String[] propertyTokens = propertyString.split(PROPERTY_TOKEN_DELIMITER);
-          propertyMetaDataList.add(new PropertyMetaData(
-            propertyTokens[0], getValueParser(propertyTokens[1])));
+          propertyMetaDataList.add(new PropertyMetaData(propertyTokens[0],
+            getValueParser(propertyTokens[1]), getValueBytesParser(propertyTokens[1])));
         }
       } else {
         propertyMetaDataList = new ArrayList<>(0);
@@ -78,8 +82,18 @@ public class MetaDataParser {
    * @return property meta data
    */
   public static String getPropertyMetaData(Property property) {
-    return String.format("%s%s%s",
-      property.getKey(), PROPERTY_TOKEN_DELIMITER, getTypeString(property.getValue()));
+    return getPropertyMetaData(property.getKey(), property.getValue());
+  }
+
+  /**
+   * Returns the meta data for the specified property key and value.
+   *
+   * @param key property key
+   * @param value property value
+   * @return meta data string for the property
+   */
+  public static String getPropertyMetaData(String key, PropertyValue value) {
+    return key + PROPERTY_TOKEN_DELIMITER + getTypeString(value);
   }
 
   /**
@@ -94,6 +108,83 @@ public class MetaDataParser {
       .collect(Collectors.joining(PROPERTY_DELIMITER));
   }
 
+  /**
+   * Merges property meta data strings of the same label, e.g. of an existing CSV graph and of a
+   * graph which is appended to it. The properties of the first string keep their position, so
+   * that values written with this meta data can still be read. Properties which are not contained
+   * in it are appended in sorted order. A property which occurs with different types gets the
+   * narrowest type which can represent the values of all of them: int and long are widened to
+   * long, other combinations of numeric types to double, and all remaining combinations to string.
+   *
+   * @param propertiesMetaData property meta data string whose properties keep their position
+   * @param others property meta data strings which are merged into the first one
+   * @return merged property meta data string
+   */
+  public static String mergePropertiesMetaData(String propertiesMetaData,
+    Iterable<String> others) {
+    List<String> keys = new ArrayList<>();
+    Map<String, String> types = new HashMap<>();
+    for (String[] tokens : splitPropertiesMetaData(propertiesMetaData)) {
+      keys.add(tokens[0]);
+      types.merge(tokens[0], tokens[1].toLowerCase(), MetaDataParser::widenType);
+    }
+
+    Map<String, String> appendedTypes = new TreeMap<>();
+    for (String other : others) {
+      for (String[] tokens : splitPropertiesMetaData(other)) {
+        Map<String, String> target = types.containsKey(tokens[0]) ? types : appendedTypes;
+        target.merge(tokens[0], tokens[1].toLowerCase(), MetaDataParser::widenType);
+      }
+    }
+
+    return Stream.concat(
+      keys.stream().map(key -> key + PROPERTY_TOKEN_DELIMITER + types.get(key)),
+      appendedTypes.entrySet().stream()
+        .map(entry -> entry.getKey() + PROPERTY_TOKEN_DELIMITER + entry.getValue()))
+      .collect(Collectors.joining(PROPERTY_DELIMITER));
+  }
+
+  /**
+   * Splits a property meta data string into (property-key, property-type) tokens.
+   *
+   * @param propertiesMetaData property meta data string
+   * @return property tokens
+   */
+  private static List<String[]> splitPropertiesMetaData(String propertiesMetaData) {
+    List<String[]> properties = new ArrayList<>();
+    if (propertiesMetaData.length() > 0) {
+      for (String propertyString : propertiesMetaData.split(PROPERTY_DELIMITER)) {
+        properties.add(propertyString.split(PROPERTY_TOKEN_DELIMITER));
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Returns the narrowest type that can represent the values of both specified types.
+   *
+   * @param type lower case property type
+   * @param otherType lower case property type
+   * @return widened property type
+   */
+  private static String widenType(String type, String otherType) {
+    if (type.equals(otherType)) {
+      return type;
+    }
+    List<String> numericTypes = Arrays.asList(TypeString.INTEGER.getTypeString(),
+      TypeString.LONG.getTypeString(), TypeString.FLOAT.getTypeString(),
+      TypeString.DOUBLE.getTypeString());
+    int rank = numericTypes.indexOf(type);
+    int otherRank = numericTypes.indexOf(otherType);
+    if (rank < 0 || otherRank < 0) {
+      return TypeString.STRING.getTypeString();
+    } else if (Math.max(rank, otherRank) == 1) {
+      return TypeString.LONG.getTypeString();
+    } else {
+      return TypeString.DOUBLE.getTypeString();
+    }
+  }
+
   /**
    * Creates a parsing function for the given property type.
    *
@@ -121,6 +212,119 @@ public class MetaDataParser {
     }
   }
 
+  /**
+   * Creates a parsing function for the given property type which reads the value directly from
+   * UTF-8 bytes. Integral and boolean values are parsed without creating a string.
+   *
+   * @param type property type
+   * @return parsing function
+   */
+  private static ValueBytesParser getValueBytesParser(String type) {
+    type = type.toLowerCase();
+    if (type.equals(TypeString.INTEGER.getTypeString())) {
+      return (bytes, offset, length) -> {
+        long value = parseLong(bytes, offset, length);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+          throw numberFormatException(bytes, offset, length);
+        }
+        return PropertyValue.create((int) value);
+      };
+    } else if (type.equals(TypeString.LONG.getTypeString())) {
+      return (bytes, offset, length) -> PropertyValue.create(parseLong(bytes, offset, length));
+    } else if (type.equals(TypeString.FLOAT.getTypeString())) {
+      return (bytes, offset, length) -> PropertyValue.create(
+        Float.parseFloat(new String(bytes, offset, length, StandardCharsets.US_ASCII)));
+    } else if (type.equals(TypeString.DOUBLE.getTypeString())) {
+      return (bytes, offset, length) -> PropertyValue.create(
+        Double.parseDouble(new String(bytes, offset, length, StandardCharsets.US_ASCII)));
+    } else if (type.equals(TypeString.BOOLEAN.getTypeString())) {
+      return (bytes, offset, length) -> PropertyValue.create(parseBoolean(bytes, offset, length));
+    } else if (type.equals(TypeString.STRING.getTypeString())) {
+      return (bytes, offset, length) -> PropertyValue.create(
+        new String(bytes, offset, length, StandardCharsets.UTF_8));
+    } else if (type.equals(TypeString.GRADOOPID.getTypeString())) {
+      return (bytes, offset, length) -> {
+        if (length != 2 * GradoopId.ID_SIZE) {
+          throw new IllegalArgumentException("invalid hexadecimal representation of a " +
+            "GradoopId: [" + new String(bytes, offset, length, StandardCharsets.UTF_8) + "]");
+        }
+        return PropertyValue.create(GradoopId.fromHexBytes(bytes, offset));
+      };
+    } else {
+      throw new IllegalArgumentException("Type " + type + " is not supported");
+    }
+  }
+
+  /**
+   * Parses a signed decimal long value like {@link Long#parseLong(String)}.
+   *
+   * @param bytes ASCII bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return long value
+   * @throws NumberFormatException if the bytes do not represent a long value
+   */
+  static long parseLong(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    boolean negative = false;
+
+    if (length > 0 && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+    if (i == end) {
+      throw numberFormatException(bytes, offset, length);
+    }
+
+    // accumulate negatively to cover Long.MIN_VALUE
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    while (i < end) {
+      int digit = bytes[i++] - '0';
+      if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+        throw numberFormatException(bytes, offset, length);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        throw numberFormatException(bytes, offset, length);
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Parses a boolean value like {@link Boolean#parseBoolean(String)}.
+   *
+   * @param bytes ASCII bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return true, iff the bytes represent "true" ignoring case
+   */
+  private static boolean parseBoolean(byte[] bytes, int offset, int length) {
+    if (length != 4) {
+      return false;
+    }
+    return (bytes[offset] | 0x20) == 't' && (bytes[offset + 1] | 0x20) == 'r' &&
+      (bytes[offset + 2] | 0x20) == 'u' && (bytes[offset + 3] | 0x20) == 'e';
+  }
+
+  /**
+   * Creates an exception for a value that is not a valid number.
+   *
+   * @param bytes ASCII bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return exception
+   */
+  private static NumberFormatException numberFormatException(byte[] bytes, int offset,
+    int length) {
+    return new NumberFormatException(
+      "For input string: \"" + new String(bytes, offset, length, StandardCharsets.UTF_8) + "\"");
+  }
+
   /**
    * Returns the type string for the specified property value.
    *
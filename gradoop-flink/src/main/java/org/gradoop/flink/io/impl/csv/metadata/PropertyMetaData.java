@@ -15,10 +15,14 @@
  */
 package org.gradoop.flink.io.impl.csv.metadata;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 /**
  * Stores the meta data for a property which is the property key and a property value parser.
+ * The value can be parsed from a string or directly from bytes.
  */
 public class PropertyMetaData {
   /**
@@ -29,6 +33,10 @@ public class PropertyMetaData {
    * A function that parses a string to the typed property value
    */
   private Function<String, Object> valueParser;
+  /**
+   * A function that parses UTF-8 bytes to the typed property value
+   */
+  private ValueBytesParser valueBytesParser;
 
   /**
    * Constructor.
@@ -37,8 +45,22 @@ public class PropertyMetaData {
    * @param valueParser property value parser
    */
   public PropertyMetaData(String key, Function<String, Object> valueParser) {
+    this(key, valueParser, (bytes, offset, length) -> PropertyValue.create(
+      valueParser.apply(new String(bytes, offset, length, StandardCharsets.UTF_8))));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param key property key
+   * @param valueParser property value parser
+   * @param valueBytesParser property value parser for UTF-8 bytes
+   */
+  public PropertyMetaData(String key, Function<String, Object> valueParser,
+    ValueBytesParser valueBytesParser) {
     this.key = key;
     this.valueParser = valueParser;
+    this.valueBytesParser = valueBytesParser;
   }
 
   /**
@@ -58,4 +80,13 @@ public class PropertyMetaData {
   public Function<String, Object> getValueParser() {
     return valueParser;
   }
+
+  /**
+   * Returns a parser for the property value which reads UTF-8 bytes.
+   *
+   * @return value parser
+   */
+  public ValueBytesParser getValueBytesParser() {
+    return valueBytesParser;
+  }
 }
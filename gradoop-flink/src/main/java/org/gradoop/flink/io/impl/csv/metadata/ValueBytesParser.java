@@ -0,0 +1,36 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Parses a property value from a range of (unescaped) UTF-8 bytes, e.g. a token inside a line
+ * of a CSV file.
+ */
+@FunctionalInterface
+public interface ValueBytesParser {
+
+  /**
+   * Parses the property value.
+   *
+   * @param bytes UTF-8 bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return property value
+   */
+  PropertyValue parse(byte[] bytes, int offset, int length);
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.outputformats;
+
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.CompressibleFileOutputFormat;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes CSV tuples, one line per tuple. The fields are separated by
+ * '{@value CSVConstants#TOKEN_DELIMITER}' and are expected to be escaped already. Optionally, the
+ * files are compressed.
+ *
+ * @param <T> CSV tuple type
+ */
+public class CSVTupleOutputFormat<T extends Tuple> extends CompressibleFileOutputFormat<T> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Reused to build the lines.
+   */
+  private transient StringBuilder line;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the csv file or directory
+   * @param compression compression codec
+   */
+  public CSVTupleOutputFormat(String filePath, TextCompression compression) {
+    super(new Path(Objects.requireNonNull(filePath)), compression);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    line = new StringBuilder();
+  }
+
+  @Override
+  public void writeRecord(T tuple) throws IOException {
+    line.setLength(0);
+    for (int i = 0; i < tuple.getArity(); i++) {
+      if (i > 0) {
+        line.append(CSVConstants.TOKEN_DELIMITER);
+      }
+      line.append((Object) tuple.getField(i));
+    }
+    line.append(CSVConstants.ROW_DELIMITER);
+    getOutputStream().write(line.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
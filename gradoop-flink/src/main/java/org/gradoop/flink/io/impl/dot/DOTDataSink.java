@@ -15,11 +15,21 @@
  */
 package org.gradoop.flink.io.impl.dot;
 
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.api.java.operators.FlatMapOperator;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.dot.functions.DOTFileFormat;
+import org.gradoop.flink.io.impl.dot.functions.DOTPartOutputFormat;
+import org.gradoop.flink.io.impl.dot.functions.EdgeToDOT;
+import org.gradoop.flink.io.impl.dot.functions.GraphHeadToDOT;
+import org.gradoop.flink.io.impl.dot.functions.VertexToDOT;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
@@ -30,6 +40,10 @@ import java.io.IOException;
  * Writes an EPGM representation into one DOT file. The format
  * is documented at {@link DOTFileFormat}.
  *
+ * Alternatively, the sink writes the vertices and edges in parallel into a directory of part files,
+ * each containing a complete digraph (see {@link DOTPartOutputFormat}). In this mode, no graph is
+ * built in memory and the number of vertices and edges written per graph can be limited.
+ *
  * For more information see:
  * https://en.wikipedia.org/wiki/DOT_(graph_description_language)
  */
@@ -42,6 +56,14 @@ public class DOTDataSink implements DataSink {
    * Flag to print graph head information
    */
   private final boolean graphInformation;
+  /**
+   * Flag to write the elements in parallel into part files
+   */
+  private final boolean parallel;
+  /**
+   * Maximum number of vertices and of edges written per graph in parallel mode
+   */
+  private final int maxElementsPerGraph;
 
   /**
    * Creates a new data sink. Path can be local (file://) or HDFS (hdfs://).
@@ -50,8 +72,39 @@ public class DOTDataSink implements DataSink {
    * @param graphInformation  flag to print graph head information
    */
   public DOTDataSink(String path, boolean graphInformation) {
+    this(path, graphInformation, false, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new data sink writing the elements in parallel into a directory of part files. Path
+   * can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path                dot output directory
+   * @param graphInformation    flag to print graph head information
+   * @param maxElementsPerGraph maximum number of vertices and of edges written per graph,
+   *                            {@link Integer#MAX_VALUE} for no limit
+   */
+  public DOTDataSink(String path, boolean graphInformation, int maxElementsPerGraph) {
+    this(path, graphInformation, true, maxElementsPerGraph);
+  }
+
+  /**
+   * Creates a new data sink.
+   *
+   * @param path                dot data file or output directory
+   * @param graphInformation    flag to print graph head information
+   * @param parallel            flag to write the elements in parallel into part files
+   * @param maxElementsPerGraph maximum number of vertices and of edges written per graph
+   */
+  private DOTDataSink(String path, boolean graphInformation, boolean parallel,
+    int maxElementsPerGraph) {
+    if (maxElementsPerGraph < 1) {
+      throw new IllegalArgumentException("Maximum number of elements per graph must be positive.");
+    }
     this.path = path;
     this.graphInformation = graphInformation;
+    this.parallel = parallel;
+    this.maxElementsPerGraph = maxElementsPerGraph;
   }
 
   @Override
@@ -75,6 +128,11 @@ public class DOTDataSink implements DataSink {
     FileSystem.WriteMode writeMode =
       overWrite ? FileSystem.WriteMode.OVERWRITE :  FileSystem.WriteMode.NO_OVERWRITE;
 
+    if (parallel) {
+      writeParallel(graphCollection, writeMode);
+      return;
+    }
+
     DOTFileFormat dotFileFormat = new DOTFileFormat(graphInformation);
     GraphvizWriter graphvizWriter = new GraphvizWriter(new Path(path));
     graphvizWriter.setWriteMode(writeMode);
@@ -86,6 +144,51 @@ public class DOTDataSink implements DataSink {
       .setParallelism(1);
   }
 
+  /**
+   * Writes the DOT statements of the elements in parallel into part files. The statements are
+   * sorted by graph within each partition, so that each part file contains one subgraph per graph.
+   *
+   * @param graphCollection graph collection
+   * @param writeMode file system write mode
+   */
+  private void writeParallel(GraphCollection graphCollection, FileSystem.WriteMode writeMode) {
+    DataSet<Tuple3<GradoopId, GradoopId, String>> vertexStatements = graphCollection
+      .getVertices()
+      .flatMap(new VertexToDOT(maxElementsPerGraph));
+
+    FlatMapOperator<Edge, Tuple3<GradoopId, GradoopId, String>> edgeToDOT = graphCollection
+      .getEdges()
+      .flatMap(new EdgeToDOT(maxElementsPerGraph));
+
+    DataSet<Tuple3<GradoopId, GradoopId, String>> edgeStatements = edgeToDOT;
+
+    if (maxElementsPerGraph < Integer.MAX_VALUE) {
+      // each task outputs at most the limit per graph, limit the union of all tasks per graph
+      vertexStatements = vertexStatements
+        .groupBy(0)
+        .first(maxElementsPerGraph);
+
+      edgeStatements = edgeToDOT
+        .withBroadcastSet(vertexStatements.project(0, 1), EdgeToDOT.WRITTEN_VERTICES)
+        .groupBy(0)
+        .first(maxElementsPerGraph);
+    }
+
+    DataSet<Tuple3<GradoopId, GradoopId, String>> statements = vertexStatements
+      .union(edgeStatements);
+
+    if (graphInformation) {
+      statements = statements.union(graphCollection.getGraphHeads().map(new GraphHeadToDOT()));
+    }
+
+    DOTPartOutputFormat outputFormat = new DOTPartOutputFormat(path);
+    outputFormat.setWriteMode(writeMode);
+
+    statements
+      .sortPartition(0, Order.ASCENDING)
+      .output(outputFormat);
+  }
+
   /**
    * Write opening and closing lines around strings
    * representing individual {@link GraphTransaction}s in graphviz.
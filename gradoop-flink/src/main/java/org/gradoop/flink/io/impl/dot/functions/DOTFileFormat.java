@@ -114,8 +114,17 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    * @param builder string builder to append
    */
   private void writeGraphHead(GraphTransaction transaction, StringBuilder builder) {
-    GraphHead graphHead = transaction.getGraphHead();
+    writeGraphHead(transaction.getGraphHead(), builder);
+  }
 
+  /**
+   * Adds graph head information to the specified builder.
+   *
+   * Output: label="label";
+   * @param graphHead graph head
+   * @param builder string builder to append
+   */
+  static void writeGraphHead(GraphHead graphHead, StringBuilder builder) {
     writeLabel(builder, graphHead, "#AAAAAA");
 
     builder.append(";\n");
@@ -132,21 +141,34 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    */
   private void writeVertices(GraphTransaction transaction, StringBuilder builder, String suffix) {
     for (Vertex vertex: transaction.getVertices()) {
-      // writes for each vertex:
-      // "v1234",
-      builder.append(VERTEX_ID_PREFIX)
-        .append(vertex.getId())
-        .append(suffix)
-        .append(" [ shape=Mrecord, ");
-
-      writeLabel(builder, vertex, "#000000");
-
-      // writes:
-      // ";"
-      builder.append("];\n");
+      writeVertex(vertex, builder, suffix);
     }
   }
 
+  /**
+   * Adds the information of a single vertex to the specified builder.
+   *
+   * vertexId [label="label", property1="value1", ...];
+   *
+   * @param vertex vertex
+   * @param builder string builder to append
+   * @param suffix id suffix specific for the graph containing the vertex
+   */
+  static void writeVertex(Vertex vertex, StringBuilder builder, String suffix) {
+    // writes for each vertex:
+    // "v1234",
+    builder.append(VERTEX_ID_PREFIX)
+      .append(vertex.getId())
+      .append(suffix)
+      .append(" [ shape=Mrecord, ");
+
+    writeLabel(builder, vertex, "#000000");
+
+    // writes:
+    // ";"
+    builder.append("];\n");
+  }
+
   /**
    * Adds edge information to the specified builder
    *
@@ -158,21 +180,33 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    */
   private void writeEdges(GraphTransaction transaction, StringBuilder builder, String suffix) {
     for (Edge edge: transaction.getEdges()) {
-
-      builder.append(VERTEX_ID_PREFIX)
-        .append(edge.getSourceId())
-        .append(suffix)
-        .append("->")
-        .append(VERTEX_ID_PREFIX)
-        .append(edge.getTargetId())
-        .append(suffix)
-        .append(" [");
-      // write dot attributes if existent
-      writeLabel(builder, edge, "#666666");
-      builder.append("];\n");
+      writeEdge(edge, builder, suffix);
     }
   }
 
+  /**
+   * Adds the information of a single edge to the specified builder.
+   *
+   * sourceId->targetId [label="label", property1="value1", ...];
+   *
+   * @param edge edge
+   * @param builder string builder to append
+   * @param suffix id suffix specific for the graph containing the edge
+   */
+  static void writeEdge(Edge edge, StringBuilder builder, String suffix) {
+    builder.append(VERTEX_ID_PREFIX)
+      .append(edge.getSourceId())
+      .append(suffix)
+      .append("->")
+      .append(VERTEX_ID_PREFIX)
+      .append(edge.getTargetId())
+      .append(suffix)
+      .append(" [");
+    // write dot attributes if existent
+    writeLabel(builder, edge, "#666666");
+    builder.append("];\n");
+  }
+
   /**
    * Writes the specified label and properties as DOT HTML label string (table)
    *
@@ -182,7 +216,7 @@ public class DOTFileFormat implements TextOutputFormat.TextFormatter<GraphTransa
    * @param elem graph element with id, label and properties
    * @param color color for header background and properties text
    */
-  private void writeLabel(StringBuilder builder, EPGMElement elem, String color) {
+  private static void writeLabel(StringBuilder builder, EPGMElement elem, String color) {
     String label = elem.getLabel();
     String id = elem.getId().toString();
     Properties properties = elem.getProperties();
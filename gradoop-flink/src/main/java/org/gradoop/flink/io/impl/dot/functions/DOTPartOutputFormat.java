@@ -0,0 +1,100 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.impl.compression.CompressibleFileOutputFormat;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes DOT statements into a directory of part files, one file per task. Each file is a complete
+ * digraph. Consecutive statements of the same graph are enclosed by a subgraph of that graph:
+ * <p>
+ *   digraph {
+ *   subgraph cluster_g1{
+ *   statement1
+ *   statement2
+ *   }
+ *   ...
+ *   }
+ * </p>
+ * The statements are streamed to the file, their input should be sorted by graph id to avoid
+ * repeatedly opening the subgraph of the same graph.
+ */
+public class DOTPartOutputFormat
+  extends CompressibleFileOutputFormat<Tuple3<GradoopId, GradoopId, String>> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Id of the graph whose subgraph is currently open, null if there is none
+   */
+  private transient GradoopId currentGraphId;
+
+  /**
+   * Constructor
+   *
+   * @param outputPath output directory
+   */
+  public DOTPartOutputFormat(String outputPath) {
+    super(new Path(Objects.requireNonNull(outputPath)), TextCompression.NONE);
+    setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    currentGraphId = null;
+    write("digraph {\n");
+  }
+
+  @Override
+  public void writeRecord(Tuple3<GradoopId, GradoopId, String> statement) throws IOException {
+    if (!statement.f0.equals(currentGraphId)) {
+      if (currentGraphId != null) {
+        write("}\n");
+      }
+      currentGraphId = statement.f0.copy();
+      write("subgraph cluster_g" + currentGraphId + "{\n");
+    }
+    write(statement.f2);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (getOutputStream() != null) {
+      write(currentGraphId != null ? "}\n}\n" : "}\n");
+    }
+    super.close();
+  }
+
+  /**
+   * Writes the string to the output stream.
+   *
+   * @param text text to write
+   * @throws IOException if the text cannot be written
+   */
+  private void write(String text) throws IOException {
+    getOutputStream().write(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Creates a DOT edge statement of an edge for each graph containing it.
+ *
+ * If the number of elements per graph is limited, the (graphId, vertexId) pairs of the written
+ * vertices are expected as broadcast set {@link #WRITTEN_VERTICES}. An edge is only written for
+ * a graph, if both of its vertices are written for that graph.
+ *
+ * edge => (graphId, edgeId, statement)*
+ */
+public class EdgeToDOT extends GraphElementToDOT<Edge> {
+  /**
+   * Name of the broadcast set containing the (graphId, vertexId) pairs of the written vertices
+   */
+  public static final String WRITTEN_VERTICES = "writtenVertices";
+  /**
+   * True, if the edges are limited to the written vertices
+   */
+  private final boolean limited;
+  /**
+   * (graphId, vertexId) pairs of the written vertices
+   */
+  private transient Set<Tuple2<GradoopId, GradoopId>> writtenVertices;
+  /**
+   * Reused to look up written vertices
+   */
+  private transient Tuple2<GradoopId, GradoopId> reuseKey;
+
+  /**
+   * Constructor
+   *
+   * @param maxElementsPerGraph maximum number of edges per graph, {@link Integer#MAX_VALUE} for no
+   *                            limit
+   */
+  public EdgeToDOT(int maxElementsPerGraph) {
+    super(maxElementsPerGraph);
+    this.limited = maxElementsPerGraph < Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (limited) {
+      writtenVertices = new HashSet<>(getRuntimeContext()
+        .<Tuple2<GradoopId, GradoopId>>getBroadcastVariable(WRITTEN_VERTICES));
+      reuseKey = new Tuple2<>();
+    }
+  }
+
+  @Override
+  boolean isWritten(Edge edge, GradoopId graphId) {
+    if (!limited) {
+      return true;
+    }
+    reuseKey.f0 = graphId;
+    reuseKey.f1 = edge.getSourceId();
+    if (!writtenVertices.contains(reuseKey)) {
+      return false;
+    }
+    reuseKey.f1 = edge.getTargetId();
+    return writtenVertices.contains(reuseKey);
+  }
+
+  @Override
+  void write(Edge edge, StringBuilder builder, String suffix) {
+    DOTFileFormat.writeEdge(edge, builder, suffix);
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates a DOT statement of a graph element for each graph containing it. The statement is
+ * written by {@link DOTFileFormat}, the ids of the nodes are suffixed by the graph id.
+ *
+ * If the number of elements per graph is limited, each task outputs at most the limit per graph
+ * and drops all further elements of that graph. The outputs of all tasks have to be limited per
+ * graph again, see {@link org.gradoop.flink.io.impl.dot.DOTDataSink}.
+ *
+ * element => (graphId, elementId, statement)*
+ *
+ * @param <E> EPGM graph element type
+ */
+public abstract class GraphElementToDOT<E extends EPGMGraphElement>
+  extends RichFlatMapFunction<E, Tuple3<GradoopId, GradoopId, String>> {
+  /**
+   * Maximum number of elements per graph, {@link Integer#MAX_VALUE} for no limit
+   */
+  private final int maxElementsPerGraph;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, String> reuseTuple;
+  /**
+   * Reused to build the statements
+   */
+  private final StringBuilder builder;
+  /**
+   * Number of elements written by this task per graph, null if the elements are not limited
+   */
+  private transient Map<GradoopId, Integer> elementCounts;
+
+  /**
+   * Constructor
+   *
+   * @param maxElementsPerGraph maximum number of elements per graph
+   */
+  GraphElementToDOT(int maxElementsPerGraph) {
+    this.maxElementsPerGraph = maxElementsPerGraph;
+    this.reuseTuple = new Tuple3<>();
+    this.builder = new StringBuilder();
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (maxElementsPerGraph < Integer.MAX_VALUE) {
+      elementCounts = new HashMap<>();
+    }
+  }
+
+  @Override
+  public void flatMap(E element, Collector<Tuple3<GradoopId, GradoopId, String>> out)
+    throws Exception {
+    if (element.getGraphIds() == null) {
+      return;
+    }
+    for (GradoopId graphId : element.getGraphIds()) {
+      if (!isWritten(element, graphId)) {
+        continue;
+      }
+      if (elementCounts != null) {
+        int count = elementCounts.getOrDefault(graphId, 0);
+        if (count >= maxElementsPerGraph) {
+          continue;
+        }
+        elementCounts.put(graphId, count + 1);
+      }
+      builder.setLength(0);
+      write(element, builder, graphId.toString());
+      reuseTuple.f0 = graphId;
+      reuseTuple.f1 = element.getId();
+      reuseTuple.f2 = builder.toString();
+      out.collect(reuseTuple);
+    }
+  }
+
+  /**
+   * Returns true, if the element is written for the graph.
+   *
+   * @param element graph element
+   * @param graphId id of a graph containing the element
+   * @return true, if the element is written
+   */
+  boolean isWritten(E element, GradoopId graphId) {
+    return true;
+  }
+
+  /**
+   * Appends the DOT statement of the element to the builder.
+   *
+   * @param element graph element
+   * @param builder string builder to append
+   * @param suffix id suffix specific for the graph
+   */
+  abstract void write(E element, StringBuilder builder, String suffix);
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+/**
+ * Creates the DOT label statement of a graph head.
+ *
+ * graphHead => (graphId, graphId, statement)
+ */
+public class GraphHeadToDOT
+  implements MapFunction<GraphHead, Tuple3<GradoopId, GradoopId, String>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<GradoopId, GradoopId, String> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<GradoopId, GradoopId, String> map(GraphHead graphHead) throws Exception {
+    StringBuilder builder = new StringBuilder();
+    DOTFileFormat.writeGraphHead(graphHead, builder);
+    reuseTuple.f0 = graphHead.getId();
+    reuseTuple.f1 = graphHead.getId();
+    reuseTuple.f2 = builder.toString();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.dot.functions;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Creates a DOT node statement of a vertex for each graph containing it.
+ *
+ * vertex => (graphId, vertexId, statement)*
+ */
+public class VertexToDOT extends GraphElementToDOT<Vertex> {
+
+  /**
+   * Constructor
+   *
+   * @param maxElementsPerGraph maximum number of vertices per graph, {@link Integer#MAX_VALUE} for
+   *                            no limit
+   */
+  public VertexToDOT(int maxElementsPerGraph) {
+    super(maxElementsPerGraph);
+  }
+
+  @Override
+  void write(Vertex vertex, StringBuilder builder, String suffix) {
+    DOTFileFormat.writeVertex(vertex, builder, suffix);
+  }
+}
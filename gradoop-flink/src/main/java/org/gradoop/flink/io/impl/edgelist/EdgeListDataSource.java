@@ -15,24 +15,25 @@
  */
 package org.gradoop.flink.io.impl.edgelist;
 
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.tuple.Tuple1;
-import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportEdge;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportVertex;
-import org.gradoop.flink.io.impl.graph.GraphDataSource;
-import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
-import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
+import org.gradoop.flink.io.impl.edgelist.functions.AssignVertexIds;
+import org.gradoop.flink.io.impl.edgelist.functions.ByEndpointRole;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateEdge;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateEdgeEndpoints;
+import org.gradoop.flink.io.impl.edgelist.functions.CreateVertex;
+import org.gradoop.flink.io.impl.edgelist.inputformats.EdgeListInputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
-import java.io.IOException;
-
 /**
  * Data source to create a {@link LogicalGraph} from an edge list.
  *
@@ -47,6 +48,11 @@ import java.io.IOException;
  * Second edge:
  * source: with id = 2
  * target: with id = 0
+ *
+ * The long ids are parsed directly from the bytes of each line. Every line is split into its two
+ * endpoints, which are grouped by their long id. Each group is a vertex and gets a new
+ * {@link GradoopId} assigned to all of its endpoints, which needs a single sort on the long ids.
+ * The edges are created by a single join of source and target endpoints on the edge id.
  */
 public class EdgeListDataSource implements DataSource {
   /**
@@ -77,48 +83,56 @@ public class EdgeListDataSource implements DataSource {
   }
 
   @Override
-  public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
-
-    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+  public LogicalGraph getLogicalGraph() {
+    String propertyKey = getPropertyKey();
 
     //--------------------------------------------------------------------------
-    // generate tuple that contains all information
+    // read (sourceId, sourceValue, targetId, targetValue) tuples
     //--------------------------------------------------------------------------
 
-    DataSet<Tuple2<Long, Long>> lineTuples = env
-      .readCsvFile(getEdgeListPath())
-      .fieldDelimiter(getTokenSeparator())
-      .types(Long.class, Long.class);
+    DataSet<Tuple4<Long, String, Long, String>> lineTuples = getConfig().getExecutionEnvironment()
+      .createInput(
+        new EdgeListInputFormat(getEdgeListPath(), getTokenSeparator(), propertyKey != null),
+        new TupleTypeInfo<>(BasicTypeInfo.LONG_TYPE_INFO, BasicTypeInfo.STRING_TYPE_INFO,
+          BasicTypeInfo.LONG_TYPE_INFO, BasicTypeInfo.STRING_TYPE_INFO));
 
     //--------------------------------------------------------------------------
-    // generate vertices
+    // assign vertex ids to the edge endpoints
     //--------------------------------------------------------------------------
 
-    DataSet<ImportVertex<Long>> importVertices = lineTuples
-      .<Tuple1<Long>>project(0)
-      .union(lineTuples.project(1))
-      .distinct()
-      .map(new CreateImportVertex<>());
+    DataSet<Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>> endpoints = lineTuples
+      .flatMap(new CreateEdgeEndpoints())
+      .groupBy(0)
+      .reduceGroup(new AssignVertexIds());
 
     //--------------------------------------------------------------------------
-    // generate edges
+    // generate vertices and edges
     //--------------------------------------------------------------------------
 
-    DataSet<ImportEdge<Long>> importEdges = DataSetUtils
-      .zipWithUniqueId(lineTuples)
-      .map(new CreateImportEdge<>());
+    DataSet<Vertex> vertices = endpoints
+      .flatMap(new CreateVertex(getConfig().getVertexFactory(), propertyKey));
 
-    //--------------------------------------------------------------------------
-    // create graph data source
-    //--------------------------------------------------------------------------
+    DataSet<Edge> edges = endpoints
+      .filter(new ByEndpointRole(true))
+      .join(endpoints.filter(new ByEndpointRole(false)))
+      .where(0).equalTo(0)
+      .with(new CreateEdge(getConfig().getEdgeFactory()));
 
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+    return getConfig().getLogicalGraphFactory().fromDataSets(vertices, edges);
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    return getConfig().getGraphCollectionFactory().fromGraph(getLogicalGraph());
+  }
+
+  /**
+   * Returns the property key used to store the vertex values.
+   *
+   * @return property key or null, if the edge list contains no vertex values
+   */
+  String getPropertyKey() {
+    return null;
   }
 
   GradoopFlinkConfig getConfig() {
@@ -15,23 +15,9 @@
  */
 package org.gradoop.flink.io.impl.edgelist;
 
-import org.apache.flink.api.java.DataSet;
-import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.api.java.tuple.Tuple4;
-import org.apache.flink.api.java.utils.DataSetUtils;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateImportEdge;
-import org.gradoop.flink.io.impl.edgelist.functions.CreateLabeledImportVertex;
-import org.gradoop.flink.io.impl.graph.GraphDataSource;
-import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
-import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
-import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
-import java.io.IOException;
-
 /**
  * Data source to create a {@link LogicalGraph} from an edge list. Vertices are annotated with a
  * string label/value, e.g.
@@ -75,47 +61,7 @@ public class VertexLabeledEdgeListDataSource extends EdgeListDataSource {
 
 
   @Override
-  public LogicalGraph getLogicalGraph() throws IOException {
-    return getGraphCollection().reduce(new ReduceCombination());
-  }
-
-  @Override
-  public GraphCollection getGraphCollection() throws IOException {
-
-    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
-
-    //--------------------------------------------------------------------------
-    // generate tuple that contains all information
-    //--------------------------------------------------------------------------
-
-    DataSet<Tuple4<Long, String, Long, String>> lineTuples = env
-      .readCsvFile(getEdgeListPath())
-      .fieldDelimiter(getTokenSeparator())
-      .types(Long.class, String.class, Long.class, String.class);
-
-    //--------------------------------------------------------------------------
-    // generate vertices
-    //--------------------------------------------------------------------------
-
-    DataSet<ImportVertex<Long>> importVertices = lineTuples
-      .<Tuple2<Long, String>>project(0, 1)
-      .union(lineTuples.<Tuple2<Long, String>>project(2, 3))
-      .distinct(0)
-      .map(new CreateLabeledImportVertex<>(propertyKey));
-
-    //--------------------------------------------------------------------------
-    // generate edges
-    //--------------------------------------------------------------------------
-
-    DataSet<ImportEdge<Long>> importEdges = DataSetUtils
-      .zipWithUniqueId(lineTuples.<Tuple2<Long, Long>>project(0, 2))
-      .map(new CreateImportEdge<>());
-
-    //--------------------------------------------------------------------------
-    // create graph data source
-    //--------------------------------------------------------------------------
-
-    return new GraphDataSource<>(importVertices, importEdges, getConfig())
-      .getGraphCollection();
+  String getPropertyKey() {
+    return propertyKey;
   }
 }
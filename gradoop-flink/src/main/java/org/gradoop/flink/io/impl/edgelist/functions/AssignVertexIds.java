@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Assigns a new vertex id to a group of edge endpoints sharing the same external vertex id. The
+ * first endpoint of each group is flagged, so that each vertex is created exactly once.
+ *
+ * (vertexId, vertexValue, edgeId, isSource)* =>
+ * (edgeId, isSource, gradoopVertexId, vertexValue, isFirst)*
+ */
+public class AssignVertexIds implements
+  GroupReduceFunction<Tuple4<Long, String, GradoopId, Boolean>,
+  Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple5<GradoopId, Boolean, GradoopId, String, Boolean> reuseTuple =
+    new Tuple5<>();
+
+  @Override
+  public void reduce(Iterable<Tuple4<Long, String, GradoopId, Boolean>> endpoints,
+    Collector<Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>> out) throws Exception {
+    reuseTuple.f2 = GradoopId.get();
+    reuseTuple.f4 = true;
+    for (Tuple4<Long, String, GradoopId, Boolean> endpoint : endpoints) {
+      reuseTuple.f0 = endpoint.f2;
+      reuseTuple.f1 = endpoint.f3;
+      reuseTuple.f3 = endpoint.f1;
+      out.collect(reuseTuple);
+      reuseTuple.f4 = false;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Filters either the source or the target endpoints of the edges.
+ *
+ * (edgeId, isSource, vertexId, vertexValue, isFirst)
+ */
+public class ByEndpointRole
+  implements FilterFunction<Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>> {
+  /**
+   * True, if source endpoints pass the filter, false for target endpoints
+   */
+  private final boolean source;
+
+  /**
+   * Constructor
+   *
+   * @param source true to keep source endpoints, false to keep target endpoints
+   */
+  public ByEndpointRole(boolean source) {
+    this.source = source;
+  }
+
+  @Override
+  public boolean filter(Tuple5<GradoopId, Boolean, GradoopId, String, Boolean> endpoint)
+    throws Exception {
+    return endpoint.f1 == source;
+  }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.util.GradoopConstants;
+
+/**
+ * Creates an edge from its source and target endpoint.
+ *
+ * (edgeId, true, sourceId, sourceValue, isFirst) |><| (edgeId, false, targetId, targetValue,
+ * isFirst) => edge
+ */
+public class CreateEdge implements
+  JoinFunction<Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>,
+  Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>, Edge> {
+  /**
+   * Creates the edges
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Constructor
+   *
+   * @param edgeFactory EPGM edge factory
+   */
+  public CreateEdge(EPGMEdgeFactory<Edge> edgeFactory) {
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  public Edge join(Tuple5<GradoopId, Boolean, GradoopId, String, Boolean> source,
+    Tuple5<GradoopId, Boolean, GradoopId, String, Boolean> target) throws Exception {
+    return edgeFactory.initEdge(source.f0, GradoopConstants.DEFAULT_EDGE_LABEL, source.f2,
+      target.f2);
+  }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Creates a new edge id for each line of the edge list and splits the line into the source and the
+ * target endpoint of the edge.
+ *
+ * (sourceId, sourceValue, targetId, targetValue) => (sourceId, sourceValue, edgeId, true),
+ *                                                   (targetId, targetValue, edgeId, false)
+ */
+public class CreateEdgeEndpoints implements
+  FlatMapFunction<Tuple4<Long, String, Long, String>, Tuple4<Long, String, GradoopId, Boolean>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<Long, String, GradoopId, Boolean> reuseTuple = new Tuple4<>();
+
+  @Override
+  public void flatMap(Tuple4<Long, String, Long, String> line,
+    Collector<Tuple4<Long, String, GradoopId, Boolean>> out) throws Exception {
+    reuseTuple.f2 = GradoopId.get();
+
+    reuseTuple.f0 = line.f0;
+    reuseTuple.f1 = line.f1;
+    reuseTuple.f3 = true;
+    out.collect(reuseTuple);
+
+    reuseTuple.f0 = line.f2;
+    reuseTuple.f1 = line.f3;
+    reuseTuple.f3 = false;
+    out.collect(reuseTuple);
+  }
+}
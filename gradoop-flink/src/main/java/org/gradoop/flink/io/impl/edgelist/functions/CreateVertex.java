@@ -0,0 +1,69 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.GradoopConstants;
+
+/**
+ * Creates a vertex from the first endpoint of each vertex. If a property key is given, the vertex
+ * value is stored as string property.
+ *
+ * (edgeId, isSource, vertexId, vertexValue, isFirst) => vertex
+ */
+public class CreateVertex
+  implements FlatMapFunction<Tuple5<GradoopId, Boolean, GradoopId, String, Boolean>, Vertex> {
+  /**
+   * Creates the vertices
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+  /**
+   * Property key of the vertex value, null if vertices have no value
+   */
+  private final String propertyKey;
+
+  /**
+   * Constructor
+   *
+   * @param vertexFactory EPGM vertex factory
+   * @param propertyKey   property key of the vertex value or null
+   */
+  public CreateVertex(EPGMVertexFactory<Vertex> vertexFactory, String propertyKey) {
+    this.vertexFactory = vertexFactory;
+    this.propertyKey = propertyKey;
+  }
+
+  @Override
+  public void flatMap(Tuple5<GradoopId, Boolean, GradoopId, String, Boolean> endpoint,
+    Collector<Vertex> out) throws Exception {
+    if (!endpoint.f4) {
+      return;
+    }
+    Properties properties = null;
+    if (propertyKey != null) {
+      properties = Properties.createWithCapacity(1);
+      properties.set(propertyKey, endpoint.f3);
+    }
+    out.collect(vertexFactory.initVertex(endpoint.f2, GradoopConstants.DEFAULT_VERTEX_LABEL,
+      properties));
+  }
+}
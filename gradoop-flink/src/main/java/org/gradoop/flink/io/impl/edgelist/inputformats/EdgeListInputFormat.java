@@ -0,0 +1,174 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.edgelist.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.CompressibleDelimitedInputFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Reads the lines of an edge list as (source id, source value, target id, target value) tuples.
+ * The ids are parsed directly from the bytes of the line, without creating intermediate strings.
+ *
+ * Each line contains either "source{sep}target" or, if vertex values are read,
+ * "source{sep}sourceValue{sep}target{sep}targetValue". Without vertex values, both values of the
+ * tuple are empty. Empty lines are skipped.
+ */
+public class EdgeListInputFormat
+  extends CompressibleDelimitedInputFormat<Tuple4<Long, String, Long, String>> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Trailing character of lines written on Windows.
+   */
+  private static final byte CARRIAGE_RETURN = '\r';
+  /**
+   * UTF-8 encoded token separator.
+   */
+  private final byte[] separator;
+  /**
+   * True, if each id is followed by a vertex value.
+   */
+  private final boolean vertexValues;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge list file or directory
+   * @param tokenSeparator separator of the tokens of a line
+   * @param vertexValues true, if each id is followed by a vertex value
+   */
+  public EdgeListInputFormat(String filePath, String tokenSeparator, boolean vertexValues) {
+    super(new Path(Objects.requireNonNull(filePath)), null);
+    this.separator = tokenSeparator.getBytes(StandardCharsets.UTF_8);
+    this.vertexValues = vertexValues;
+    if (separator.length == 0) {
+      throw new IllegalArgumentException("Token separator must not be empty.");
+    }
+  }
+
+  @Override
+  public Tuple4<Long, String, Long, String> readRecord(Tuple4<Long, String, Long, String> reuse,
+    byte[] bytes, int offset, int numBytes) throws IOException {
+    int end = offset + numBytes;
+    if (end > offset && bytes[end - 1] == CARRIAGE_RETURN) {
+      end--;
+    }
+    if (end == offset) {
+      return null;
+    }
+
+    int sourceEnd = requiredTokenEnd(bytes, offset, end);
+    reuse.f0 = parseId(bytes, offset, sourceEnd);
+    int start = sourceEnd + separator.length;
+    if (vertexValues) {
+      int valueEnd = requiredTokenEnd(bytes, start, end);
+      reuse.f1 = new String(bytes, start, valueEnd - start, StandardCharsets.UTF_8);
+      start = valueEnd + separator.length;
+    } else {
+      reuse.f1 = "";
+    }
+
+    int targetEnd = vertexValues ? requiredTokenEnd(bytes, start, end) : end;
+    reuse.f2 = parseId(bytes, start, targetEnd);
+    if (vertexValues) {
+      start = targetEnd + separator.length;
+      reuse.f3 = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    } else {
+      reuse.f3 = "";
+    }
+    return reuse;
+  }
+
+  /**
+   * Returns the index of the next token separator and fails if there is none.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end end of the line
+   * @return index of the separator
+   * @throws IOException if the line contains no further separator
+   */
+  private int requiredTokenEnd(byte[] bytes, int start, int end) throws IOException {
+    int last = end - separator.length;
+    for (int i = start; i <= last; i++) {
+      int j = 0;
+      while (j < separator.length && bytes[i + j] == separator[j]) {
+        j++;
+      }
+      if (j == separator.length) {
+        return i;
+      }
+    }
+    throw new IOException("Malformed line, missing token after '" +
+      new String(bytes, start, end - start, StandardCharsets.UTF_8) + "'");
+  }
+
+  /**
+   * Parses a decimal long id from the token.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end index after the last byte of the token
+   * @return parsed id
+   * @throws IOException if the token is not a valid long
+   */
+  private long parseId(byte[] bytes, int start, int end) throws IOException {
+    boolean negative = start < end && bytes[start] == '-';
+    int i = negative ? start + 1 : start;
+    if (i == end) {
+      throw invalidId(bytes, start, end);
+    }
+    long value = 0;
+    for (; i < end; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw invalidId(bytes, start, end);
+      }
+      // accumulate negatively, Long.MIN_VALUE has no positive counterpart
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        throw invalidId(bytes, start, end);
+      }
+      value = value * 10 - digit;
+    }
+    if (!negative) {
+      if (value == Long.MIN_VALUE) {
+        throw invalidId(bytes, start, end);
+      }
+      value = -value;
+    }
+    return value;
+  }
+
+  /**
+   * Creates the exception for an invalid id token.
+   *
+   * @param bytes line bytes
+   * @param start index of the first byte of the token
+   * @param end index after the last byte of the token
+   * @return exception
+   */
+  private static IOException invalidId(byte[] bytes, int start, int end) {
+    return new IOException("Invalid long id: " +
+      new String(bytes, start, end - start, StandardCharsets.UTF_8));
+  }
+}
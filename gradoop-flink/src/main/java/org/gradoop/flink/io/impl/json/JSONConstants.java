@@ -56,4 +56,48 @@ public class JSONConstants {
    * Key for edge target vertex id.
    */
   public static final String EDGE_TARGET = "target";
+  /**
+   * Key for the types of property values which can not be inferred from their JSON literal.
+   */
+  public static final String TYPES = "types";
+  /**
+   * Type of boolean map keys.
+   */
+  public static final String TYPE_BOOLEAN = "boolean";
+  /**
+   * Type of int map keys.
+   */
+  public static final String TYPE_INT = "int";
+  /**
+   * Type of long values.
+   */
+  public static final String TYPE_LONG = "long";
+  /**
+   * Type of float values.
+   */
+  public static final String TYPE_FLOAT = "float";
+  /**
+   * Type of double values which are not finite.
+   */
+  public static final String TYPE_DOUBLE = "double";
+  /**
+   * Type of big decimal values.
+   */
+  public static final String TYPE_BIG_DECIMAL = "bigdecimal";
+  /**
+   * Type of GradoopId values.
+   */
+  public static final String TYPE_GRADOOP_ID = "gradoopid";
+  /**
+   * Type of date values.
+   */
+  public static final String TYPE_DATE = "date";
+  /**
+   * Type of time values.
+   */
+  public static final String TYPE_TIME = "time";
+  /**
+   * Type of datetime values.
+   */
+  public static final String TYPE_DATETIME = "datetime";
 }
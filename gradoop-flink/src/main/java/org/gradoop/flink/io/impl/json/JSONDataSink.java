@@ -17,21 +17,28 @@ package org.gradoop.flink.io.impl.json;
 
 import org.apache.flink.core.fs.FileSystem;
 import org.gradoop.flink.io.api.DataSink;
-import org.gradoop.flink.io.impl.json.functions.EdgeToJSON;
-import org.gradoop.flink.io.impl.json.functions.GraphHeadToJSON;
-import org.gradoop.flink.io.impl.json.functions.VertexToJSON;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.json.outputformats.JSONEdgeOutputFormat;
+import org.gradoop.flink.io.impl.json.outputformats.JSONElementOutputFormat;
+import org.gradoop.flink.io.impl.json.outputformats.JSONGraphHeadOutputFormat;
+import org.gradoop.flink.io.impl.json.outputformats.JSONVertexOutputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * Write an EPGM representation into three separate JSON files. The format
- * is documented at {@link GraphHeadToJSON}, {@link VertexToJSON} and
- * {@link EdgeToJSON}.
+ * is documented at {@link JSONGraphHeadOutputFormat}, {@link JSONVertexOutputFormat} and
+ * {@link JSONEdgeOutputFormat}. Optionally, the files are compressed, see {@link TextCompression}.
  */
 public class JSONDataSink extends JSONBase implements DataSink {
+  /**
+   * Compression codec of the written files.
+   */
+  private final TextCompression compression;
 
   /**
    * Creates a new data sink. The graph is written into the specified directory. Paths can be local
@@ -41,10 +48,23 @@ public class JSONDataSink extends JSONBase implements DataSink {
    * @param config     Gradoop Flink configuration
    */
   public JSONDataSink(String outputPath, GradoopFlinkConfig config) {
+    this(outputPath, config, TextCompression.NONE);
+  }
+
+  /**
+   * Creates a new data sink which compresses the written files. The graph is written into the
+   * specified directory. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param outputPath  directory to write the graph to
+   * @param config      Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public JSONDataSink(String outputPath, GradoopFlinkConfig config,
+    TextCompression compression) {
     this(outputPath + DEFAULT_GRAPHS_FILE,
       outputPath + DEFAULT_VERTEX_FILE,
       outputPath + DEFAULT_EDGE_FILE,
-      config);
+      config, compression);
   }
 
   /**
@@ -57,7 +77,23 @@ public class JSONDataSink extends JSONBase implements DataSink {
    */
   public JSONDataSink(String graphHeadPath, String vertexPath, String edgePath,
     GradoopFlinkConfig config) {
+    this(graphHeadPath, vertexPath, edgePath, config, TextCompression.NONE);
+  }
+
+  /**
+   * Creates a new data sink which compresses the written files. Paths can be local (file://) or
+   * HDFS (hdfs://).
+   *
+   * @param graphHeadPath graph data file
+   * @param vertexPath    vertex data path
+   * @param edgePath      edge data file
+   * @param config        Gradoop Flink configuration
+   * @param compression   compression codec
+   */
+  public JSONDataSink(String graphHeadPath, String vertexPath, String edgePath,
+    GradoopFlinkConfig config, TextCompression compression) {
     super(graphHeadPath, vertexPath, edgePath, config);
+    this.compression = Objects.requireNonNull(compression);
   }
 
   @Override
@@ -81,11 +117,26 @@ public class JSONDataSink extends JSONBase implements DataSink {
     FileSystem.WriteMode writeMode =
       overWrite ? FileSystem.WriteMode.OVERWRITE :  FileSystem.WriteMode.NO_OVERWRITE;
 
-    graphCollection.getGraphHeads().writeAsFormattedText(getGraphHeadPath(), writeMode,
-      new GraphHeadToJSON<>());
-    graphCollection.getVertices().writeAsFormattedText(getVertexPath(), writeMode,
-      new VertexToJSON<>());
-    graphCollection.getEdges().writeAsFormattedText(getEdgePath(), writeMode,
-      new EdgeToJSON<>());
+    graphCollection.getGraphHeads()
+      .output(withWriteMode(
+        new JSONGraphHeadOutputFormat(getGraphHeadPath(), compression), writeMode));
+    graphCollection.getVertices()
+      .output(withWriteMode(new JSONVertexOutputFormat(getVertexPath(), compression), writeMode));
+    graphCollection.getEdges()
+      .output(withWriteMode(new JSONEdgeOutputFormat(getEdgePath(), compression), writeMode));
+  }
+
+  /**
+   * Sets the write mode of the output format.
+   *
+   * @param outputFormat output format
+   * @param writeMode write mode
+   * @param <T> output format type
+   * @return output format
+   */
+  private <T extends JSONElementOutputFormat<?>> T withWriteMode(T outputFormat,
+    FileSystem.WriteMode writeMode) {
+    outputFormat.setWriteMode(writeMode);
+    return outputFormat;
   }
 }
@@ -23,9 +23,9 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
-import org.gradoop.flink.io.impl.json.functions.JSONToEdge;
-import org.gradoop.flink.io.impl.json.functions.JSONToGraphHead;
-import org.gradoop.flink.io.impl.json.functions.JSONToVertex;
+import org.gradoop.flink.io.impl.json.inputformats.JSONEdgeInputFormat;
+import org.gradoop.flink.io.impl.json.inputformats.JSONGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.json.inputformats.JSONVertexInputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
@@ -33,7 +33,7 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 
 /**
  * Creates an EPGM instance from JSON files. The exact format is documented in
- * {@link JSONToGraphHead}, {@link JSONToVertex}, {@link JSONToEdge}.
+ * {@link JSONGraphHeadInputFormat}, {@link JSONVertexInputFormat}, {@link JSONEdgeInputFormat}.
  */
 public class JSONDataSource extends JSONBase implements DataSource {
 
@@ -84,17 +84,14 @@ public class JSONDataSource extends JSONBase implements DataSource {
       .createTypeInfo(getConfig().getGraphHeadFactory().getType());
 
     // read vertex, edge and graph data
-    DataSet<Vertex> vertices = env.readTextFile(getVertexPath())
-      .map(new JSONToVertex(getConfig().getVertexFactory()))
-      .returns(vertexTypeInfo);
-    DataSet<Edge> edges = env.readTextFile(getEdgePath())
-      .map(new JSONToEdge(getConfig().getEdgeFactory()))
-      .returns(edgeTypeInfo);
+    DataSet<Vertex> vertices = env
+      .createInput(new JSONVertexInputFormat(getVertexPath()), vertexTypeInfo);
+    DataSet<Edge> edges = env
+      .createInput(new JSONEdgeInputFormat(getEdgePath()), edgeTypeInfo);
     DataSet<GraphHead> graphHeads;
     if (getGraphHeadPath() != null) {
-      graphHeads = env.readTextFile(getGraphHeadPath())
-        .map(new JSONToGraphHead(getConfig().getGraphHeadFactory()))
-        .returns(graphTypeInfo);
+      graphHeads = env
+        .createInput(new JSONGraphHeadInputFormat(getGraphHeadPath()), graphTypeInfo);
     } else {
       graphHeads = env.fromElements(
         getConfig().getGraphHeadFactory().createGraphHead());
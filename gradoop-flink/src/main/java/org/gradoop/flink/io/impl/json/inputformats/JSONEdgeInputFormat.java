@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Edge} objects from JSON files. The lines need to be encoded in the following
+ * format:
+ * <p>
+ * {
+ * "id":"...",
+ * "source":"...",
+ * "target":"...",
+ * "data":{"since":2015},
+ * "meta":{"label":"knows","graphs":["...","..."]}
+ * }
+ */
+public class JSONEdgeInputFormat extends JSONElementInputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge json file or directory
+   */
+  public JSONEdgeInputFormat(String filePath) {
+    super(filePath);
+  }
+
+  @Override
+  public Edge readRecord(Edge reuse, byte[] bytes, int offset, int numBytes)
+    throws IOException {
+    if (!parseElement(bytes, offset, numBytes)) {
+      return null;
+    }
+    if (getSourceId() == null || getTargetId() == null) {
+      throw new IOException("Edge " + getId() + " misses member " +
+        (getSourceId() == null ? JSONConstants.EDGE_SOURCE : JSONConstants.EDGE_TARGET));
+    }
+    reuse.setId(getId());
+    reuse.setSourceId(getSourceId());
+    reuse.setTargetId(getTargetId());
+    reuse.setLabel(getLabel());
+    reuse.setProperties(getProperties());
+    reuse.setGraphIds(getGraphIds());
+    return reuse;
+  }
+}
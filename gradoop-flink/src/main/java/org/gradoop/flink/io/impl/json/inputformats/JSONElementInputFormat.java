@@ -0,0 +1,1061 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.compression.CompressibleDelimitedInputFormat;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base class for reading {@link Element}s from JSON files containing one document per line. The
+ * input format tokenizes the lines directly on their bytes, no document tree is built. Unknown
+ * members are skipped.
+ *
+ * The types of property values are inferred from their JSON literal: strings, booleans, null,
+ * integers (int or long, depending on their size), decimals (double), arrays (list) and objects
+ * (map with string keys). The optional member "{@value JSONConstants#TYPES}" of the meta document
+ * contains the types of values which can not be inferred, e.g. {"age":"long"}. Types of list
+ * elements and map values are given by an object keyed by index or map key, respectively. Map keys
+ * are strings, unless the types of a map are an array of the key types and the value types, e.g.
+ * [{"1":"int"},{"1":"long"}].
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class JSONElementInputFormat<E extends Element>
+  extends CompressibleDelimitedInputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Trailing character of lines written on Windows.
+   */
+  private static final byte CARRIAGE_RETURN = '\r';
+  /**
+   * Length of a quoted hexadecimal representation of a {@link GradoopId}.
+   */
+  private static final int QUOTED_ID_LENGTH = 2 * GradoopId.ID_SIZE + 2;
+  /**
+   * Quoted key of the element id.
+   */
+  private static final byte[] IDENTIFIER = quoted(JSONConstants.IDENTIFIER);
+  /**
+   * Quoted key of the edge source id.
+   */
+  private static final byte[] EDGE_SOURCE = quoted(JSONConstants.EDGE_SOURCE);
+  /**
+   * Quoted key of the edge target id.
+   */
+  private static final byte[] EDGE_TARGET = quoted(JSONConstants.EDGE_TARGET);
+  /**
+   * Quoted key of the data document.
+   */
+  private static final byte[] DATA = quoted(JSONConstants.DATA);
+  /**
+   * Quoted key of the meta document.
+   */
+  private static final byte[] META = quoted(JSONConstants.META);
+  /**
+   * Quoted key of the label.
+   */
+  private static final byte[] LABEL = quoted(JSONConstants.LABEL);
+  /**
+   * Quoted key of the graph ids.
+   */
+  private static final byte[] GRAPHS = quoted(JSONConstants.GRAPHS);
+  /**
+   * Quoted key of the property types.
+   */
+  private static final byte[] TYPES = quoted(JSONConstants.TYPES);
+  /**
+   * Bytes of the line read last.
+   */
+  private transient byte[] bytes;
+  /**
+   * Index of the first byte of the line.
+   */
+  private transient int lineStart;
+  /**
+   * End of the line.
+   */
+  private transient int end;
+  /**
+   * Current position of the tokenizer.
+   */
+  private transient int pos;
+  /**
+   * Span of the key (including quotes) of the member found last.
+   */
+  private transient int keyStart;
+  /**
+   * Span of the key (including quotes) of the member found last.
+   */
+  private transient int keyEnd;
+  /**
+   * Span of the value of the member found last.
+   */
+  private transient int valueStart;
+  /**
+   * Span of the value of the member found last.
+   */
+  private transient int valueEnd;
+  /**
+   * Span of the data document of the current line, -1 if there is none.
+   */
+  private transient int dataStart;
+  /**
+   * Span of the data document of the current line.
+   */
+  private transient int dataEnd;
+  /**
+   * Span of the types document of the current line, -1 if there is none.
+   */
+  private transient int typesStart;
+  /**
+   * Span of the types document of the current line.
+   */
+  private transient int typesEnd;
+  /**
+   * Parsed element id.
+   */
+  private transient GradoopId id;
+  /**
+   * Parsed edge source id.
+   */
+  private transient GradoopId sourceId;
+  /**
+   * Parsed edge target id.
+   */
+  private transient GradoopId targetId;
+  /**
+   * Parsed label.
+   */
+  private transient String label;
+  /**
+   * Parsed graph ids.
+   */
+  private transient GradoopIdList graphIds;
+  /**
+   * Parsed properties.
+   */
+  private transient Properties properties;
+  /**
+   * True, if object reuse is enabled.
+   */
+  private transient boolean objectReuse;
+  /**
+   * Label read last, lines are often grouped by label.
+   */
+  private transient String lastLabel;
+  /**
+   * Quoted UTF-8 bytes of the label read last.
+   */
+  private transient byte[] lastLabelBytes;
+  /**
+   * Property keys read last by their position in the data document.
+   */
+  private transient String[] lastKeys;
+  /**
+   * Quoted UTF-8 bytes of the property keys read last by their position in the data document.
+   */
+  private transient byte[][] lastKeyBytes;
+  /**
+   * Buffer for unescaped strings.
+   */
+  private transient StringBuilder chars;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the json file or directory
+   */
+  JSONElementInputFormat(String filePath) {
+    super(new Path(Objects.requireNonNull(filePath)), null);
+  }
+
+  @Override
+  public void openInputFormat() throws IOException {
+    super.openInputFormat();
+    objectReuse = getRuntimeContext().getExecutionConfig().isObjectReuseEnabled();
+    properties = objectReuse ? Properties.create() : null;
+    graphIds = objectReuse ? new GradoopIdList() : null;
+    lastKeys = new String[8];
+    lastKeyBytes = new byte[8][];
+    chars = new StringBuilder();
+  }
+
+  /**
+   * Parses the element in the specified line.
+   *
+   * @param bytes line bytes
+   * @param offset index of the first byte
+   * @param numBytes number of bytes
+   * @return false, if the line is empty
+   * @throws IOException if the line is not a valid element document
+   */
+  boolean parseElement(byte[] bytes, int offset, int numBytes) throws IOException {
+    this.bytes = bytes;
+    lineStart = offset;
+    pos = offset;
+    end = offset + numBytes;
+    if (end > offset && bytes[end - 1] == CARRIAGE_RETURN) {
+      end--;
+    }
+    skipWhitespace();
+    if (pos == end) {
+      return false;
+    }
+
+    id = null;
+    sourceId = null;
+    targetId = null;
+    label = null;
+    dataStart = -1;
+    typesStart = -1;
+    if (objectReuse) {
+      graphIds.clear();
+    } else {
+      graphIds = new GradoopIdList();
+    }
+
+    expect('{');
+    while (nextMember()) {
+      if (keyEquals(IDENTIFIER)) {
+        id = parseId(valueStart, valueEnd);
+      } else if (keyEquals(EDGE_SOURCE)) {
+        sourceId = parseId(valueStart, valueEnd);
+      } else if (keyEquals(EDGE_TARGET)) {
+        targetId = parseId(valueStart, valueEnd);
+      } else if (keyEquals(DATA)) {
+        dataStart = valueStart;
+        dataEnd = valueEnd;
+      } else if (keyEquals(META)) {
+        parseMeta(valueStart);
+      }
+    }
+    skipWhitespace();
+    if (pos != end) {
+      throw malformed("end of line");
+    }
+    if (id == null) {
+      throw malformed("member " + JSONConstants.IDENTIFIER);
+    }
+    if (label == null) {
+      throw malformed("member " + JSONConstants.LABEL);
+    }
+    parseProperties();
+    return true;
+  }
+
+  /**
+   * Returns the parsed element id.
+   *
+   * @return element id
+   */
+  GradoopId getId() {
+    return id;
+  }
+
+  /**
+   * Returns the parsed edge source id.
+   *
+   * @return source id or {@code null} if the line contains none
+   */
+  GradoopId getSourceId() {
+    return sourceId;
+  }
+
+  /**
+   * Returns the parsed edge target id.
+   *
+   * @return target id or {@code null} if the line contains none
+   */
+  GradoopId getTargetId() {
+    return targetId;
+  }
+
+  /**
+   * Returns the parsed label.
+   *
+   * @return label
+   */
+  String getLabel() {
+    return label;
+  }
+
+  /**
+   * Returns the parsed graph ids.
+   *
+   * @return graph ids
+   */
+  GradoopIdList getGraphIds() {
+    return graphIds;
+  }
+
+  /**
+   * Returns the parsed properties.
+   *
+   * @return properties
+   */
+  Properties getProperties() {
+    return properties;
+  }
+
+  /**
+   * Parses the label, graph ids and the span of the property types from the meta document.
+   *
+   * @param start index of the meta document
+   * @throws IOException if the document is malformed
+   */
+  private void parseMeta(int start) throws IOException {
+    int next = pos;
+    pos = start;
+    expect('{');
+    while (nextMember()) {
+      if (keyEquals(LABEL)) {
+        label = parseLabel(valueStart, valueEnd);
+      } else if (keyEquals(GRAPHS)) {
+        parseGraphIds(valueStart);
+      } else if (keyEquals(TYPES)) {
+        typesStart = valueStart;
+        typesEnd = valueEnd;
+      }
+    }
+    pos = next;
+  }
+
+  /**
+   * Parses the graph ids from a JSON array.
+   *
+   * @param start index of the array
+   * @throws IOException if the array is malformed
+   */
+  private void parseGraphIds(int start) throws IOException {
+    int next = pos;
+    pos = start;
+    expect('[');
+    skipWhitespace();
+    while (pos < end && bytes[pos] != ']') {
+      int idStart = pos;
+      skipValue();
+      graphIds.add(parseId(idStart, pos));
+      skipOptionalComma();
+    }
+    expect(']');
+    pos = next;
+  }
+
+  /**
+   * Parses the properties from the data document using the property types.
+   *
+   * @throws IOException if the document is malformed
+   */
+  private void parseProperties() throws IOException {
+    if (objectReuse) {
+      properties.clear();
+    } else {
+      properties = Properties.create();
+    }
+    if (dataStart < 0) {
+      return;
+    }
+    pos = dataStart;
+    expect('{');
+    for (int i = 0; nextMember(); i++) {
+      int memberKeyStart = keyStart;
+      int memberKeyEnd = keyEnd;
+      int memberValueStart = valueStart;
+      int memberValueEnd = valueEnd;
+      int next = pos;
+
+      String key = parseKey(i, memberKeyStart, memberKeyEnd);
+      PropertyValue value;
+      if (typesStart >= 0 && findMember(typesStart, bytes, memberKeyStart, memberKeyEnd)) {
+        value = parseValue(memberValueStart, memberValueEnd, valueStart, valueEnd);
+      } else {
+        value = parseValue(memberValueStart, memberValueEnd, -1, -1);
+      }
+      properties.set(key, value);
+      pos = next;
+    }
+  }
+
+  /**
+   * Parses a property value.
+   *
+   * @param start index of the first byte of the value
+   * @param end index after the last byte of the value
+   * @param typeStart index of the first byte of the type, -1 to infer the type
+   * @param typeEnd index after the last byte of the type
+   * @return property value
+   * @throws IOException if the value is malformed
+   */
+  private PropertyValue parseValue(int start, int end, int typeStart, int typeEnd)
+    throws IOException {
+    if (typeStart >= 0 && bytes[typeStart] == '"') {
+      return parseTypedValue(start, end, parseString(typeStart, typeEnd));
+    }
+    switch (bytes[start]) {
+    case '"':
+      return PropertyValue.create(parseString(start, end));
+    case '[':
+      return PropertyValue.create(parseList(start, typeStart));
+    case '{':
+      return PropertyValue.create(parseMap(start, typeStart));
+    case 't':
+      return PropertyValue.create(parseLiteral(start, end, "true", true));
+    case 'f':
+      return PropertyValue.create(parseLiteral(start, end, "false", false));
+    case 'n':
+      return PropertyValue.create(parseLiteral(start, end, "null", null));
+    default:
+      return parseNumber(start, end);
+    }
+  }
+
+  /**
+   * Parses a property value of the specified type.
+   *
+   * @param start index of the first byte of the value
+   * @param end index after the last byte of the value
+   * @param type value type
+   * @return property value
+   * @throws IOException if the value is malformed or the type is not supported
+   */
+  private PropertyValue parseTypedValue(int start, int end, String type) throws IOException {
+    switch (type) {
+    case JSONConstants.TYPE_LONG:
+      return PropertyValue.create(parseLong(start, end));
+    case JSONConstants.TYPE_FLOAT:
+      return PropertyValue.create(Float.parseFloat(parseText(start, end)));
+    case JSONConstants.TYPE_DOUBLE:
+      return PropertyValue.create(Double.parseDouble(parseText(start, end)));
+    case JSONConstants.TYPE_BIG_DECIMAL:
+      return PropertyValue.create(new BigDecimal(parseText(start, end)));
+    case JSONConstants.TYPE_GRADOOP_ID:
+      return PropertyValue.create(parseId(start, end));
+    case JSONConstants.TYPE_DATE:
+      return PropertyValue.create(LocalDate.parse(parseText(start, end)));
+    case JSONConstants.TYPE_TIME:
+      return PropertyValue.create(LocalTime.parse(parseText(start, end)));
+    case JSONConstants.TYPE_DATETIME:
+      return PropertyValue.create(LocalDateTime.parse(parseText(start, end)));
+    default:
+      throw new IOException("Type " + type + " is not supported");
+    }
+  }
+
+  /**
+   * Parses a JSON array into a list of property values.
+   *
+   * @param start index of the array
+   * @param typeStart index of the types object of the elements, -1 to infer the types
+   * @return list of property values
+   * @throws IOException if the array is malformed
+   */
+  private List<PropertyValue> parseList(int start, int typeStart) throws IOException {
+    int next = pos;
+    pos = start;
+    expect('[');
+    skipWhitespace();
+    List<PropertyValue> list = new ArrayList<>();
+    for (int i = 0; pos < end && bytes[pos] != ']'; i++) {
+      int elementStart = pos;
+      skipValue();
+      int elementEnd = pos;
+      byte[] index = ('"' + Integer.toString(i) + '"').getBytes(StandardCharsets.US_ASCII);
+      if (typeStart >= 0 && findMember(typeStart, index, 0, index.length)) {
+        list.add(parseValue(elementStart, elementEnd, valueStart, valueEnd));
+      } else {
+        list.add(parseValue(elementStart, elementEnd, -1, -1));
+      }
+      pos = elementEnd;
+      skipOptionalComma();
+    }
+    expect(']');
+    pos = next;
+    return list;
+  }
+
+  /**
+   * Parses a JSON object into a map of property values.
+   *
+   * @param start index of the object
+   * @param typeStart index of the types object of the values or of the types array of the keys
+   *                  and values, -1 to infer the types
+   * @return map of property values
+   * @throws IOException if the object is malformed
+   */
+  private Map<PropertyValue, PropertyValue> parseMap(int start, int typeStart)
+    throws IOException {
+    int next = pos;
+    int keyTypeStart = -1;
+    int valueTypeStart = typeStart;
+    if (typeStart >= 0 && bytes[typeStart] == '[') {
+      pos = typeStart;
+      expect('[');
+      skipWhitespace();
+      keyTypeStart = pos;
+      skipValue();
+      skipWhitespace();
+      expect(',');
+      skipWhitespace();
+      valueTypeStart = pos;
+    }
+    pos = start;
+    expect('{');
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    while (nextMember()) {
+      int memberKeyStart = keyStart;
+      int memberKeyEnd = keyEnd;
+      int memberValueStart = valueStart;
+      int memberValueEnd = valueEnd;
+      int memberEnd = pos;
+
+      PropertyValue key;
+      if (keyTypeStart >= 0 && findMember(keyTypeStart, bytes, memberKeyStart, memberKeyEnd)) {
+        key = parseMapKey(memberKeyStart, memberKeyEnd, parseString(valueStart, valueEnd));
+      } else {
+        key = PropertyValue.create(parseString(memberKeyStart, memberKeyEnd));
+      }
+      if (valueTypeStart >= 0 &&
+        findMember(valueTypeStart, bytes, memberKeyStart, memberKeyEnd)) {
+        map.put(key, parseValue(memberValueStart, memberValueEnd, valueStart, valueEnd));
+      } else {
+        map.put(key, parseValue(memberValueStart, memberValueEnd, -1, -1));
+      }
+      pos = memberEnd;
+    }
+    pos = next;
+    return map;
+  }
+
+  /**
+   * Parses a map key of the specified type.
+   *
+   * @param start index of the opening quote of the key
+   * @param end index after the closing quote of the key
+   * @param type key type
+   * @return property value
+   * @throws IOException if the key is malformed or the type is not supported
+   */
+  private PropertyValue parseMapKey(int start, int end, String type) throws IOException {
+    switch (type) {
+    case JSONConstants.TYPE_BOOLEAN:
+      return PropertyValue.create(Boolean.parseBoolean(parseString(start, end)));
+    case JSONConstants.TYPE_INT:
+      return PropertyValue.create(Integer.parseInt(parseString(start, end)));
+    case JSONConstants.TYPE_LONG:
+      return PropertyValue.create(Long.parseLong(parseString(start, end)));
+    default:
+      return parseTypedValue(start, end, type);
+    }
+  }
+
+  /**
+   * Parses a number, integers are parsed to int or long, decimals to double.
+   *
+   * @param start index of the first byte of the number
+   * @param end index after the last byte of the number
+   * @return property value
+   * @throws IOException if the number is malformed
+   */
+  private PropertyValue parseNumber(int start, int end) throws IOException {
+    for (int i = start; i < end; i++) {
+      if (bytes[i] == '.' || bytes[i] == 'e' || bytes[i] == 'E') {
+        return PropertyValue.create(Double.parseDouble(parseText(start, end)));
+      }
+    }
+    long value;
+    try {
+      value = parseLong(start, end);
+    } catch (NumberFormatException e) {
+      return PropertyValue.create(Double.parseDouble(parseText(start, end)));
+    }
+    return value == (int) value ?
+      PropertyValue.create((int) value) : PropertyValue.create(value);
+  }
+
+  /**
+   * Parses a long value from a JSON integer.
+   *
+   * @param start index of the first byte of the number
+   * @param end index after the last byte of the number
+   * @return long value
+   * @throws NumberFormatException if the number is not a valid long value
+   */
+  private long parseLong(int start, int end) {
+    int i = start;
+    boolean negative = i < end && bytes[i] == '-';
+    if (negative) {
+      i++;
+    }
+    if (i == end) {
+      throw numberFormatException(start, end);
+    }
+
+    // accumulate negatively to cover Long.MIN_VALUE
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long result = 0;
+    while (i < end) {
+      int digit = bytes[i++] - '0';
+      if (digit < 0 || digit > 9 || result < limit / 10 || result * 10 < limit + digit) {
+        throw numberFormatException(start, end);
+      }
+      result = result * 10 - digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Creates an exception for an invalid number.
+   *
+   * @param start index of the first byte of the number
+   * @param end index after the last byte of the number
+   * @return exception
+   */
+  private NumberFormatException numberFormatException(int start, int end) {
+    return new NumberFormatException("For input string: \"" +
+      new String(bytes, start, end - start, StandardCharsets.UTF_8) + "\"");
+  }
+
+  /**
+   * Checks that the span contains the specified literal.
+   *
+   * @param start index of the first byte of the literal
+   * @param end index after the last byte of the literal
+   * @param literal expected literal
+   * @param value value of the literal
+   * @param <T> value type
+   * @return value of the literal
+   * @throws IOException if the span does not contain the literal
+   */
+  private <T> T parseLiteral(int start, int end, String literal, T value) throws IOException {
+    if (end - start != literal.length()) {
+      throw malformed(literal);
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if (bytes[start + i] != literal.charAt(i)) {
+        throw malformed(literal);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Parses a quoted hexadecimal {@link GradoopId}.
+   *
+   * @param start index of the opening quote
+   * @param end index after the closing quote
+   * @return parsed id
+   * @throws IOException if the span is not a valid id
+   */
+  private GradoopId parseId(int start, int end) throws IOException {
+    if (end - start != QUOTED_ID_LENGTH || bytes[start] != '"') {
+      throw new IOException("Invalid GradoopId: " +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    }
+    try {
+      return GradoopId.fromHexBytes(bytes, start + 1);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid GradoopId: " +
+        new String(bytes, start, end - start, StandardCharsets.UTF_8), e);
+    }
+  }
+
+  /**
+   * Parses the label, reusing the label read last if it is equal.
+   *
+   * @param start index of the opening quote
+   * @param end index after the closing quote
+   * @return label
+   * @throws IOException if the label is not a valid string
+   */
+  private String parseLabel(int start, int end) throws IOException {
+    if (lastLabelBytes == null || !rangeEquals(lastLabelBytes, start, end)) {
+      lastLabel = parseString(start, end);
+      lastLabelBytes = Arrays.copyOfRange(bytes, start, end);
+    }
+    return lastLabel;
+  }
+
+  /**
+   * Parses a property key, reusing the key read last at the same position if it is equal.
+   *
+   * @param index position of the key in the data document
+   * @param start index of the opening quote
+   * @param end index after the closing quote
+   * @return property key
+   * @throws IOException if the key is not a valid string
+   */
+  private String parseKey(int index, int start, int end) throws IOException {
+    if (index >= lastKeys.length) {
+      lastKeys = Arrays.copyOf(lastKeys, 2 * lastKeys.length);
+      lastKeyBytes = Arrays.copyOf(lastKeyBytes, 2 * lastKeyBytes.length);
+    }
+    if (lastKeyBytes[index] == null || !rangeEquals(lastKeyBytes[index], start, end)) {
+      lastKeys[index] = parseString(start, end);
+      lastKeyBytes[index] = Arrays.copyOfRange(bytes, start, end);
+    }
+    return lastKeys[index];
+  }
+
+  /**
+   * Returns the unquoted string or the text of any other value.
+   *
+   * @param start index of the first byte of the value
+   * @param end index after the last byte of the value
+   * @return text
+   * @throws IOException if the value is an invalid string
+   */
+  private String parseText(int start, int end) throws IOException {
+    return bytes[start] == '"' ?
+      parseString(start, end) : new String(bytes, start, end - start, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Parses a quoted JSON string.
+   *
+   * @param start index of the opening quote
+   * @param end index after the closing quote
+   * @return unquoted and unescaped string
+   * @throws IOException if the span is not a valid string
+   */
+  private String parseString(int start, int end) throws IOException {
+    if (end - start < 2 || bytes[start] != '"' || bytes[end - 1] != '"') {
+      throw malformed("string");
+    }
+    int segmentStart = start + 1;
+    int last = end - 1;
+    int i = segmentStart;
+    while (i < last && bytes[i] != '\\') {
+      i++;
+    }
+    if (i == last) {
+      return new String(bytes, segmentStart, last - segmentStart, StandardCharsets.UTF_8);
+    }
+
+    chars.setLength(0);
+    while (i < last) {
+      if (bytes[i] != '\\') {
+        i++;
+        continue;
+      }
+      chars.append(new String(bytes, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+      byte escapedByte = i + 1 < last ? bytes[i + 1] : 0;
+      switch (escapedByte) {
+      case '"':
+      case '\\':
+      case '/':
+        chars.append((char) escapedByte);
+        break;
+      case 'b':
+        chars.append('\b');
+        break;
+      case 'f':
+        chars.append('\f');
+        break;
+      case 'n':
+        chars.append('\n');
+        break;
+      case 'r':
+        chars.append('\r');
+        break;
+      case 't':
+        chars.append('\t');
+        break;
+      case 'u':
+        chars.append(parseUnicodeEscape(i + 2, last));
+        i += 4;
+        break;
+      default:
+        throw malformed("escape sequence");
+      }
+      i += 2;
+      segmentStart = i;
+    }
+    chars.append(new String(bytes, segmentStart, last - segmentStart, StandardCharsets.UTF_8));
+    return chars.toString();
+  }
+
+  /**
+   * Parses the four hexadecimal digits of a unicode escape sequence.
+   *
+   * @param start index of the first digit
+   * @param last index of the closing quote
+   * @return escaped character
+   * @throws IOException if the digits are invalid
+   */
+  private char parseUnicodeEscape(int start, int last) throws IOException {
+    if (start + 4 > last) {
+      throw malformed("unicode escape sequence");
+    }
+    int value = 0;
+    for (int i = start; i < start + 4; i++) {
+      int digit = Character.digit((char) bytes[i], 16);
+      if (digit < 0) {
+        throw malformed("unicode escape sequence");
+      }
+      value = (value << 4) | digit;
+    }
+    return (char) value;
+  }
+
+  /**
+   * Looks up a member of a JSON object by its quoted key. The span of the value of the member is
+   * stored in {@link #valueStart} and {@link #valueEnd}.
+   *
+   * @param objectStart index of the object
+   * @param key bytes containing the quoted key
+   * @param start index of the opening quote of the key
+   * @param end index after the closing quote of the key
+   * @return true, if the object contains the key
+   * @throws IOException if the object is malformed
+   */
+  private boolean findMember(int objectStart, byte[] key, int start, int end)
+    throws IOException {
+    int next = pos;
+    pos = objectStart;
+    expect('{');
+    boolean found = false;
+    while (!found && nextMember()) {
+      found = keyEnd - keyStart == end - start &&
+        rangeEquals(key, start, bytes, keyStart, keyEnd - keyStart);
+    }
+    pos = next;
+    return found;
+  }
+
+  /**
+   * Moves to the next member of the current JSON object and stores the spans of its key and value.
+   *
+   * @return false, if the end of the object was reached
+   * @throws IOException if the object is malformed
+   */
+  private boolean nextMember() throws IOException {
+    skipWhitespace();
+    if (pos < end && bytes[pos] == '}') {
+      pos++;
+      return false;
+    }
+    keyStart = pos;
+    skipString();
+    keyEnd = pos;
+    skipWhitespace();
+    expect(':');
+    skipWhitespace();
+    valueStart = pos;
+    skipValue();
+    valueEnd = pos;
+    skipOptionalComma();
+    return true;
+  }
+
+  /**
+   * Skips a JSON value of any kind.
+   *
+   * @throws IOException if the value is malformed
+   */
+  private void skipValue() throws IOException {
+    if (pos == end) {
+      throw malformed("value");
+    }
+    byte b = bytes[pos];
+    if (b == '"') {
+      skipString();
+    } else if (b == '{' || b == '[') {
+      int depth = 0;
+      while (pos < end) {
+        b = bytes[pos];
+        if (b == '"') {
+          skipString();
+          continue;
+        }
+        pos++;
+        if (b == '{' || b == '[') {
+          depth++;
+        } else if ((b == '}' || b == ']') && --depth == 0) {
+          return;
+        }
+      }
+      throw malformed("end of object or array");
+    } else {
+      int start = pos;
+      while (pos < end && !isStructural(bytes[pos])) {
+        pos++;
+      }
+      if (pos == start) {
+        throw malformed("value");
+      }
+    }
+  }
+
+  /**
+   * Skips a quoted JSON string.
+   *
+   * @throws IOException if there is no string at the current position
+   */
+  private void skipString() throws IOException {
+    if (pos == end || bytes[pos] != '"') {
+      throw malformed("string");
+    }
+    for (int i = pos + 1; i < end; i++) {
+      if (bytes[i] == '\\') {
+        i++;
+      } else if (bytes[i] == '"') {
+        pos = i + 1;
+        return;
+      }
+    }
+    throw malformed("end of string");
+  }
+
+  /**
+   * Skips whitespace and a following comma.
+   */
+  private void skipOptionalComma() {
+    skipWhitespace();
+    if (pos < end && bytes[pos] == ',') {
+      pos++;
+      skipWhitespace();
+    }
+  }
+
+  /**
+   * Skips whitespace.
+   */
+  private void skipWhitespace() {
+    while (pos < end && isWhitespace(bytes[pos])) {
+      pos++;
+    }
+  }
+
+  /**
+   * Consumes the expected character.
+   *
+   * @param expected expected character
+   * @throws IOException if the current character is different
+   */
+  private void expect(char expected) throws IOException {
+    if (pos == end || bytes[pos] != expected) {
+      throw malformed("'" + expected + "'");
+    }
+    pos++;
+  }
+
+  /**
+   * Checks if the key of the member found last equals the specified quoted key.
+   *
+   * @param key quoted key
+   * @return true, if the keys are equal
+   */
+  private boolean keyEquals(byte[] key) {
+    return rangeEquals(key, keyStart, keyEnd);
+  }
+
+  /**
+   * Checks if the specified span of the current line equals the given bytes.
+   *
+   * @param expected expected bytes
+   * @param start index of the first byte
+   * @param end index after the last byte
+   * @return true, if the bytes are equal
+   */
+  private boolean rangeEquals(byte[] expected, int start, int end) {
+    return expected.length == end - start &&
+      rangeEquals(expected, 0, bytes, start, expected.length);
+  }
+
+  /**
+   * Creates an exception for a malformed line.
+   *
+   * @param expected description of the expected token
+   * @return exception
+   */
+  private IOException malformed(String expected) {
+    return new IOException("Malformed JSON line, expected " + expected + " at position " +
+      (pos - lineStart) + ": " + new String(bytes, lineStart, end - lineStart,
+      StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Checks if the specified byte ranges are equal.
+   *
+   * @param left first bytes
+   * @param leftOffset index of the first byte in the first bytes
+   * @param right second bytes
+   * @param rightOffset index of the first byte in the second bytes
+   * @param length number of bytes to compare
+   * @return true, if the ranges are equal
+   */
+  private static boolean rangeEquals(byte[] left, int leftOffset, byte[] right, int rightOffset,
+    int length) {
+    for (int i = 0; i < length; i++) {
+      if (left[leftOffset + i] != right[rightOffset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the byte terminates a literal.
+   *
+   * @param b byte
+   * @return true, if the byte is whitespace or a structural character
+   */
+  private static boolean isStructural(byte b) {
+    return b == ',' || b == '}' || b == ']' || b == ':' || isWhitespace(b);
+  }
+
+  /**
+   * Checks if the byte is JSON whitespace.
+   *
+   * @param b byte
+   * @return true, if the byte is whitespace
+   */
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+  }
+
+  /**
+   * Returns the UTF-8 bytes of the quoted key.
+   *
+   * @param key key
+   * @return quoted key bytes
+   */
+  private static byte[] quoted(String key) {
+    return ('"' + key + '"').getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.inputformats;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Vertex} objects from JSON files. The lines need to be encoded in the following
+ * format:
+ * <p>
+ * {
+ * "id":"...",
+ * "data":{"name":"Alice","gender":"female","age":42},
+ * "meta":{"label":"Employee","graphs":["...","..."]}
+ * }
+ */
+public class JSONVertexInputFormat extends JSONElementInputFormat<Vertex> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the vertex json file or directory
+   */
+  public JSONVertexInputFormat(String filePath) {
+    super(filePath);
+  }
+
+  @Override
+  public Vertex readRecord(Vertex reuse, byte[] bytes, int offset, int numBytes)
+    throws IOException {
+    if (!parseElement(bytes, offset, numBytes)) {
+      return null;
+    }
+    reuse.setId(getId());
+    reuse.setLabel(getLabel());
+    reuse.setProperties(getProperties());
+    reuse.setGraphIds(getGraphIds());
+    return reuse;
+  }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer used to encode JSON documents without intermediate strings.
+ */
+class JSONBuffer {
+  /**
+   * Hexadecimal digits used in unicode escape sequences.
+   */
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  /**
+   * Buffered bytes.
+   */
+  private byte[] bytes = new byte[256];
+  /**
+   * Number of buffered bytes.
+   */
+  private int length;
+
+  /**
+   * Returns the number of buffered bytes.
+   *
+   * @return number of bytes
+   */
+  int length() {
+    return length;
+  }
+
+  /**
+   * Truncates the buffer, used to discard bytes written speculatively.
+   *
+   * @param newLength new number of bytes, not larger than the current length
+   */
+  void setLength(int newLength) {
+    length = newLength;
+  }
+
+  /**
+   * Appends a single byte.
+   *
+   * @param b byte
+   */
+  void writeByte(int b) {
+    ensureCapacity(1);
+    bytes[length++] = (byte) b;
+  }
+
+  /**
+   * Appends a string consisting of ASCII characters only, without quotes and escaping.
+   *
+   * @param ascii ASCII string
+   */
+  void writeAscii(String ascii) {
+    ensureCapacity(ascii.length());
+    for (int i = 0; i < ascii.length(); i++) {
+      bytes[length++] = (byte) ascii.charAt(i);
+    }
+  }
+
+  /**
+   * Appends the decimal representation of a long value.
+   *
+   * @param value long value
+   */
+  void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    ensureCapacity(20);
+    if (value < 0) {
+      bytes[length++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    for (int i = length + digits - 1; i >= length; i--) {
+      bytes[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    length += digits;
+  }
+
+  /**
+   * Appends a quoted and escaped JSON string in UTF-8.
+   *
+   * @param string string
+   */
+  void writeString(String string) {
+    ensureCapacity(string.length() + 2);
+    bytes[length++] = '"';
+    for (int i = 0; i < string.length(); i++) {
+      char c = string.charAt(i);
+      if (c < 0x80) {
+        writeEscapedAscii(c);
+      } else if (c < 0x800) {
+        ensureCapacity(2);
+        bytes[length++] = (byte) (0xc0 | (c >> 6));
+        bytes[length++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < string.length() &&
+        Character.isLowSurrogate(string.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, string.charAt(++i));
+        ensureCapacity(4);
+        bytes[length++] = (byte) (0xf0 | (codePoint >> 18));
+        bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+        bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+        bytes[length++] = (byte) (0x80 | (codePoint & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        // unpaired surrogates are replaced like in String#getBytes
+        writeByte('?');
+      } else {
+        ensureCapacity(3);
+        bytes[length++] = (byte) (0xe0 | (c >> 12));
+        bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        bytes[length++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    writeByte('"');
+  }
+
+  /**
+   * Appends the content of another buffer.
+   *
+   * @param other buffer
+   */
+  void write(JSONBuffer other) {
+    ensureCapacity(other.length);
+    System.arraycopy(other.bytes, 0, bytes, length, other.length);
+    length += other.length;
+  }
+
+  /**
+   * Writes the buffered bytes to the stream.
+   *
+   * @param stream output stream
+   * @throws IOException on failure
+   */
+  void writeTo(OutputStream stream) throws IOException {
+    stream.write(bytes, 0, length);
+  }
+
+  /**
+   * Appends an ASCII character, escaped if necessary.
+   *
+   * @param c ASCII character
+   */
+  private void writeEscapedAscii(char c) {
+    ensureCapacity(6);
+    if (c == '"' || c == '\\') {
+      bytes[length++] = '\\';
+      bytes[length++] = (byte) c;
+    } else if (c >= 0x20) {
+      bytes[length++] = (byte) c;
+    } else if (c == '\n') {
+      bytes[length++] = '\\';
+      bytes[length++] = 'n';
+    } else if (c == '\r') {
+      bytes[length++] = '\\';
+      bytes[length++] = 'r';
+    } else if (c == '\t') {
+      bytes[length++] = '\\';
+      bytes[length++] = 't';
+    } else {
+      bytes[length++] = '\\';
+      bytes[length++] = 'u';
+      bytes[length++] = '0';
+      bytes[length++] = '0';
+      bytes[length++] = HEX_DIGITS[c >> 4];
+      bytes[length++] = HEX_DIGITS[c & 0xf];
+    }
+  }
+
+  /**
+   * Grows the buffer if it can not take the specified number of additional bytes.
+   *
+   * @param additional number of additional bytes
+   */
+  private void ensureCapacity(int additional) {
+    if (length + additional > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(length + additional, 2 * bytes.length));
+    }
+  }
+}
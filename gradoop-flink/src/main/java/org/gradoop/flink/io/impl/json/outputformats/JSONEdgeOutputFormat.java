@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+/**
+ * Writes {@link Edge} objects to JSON files in the following format:
+ * <p>
+ * {
+ * "id":"...",
+ * "source":"...",
+ * "target":"...",
+ * "data":{"since":2015},
+ * "meta":{"label":"knows","graphs":["...","..."]}
+ * }
+ */
+public class JSONEdgeOutputFormat extends JSONElementOutputFormat<Edge> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge json file or directory
+   */
+  public JSONEdgeOutputFormat(String filePath) {
+    this(filePath, TextCompression.NONE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the edge json file or directory
+   * @param compression compression codec
+   */
+  public JSONEdgeOutputFormat(String filePath, TextCompression compression) {
+    super(filePath, compression);
+  }
+
+  @Override
+  void writeHead(Edge edge) {
+    writeIdMember(JSONConstants.EDGE_SOURCE, edge.getSourceId());
+    writeIdMember(JSONConstants.EDGE_TARGET, edge.getTargetId());
+  }
+
+  @Override
+  void writeMeta(Edge edge) {
+    writeGraphIds(edge.getGraphIds());
+  }
+}
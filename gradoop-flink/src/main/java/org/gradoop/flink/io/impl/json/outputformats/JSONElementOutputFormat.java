@@ -0,0 +1,450 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.compression.CompressibleFileOutputFormat;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.json.JSONConstants;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base class for writing {@link Element}s to JSON files, one document per line. The documents are
+ * encoded into a reused buffer and written directly to the (optionally compressed) output stream.
+ *
+ * Property values are written as JSON literals. The types of values which can not be inferred
+ * from their literal (e.g. long, float, GradoopId or date values) are written to the member
+ * "{@value JSONConstants#TYPES}" of the meta document, see
+ * {@link org.gradoop.flink.io.impl.json.inputformats.JSONElementInputFormat}. Map keys are written
+ * as strings, the types of keys which are not strings are written to the types as well.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class JSONElementOutputFormat<E extends Element>
+  extends CompressibleFileOutputFormat<E> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Buffer for the current document.
+   */
+  private transient JSONBuffer document;
+  /**
+   * Buffer for the property types of the current document.
+   */
+  private transient JSONBuffer types;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the json file or directory
+   * @param compression compression codec
+   */
+  JSONElementOutputFormat(String filePath, TextCompression compression) {
+    super(new Path(Objects.requireNonNull(filePath)), compression);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    document = new JSONBuffer();
+    types = new JSONBuffer();
+  }
+
+  @Override
+  public void writeRecord(E element) throws IOException {
+    document.setLength(0);
+    types.setLength(0);
+
+    document.writeByte('{');
+    writeKey(document, JSONConstants.IDENTIFIER);
+    writeId(document, element.getId());
+    writeHead(element);
+    document.writeByte(',');
+    writeKey(document, JSONConstants.DATA);
+    writeProperties(element.getProperties());
+    document.writeByte(',');
+    writeKey(document, JSONConstants.META);
+    document.writeByte('{');
+    writeKey(document, JSONConstants.LABEL);
+    document.writeString(element.getLabel());
+    writeMeta(element);
+    if (types.length() > 0) {
+      document.writeByte(',');
+      writeKey(document, JSONConstants.TYPES);
+      document.write(types);
+    }
+    document.writeByte('}');
+    document.writeByte('}');
+    document.writeByte('\n');
+    document.writeTo(getOutputStream());
+  }
+
+  /**
+   * Writes members following the element id, e.g. the source and target id of edges.
+   *
+   * @param element element
+   */
+  void writeHead(E element) {
+  }
+
+  /**
+   * Writes members of the meta document following the label, e.g. graph ids.
+   *
+   * @param element element
+   */
+  void writeMeta(E element) {
+  }
+
+  /**
+   * Writes a member containing an id.
+   *
+   * @param key member key
+   * @param id id
+   */
+  void writeIdMember(String key, GradoopId id) {
+    document.writeByte(',');
+    writeKey(document, key);
+    writeId(document, id);
+  }
+
+  /**
+   * Writes a member containing the graph ids, if there are any.
+   *
+   * @param graphIds graph ids
+   */
+  void writeGraphIds(GradoopIdList graphIds) {
+    if (graphIds == null || graphIds.isEmpty()) {
+      return;
+    }
+    document.writeByte(',');
+    writeKey(document, JSONConstants.GRAPHS);
+    document.writeByte('[');
+    boolean first = true;
+    for (GradoopId graphId : graphIds) {
+      if (!first) {
+        document.writeByte(',');
+      }
+      writeId(document, graphId);
+      first = false;
+    }
+    document.writeByte(']');
+  }
+
+  /**
+   * Writes the data document and collects the property types.
+   *
+   * @param properties properties, may be {@code null}
+   */
+  private void writeProperties(Properties properties) {
+    document.writeByte('{');
+    int dataStart = document.length();
+    int typesStart = types.length();
+    types.writeByte('{');
+    if (properties != null) {
+      properties.forEachEntry((key, value) -> {
+        if (document.length() > dataStart) {
+          document.writeByte(',');
+        }
+        document.writeString(key);
+        document.writeByte(':');
+        writeTypedValue(typesStart, key, value);
+      });
+    }
+    document.writeByte('}');
+    closeTypes(typesStart);
+  }
+
+  /**
+   * Writes a value and, if necessary, its type as a member of the types object starting at the
+   * specified position.
+   *
+   * @param typesStart position of the enclosing types object
+   * @param key member key of the type
+   * @param value property value
+   */
+  private void writeTypedValue(int typesStart, String key, PropertyValue value) {
+    int mark = types.length();
+    if (mark > typesStart + 1) {
+      types.writeByte(',');
+    }
+    types.writeString(key);
+    types.writeByte(':');
+    if (!writeValue(value)) {
+      types.setLength(mark);
+    }
+  }
+
+  /**
+   * Writes a value to the document and its type to the types buffer, if it can not be inferred.
+   *
+   * @param value property value
+   * @return true, if a type was written
+   */
+  private boolean writeValue(PropertyValue value) {
+    if (value.isNull()) {
+      document.writeAscii("null");
+    } else if (value.isBoolean()) {
+      document.writeAscii(value.getBoolean() ? "true" : "false");
+    } else if (value.isInt()) {
+      document.writeLong(value.getInt());
+    } else if (value.isLong()) {
+      document.writeLong(value.getLong());
+      return writeType(JSONConstants.TYPE_LONG);
+    } else if (value.isFloat()) {
+      float f = value.getFloat();
+      writeNumber(Float.toString(f), Float.isFinite(f));
+      return writeType(JSONConstants.TYPE_FLOAT);
+    } else if (value.isDouble()) {
+      double d = value.getDouble();
+      writeNumber(Double.toString(d), Double.isFinite(d));
+      if (!Double.isFinite(d)) {
+        return writeType(JSONConstants.TYPE_DOUBLE);
+      }
+    } else if (value.isString()) {
+      document.writeString(value.getString());
+    } else if (value.isBigDecimal()) {
+      document.writeAscii(value.getBigDecimal().toString());
+      return writeType(JSONConstants.TYPE_BIG_DECIMAL);
+    } else if (value.isGradoopId()) {
+      writeId(document, value.getGradoopId());
+      return writeType(JSONConstants.TYPE_GRADOOP_ID);
+    } else if (value.isDate()) {
+      document.writeString(value.getDate().toString());
+      return writeType(JSONConstants.TYPE_DATE);
+    } else if (value.isTime()) {
+      document.writeString(value.getTime().toString());
+      return writeType(JSONConstants.TYPE_TIME);
+    } else if (value.isDateTime()) {
+      document.writeString(value.getDateTime().toString());
+      return writeType(JSONConstants.TYPE_DATETIME);
+    } else if (value.isList()) {
+      return writeList(value);
+    } else if (value.isMap()) {
+      return writeMap(value);
+    } else {
+      throw new IllegalArgumentException("Type " + value.getType() + " is not supported");
+    }
+    return false;
+  }
+
+  /**
+   * Writes a list as JSON array, types of the elements are keyed by their index.
+   *
+   * @param value list property value
+   * @return true, if a type was written
+   */
+  private boolean writeList(PropertyValue value) {
+    document.writeByte('[');
+    int typesStart = types.length();
+    types.writeByte('{');
+    int index = 0;
+    for (PropertyValue element : value.getList()) {
+      if (index > 0) {
+        document.writeByte(',');
+      }
+      writeTypedValue(typesStart, Integer.toString(index), element);
+      index++;
+    }
+    document.writeByte(']');
+    return closeTypes(typesStart);
+  }
+
+  /**
+   * Writes a map as JSON object, the keys are written as strings. If the map contains keys which
+   * are not strings, the types are written as array of the key types and the value types, both
+   * keyed by map key.
+   *
+   * @param value map property value
+   * @return true, if a type was written
+   */
+  private boolean writeMap(PropertyValue value) {
+    Map<PropertyValue, PropertyValue> map = value.getMap();
+    boolean typedKeys = writeKeyTypes(map);
+    document.writeByte('{');
+    int typesStart = types.length();
+    types.writeByte('{');
+    boolean first = true;
+    for (Map.Entry<PropertyValue, PropertyValue> entry : map.entrySet()) {
+      if (!first) {
+        document.writeByte(',');
+      }
+      String key = getKeyText(entry.getKey());
+      document.writeString(key);
+      document.writeByte(':');
+      writeTypedValue(typesStart, key, entry.getValue());
+      first = false;
+    }
+    document.writeByte('}');
+    if (typedKeys) {
+      types.writeAscii("}]");
+      return true;
+    }
+    return closeTypes(typesStart);
+  }
+
+  /**
+   * Opens the types array of a map and writes the types of its keys, if the map contains keys
+   * which are not strings.
+   *
+   * @param map map
+   * @return true, if the key types were written
+   */
+  private boolean writeKeyTypes(Map<PropertyValue, PropertyValue> map) {
+    int typesStart = types.length();
+    types.writeAscii("[{");
+    boolean typedKeys = false;
+    for (PropertyValue key : map.keySet()) {
+      String type = getKeyType(key);
+      if (type != null) {
+        if (typedKeys) {
+          types.writeByte(',');
+        }
+        types.writeString(getKeyText(key));
+        types.writeByte(':');
+        types.writeString(type);
+        typedKeys = true;
+      }
+    }
+    if (!typedKeys) {
+      types.setLength(typesStart);
+      return false;
+    }
+    if (map.keySet().stream().map(this::getKeyText).distinct().count() < map.size()) {
+      throw new IllegalArgumentException(
+        "Map keys with equal string representations are not supported: " + map.keySet());
+    }
+    types.writeAscii("},");
+    return true;
+  }
+
+  /**
+   * Returns the string a map key is written as.
+   *
+   * @param key map key
+   * @return key text
+   */
+  private String getKeyText(PropertyValue key) {
+    return key.isString() ? key.getString() : key.toString();
+  }
+
+  /**
+   * Returns the type of a map key.
+   *
+   * @param key map key
+   * @return type name or {@code null}, if the key is a string
+   */
+  private String getKeyType(PropertyValue key) {
+    if (key.isString()) {
+      return null;
+    } else if (key.isBoolean()) {
+      return JSONConstants.TYPE_BOOLEAN;
+    } else if (key.isInt()) {
+      return JSONConstants.TYPE_INT;
+    } else if (key.isLong()) {
+      return JSONConstants.TYPE_LONG;
+    } else if (key.isFloat()) {
+      return JSONConstants.TYPE_FLOAT;
+    } else if (key.isDouble()) {
+      return JSONConstants.TYPE_DOUBLE;
+    } else if (key.isBigDecimal()) {
+      return JSONConstants.TYPE_BIG_DECIMAL;
+    } else if (key.isGradoopId()) {
+      return JSONConstants.TYPE_GRADOOP_ID;
+    } else if (key.isDate()) {
+      return JSONConstants.TYPE_DATE;
+    } else if (key.isTime()) {
+      return JSONConstants.TYPE_TIME;
+    } else if (key.isDateTime()) {
+      return JSONConstants.TYPE_DATETIME;
+    } else {
+      throw new IllegalArgumentException(
+        "Map keys of type " + key.getType() + " are not supported");
+    }
+  }
+
+  /**
+   * Closes the types object starting at the specified position or discards it, if it is empty.
+   *
+   * @param typesStart position of the types object
+   * @return true, if the types object is not empty
+   */
+  private boolean closeTypes(int typesStart) {
+    if (types.length() == typesStart + 1) {
+      types.setLength(typesStart);
+      return false;
+    }
+    types.writeByte('}');
+    return true;
+  }
+
+  /**
+   * Writes a type name to the types buffer.
+   *
+   * @param type type name
+   * @return true
+   */
+  private boolean writeType(String type) {
+    types.writeString(type);
+    return true;
+  }
+
+  /**
+   * Writes a number literal, or a string if the number is not finite.
+   *
+   * @param number number representation
+   * @param finite true, if the number is finite
+   */
+  private void writeNumber(String number, boolean finite) {
+    if (finite) {
+      document.writeAscii(number);
+    } else {
+      document.writeString(number);
+    }
+  }
+
+  /**
+   * Writes a quoted member key followed by a colon.
+   *
+   * @param buffer buffer
+   * @param key member key
+   */
+  private static void writeKey(JSONBuffer buffer, String key) {
+    buffer.writeString(key);
+    buffer.writeByte(':');
+  }
+
+  /**
+   * Writes a quoted hexadecimal id.
+   *
+   * @param buffer buffer
+   * @param id id
+   */
+  private static void writeId(JSONBuffer buffer, GradoopId id) {
+    buffer.writeByte('"');
+    buffer.writeAscii(id.toString());
+    buffer.writeByte('"');
+  }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.outputformats;
+
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+
+/**
+ * Writes {@link GraphHead} objects to JSON files in the following format:
+ * <p>
+ * {
+ * "id":"...",
+ * "data":{"title":"Graph Databases"},
+ * "meta":{"label":"Community"}
+ * }
+ */
+public class JSONGraphHeadOutputFormat extends JSONElementOutputFormat<GraphHead> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the graph head json file or directory
+   */
+  public JSONGraphHeadOutputFormat(String filePath) {
+    this(filePath, TextCompression.NONE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param filePath path to the graph head json file or directory
+   * @param compression compression codec
+   */
+  public JSONGraphHeadOutputFormat(String filePath, TextCompression compression) {
+    super(filePath, compression);
+  }
+}
@@ -18,11 +18,13 @@ package org.gradoop.flink.io.impl.tlf;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.core.fs.FileSystem;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.TextCompression;
 import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelList;
 import org.gradoop.flink.io.impl.tlf.functions.ElementLabelEncoder;
 import org.gradoop.flink.io.impl.tlf.functions.TLFDictionaryFileFormat;
 import org.gradoop.flink.io.impl.tlf.functions.TLFDictionaryMapGroupReducer;
 import org.gradoop.flink.io.impl.tlf.functions.TLFFileFormat;
+import org.gradoop.flink.io.impl.tlf.functions.TLFOutputFormat;
 import org.gradoop.flink.io.impl.tlf.functions.VertexLabelList;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
@@ -31,12 +33,18 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Writes an EPGM representation into one TLF file. The format
- * is documented at {@link TLFFileFormat}.
+ * is documented at {@link TLFFileFormat}. Optionally, the TLF file is compressed, see
+ * {@link TextCompression}. The dictionaries are always written uncompressed.
  */
 public class TLFDataSink extends TLFBase implements DataSink {
+  /**
+   * Compression codec of the TLF file.
+   */
+  private final TextCompression compression;
 
   /**
    * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
@@ -45,7 +53,19 @@ public class TLFDataSink extends TLFBase implements DataSink {
    * @param config Gradoop Flink configuration
    */
   public TLFDataSink(String tlfPath, GradoopFlinkConfig config) {
-    super(tlfPath, "", "", config);
+    this(tlfPath, "", "", config);
+  }
+
+  /**
+   * Creates a new data sink which compresses the TLF file. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param tlfPath tlf data file
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public TLFDataSink(String tlfPath, GradoopFlinkConfig config, TextCompression compression) {
+    this(tlfPath, "", "", config, compression);
   }
 
   /**
@@ -58,7 +78,23 @@ public class TLFDataSink extends TLFBase implements DataSink {
    */
   public TLFDataSink(String tlfPath, String tlfVertexDictionaryPath,
     String tlfEdgeDictionaryPath, GradoopFlinkConfig config) {
+    this(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config, TextCompression.NONE);
+  }
+
+  /**
+   * Creates a new data sink which compresses the TLF file. Paths can be local (file://) or HDFS
+   * (hdfs://).
+   *
+   * @param tlfPath tlf data file
+   * @param tlfVertexDictionaryPath tlf vertex dictionary file
+   * @param tlfEdgeDictionaryPath tlf edge dictionary file
+   * @param config Gradoop Flink configuration
+   * @param compression compression codec
+   */
+  public TLFDataSink(String tlfPath, String tlfVertexDictionaryPath,
+    String tlfEdgeDictionaryPath, GradoopFlinkConfig config, TextCompression compression) {
     super(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config);
+    this.compression = Objects.requireNonNull(compression);
   }
 
   @Override
@@ -139,12 +175,23 @@ public class TLFDataSink extends TLFBase implements DataSink {
             TLFConstants.EDGE_DICTIONARY);
       }
       // write the TLF format adjusted graphs to file
-      simpleLabelTransaction
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      simpleLabelTransaction.output(createOutputFormat(writeMode));
       // if there was no dictionary used the graphs can simply be written
     } else {
-      graphTransactions
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      graphTransactions.output(createOutputFormat(writeMode));
     }
   }
+
+  /**
+   * Creates the output format writing the graph transactions to the TLF file.
+   *
+   * @param writeMode write mode
+   * @return output format
+   */
+  private TLFOutputFormat<GraphTransaction> createOutputFormat(FileSystem.WriteMode writeMode) {
+    TLFOutputFormat<GraphTransaction> outputFormat =
+      new TLFOutputFormat<>(getTLFPath(), new TLFFileFormat(), compression);
+    outputFormat.setWriteMode(writeMode);
+    return outputFormat;
+  }
 }
@@ -31,6 +31,9 @@ import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.flink.io.impl.tlf.TLFConstants;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,10 +41,30 @@ import java.util.Set;
  * Reads graph imported from a TLF file. The result of the mapping is a
  * dataset of of tlf graphs, with each TLFGraph consisting of a tlf graph
  * head, a collection of tlf vertices and a collection of tlf edges.
+ *
+ * The graph blocks are parsed directly on their bytes. Labels are looked up in a label
+ * dictionary, so each distinct label is decoded only once per task.
  */
 public class GraphTransactionFromText
   implements MapFunction<Tuple2<LongWritable, Text>, GraphTransaction> {
 
+  /**
+   * First byte of a line representing a graph start.
+   */
+  private static final byte GRAPH_SYMBOL = (byte) TLFConstants.GRAPH_SYMBOL.charAt(0);
+  /**
+   * First byte of a line representing a vertex.
+   */
+  private static final byte VERTEX_SYMBOL = (byte) TLFConstants.VERTEX_SYMBOL.charAt(0);
+  /**
+   * First byte of a line representing an edge.
+   */
+  private static final byte EDGE_SYMBOL = (byte) TLFConstants.EDGE_SYMBOL.charAt(0);
+  /**
+   * Vertex ids below this bound are mapped using an array.
+   */
+  private static final int MAX_DENSE_ID = 1 << 20;
+
   /**
    * Graph head factory.
    */
@@ -55,29 +78,45 @@ public class GraphTransactionFromText
    */
   private EdgeFactory edgeFactory;
   /**
-   * Line fields splittet by space.
+   * Gradoop ids by tlf vertex id, for small non-negative tlf ids.
    */
-  private String[] fields;
+  private GradoopId[] denseIds = new GradoopId[64];
   /**
-   * String builder for each line.
+   * Map for long id from tlf file to gradoop id, for all other tlf ids.
    */
-  private StringBuilder stringBuilder = new StringBuilder();
+  private Map<Long, GradoopId> idMap = Maps.newHashMap();
   /**
-   * String builder for label with spaces.
+   * Largest tlf id stored in {@link #denseIds} for the current graph.
    */
-  private StringBuilder labelBuilder = new StringBuilder();
+  private int maxDenseId = -1;
   /**
-   * Map for long id from tlf file to gradoop id.
+   * Labels by label index.
    */
-  private Map<Long, GradoopId> idMap = Maps.newHashMap();
+  private String[] labels = new String[16];
+  /**
+   * UTF-8 encoded labels by label index.
+   */
+  private byte[][] labelBytes = new byte[16][];
+  /**
+   * Open addressing hash table storing (label index + 1) at the slot of the label hash.
+   */
+  private int[] labelTable = new int[32];
+  /**
+   * Number of labels in the dictionary.
+   */
+  private int labelCount;
+  /**
+   * Bytes of the current graph block.
+   */
+  private byte[] bytes;
   /**
-   * Vertices of transaction.
+   * Current position in the graph block.
    */
-  private Set<Vertex> vertices = Sets.newHashSet();
+  private int pos;
   /**
-   * Edges of transaction.
+   * End of the current line.
    */
-  private Set<Edge> edges = Sets.newHashSet();
+  private int lineEnd;
 
   /**
    * Valued constructor.
@@ -103,75 +142,207 @@ public class GraphTransactionFromText
   @Override
   public GraphTransaction map(Tuple2<LongWritable, Text> inputTuple) throws Exception {
     idMap.clear();
-    vertices.clear();
-    edges.clear();
-    stringBuilder.setLength(0);
-    boolean firstLine = true;
-    boolean vertexLine = true;
-    String graph = inputTuple.f1.toString();
-    int cursor = 0;
-    char currChar;
-
-    GradoopId gradoopId;
+    Arrays.fill(denseIds, 0, maxDenseId + 1, null);
+    maxDenseId = -1;
+    bytes = inputTuple.f1.getBytes();
+    int end = inputTuple.f1.getLength();
+    pos = 0;
+
     GraphHead graphHead = null;
-    Vertex vertex;
-    Edge edge;
-
-    do {
-      currChar = graph.charAt(cursor);
-      if (currChar == '\n') {
-        fields = stringBuilder.toString().trim().split(" ");
-        if (firstLine) {
-          gradoopId = GradoopId.get();
-          idMap.put(Long.valueOf(fields[2]), gradoopId);
-          graphHead = graphHeadFactory.initGraphHead(gradoopId);
-          firstLine = false;
-        } else {
-          if (vertexLine) {
-            gradoopId = GradoopId.get();
-            idMap.put(Long.valueOf(fields[1]), gradoopId);
-            vertex = vertexFactory.initVertex(gradoopId, getLabel(2));
-            vertex.addGraphId(graphHead.getId());
-            vertices.add(vertex);
-            if (TLFConstants.EDGE_SYMBOL.equals(String.valueOf(graph.charAt(cursor + 1)))) {
-              vertexLine = false;
-            }
-          } else {
-            gradoopId = GradoopId.get();
-            edge = edgeFactory.initEdge(gradoopId,
-              getLabel(3),
-              idMap.get(Long.valueOf(fields[1])),
-              idMap.get(Long.valueOf(fields[2]))
-            );
-            edge.addGraphId(graphHead.getId());
-            edges.add(edge);
-          }
+    Set<Vertex> vertices = Sets.newHashSet();
+    Set<Edge> edges = Sets.newHashSet();
+
+    while (pos < end) {
+      lineEnd = pos;
+      while (lineEnd < end && bytes[lineEnd] != '\n') {
+        lineEnd++;
+      }
+      int next = lineEnd + 1;
+      while (lineEnd > pos && isWhitespace(bytes[lineEnd - 1])) {
+        lineEnd--;
+      }
+      skipWhitespace();
+
+      if (pos < lineEnd) {
+        byte symbol = bytes[pos++];
+        if (symbol == GRAPH_SYMBOL) {
+          graphHead = graphHeadFactory.initGraphHead(GradoopId.get());
+        } else if (graphHead == null) {
+          throw new IOException("Graph block does not start with " + TLFConstants.START_TAG);
+        } else if (symbol == VERTEX_SYMBOL) {
+          GradoopId vertexId = GradoopId.get();
+          putId(parseLong(), vertexId);
+          Vertex vertex = vertexFactory.initVertex(vertexId, parseLabel());
+          vertex.addGraphId(graphHead.getId());
+          vertices.add(vertex);
+        } else if (symbol == EDGE_SYMBOL) {
+          GradoopId sourceId = getId(parseLong());
+          GradoopId targetId = getId(parseLong());
+          Edge edge = edgeFactory.initEdge(GradoopId.get(), parseLabel(), sourceId, targetId);
+          edge.addGraphId(graphHead.getId());
+          edges.add(edge);
         }
-        stringBuilder.setLength(0);
-      } else {
-        stringBuilder.append(currChar);
       }
-      cursor++;
-    } while (cursor != graph.length());
+      pos = next;
+    }
 
     return new GraphTransaction(graphHead, vertices, edges);
   }
 
   /**
-   * Builds a label from the current fields. If the label is split by whitespaces the last fields
-   * which represent the label will be concatenated.
+   * Maps a tlf vertex id to a gradoop id.
    *
-   * @param labelStart field where the label starts
-   * @return full label
-   */
-  private String getLabel(int labelStart) {
-    labelBuilder.setLength(0);
-    for (int i = labelStart; i < fields.length; i++) {
-      if (i > labelStart) {
-        labelBuilder.append(" ");
+   * @param tlfId tlf vertex id
+   * @param gradoopId gradoop id
+   */
+  private void putId(long tlfId, GradoopId gradoopId) {
+    if (tlfId >= 0 && tlfId < MAX_DENSE_ID) {
+      int id = (int) tlfId;
+      if (id >= denseIds.length) {
+        denseIds = Arrays.copyOf(denseIds, Math.max(id + 1, 2 * denseIds.length));
       }
-      labelBuilder.append(fields[i]);
+      denseIds[id] = gradoopId;
+      maxDenseId = Math.max(maxDenseId, id);
+    } else {
+      idMap.put(tlfId, gradoopId);
+    }
+  }
+
+  /**
+   * Returns the gradoop id of a tlf vertex id.
+   *
+   * @param tlfId tlf vertex id
+   * @return gradoop id or {@code null} if the vertex is unknown
+   */
+  private GradoopId getId(long tlfId) {
+    if (tlfId >= 0 && tlfId < MAX_DENSE_ID) {
+      return tlfId < denseIds.length ? denseIds[(int) tlfId] : null;
+    }
+    return idMap.get(tlfId);
+  }
+
+  /**
+   * Parses the next whitespace separated token of the current line as long value.
+   *
+   * @return long value
+   * @throws IOException if the token is not a valid number
+   */
+  private long parseLong() throws IOException {
+    skipWhitespace();
+    int start = pos;
+    boolean negative = pos < lineEnd && bytes[pos] == '-';
+    if (negative) {
+      pos++;
     }
-    return labelBuilder.toString();
+    long value = 0;
+    while (pos < lineEnd && !isWhitespace(bytes[pos])) {
+      int digit = bytes[pos] - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      value = 10 * value + digit;
+      pos++;
+    }
+    if (pos == start + (negative ? 1 : 0) || (pos < lineEnd && !isWhitespace(bytes[pos]))) {
+      throw new IOException("Invalid id in line: " +
+        new String(bytes, start, lineEnd - start, StandardCharsets.UTF_8));
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Returns the remainder of the current line as label. The label may contain whitespaces.
+   *
+   * @return label
+   */
+  private String parseLabel() {
+    skipWhitespace();
+    int length = lineEnd - pos;
+    int hash = 1;
+    for (int i = pos; i < lineEnd; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    hash ^= hash >>> 16;
+
+    int slot = hash & (labelTable.length - 1);
+    while (labelTable[slot] != 0) {
+      int labelIndex = labelTable[slot] - 1;
+      if (labelEquals(labelBytes[labelIndex], pos, length)) {
+        return labels[labelIndex];
+      }
+      slot = (slot + 1) & (labelTable.length - 1);
+    }
+
+    String label = new String(bytes, pos, length, StandardCharsets.UTF_8);
+    if (labelCount == labels.length) {
+      labels = Arrays.copyOf(labels, 2 * labels.length);
+      labelBytes = Arrays.copyOf(labelBytes, 2 * labelBytes.length);
+    }
+    labels[labelCount] = label;
+    labelBytes[labelCount] = Arrays.copyOfRange(bytes, pos, lineEnd);
+    labelTable[slot] = ++labelCount;
+    if (2 * labelCount > labelTable.length) {
+      rehashLabels();
+    }
+    return label;
+  }
+
+  /**
+   * Doubles the size of the label hash table.
+   */
+  private void rehashLabels() {
+    labelTable = new int[2 * labelTable.length];
+    for (int labelIndex = 0; labelIndex < labelCount; labelIndex++) {
+      byte[] label = labelBytes[labelIndex];
+      int hash = 1;
+      for (byte b : label) {
+        hash = 31 * hash + b;
+      }
+      hash ^= hash >>> 16;
+      int slot = hash & (labelTable.length - 1);
+      while (labelTable[slot] != 0) {
+        slot = (slot + 1) & (labelTable.length - 1);
+      }
+      labelTable[slot] = labelIndex + 1;
+    }
+  }
+
+  /**
+   * Checks if the label bytes equal the specified range of the graph block.
+   *
+   * @param label label bytes
+   * @param offset index of the first byte
+   * @param length number of bytes
+   * @return true, if the bytes are equal
+   */
+  private boolean labelEquals(byte[] label, int offset, int length) {
+    if (label.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (label[i] != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Skips whitespace in the current line.
+   */
+  private void skipWhitespace() {
+    while (pos < lineEnd && isWhitespace(bytes[pos])) {
+      pos++;
+    }
+  }
+
+  /**
+   * Checks if the byte is a space, tab or carriage return.
+   *
+   * @param b byte
+   * @return true, if the byte is whitespace
+   */
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
   }
 }
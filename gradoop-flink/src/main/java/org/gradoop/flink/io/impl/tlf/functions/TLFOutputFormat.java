@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.functions;
+
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.CompressibleFileOutputFormat;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes the TLF representation of records, each followed by a line break. Optionally, the output
+ * is compressed, see {@link TextCompression}.
+ *
+ * Each record is passed to the output stream at once, so that a block compressed file is cut only
+ * between records. A graph block is thus never split across two compressed blocks, which is
+ * required by the TLF reader to read such files in parallel.
+ *
+ * @param <T> record type
+ */
+public class TLFOutputFormat<T> extends CompressibleFileOutputFormat<T> {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Creates the TLF representation of a record.
+   */
+  private final TextOutputFormat.TextFormatter<T> formatter;
+
+  /**
+   * Constructor.
+   *
+   * @param outputPath output file or directory
+   * @param formatter creates the TLF representation of a record
+   * @param compression compression codec
+   */
+  public TLFOutputFormat(String outputPath, TextOutputFormat.TextFormatter<T> formatter,
+    TextCompression compression) {
+    super(new Path(Objects.requireNonNull(outputPath)), compression);
+    this.formatter = Objects.requireNonNull(formatter);
+  }
+
+  @Override
+  public void writeRecord(T record) throws IOException {
+    getOutputStream().write((formatter.format(record) + '\n').getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -15,63 +15,99 @@
  */
 package org.gradoop.flink.io.impl.tlf.inputformats;
 
-import org.apache.commons.io.Charsets;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.gradoop.flink.io.impl.compression.BlockCompressedInputStream;
+import org.gradoop.flink.io.impl.compression.TextCompression;
 import org.gradoop.flink.io.impl.tlf.TLFConstants;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * TLFRecordReader class to read through a given TLF document to
  * output graph blocks as records which are specified by the start tag and
  * end tag.
+ *
+ * A graph block starts with a line beginning with the start tag and ends before the next such
+ * line or at the end of the file. A split reads all blocks starting within the split, the last
+ * one is read beyond the end of the split. Blocks starting before the split are skipped, they
+ * are read by the preceding split.
+ *
+ * Files compressed by {@link TextCompression#BLOCK_GZIP} are read by decompressing the blocks
+ * starting inside the split. Such files have to be written by the TLF data sink, which cuts blocks
+ * between graph blocks only. Positions then refer to the decompressed bytes of the split.
  */
 public class TLFRecordReader extends RecordReader<LongWritable, Text> {
 
   /**
-   * The start position of the split.
+   * Bytes of the start tag of a graph block.
+   */
+  private static final byte[] START_TAG = TLFConstants.START_TAG.getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Size of the read buffer.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The start position of the split, 0 for compressed files.
    */
   private final long start;
 
   /**
-   * The end position of the split.
+   * The end position of the split, unlimited for compressed files.
    */
   private final long end;
 
   /**
    * Input stream which reads the data from the split file.
    */
-  private final FSDataInputStream fsin;
+  private final InputStream fsin;
+
+  /**
+   * Read buffer.
+   */
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+
+  /**
+   * File position of the first byte in the buffer.
+   */
+  private long bufferOffset;
+
+  /**
+   * Index of the next unread byte in the buffer.
+   */
+  private int bufferPos;
 
   /**
-   * Output buffer which writes only needed content.
+   * Number of valid bytes in the buffer.
    */
-  private final DataOutputBuffer buffer = new DataOutputBuffer();
+  private int bufferLength;
 
   /**
-   * The current key.
+   * True, if the next unread byte is the first byte of a line.
    */
-  private LongWritable currentKey;
+  private boolean atLineStart;
 
   /**
-   * The current value.
+   * The current key, i.e. the position of the graph block.
    */
-  private Text currentValue;
+  private final LongWritable currentKey = new LongWritable();
 
   /**
-   * The length of the buffer data to be set to the value.
+   * The current value, i.e. the graph block.
    */
-  private int valueLength;
+  private final Text currentValue = new Text();
 
   /**
    * Constructor for the reader which handles TLF splits and
@@ -83,87 +119,155 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   public TLFRecordReader(FileSplit split, Configuration conf) throws
     IOException {
-    // open the file and seek to the start of the split
-    start = split.getStart();
-    end = start + split.getLength();
     Path file = split.getPath();
     FileSystem fs = file.getFileSystem(conf);
-    fsin = fs.open(split.getPath());
-    fsin.seek(start);
+    FSDataInputStream in = fs.open(file);
+    if (file.getName().endsWith(TextCompression.BLOCK_GZIP.getFileExtension())) {
+      // the decompressed blocks of the split contain complete graph blocks
+      fsin = new BlockCompressedInputStream(new HadoopInputStreamWrapper(in),
+        split.getStart(), split.getLength());
+      start = 0;
+      end = Long.MAX_VALUE;
+      atLineStart = true;
+    } else {
+      fsin = in;
+      start = split.getStart();
+      end = start + split.getLength();
+      if (start == 0) {
+        atLineStart = true;
+      } else {
+        // a block starting exactly at the split start belongs to this split
+        in.seek(start - 1);
+        atLineStart = in.read() == '\n';
+      }
+    }
+    bufferOffset = start;
   }
 
   /**
-   * Reads the next key/value pair from the input for processing.
+   * Moves to the start of the next graph block of this split.
    *
-   * @param key the new key
-   * @param value the new value
-   * @return true if a key/value pair was found
+   * @return true, if there is such a block
    * @throws IOException
    */
-  private boolean next(LongWritable key, Text value) throws IOException {
-    if (fsin.getPos() < end &&
-      readUntilMatch(TLFConstants.START_TAG.getBytes(Charsets.UTF_8), false)) {
-      try {
-        buffer.write(TLFConstants.START_TAG.getBytes(Charsets.UTF_8));
-        if (readUntilMatch(TLFConstants.END_TAG.getBytes(Charsets.UTF_8), true)) {
-          key.set(fsin.getPos());
-          if (fsin.getPos() != end) {
-            //- end tag because it is the new start tag and shall not be added
-            valueLength = buffer.getLength() - TLFConstants.END_TAG.getBytes(Charsets.UTF_8).length;
-          } else {
-            // in this case there is no new start tag
-            valueLength = buffer.getLength();
-          }
-          //- end tag because it is the new start tag and shall not be added
-          value.set(buffer.getData(), 0, valueLength);
-          //set the buffer to position before end tag of old graph which is
-          // start tag of the new one
-          fsin.seek(fsin.getPos() - TLFConstants.END_TAG.getBytes(Charsets.UTF_8).length);
+  private boolean seekBlockStart() throws IOException {
+    while (true) {
+      if (atLineStart) {
+        if (getPosition() >= end || !ensureAvailable(1)) {
+          return false;
+        }
+        if (startsWithTag()) {
           return true;
         }
-      } finally {
-        buffer.reset();
+      }
+      atLineStart = skipLine();
+      if (!atLineStart) {
+        return false;
       }
     }
-    return false;
   }
 
   /**
-   * Reads the split and searches for matches with given 'match byte array'.
+   * Reads the graph block at the current position into the current value. The block ends before
+   * the next line starting with the start tag or at the end of the file.
    *
-   * @param match the match byte to be found
-   * @param withinBlock specifies if match is within the graph block
-   * @return true if match was found or the end of file was reached, so
-   * that the current block can be closed
    * @throws IOException
    */
-  private boolean readUntilMatch(byte[] match, boolean withinBlock) throws
-    IOException {
-    int i = 0;
+  private void readBlock() throws IOException {
+    currentKey.set(getPosition());
+    currentValue.clear();
+    int runStart = bufferPos;
     while (true) {
-      int b = fsin.read();
-      // end of file:
-      if (b == -1) {
-        return true;
+      if (bufferPos == bufferLength) {
+        currentValue.append(buffer, runStart, bufferPos - runStart);
+        if (!ensureAvailable(1)) {
+          return;
+        }
+        runStart = bufferPos;
       }
-      // save to buffer:
-      if (withinBlock) {
-        buffer.write(b);
+      if (buffer[bufferPos++] == '\n') {
+        if (bufferLength - bufferPos < START_TAG.length) {
+          currentValue.append(buffer, runStart, bufferPos - runStart);
+          ensureAvailable(START_TAG.length);
+          runStart = bufferPos;
+        }
+        if (startsWithTag()) {
+          currentValue.append(buffer, runStart, bufferPos - runStart);
+          atLineStart = true;
+          return;
+        }
       }
-      // check if we are matching:
-      if (b == match[i]) {
-        i++;
-        if (i >= match.length) {
+    }
+  }
+
+  /**
+   * Skips the remainder of the current line including the line break.
+   *
+   * @return false, if the end of the file was reached
+   * @throws IOException
+   */
+  private boolean skipLine() throws IOException {
+    while (ensureAvailable(1)) {
+      while (bufferPos < bufferLength) {
+        if (buffer[bufferPos++] == '\n') {
           return true;
         }
-      } else {
-        i = 0;
       }
-      // see if we have passed the stop point:
-      if (!withinBlock && i == 0 && fsin.getPos() >= end) {
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the unread bytes start with the start tag.
+   *
+   * @return true, if the start tag follows
+   * @throws IOException
+   */
+  private boolean startsWithTag() throws IOException {
+    if (!ensureAvailable(START_TAG.length)) {
+      return false;
+    }
+    for (int i = 0; i < START_TAG.length; i++) {
+      if (buffer[bufferPos + i] != START_TAG[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Ensures that the buffer contains at least the specified number of unread bytes. Already read
+   * bytes may be discarded.
+   *
+   * @param count number of bytes
+   * @return false, if the end of the file was reached before
+   * @throws IOException
+   */
+  private boolean ensureAvailable(int count) throws IOException {
+    if (bufferLength - bufferPos >= count) {
+      return true;
+    }
+    System.arraycopy(buffer, bufferPos, buffer, 0, bufferLength - bufferPos);
+    bufferOffset += bufferPos;
+    bufferLength -= bufferPos;
+    bufferPos = 0;
+    while (bufferLength < count) {
+      int read = fsin.read(buffer, bufferLength, buffer.length - bufferLength);
+      if (read < 0) {
         return false;
       }
+      bufferLength += read;
     }
+    return true;
+  }
+
+  /**
+   * Returns the file position of the next unread byte.
+   *
+   * @return file position
+   */
+  private long getPosition() {
+    return bufferOffset + bufferPos;
   }
 
   /**
@@ -174,7 +278,6 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
   @Override
   public void close() throws IOException {
     fsin.close();
-    buffer.close();
   }
 
   /**
@@ -185,7 +288,10 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   @Override
   public float getProgress() throws IOException {
-    return (fsin.getPos() - start) / (float) (end - start);
+    if (end == start) {
+      return 1.0f;
+    }
+    return (Math.min(getPosition(), end) - start) / (float) (end - start);
   }
 
   /**
@@ -235,8 +341,54 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   @Override
   public boolean nextKeyValue() throws IOException, InterruptedException {
-    currentKey = new LongWritable();
-    currentValue = new Text();
-    return next(currentKey, currentValue);
+    if (!seekBlockStart()) {
+      return false;
+    }
+    readBlock();
+    return true;
+  }
+
+  /**
+   * Wraps a Hadoop input stream to be read by a {@link BlockCompressedInputStream}.
+   */
+  private static class HadoopInputStreamWrapper extends org.apache.flink.core.fs.FSDataInputStream {
+    /**
+     * Wrapped input stream.
+     */
+    private final FSDataInputStream in;
+
+    /**
+     * Constructor.
+     *
+     * @param in wrapped input stream
+     */
+    HadoopInputStreamWrapper(FSDataInputStream in) {
+      this.in = in;
+    }
+
+    @Override
+    public void seek(long desired) throws IOException {
+      in.seek(desired);
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return in.getPos();
+    }
+
+    @Override
+    public int read() throws IOException {
+      return in.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      return in.read(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
   }
 }
@@ -35,6 +35,7 @@ import org.gradoop.flink.model.impl.functions.bool.Not;
 import org.gradoop.flink.model.impl.functions.bool.Or;
 import org.gradoop.flink.model.impl.functions.bool.True;
 import org.gradoop.flink.model.impl.functions.epgm.PropertyGetter;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
 import org.gradoop.flink.model.impl.operators.aggregation.Aggregation;
 import org.gradoop.flink.model.impl.operators.cloning.Cloning;
 import org.gradoop.flink.model.impl.operators.combination.Combination;
@@ -123,6 +124,16 @@ public class LogicalGraph implements LogicalGraphLayout, LogicalGraphOperators {
     return layout.isIndexedGVELayout();
   }
 
+  @Override
+  public boolean isAdjacencyGVELayout() {
+    return layout.isAdjacencyGVELayout();
+  }
+
+  @Override
+  public DataSet<VertexAdjacency> getVertexAdjacency() {
+    return layout.getVertexAdjacency();
+  }
+
   /**
    * {@inheritDoc}
    */
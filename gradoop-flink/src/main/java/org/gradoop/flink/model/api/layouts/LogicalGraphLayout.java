@@ -17,6 +17,7 @@ package org.gradoop.flink.model.api.layouts;
 
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
 
 /**
  * A logical graph layout defines the Flink internal (DataSet) representation of a
@@ -38,6 +39,23 @@ public interface LogicalGraphLayout extends Layout {
    */
   boolean isIndexedGVELayout();
 
+  /**
+   * True, if the layout additionally provides the vertices together with their incident edges
+   * and neighbors.
+   *
+   * @return true, iff layout provides the vertex adjacency
+   */
+  boolean isAdjacencyGVELayout();
+
+  /**
+   * Returns the vertices together with their incident edges and neighbors. Layouts which do not
+   * provide the vertex adjacency, see {@link #isAdjacencyGVELayout()}, build it from the vertices
+   * and edges on each call.
+   *
+   * @return vertex adjacency
+   */
+  DataSet<VertexAdjacency> getVertexAdjacency();
+
   /**
    * Returns a dataset containing a single graph head associated with that
    * logical graph.
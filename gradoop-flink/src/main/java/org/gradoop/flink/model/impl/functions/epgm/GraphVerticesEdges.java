@@ -15,94 +15,74 @@
  */
 package org.gradoop.flink.model.impl.functions.epgm;
 
-import org.apache.flink.api.common.functions.GroupCombineFunction;
-import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
 import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransactionTypeInfoFactory;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 
 /**
- * combiner: (graphId, [vertex|edges] -> (graphId, {vertex,...}, {edge,...})
- * reducer:  (graphId, {vertex,...}, {edge,...}) -> (graphId, {vertex,...}, {edge,...})
+ * (graphId, vertex),.. x (graphId, edge),.. -> (graphId, {vertex,...}, {edge,...})
+ *
+ * Vertices and edges are grouped separately, so that neither needs to be generalized to a
+ * graph element, and the sets are serialized natively.
+ *
+ * Forwarded fields first:
+ *
+ * f0: graph head id
  *
- * Forwarded fields:
+ * Forwarded fields second:
  *
  * f0: graph head id
  */
-@FunctionAnnotation.ForwardedFields("f0")
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f0")
 public class GraphVerticesEdges implements
-  GroupCombineFunction<
-    Tuple2<GradoopId, GraphElement>, Tuple3<GradoopId, Set<Vertex>, Set<Edge>>>,
-  GroupReduceFunction<
-    Tuple3<GradoopId, Set<Vertex>, Set<Edge>>, Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> {
+  CoGroupFunction<Tuple2<GradoopId, Vertex>, Tuple2<GradoopId, Edge>,
+    Tuple3<GradoopId, Set<Vertex>, Set<Edge>>>,
+  ResultTypeQueryable<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> {
 
   /**
    * Creates vertex and edge sets for each transaction.
    *
-   * @param values vertices and edges associated to the same graph
+   * @param vertices vertices associated to the same graph
+   * @param edges edges associated to the same graph
    * @param out collector
    * @throws Exception The function may throw Exceptions, which will cause the program to cancel,
    *                   and may trigger the recovery logic.
    */
   @Override
-  public void combine(Iterable<Tuple2<GradoopId, GraphElement>> values,
+  public void coGroup(Iterable<Tuple2<GradoopId, Vertex>> vertices,
+    Iterable<Tuple2<GradoopId, Edge>> edges,
     Collector<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> out) throws Exception {
 
-    Iterator<Tuple2<GradoopId, GraphElement>> iterator = values.iterator();
+    GradoopId graphId     = null;
+    Set<Vertex> vertexSet = new HashSet<>();
+    Set<Edge> edgeSet     = new HashSet<>();
 
-    GradoopId graphId    = null;
-    Set<Vertex> vertices = new HashSet<>();
-    Set<Edge> edges      = new HashSet<>();
-
-    while (iterator.hasNext()) {
-      Tuple2<GradoopId, GraphElement> next = iterator.next();
-      graphId = next.f0;
-
-      GraphElement element = next.f1;
-      if (element instanceof Vertex) {
-        vertices.add((Vertex) element);
-      } else {
-        edges.add((Edge) element);
-      }
+    for (Tuple2<GradoopId, Vertex> vertex : vertices) {
+      graphId = vertex.f0;
+      vertexSet.add(vertex.f1);
+    }
+    for (Tuple2<GradoopId, Edge> edge : edges) {
+      graphId = edge.f0;
+      edgeSet.add(edge.f1);
     }
 
-    out.collect(Tuple3.of(graphId, vertices, edges));
+    out.collect(Tuple3.of(graphId, vertexSet, edgeSet));
   }
 
-  /**
-   * Merges sets created by the combiners.
-   *
-   * @param values partial vertex and edge sets for one transaction
-   * @param out collector
-   * @throws Exception The function may throw Exceptions, which will cause the program to cancel,
-   *                   and may trigger the recovery logic.
-   */
   @Override
-  public void reduce(Iterable<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> values,
-    Collector<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> out) throws Exception {
-
-    Iterator<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> iterator = values.iterator();
-    Tuple3<GradoopId, Set<Vertex>, Set<Edge>> first = iterator.next();
-
-    GradoopId graphId    = first.f0;
-    Set<Vertex> vertices = first.f1;
-    Set<Edge> edges      = first.f2;
-
-    while (iterator.hasNext()) {
-      Tuple3<GradoopId, Set<Vertex>, Set<Edge>> next = iterator.next();
-      vertices.addAll(next.f1);
-      edges.addAll(next.f2);
-    }
-
-    out.collect(Tuple3.of(graphId, vertices, edges));
+  public TypeInformation<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> getProducedType() {
+    return GraphTransactionTypeInfoFactory.getGraphSetsType();
   }
 }
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.functions.epgm;
 import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.id.GradoopIdList;
@@ -30,8 +31,12 @@ import java.util.Iterator;
  *
  * GraphElement* -> GraphElement
  *
+ * Elements are grouped or joined by id.
+ *
  * @param <GE> EPGM graph element type
  */
+@FunctionAnnotation.ForwardedFields("id")
+@FunctionAnnotation.ForwardedFieldsFirst("id;label;properties")
 public class MergedGraphIds<GE extends GraphElement>
   implements GroupCombineFunction<GE, GE>, GroupReduceFunction<GE, GE>,
   JoinFunction<GE, GE, GE> {
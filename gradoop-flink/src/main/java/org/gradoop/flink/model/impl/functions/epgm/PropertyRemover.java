@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.functions.epgm;
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.pojo.Element;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -25,6 +26,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *
  * @param <E> EPGM element type.
  */
+@FunctionAnnotation.ForwardedFields("id;label")
 public class PropertyRemover<E extends Element> implements MapFunction<E, E> {
 
   /**
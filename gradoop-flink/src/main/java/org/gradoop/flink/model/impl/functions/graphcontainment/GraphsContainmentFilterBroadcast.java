@@ -19,6 +19,7 @@ import org.apache.flink.api.common.functions.RichFilterFunction;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdList;
 
 import java.util.Collection;
 
@@ -40,9 +41,25 @@ public abstract class GraphsContainmentFilterBroadcast
    */
   protected Collection<GradoopId> graphIds;
 
+  /**
+   * graph ids (sorted)
+   */
+  private GradoopIdList sortedGraphIds;
+
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
     graphIds = getRuntimeContext().getBroadcastVariable(GRAPH_IDS);
+    sortedGraphIds = GradoopIdList.sortedFromExisting(graphIds);
+  }
+
+  /**
+   * Returns the broadcast graph ids as sorted list, which answers containment checks by binary
+   * search and merging.
+   *
+   * @return sorted graph ids
+   */
+  protected GradoopIdList getSortedGraphIds() {
+    return sortedGraphIds;
   }
 }
@@ -30,7 +30,7 @@ public class InAllGraphs<GE extends GraphElement>
   implements FilterFunction<GE> {
 
   /**
-   * graph ids
+   * graph ids (sorted)
    */
   private final GradoopIdList graphIds;
 
@@ -40,7 +40,8 @@ public class InAllGraphs<GE extends GraphElement>
    * @param graphIds graph ids
    */
   public InAllGraphs(GradoopIdList graphIds) {
-    this.graphIds = graphIds;
+    this.graphIds = GradoopIdList.fromByteArray(graphIds.toByteArray());
+    this.graphIds.sort();
   }
 
   @Override
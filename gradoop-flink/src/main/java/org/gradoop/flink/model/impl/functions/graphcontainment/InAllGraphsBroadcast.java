@@ -30,6 +30,6 @@ public class InAllGraphsBroadcast
 
   @Override
   public boolean filter(GE element) throws Exception {
-    return element.getGraphIds().containsAll(this.graphIds);
+    return element.getGraphIds().containsAll(getSortedGraphIds());
   }
 }
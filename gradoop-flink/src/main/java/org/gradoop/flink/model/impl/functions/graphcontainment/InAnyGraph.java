@@ -30,7 +30,7 @@ public class InAnyGraph<GE extends GraphElement>
   implements FilterFunction<GE> {
 
   /**
-   * graph ids
+   * graph ids (sorted)
    */
   private final GradoopIdList graphIds;
 
@@ -39,11 +39,12 @@ public class InAnyGraph<GE extends GraphElement>
    * @param graphIds graph ids
    */
   public InAnyGraph(GradoopIdList graphIds) {
-    this.graphIds = graphIds;
+    this.graphIds = GradoopIdList.fromByteArray(graphIds.toByteArray());
+    this.graphIds.sort();
   }
 
   @Override
   public boolean filter(GE element) throws Exception {
-    return element.getGraphIds().containsAny(this.graphIds);
+    return this.graphIds.containsAny(element.getGraphIds());
   }
 }
@@ -29,6 +29,6 @@ public class InAnyGraphBroadcast<GE extends GraphElement>
 
   @Override
   public boolean filter(GE element) throws Exception {
-    return element.getGraphIds().containsAny(this.graphIds);
+    return getSortedGraphIds().containsAny(element.getGraphIds());
   }
 }
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.functions.utils;
 
 import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.util.Collector;
 
 /**
@@ -23,6 +24,7 @@ import org.apache.flink.util.Collector;
  *
  * @param <E> an object type
  */
+@FunctionAnnotation.ForwardedFieldsFirst("*->*")
 public class LeftWhenRightIsNull<E> implements FlatJoinFunction<E, E, E> {
 
   @Override
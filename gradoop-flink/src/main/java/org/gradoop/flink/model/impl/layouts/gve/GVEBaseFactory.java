@@ -59,12 +59,13 @@ abstract class GVEBaseFactory extends BaseFactory {
     Objects.requireNonNull(vertices);
     Objects.requireNonNull(edges);
 
-    return new GVELayout(
-      graphHeads.values().stream().reduce(DataSet::union)
+    // labels may share a dataset which must be contained only once
+    return create(
+      graphHeads.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during graph head union")),
-      vertices.values().stream().reduce(DataSet::union)
+      vertices.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during vertex union")),
-      edges.values().stream().reduce(DataSet::union)
+      edges.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during edge union"))
     );
   }
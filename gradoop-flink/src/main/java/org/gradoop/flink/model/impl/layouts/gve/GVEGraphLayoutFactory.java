@@ -27,6 +27,7 @@ import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,7 +63,7 @@ public class GVEGraphLayoutFactory extends GVEBaseFactory implements LogicalGrap
       .map(new AddToGraph<>(graphHead))
       .withForwardedFields("id;sourceId;targetId;label;properties");
 
-    return new GVELayout(graphHeadSet, vertices, edges);
+    return create(graphHeadSet, vertices, edges);
   }
 
   @Override
@@ -84,16 +85,20 @@ public class GVEGraphLayoutFactory extends GVEBaseFactory implements LogicalGrap
     Map<String, DataSet<GraphHead>> graphHeads = Maps.newHashMap();
     graphHeads.put(graphHead.getLabel(), graphHeadSet);
 
-    // update vertices and edges with new graph head id
+    // update vertices and edges with new graph head id, labels sharing a dataset keep sharing it
+    Map<DataSet<Vertex>, DataSet<Vertex>> updatedVertices = new IdentityHashMap<>();
     vertices = vertices.entrySet().stream()
       .collect(Collectors.toMap(
-        Map.Entry::getKey, e -> e.getValue().map(new AddToGraph<>(graphHead))
-          .withForwardedFields("id;label;properties")));
+        Map.Entry::getKey, e -> updatedVertices.computeIfAbsent(e.getValue(),
+          v -> v.map(new AddToGraph<>(graphHead))
+            .withForwardedFields("id;label;properties"))));
 
+    Map<DataSet<Edge>, DataSet<Edge>> updatedEdges = new IdentityHashMap<>();
     edges = edges.entrySet().stream()
       .collect(Collectors.toMap(
-        Map.Entry::getKey, e -> e.getValue().map(new AddToGraph<>(graphHead))
-          .withForwardedFields("id;sourceId;targetId;label;properties")));
+        Map.Entry::getKey, e -> updatedEdges.computeIfAbsent(e.getValue(),
+          v -> v.map(new AddToGraph<>(graphHead))
+            .withForwardedFields("id;sourceId;targetId;label;properties"))));
 
     return create(graphHeads, vertices, edges);
   }
@@ -18,10 +18,8 @@ package org.gradoop.flink.model.impl.layouts.gve;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
-import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
@@ -33,7 +31,9 @@ import org.gradoop.flink.model.impl.functions.epgm.GraphElementExpander;
 import org.gradoop.flink.model.impl.functions.epgm.GraphVerticesEdges;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionFromSets;
-import org.gradoop.flink.model.impl.functions.utils.Cast;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.functions.BuildVertexAdjacency;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.functions.EdgeWithNeighbor;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 
 import java.util.Set;
@@ -82,6 +82,11 @@ public class GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
     return false;
   }
 
+  @Override
+  public boolean isAdjacencyGVELayout() {
+    return false;
+  }
+
   @Override
   public boolean isTransactionalLayout() {
     return false;
@@ -99,22 +104,16 @@ public class GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
 
   @Override
   public DataSet<GraphTransaction> getGraphTransactions() {
-    DataSet<Tuple2<GradoopId, GraphElement>> graphVertexTuples = getVertices()
-      .map(new Cast<>(GraphElement.class))
-      .returns(TypeExtractor.getForClass(GraphElement.class))
+    DataSet<Tuple2<GradoopId, Vertex>> graphVertexTuples = getVertices()
       .flatMap(new GraphElementExpander<>());
 
-    DataSet<Tuple2<GradoopId, GraphElement>> graphEdgeTuples = getEdges()
-      .map(new Cast<>(GraphElement.class))
-      .returns(TypeExtractor.getForClass(GraphElement.class))
+    DataSet<Tuple2<GradoopId, Edge>> graphEdgeTuples = getEdges()
       .flatMap(new GraphElementExpander<>());
 
     DataSet<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> transactions = graphVertexTuples
-      .union(graphEdgeTuples)
-      .groupBy(0)
-      .combineGroup(new GraphVerticesEdges())
-      .groupBy(0)
-      .reduceGroup(new GraphVerticesEdges());
+      .coGroup(graphEdgeTuples)
+      .where(0).equalTo(0)
+      .with(new GraphVerticesEdges());
 
     return getGraphHeads()
       .leftOuterJoin(transactions)
@@ -156,4 +155,22 @@ public class GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
   public DataSet<Edge> getIncomingEdges(GradoopId vertexID) {
     return edges.filter(new ByTargetId<>(vertexID));
   }
+
+  @Override
+  public DataSet<VertexAdjacency> getVertexAdjacency() {
+    DataSet<Vertex> allVertices = getVertices();
+    DataSet<Edge> allEdges = getEdges();
+
+    return allVertices
+      .coGroup(allEdges
+        .join(allVertices)
+        .where("targetId").equalTo("id")
+        .with(new EdgeWithNeighbor(true))
+        .union(allEdges
+          .join(allVertices)
+          .where("sourceId").equalTo("id")
+          .with(new EdgeWithNeighbor(false))))
+      .where("id").equalTo(0)
+      .with(new BuildVertexAdjacency());
+  }
 }
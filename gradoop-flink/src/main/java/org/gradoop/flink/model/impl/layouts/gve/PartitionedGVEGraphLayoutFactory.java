@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.util.Objects;
+
+/**
+ * Responsible for creating a {@link GVELayout} whose vertices are hash partitioned by id.
+ *
+ * Operators join vertices by id using field expression keys, e.g. to find the source and target
+ * vertices of edges. The optimizer reuses the partitioning of such a layout instead of shipping
+ * the vertices to each join again. As most operators forward the vertex ids, the partitioning is
+ * kept when the resulting graph is created, so that chained operators avoid further shuffles.
+ */
+public class PartitionedGVEGraphLayoutFactory extends GVEGraphLayoutFactory {
+
+  @Override
+  GVELayout create(DataSet<GraphHead> graphHeads, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    Objects.requireNonNull(vertices, "Vertex DataSet was null");
+    return super.create(graphHeads, vertices.partitionByHash("id"), edges);
+  }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.layouts.gve.GVEGraphLayoutFactory;
+
+import java.util.Map;
+
+/**
+ * Responsible for creating an {@link AdjacencyGVELayout} from given data.
+ */
+public class AdjacencyGVEGraphLayoutFactory extends GVEGraphLayoutFactory {
+
+  @Override
+  public AdjacencyGVELayout fromDataSets(DataSet<Vertex> vertices, DataSet<Edge> edges) {
+    return toAdjacencyLayout(super.fromDataSets(vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromDataSets(DataSet<GraphHead> graphHead, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    return toAdjacencyLayout(super.fromDataSets(graphHead, vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromIndexedDataSets(Map<String, DataSet<Vertex>> vertices,
+    Map<String, DataSet<Edge>> edges) {
+    return toAdjacencyLayout(super.fromIndexedDataSets(vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromIndexedDataSets(Map<String, DataSet<GraphHead>> graphHeads,
+    Map<String, DataSet<Vertex>> vertices, Map<String, DataSet<Edge>> edges) {
+    return toAdjacencyLayout(super.fromIndexedDataSets(graphHeads, vertices, edges));
+  }
+
+  /**
+   * Creates an adjacency layout from the datasets of the given layout.
+   *
+   * @param layout layout created by the GVE factory
+   * @return adjacency GVE layout
+   */
+  private AdjacencyGVELayout toAdjacencyLayout(LogicalGraphLayout layout) {
+    return layout instanceof AdjacencyGVELayout ? (AdjacencyGVELayout) layout :
+      new AdjacencyGVELayout(layout.getGraphHead(), layout.getVertices(), layout.getEdges());
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
+
+/**
+ * Like {@link GVELayout}, this layout separates between graph head, vertex and edge datasets. In
+ * addition, it provides the vertices together with their incident edges and neighbors as
+ * {@link VertexAdjacency}, partitioned by vertex id.
+ *
+ * The adjacency is built once on first access and shared by all operators reading it, so that
+ * neighborhood operators aggregate locally instead of joining all edges with the vertices.
+ */
+public class AdjacencyGVELayout extends GVELayout implements LogicalGraphLayout {
+  /**
+   * Vertices with their incident edges and neighbors, built on first access.
+   */
+  private DataSet<VertexAdjacency> vertexAdjacency;
+
+  /**
+   * Creates a new adjacency GVE layout.
+   *
+   * @param graphHeads graph head dataset
+   * @param vertices vertex dataset
+   * @param edges edge dataset
+   */
+  protected AdjacencyGVELayout(DataSet<GraphHead> graphHeads, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    super(graphHeads, vertices, edges);
+  }
+
+  @Override
+  public boolean isAdjacencyGVELayout() {
+    return true;
+  }
+
+  @Override
+  public DataSet<VertexAdjacency> getVertexAdjacency() {
+    if (vertexAdjacency == null) {
+      vertexAdjacency = super.getVertexAdjacency();
+    }
+    return vertexAdjacency;
+  }
+}
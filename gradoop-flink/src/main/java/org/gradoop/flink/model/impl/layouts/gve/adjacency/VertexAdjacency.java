@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.representation.common.adjacencylist.AdjacencyListRow;
+
+/**
+ * A vertex together with its incident edges and neighbors.
+ *
+ * f0: vertex
+ * f1: outgoing edges and their target vertices
+ * f2: incoming edges and their source vertices
+ */
+public class VertexAdjacency
+  extends Tuple3<Vertex, AdjacencyListRow<Edge, Vertex>, AdjacencyListRow<Edge, Vertex>> {
+
+  /**
+   * default constructor
+   */
+  public VertexAdjacency() {
+  }
+
+  /**
+   * valued constructor
+   *
+   * @param vertex vertex
+   * @param outgoing outgoing edges and their target vertices
+   * @param incoming incoming edges and their source vertices
+   */
+  public VertexAdjacency(Vertex vertex, AdjacencyListRow<Edge, Vertex> outgoing,
+    AdjacencyListRow<Edge, Vertex> incoming) {
+    setVertex(vertex);
+    setOutgoing(outgoing);
+    setIncoming(incoming);
+  }
+
+  public Vertex getVertex() {
+    return f0;
+  }
+
+  public void setVertex(Vertex vertex) {
+    this.f0 = vertex;
+  }
+
+  public AdjacencyListRow<Edge, Vertex> getOutgoing() {
+    return f1;
+  }
+
+  public void setOutgoing(AdjacencyListRow<Edge, Vertex> outgoing) {
+    this.f1 = outgoing;
+  }
+
+  public AdjacencyListRow<Edge, Vertex> getIncoming() {
+    return f2;
+  }
+
+  public void setIncoming(AdjacencyListRow<Edge, Vertex> incoming) {
+    this.f2 = incoming;
+  }
+}
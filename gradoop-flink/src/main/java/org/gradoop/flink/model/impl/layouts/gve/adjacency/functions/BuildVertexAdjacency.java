@@ -0,0 +1,72 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
+import org.gradoop.flink.representation.common.adjacencylist.AdjacencyListCell;
+import org.gradoop.flink.representation.common.adjacencylist.AdjacencyListRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * (vertex) x (vertexId, outgoing, edge, neighbor),.. => (vertex, {(edge, target),..},
+ * {(edge, source),..})
+ *
+ * Forwarded fields first:
+ *
+ * *: vertex
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f0")
+public class BuildVertexAdjacency implements
+  CoGroupFunction<Vertex, Tuple4<GradoopId, Boolean, Edge, Vertex>, VertexAdjacency> {
+
+  @Override
+  public void coGroup(Iterable<Vertex> vertices,
+    Iterable<Tuple4<GradoopId, Boolean, Edge, Vertex>> neighbors,
+    Collector<VertexAdjacency> out) throws Exception {
+
+    Vertex vertex = null;
+    for (Vertex v : vertices) {
+      vertex = v;
+    }
+    // skip dangling edges
+    if (vertex == null) {
+      return;
+    }
+
+    List<AdjacencyListCell<Edge, Vertex>> outgoing = new ArrayList<>();
+    List<AdjacencyListCell<Edge, Vertex>> incoming = new ArrayList<>();
+    for (Tuple4<GradoopId, Boolean, Edge, Vertex> neighbor : neighbors) {
+      AdjacencyListCell<Edge, Vertex> cell = new AdjacencyListCell<>(neighbor.f2, neighbor.f3);
+      if (neighbor.f1) {
+        outgoing.add(cell);
+      } else {
+        incoming.add(cell);
+      }
+    }
+
+    out.collect(new VertexAdjacency(
+      vertex, new AdjacencyListRow<>(outgoing), new AdjacencyListRow<>(incoming)));
+  }
+}
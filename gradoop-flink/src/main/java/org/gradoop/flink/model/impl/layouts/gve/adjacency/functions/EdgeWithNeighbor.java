@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * (edge) |><| (neighbor) => (vertexId, outgoing, edge, neighbor)
+ *
+ * For outgoing edges, the vertex is the source of the edge and the neighbor its target. For
+ * incoming edges, the vertex is the target of the edge and the neighbor its source.
+ *
+ * Forwarded fields first:
+ *
+ * *: edge
+ *
+ * Forwarded fields second:
+ *
+ * *: neighbor
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f2")
+@FunctionAnnotation.ForwardedFieldsSecond("*->f3")
+public class EdgeWithNeighbor
+  implements JoinFunction<Edge, Vertex, Tuple4<GradoopId, Boolean, Edge, Vertex>> {
+
+  /**
+   * True, if the edges are outgoing edges of the vertex.
+   */
+  private final boolean outgoing;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<GradoopId, Boolean, Edge, Vertex> reuseTuple;
+
+  /**
+   * Constructor.
+   *
+   * @param outgoing true, if the edges are outgoing edges of the vertex
+   */
+  public EdgeWithNeighbor(boolean outgoing) {
+    this.outgoing = outgoing;
+    this.reuseTuple = new Tuple4<>();
+    this.reuseTuple.f1 = outgoing;
+  }
+
+  @Override
+  public Tuple4<GradoopId, Boolean, Edge, Vertex> join(Edge edge, Vertex neighbor)
+    throws Exception {
+    reuseTuple.f0 = outgoing ? edge.getSourceId() : edge.getTargetId();
+    reuseTuple.f2 = edge;
+    reuseTuple.f3 = neighbor;
+    return reuseTuple;
+  }
+}
@@ -16,19 +16,29 @@
 package org.gradoop.flink.model.impl.layouts.gve.indexed;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.api.entities.EPGMLabeled;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
 import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
 import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Like {@link GVELayout}, this layout separated between graph head, vertex and edge layouts. In
  * addition, the datasets are separated by labels and accesses by known labels are much more
  * efficient as they avoid duplicating rows during program execution.
+ *
+ * Multiple labels may map to the same dataset, e.g. if a data source reads small labels using a
+ * single input. Such a dataset is contained only once in the union of all elements and is
+ * filtered by label when accessed by one of its labels.
  */
 public class IndexedGVELayout extends GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
   /**
@@ -43,6 +53,10 @@ public class IndexedGVELayout extends GVELayout implements LogicalGraphLayout, G
    * Mapping from edge label to edges with that label.
    */
   private final Map<String, DataSet<Edge>> edges;
+  /**
+   * Datasets which are shared by multiple labels.
+   */
+  private final Set<DataSet<?>> sharedDataSets;
 
   /**
    * Creates a new Indexed GVE Layout.
@@ -55,16 +69,20 @@ public class IndexedGVELayout extends GVELayout implements LogicalGraphLayout, G
     Map<String, DataSet<Vertex>> vertices,
     Map<String, DataSet<Edge>> edges) {
     super(
-      graphHeads.values().stream().reduce(DataSet::union)
+      graphHeads.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during graph head union")),
-      vertices.values().stream().reduce(DataSet::union)
+      vertices.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during vertex union")),
-      edges.values().stream().reduce(DataSet::union)
+      edges.values().stream().distinct().reduce(DataSet::union)
         .orElseThrow(() -> new RuntimeException("Error during edge union"))
     );
     this.graphHeads = graphHeads;
     this.vertices = vertices;
     this.edges = edges;
+    this.sharedDataSets = Collections.newSetFromMap(new IdentityHashMap<>());
+    addSharedDataSets(graphHeads.values());
+    addSharedDataSets(vertices.values());
+    addSharedDataSets(edges.values());
   }
 
   @Override
@@ -74,16 +92,45 @@ public class IndexedGVELayout extends GVELayout implements LogicalGraphLayout, G
 
   @Override
   public DataSet<GraphHead> getGraphHeadsByLabel(String label) {
-    return graphHeads.get(label);
+    return getByLabel(graphHeads, label);
   }
 
   @Override
   public DataSet<Vertex> getVerticesByLabel(String label) {
-    return vertices.get(label);
+    return getByLabel(vertices, label);
   }
 
   @Override
   public DataSet<Edge> getEdgesByLabel(String label) {
-    return edges.get(label);
+    return getByLabel(edges, label);
+  }
+
+  /**
+   * Returns the dataset of the specified label. Shared datasets are filtered by the label.
+   *
+   * @param dataSets mapping from label to dataset
+   * @param label label
+   * @param <T> element type
+   * @return dataset containing only elements with the specified label
+   */
+  private <T extends EPGMLabeled> DataSet<T> getByLabel(Map<String, DataSet<T>> dataSets,
+    String label) {
+    DataSet<T> dataSet = dataSets.get(label);
+    return dataSet != null && sharedDataSets.contains(dataSet) ?
+      dataSet.filter(new ByLabel<>(label)) : dataSet;
+  }
+
+  /**
+   * Adds all datasets which occur multiple times to the shared datasets.
+   *
+   * @param dataSets datasets by label
+   */
+  private void addSharedDataSets(Collection<? extends DataSet<?>> dataSets) {
+    Set<DataSet<?>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (DataSet<?> dataSet : dataSets) {
+      if (!seen.add(dataSet)) {
+        sharedDataSets.add(dataSet);
+      }
+    }
   }
 }
@@ -22,10 +22,8 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
-import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.common.model.impl.pojo.GraphElement;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.util.GradoopConstants;
@@ -37,7 +35,6 @@ import org.gradoop.flink.model.impl.functions.epgm.GraphElementExpander;
 import org.gradoop.flink.model.impl.functions.epgm.GraphVerticesEdges;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.TransactionFromSets;
-import org.gradoop.flink.model.impl.functions.utils.Cast;
 import org.gradoop.flink.model.impl.layouts.common.BaseFactory;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 
@@ -75,22 +72,16 @@ public class TxCollectionLayoutFactory extends BaseFactory implements GraphColle
     );
     inGraphHeads = inGraphHeads.union(dbGraphHead);
 
-    DataSet<Tuple2<GradoopId, GraphElement>> vertices = inVertices
-      .map(new Cast<>(GraphElement.class))
-      .returns(TypeExtractor.getForClass(GraphElement.class))
+    DataSet<Tuple2<GradoopId, Vertex>> vertices = inVertices
       .flatMap(new GraphElementExpander<>());
 
-    DataSet<Tuple2<GradoopId, GraphElement>> edges = inEdges
-      .map(new Cast<>(GraphElement.class))
-      .returns(TypeExtractor.getForClass(GraphElement.class))
+    DataSet<Tuple2<GradoopId, Edge>> edges = inEdges
       .flatMap(new GraphElementExpander<>());
 
     DataSet<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> transactions = vertices
-      .union(edges)
-      .groupBy(0)
-      .combineGroup(new GraphVerticesEdges())
-      .groupBy(0)
-      .reduceGroup(new GraphVerticesEdges());
+      .coGroup(edges)
+      .where(0).equalTo(0)
+      .with(new GraphVerticesEdges());
 
     DataSet<GraphTransaction> graphTransactions = inGraphHeads
       .leftOuterJoin(transactions)
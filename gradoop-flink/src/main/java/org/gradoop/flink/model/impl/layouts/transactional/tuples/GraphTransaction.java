@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.layouts.transactional.tuples;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -24,7 +25,10 @@ import java.util.Set;
 
 /**
  * An encapsulated representation of a logical graph with duplicated elements.
+ *
+ * Vertex and edge sets are serialized natively, see {@link GraphTransactionTypeInfoFactory}.
  */
+@TypeInfo(GraphTransactionTypeInfoFactory.class)
 public class GraphTransaction extends Tuple3<GraphHead, Set<Vertex>, Set<Edge>> {
 
   /**
@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.transactional.tuples;
+
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers the type information of {@link GraphTransaction} at the Flink type extractor.
+ *
+ * The transaction stays a tuple type, but its vertex and edge sets are described by
+ * {@link SetTypeInfo}, so that the elements are serialized by their native serializers instead of
+ * Kryo.
+ */
+public class GraphTransactionTypeInfoFactory extends TypeInfoFactory<GraphTransaction> {
+
+  @Override
+  public TypeInformation<GraphTransaction> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    return new TupleTypeInfo<>(GraphTransaction.class,
+      TypeExtractor.createTypeInfo(GraphHead.class),
+      getVertexSetType(),
+      getEdgeSetType());
+  }
+
+  /**
+   * Returns the type information of (graphId, {vertex,..}, {edge,..}) tuples.
+   *
+   * @return type information of the vertex and edge sets of a graph
+   */
+  public static TypeInformation<Tuple3<GradoopId, Set<Vertex>, Set<Edge>>> getGraphSetsType() {
+    return new TupleTypeInfo<>(
+      TypeExtractor.createTypeInfo(GradoopId.class),
+      getVertexSetType(),
+      getEdgeSetType());
+  }
+
+  /**
+   * Returns the type information of a vertex set.
+   *
+   * @return vertex set type information
+   */
+  private static TypeInformation<Set<Vertex>> getVertexSetType() {
+    return new SetTypeInfo<>(TypeExtractor.createTypeInfo(Vertex.class));
+  }
+
+  /**
+   * Returns the type information of an edge set.
+   *
+   * @return edge set type information
+   */
+  private static TypeInformation<Set<Edge>> getEdgeSetType() {
+    return new SetTypeInfo<>(TypeExtractor.createTypeInfo(Edge.class));
+  }
+}
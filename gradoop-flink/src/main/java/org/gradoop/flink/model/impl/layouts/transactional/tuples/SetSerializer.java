@@ -0,0 +1,167 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.transactional.tuples;
+
+import org.apache.flink.api.common.typeutils.CompatibilityResult;
+import org.apache.flink.api.common.typeutils.ParameterlessTypeSerializerConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerConfigSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Serializer for sets using the native serializer of the element type:
+ *
+ * int      : number of elements or -1 for {@code null}
+ * elements : elements written by the element serializer, i.e. without class tags
+ *
+ * Sets are deserialized as {@link HashSet}.
+ *
+ * @param <T> element type
+ */
+public class SetSerializer<T> extends TypeSerializer<Set<T>> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Serializer of the set elements
+   */
+  private final TypeSerializer<T> elementSerializer;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param elementSerializer serializer of the set elements
+   */
+  public SetSerializer(TypeSerializer<T> elementSerializer) {
+    this.elementSerializer = elementSerializer;
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Set<T>> duplicate() {
+    TypeSerializer<T> duplicate = elementSerializer.duplicate();
+    return duplicate == elementSerializer ? this : new SetSerializer<>(duplicate);
+  }
+
+  @Override
+  public Set<T> createInstance() {
+    return new HashSet<>();
+  }
+
+  @Override
+  public Set<T> copy(Set<T> from) {
+    if (from == null) {
+      return null;
+    }
+    Set<T> copy = new HashSet<>(from.size() * 2);
+    for (T element : from) {
+      copy.add(elementSerializer.copy(element));
+    }
+    return copy;
+  }
+
+  @Override
+  public Set<T> copy(Set<T> from, Set<T> reuse) {
+    return copy(from);
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(Set<T> record, DataOutputView target) throws IOException {
+    if (record == null) {
+      target.writeInt(-1);
+      return;
+    }
+    target.writeInt(record.size());
+    for (T element : record) {
+      elementSerializer.serialize(element, target);
+    }
+  }
+
+  @Override
+  public Set<T> deserialize(DataInputView source) throws IOException {
+    int size = source.readInt();
+    if (size == -1) {
+      return null;
+    }
+    Set<T> set = new HashSet<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      set.add(elementSerializer.deserialize(source));
+    }
+    return set;
+  }
+
+  @Override
+  public Set<T> deserialize(Set<T> reuse, DataInputView source) throws IOException {
+    return deserialize(source);
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int size = source.readInt();
+    target.writeInt(size);
+    for (int i = 0; i < size; i++) {
+      elementSerializer.copy(source, target);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof SetSerializer &&
+      ((SetSerializer<?>) obj).canEqual(this) &&
+      elementSerializer.equals(((SetSerializer<?>) obj).elementSerializer);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof SetSerializer;
+  }
+
+  @Override
+  public int hashCode() {
+    return elementSerializer.hashCode();
+  }
+
+  @Override
+  public TypeSerializerConfigSnapshot snapshotConfiguration() {
+    return new ParameterlessTypeSerializerConfig(getClass().getName());
+  }
+
+  @Override
+  public CompatibilityResult<Set<T>> ensureCompatibility(
+    TypeSerializerConfigSnapshot configSnapshot) {
+    return configSnapshot instanceof ParameterlessTypeSerializerConfig &&
+      getClass().getName().equals(((ParameterlessTypeSerializerConfig) configSnapshot)
+        .getSerializationFormatIdentifier()) ?
+      CompatibilityResult.compatible() : CompatibilityResult.requiresMigration();
+  }
+}
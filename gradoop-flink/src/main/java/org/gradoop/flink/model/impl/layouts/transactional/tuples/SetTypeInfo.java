@@ -0,0 +1,112 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.transactional.tuples;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+import java.util.Set;
+
+/**
+ * Type information for sets of a natively serializable element type.
+ *
+ * Provides a {@link SetSerializer} instead of the generic Kryo serializer used for {@link Set}.
+ *
+ * @param <T> element type
+ */
+public class SetTypeInfo<T> extends TypeInformation<Set<T>> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Type information of the set elements
+   */
+  private final TypeInformation<T> elementType;
+
+  /**
+   * Creates a new type information.
+   *
+   * @param elementType type information of the set elements
+   */
+  public SetTypeInfo(TypeInformation<T> elementType) {
+    this.elementType = elementType;
+  }
+
+  public TypeInformation<T> getElementType() {
+    return elementType;
+  }
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Class<Set<T>> getTypeClass() {
+    return (Class<Set<T>>) (Class<?>) Set.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<Set<T>> createSerializer(ExecutionConfig config) {
+    return new SetSerializer<>(elementType.createSerializer(config));
+  }
+
+  @Override
+  public String toString() {
+    return "Set<" + elementType + ">";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof SetTypeInfo && ((SetTypeInfo<?>) obj).canEqual(this) &&
+      elementType.equals(((SetTypeInfo<?>) obj).elementType);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * SetTypeInfo.class.hashCode() + elementType.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof SetTypeInfo;
+  }
+}
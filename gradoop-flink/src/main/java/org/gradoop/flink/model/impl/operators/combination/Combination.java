@@ -20,7 +20,6 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.BinaryGraphToGraphOperator;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * Computes the combined graph from two logical graphs.
@@ -42,11 +41,11 @@ public class Combination implements BinaryGraphToGraphOperator {
 
     DataSet<Vertex> newVertexSet = firstGraph.getVertices()
       .union(secondGraph.getVertices())
-      .distinct(new Id<Vertex>());
+      .distinct("id");
 
     DataSet<Edge> newEdgeSet = firstGraph.getEdges()
       .union(secondGraph.getEdges())
-      .distinct(new Id<Edge>());
+      .distinct("id");
 
     return firstGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertexSet, newEdgeSet);
   }
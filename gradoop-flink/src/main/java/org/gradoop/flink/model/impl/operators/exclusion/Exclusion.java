@@ -37,9 +37,6 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.BinaryGraphToGraphOperator;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.utils.LeftWhenRightIsNull;
 
@@ -62,18 +59,18 @@ public class Exclusion implements BinaryGraphToGraphOperator {
     LogicalGraph firstGraph, LogicalGraph secondGraph) {
     DataSet<Vertex> newVertexSet = firstGraph.getVertices()
       .leftOuterJoin(secondGraph.getVertices())
-      .where(new Id<>())
-      .equalTo(new Id<>())
+      .where("id")
+      .equalTo("id")
       .with(new LeftWhenRightIsNull<>());
 
     DataSet<Edge> newEdgeSet = firstGraph.getEdges()
       .join(newVertexSet)
-      .where(new SourceId<>())
-      .equalTo(new Id<>())
+      .where("sourceId")
+      .equalTo("id")
       .with(new LeftSide<>())
       .join(newVertexSet)
-      .where(new TargetId<>())
-      .equalTo(new Id<>())
+      .where("targetId")
+      .equalTo("id")
       .with(new LeftSide<>());
 
     return firstGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertexSet, newEdgeSet);
@@ -118,7 +118,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int offset = idData.length;
     for (GradoopId id : ids) {
       newIds[offset] = ID_ENTRY_FLAG;
-      System.arraycopy(id.toByteArray(), 0, newIds, offset + 1, GradoopId.ID_SIZE);
+      id.copyTo(newIds, offset + 1);
       offset += ID_ENTRY_SIZE;
     }
 
@@ -130,7 +130,13 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return ID of the entry
    */
   public GradoopId getId(int column) {
-    return GradoopId.fromByteArray(getRawId(column));
+    int offset = getIdOffset(column);
+
+    if (idData[offset] == ID_LIST_FLAG) {
+      throw new UnsupportedOperationException("Can't return ID for ID List");
+    }
+
+    return GradoopId.fromByteArray(idData, offset + 1);
   }
 
   /**
@@ -199,7 +205,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
     System.arraycopy(idData, 0, newIds, 0, idData.length);
     newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
+    id.copyTo(newIds, idData.length + 1);
 
     idData = newIds;
   }
@@ -382,9 +388,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     List<GradoopId> idList = new ArrayList<>(listSize);
 
     for (int i = 0; i < listSize; i++) {
-      idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
-      ));
+      idList.add(GradoopId.fromByteArray(idListData, offset));
       offset += GradoopId.ID_SIZE;
     }
 
@@ -554,7 +558,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param offset offset the value will be written to
    */
   private void writeId(GradoopId value, byte[] target, int offset) {
-    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
+    value.copyTo(target, offset);
   }
 
   /**
@@ -22,10 +22,8 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
+import org.gradoop.flink.model.impl.operators.neighborhood.functions.NeighborEdgeAdjacencyFunction;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.NeighborEdgeReduceFunction;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.VertexIdsWithEdge;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.VertexToFieldOne;
@@ -51,13 +49,22 @@ public class ReduceEdgeNeighborhood extends EdgeNeighborhood {
    */
   @Override
   public LogicalGraph execute(LogicalGraph graph) {
+    if (graph.isAdjacencyGVELayout()) {
+      // aggregates each vertex locally using the adjacency provided by the layout
+      return graph.getConfig().getLogicalGraphFactory().fromDataSets(graph.getGraphHead(),
+        graph.getVertexAdjacency()
+          .flatMap(new NeighborEdgeAdjacencyFunction(
+            (EdgeAggregateFunction) getFunction(), getDirection())),
+        graph.getEdges());
+    }
+
     DataSet<Vertex> vertices;
     switch (getDirection()) {
     case IN:
       // takes edges which target to the vertex and applies the aggregate function
       vertices = graph.getEdges()
         .join(graph.getVertices())
-        .where(new TargetId<>()).equalTo(new Id<>())
+        .where("targetId").equalTo("id")
         .groupBy(new IdInTuple<Tuple2<Edge, Vertex>>(1))
         .reduceGroup(new NeighborEdgeReduceFunction((EdgeAggregateFunction) getFunction()));
       break;
@@ -65,7 +72,7 @@ public class ReduceEdgeNeighborhood extends EdgeNeighborhood {
       // takes edges which start at the vertex and applies the aggregate function
       vertices = graph.getEdges()
         .join(graph.getVertices())
-        .where(new SourceId<>()).equalTo(new Id<>())
+        .where("sourceId").equalTo("id")
         .groupBy(new IdInTuple<Tuple2<Edge, Vertex>>(1))
         .reduceGroup(new NeighborEdgeReduceFunction((EdgeAggregateFunction) getFunction()));
       break;
@@ -76,7 +83,7 @@ public class ReduceEdgeNeighborhood extends EdgeNeighborhood {
         .flatMap(new VertexIdsWithEdge())
         .map(new SwitchPair<GradoopId, Edge>())
         .join(graph.getVertices())
-        .where(1).equalTo(new Id<>())
+        .where(1).equalTo("id")
         // replace id with the vertex
         .with(new VertexToFieldOne<Edge, GradoopId>())
         // group by the vertex id
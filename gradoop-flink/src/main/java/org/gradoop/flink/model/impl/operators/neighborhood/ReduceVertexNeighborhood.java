@@ -21,7 +21,7 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.model.impl.operators.neighborhood.functions.NeighborVertexAdjacencyFunction;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.NeighborVertexReduceFunction;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.ShuffledVertexIdsFromEdge;
 import org.gradoop.flink.model.impl.operators.neighborhood.functions.VertexIdsFromEdge;
@@ -49,6 +49,15 @@ public class ReduceVertexNeighborhood extends VertexNeighborhood {
    */
   @Override
   public LogicalGraph execute(LogicalGraph graph) {
+    if (graph.isAdjacencyGVELayout()) {
+      // aggregates each vertex locally using the adjacency provided by the layout
+      return graph.getConfig().getLogicalGraphFactory().fromDataSets(graph.getGraphHead(),
+        graph.getVertexAdjacency()
+          .flatMap(new NeighborVertexAdjacencyFunction(
+            (VertexAggregateFunction) getFunction(), getDirection())),
+        graph.getEdges());
+    }
+
     DataSet<Vertex> vertices;
     switch (getDirection()) {
     case IN:
@@ -58,12 +67,12 @@ public class ReduceVertexNeighborhood extends VertexNeighborhood {
         // tuple of source id and target id
         .map(new VertexIdsFromEdge())
         .join(graph.getVertices())
-        .where(1).equalTo(new Id<>())
+        .where(1).equalTo("id")
         // replace the second id with the vertex
         .with(new VertexToFieldOne<GradoopId, GradoopId>())
         .join(graph.getVertices())
         // replace the first id with the vertex
-        .where(0).equalTo(new Id<>())
+        .where(0).equalTo("id")
         .with(new VertexToFieldZero<GradoopId, Vertex>())
         // group by the target vertex
         .groupBy(new IdInTuple<Tuple2<Vertex, Vertex>>(1))
@@ -77,12 +86,12 @@ public class ReduceVertexNeighborhood extends VertexNeighborhood {
         // tuple of target id and source id
         .map(new VertexIdsFromEdge(true))
         .join(graph.getVertices())
-        .where(1).equalTo(new Id<>())
+        .where(1).equalTo("id")
         // replace the second id with the vertex
         .with(new VertexToFieldOne<GradoopId, GradoopId>())
         .join(graph.getVertices())
         // replace the first id with the vertex
-        .where(0).equalTo(new Id<>())
+        .where(0).equalTo("id")
         .with(new VertexToFieldZero<GradoopId, Vertex>())
         // group by the target vertex
         .groupBy(new IdInTuple<Tuple2<Vertex, Vertex>>(1))
@@ -96,11 +105,11 @@ public class ReduceVertexNeighborhood extends VertexNeighborhood {
         // maps source-target and target-source ids from the edge
         .flatMap(new ShuffledVertexIdsFromEdge())
         .join(graph.getVertices())
-        .where(1).equalTo(new Id<>())
+        .where(1).equalTo("id")
         // replace the second id with the vertex
         .with(new VertexToFieldOne<GradoopId, GradoopId>())
         .join(graph.getVertices())
-        .where(0).equalTo(new Id<>())
+        .where(0).equalTo("id")
         // replace the first id with the vertex
         .with(new VertexToFieldZero<GradoopId, Vertex>())
         .groupBy(new IdInTuple<Tuple2<Vertex, Vertex>>(1))
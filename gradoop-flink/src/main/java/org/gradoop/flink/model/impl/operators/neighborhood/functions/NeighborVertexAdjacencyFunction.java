@@ -0,0 +1,90 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.neighborhood.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood.EdgeDirection;
+import org.gradoop.flink.representation.common.adjacencylist.AdjacencyListCell;
+
+/**
+ * Sets the aggregation result of the neighbor vertices as property for each vertex, using the
+ * vertex adjacency instead of grouped edges. Like {@link NeighborVertexReduceFunction}, vertices
+ * without any neighbor in the considered direction are not returned.
+ */
+@FunctionAnnotation.ForwardedFields("f0.id->id;f0.label->label;f0.graphIds->graphIds")
+public class NeighborVertexAdjacencyFunction
+  extends NeighborVertexFunction
+  implements FlatMapFunction<VertexAdjacency, Vertex> {
+
+  /**
+   * Considered edge direction
+   */
+  private final EdgeDirection direction;
+
+  /**
+   * Valued constructor.
+   *
+   * @param function vertex aggregation function
+   * @param direction considered edge direction
+   */
+  public NeighborVertexAdjacencyFunction(VertexAggregateFunction function,
+    EdgeDirection direction) {
+    super(function);
+    this.direction = direction;
+  }
+
+  @Override
+  public void flatMap(VertexAdjacency adjacency, Collector<Vertex> collector) throws Exception {
+    PropertyValue propertyValue = null;
+
+    if (direction != EdgeDirection.IN) {
+      propertyValue = aggregate(propertyValue, adjacency.getOutgoing().getCells());
+    }
+    if (direction != EdgeDirection.OUT) {
+      propertyValue = aggregate(propertyValue, adjacency.getIncoming().getCells());
+    }
+
+    if (propertyValue != null) {
+      Vertex vertex = adjacency.getVertex();
+      vertex.setProperty(getFunction().getAggregatePropertyKey(), propertyValue);
+      collector.collect(vertex);
+    }
+  }
+
+  /**
+   * Aggregates the increments of the neighbor vertices of the given cells.
+   *
+   * @param propertyValue current aggregate or {@code null} if there is none
+   * @param cells adjacency list cells
+   * @return new aggregate or {@code null} if there is none
+   */
+  private PropertyValue aggregate(PropertyValue propertyValue,
+    Iterable<AdjacencyListCell<Edge, Vertex>> cells) {
+    for (AdjacencyListCell<Edge, Vertex> cell : cells) {
+      PropertyValue increment = getFunction().getVertexIncrement(cell.getVertexData());
+      propertyValue = propertyValue == null ?
+        increment : getFunction().aggregate(propertyValue, increment);
+    }
+    return propertyValue;
+  }
+}
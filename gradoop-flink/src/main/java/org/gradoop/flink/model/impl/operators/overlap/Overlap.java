@@ -20,9 +20,6 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.BinaryGraphToGraphOperator;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 
 /**
@@ -45,18 +42,18 @@ public class Overlap implements BinaryGraphToGraphOperator {
 
     DataSet<Vertex> newVertices = firstGraph.getVertices()
       .join(secondGraph.getVertices())
-      .where(new Id<>())
-      .equalTo(new Id<>())
+      .where("id")
+      .equalTo("id")
       .with(new LeftSide<>());
 
     DataSet<Edge> newEdges = firstGraph.getEdges()
       .join(newVertices)
-      .where(new SourceId<>())
-      .equalTo(new Id<>())
+      .where("sourceId")
+      .equalTo("id")
       .with(new LeftSide<>())
       .join(newVertices)
-      .where(new TargetId<>())
-      .equalTo(new Id<>())
+      .where("targetId")
+      .equalTo("id")
       .with(new LeftSide<>());
 
     return firstGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices, newEdges);
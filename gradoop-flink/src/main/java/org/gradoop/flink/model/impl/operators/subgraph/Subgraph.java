@@ -21,9 +21,6 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
-import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 import org.gradoop.flink.model.impl.functions.utils.RightSide;
 
@@ -92,12 +89,13 @@ public class Subgraph implements UnaryGraphToGraphOperator {
     DataSet<Vertex> filteredVertices = superGraph.getVertices()
       .filter(vertexFilterFunction);
 
+    // field expression keys keep the partitioning of the vertices visible to the optimizer
     DataSet<Edge> newEdges = superGraph.getEdges()
       .join(filteredVertices)
-      .where(new SourceId<>()).equalTo(new Id<Vertex>())
+      .where("sourceId").equalTo("id")
       .with(new LeftSide<Edge, Vertex>())
       .join(filteredVertices)
-      .where(new TargetId<>()).equalTo(new Id<Vertex>())
+      .where("targetId").equalTo("id")
       .with(new LeftSide<Edge, Vertex>());
 
     return superGraph.getConfig().getLogicalGraphFactory().fromDataSets(filteredVertices, newEdges);
@@ -117,13 +115,13 @@ public class Subgraph implements UnaryGraphToGraphOperator {
 
     DataSet<Vertex> newVertices = filteredEdges
       .join(superGraph.getVertices())
-      .where(new SourceId<>()).equalTo(new Id<Vertex>())
+      .where("sourceId").equalTo("id")
       .with(new RightSide<Edge, Vertex>())
       .union(filteredEdges
         .join(superGraph.getVertices())
-          .where(new TargetId<>()).equalTo(new Id<Vertex>())
+          .where("targetId").equalTo("id")
           .with(new RightSide<Edge, Vertex>()))
-      .distinct(new Id<Vertex>());
+      .distinct("id");
 
     return superGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices, filteredEdges);
   }
@@ -31,6 +31,11 @@ import java.util.List;
  */
 public abstract class ElementToDataString<EL extends Element> {
 
+  /**
+   * Reused to create the string representation of a single property.
+   */
+  private final Property reuseProperty = new Property();
+
   /**
    * generalization of label and properties string concatenation
    * @param el graph head, vertex or edge
@@ -51,9 +56,11 @@ public abstract class ElementToDataString<EL extends Element> {
     if (properties != null) {
       List<String> propertyLabels = new ArrayList<>();
 
-      for (Property property : el.getProperties()) {
-        propertyLabels.add(property.toString());
-      }
+      properties.forEachEntry((key, value) -> {
+          reuseProperty.setKey(key);
+          reuseProperty.setValue(value);
+          propertyLabels.add(reuseProperty.toString());
+        });
 
       Collections.sort(propertyLabels);
 
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collection;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+
+public class ColumnarDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws Exception {
+    testWrite(ColumnarCompression.DEFLATE);
+  }
+
+  @Test
+  public void testWriteUncompressed() throws Exception {
+    testWrite(ColumnarCompression.NONE);
+  }
+
+  @Test
+  public void testWriteCSVOutput() throws Exception {
+    String csvPath = temporaryFolder.newFolder().getPath();
+    String columnarPath = temporaryFolder.newFolder().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink csvDataSink = new CSVDataSink(csvPath, getConfig());
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    LogicalGraph csvGraph = new CSVDataSource(csvPath, getConfig()).getLogicalGraph();
+    DataSink columnarDataSink = new ColumnarDataSink(columnarPath, getConfig());
+    columnarDataSink.write(csvGraph, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource columnarDataSource = new ColumnarDataSource(columnarPath, getConfig());
+    LogicalGraph output = columnarDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(csvGraph.equalsByElementData(output));
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  private void testWrite(ColumnarCompression compression) throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpPath, getConfig(), compression));
+
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new ColumnarDataSource(tmpPath, getConfig())
+      .getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
+}
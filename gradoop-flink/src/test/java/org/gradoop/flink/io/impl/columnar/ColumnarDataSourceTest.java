@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarDataSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadWithProjection() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpPath, getConfig()));
+
+    getExecutionEnvironment().execute();
+
+    Set<String> labels = Sets.newHashSet("Person", "knows");
+    Set<String> propertyKeys = Sets.newHashSet("name", "since");
+    GraphCollection collection = new ColumnarDataSource(tmpPath, getConfig(), labels, propertyKeys)
+      .getGraphCollection();
+
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    Collection<Edge> loadedEdges = Lists.newArrayList();
+
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    Collection<Vertex> expectedVertices = loader.getVertices().stream()
+      .filter(v -> labels.contains(v.getLabel()))
+      .collect(Collectors.toList());
+    Collection<Edge> expectedEdges = loader.getEdges().stream()
+      .filter(e -> labels.contains(e.getLabel()))
+      .collect(Collectors.toList());
+
+    assertEquals(expectedVertices.size(), loadedVertices.size());
+    assertEquals(expectedEdges.size(), loadedEdges.size());
+    validateProjection(expectedVertices, loadedVertices, propertyKeys);
+    validateProjection(expectedEdges, loadedEdges, propertyKeys);
+  }
+
+  @Test
+  public void testReadWithEmptyProjection() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    loader.getDatabase().writeTo(new ColumnarDataSink(tmpPath, getConfig()));
+
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new ColumnarDataSource(tmpPath, getConfig(), null,
+      Sets.newHashSet()).getGraphCollection();
+
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals(loader.getVertices().size(), loadedVertices.size());
+    for (Vertex vertex : loadedVertices) {
+      assertTrue(vertex.getProperties().isEmpty());
+    }
+  }
+
+  private <E extends Element> void validateProjection(Collection<E> expected,
+    Collection<E> loaded, Set<String> propertyKeys) {
+    for (E element : expected) {
+      for (String key : Lists.newArrayList(element.getPropertyKeys())) {
+        if (!propertyKeys.contains(key)) {
+          element.removeProperty(key);
+        }
+      }
+    }
+    validateEPGMElementCollections(expected, loaded);
+  }
+}
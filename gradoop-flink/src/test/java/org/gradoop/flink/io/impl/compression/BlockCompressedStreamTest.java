@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BlockCompressedStreamTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadSplits() throws Exception {
+    byte[] text = createText();
+    File file = write(text, 128);
+    long fileLength = file.length();
+    assertTrue(fileLength < text.length);
+
+    for (long splitLength : new long[] {1L, 7L, 100L, 1000L, fileLength}) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      for (long start = 0; start < fileLength; start += splitLength) {
+        result.write(readSplit(file, start, Math.min(splitLength, fileLength - start)));
+      }
+      assertArrayEquals("split length " + splitLength, text, result.toByteArray());
+    }
+    assertArrayEquals(text, readSplit(file, 0, -1));
+  }
+
+  @Test
+  public void testReadWithGzip() throws Exception {
+    byte[] text = createText();
+    File file = write(text, 128);
+
+    try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+      assertArrayEquals(text, IOUtils.toByteArray(in));
+    }
+  }
+
+  @Test
+  public void testDetectCompression() {
+    assertEquals(TextCompression.BLOCK_GZIP,
+      TextCompression.fromPath(new Path("/graph/vertices.csv/1.gzb")));
+    assertEquals(TextCompression.NONE,
+      TextCompression.fromPath(new Path("/graph/vertices.csv/1")));
+  }
+
+  private byte[] createText() {
+    Random random = new Random(42);
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      // a few lines are longer than a block
+      int length = random.nextInt(i % 100 == 0 ? 500 : 40);
+      for (int j = 0; j < length; j++) {
+        text.append((char) ('a' + random.nextInt(4)));
+      }
+      text.append('\n');
+    }
+    text.append("last line without line break");
+    return text.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private File write(byte[] text, int blockSize) throws IOException {
+    File file = temporaryFolder.newFile();
+    try (OutputStream out =
+      new BlockCompressedOutputStream(new FileOutputStream(file), blockSize)) {
+      for (int i = 0; i < text.length; i += 13) {
+        out.write(text, i, Math.min(13, text.length - i));
+      }
+    }
+    return file;
+  }
+
+  private byte[] readSplit(File file, long start, long length) throws IOException {
+    Path path = new Path(file.toURI());
+    FileSystem fs = path.getFileSystem();
+    try (InputStream in = new BlockCompressedInputStream(fs.open(path), start, length)) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+}
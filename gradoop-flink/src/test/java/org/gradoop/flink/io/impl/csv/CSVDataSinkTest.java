@@ -15,8 +15,14 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.TextCompression;
+import org.gradoop.flink.io.impl.csv.metadata.MetaData;
 import org.gradoop.flink.io.impl.edgelist.VertexLabeledEdgeListDataSourceTest;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
@@ -24,6 +30,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
 public class CSVDataSinkTest extends GradoopFlinkTestBase {
 
   @Rule
@@ -72,4 +83,91 @@ public class CSVDataSinkTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByElementData(output));
   }
+
+  @Test
+  public void testWriteWithEscapedCharacters() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    Properties properties = Properties.create();
+    properties.set("a", "foo;bar|baz");
+    properties.set("b", "back\\slash\\");
+    properties.set("c", "line\nbreak\r\n");
+    Vertex v1 = getConfig().getVertexFactory().createVertex("A\\b|c", properties);
+    Vertex v2 = getConfig().getVertexFactory().createVertex("A\\b|c");
+    v2.setProperty("c", "|;");
+    Edge e = getConfig().getEdgeFactory()
+      .createEdge("a\\b|c", v1.getId(), v2.getId(), properties);
+
+    LogicalGraph input = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1, v2), Lists.newArrayList(e));
+
+    DataSink csvDataSink = new CSVDataSink(tmpPath, getConfig());
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource csvDataSource = new CSVDataSource(tmpPath, getConfig());
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink csvDataSink = new CSVDataSink(tmpPath, getConfig(), TextCompression.BLOCK_GZIP);
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource csvDataSource = new CSVDataSource(tmpPath, getConfig());
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test
+  public void testAppend() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    Vertex v1 = getConfig().getVertexFactory().createVertex("A");
+    v1.setProperty("a", 1);
+    LogicalGraph snapshot = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1), Lists.newArrayList());
+
+    new CSVDataSink(tmpPath, getConfig()).write(snapshot);
+    getExecutionEnvironment().execute();
+
+    Vertex v2 = getConfig().getVertexFactory().createVertex("A");
+    v2.setProperty("a", 2L);
+    v2.setProperty("b", "foo");
+    Vertex v3 = getConfig().getVertexFactory().createVertex("B");
+    Edge e = getConfig().getEdgeFactory().createEdge("a", v2.getId(), v1.getId());
+    e.setProperty("c", true);
+    LogicalGraph delta = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v2, v3), Lists.newArrayList(e));
+
+    new CSVDataSink(tmpPath, getConfig()).append(delta);
+    getExecutionEnvironment().execute();
+
+    Map<String, String> metaData = MetaData.readLines(tmpPath + "/metadata.csv").stream()
+      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+    assertEquals("a:long,b:string", metaData.get("A"));
+    assertEquals("", metaData.get("B"));
+    assertEquals("c:boolean", metaData.get("a"));
+
+    // the property of the first vertex is read using the widened type
+    v1.setProperty("a", 1L);
+    LogicalGraph expected = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1, v2, v3), Lists.newArrayList(e));
+
+    LogicalGraph output = new CSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+
+    collectAndAssertTrue(expected.equalsByElementData(output));
+  }
 }
@@ -0,0 +1,188 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.indexed;
+
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import com.google.common.collect.Lists;
+import org.apache.flink.runtime.client.JobExecutionException;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IndexedCSVDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink csvDataSink = new IndexedCSVDataSink(tmpPath, getConfig());
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    assertTrue(new File(tmpPath, "Person.csv").isDirectory());
+    assertTrue(new File(tmpPath, "knows.csv").isDirectory());
+
+    DataSource csvDataSource = new IndexedCSVDataSource(tmpPath, getConfig());
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test
+  public void testWriteAndReadSmallLabels() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink csvDataSink = new IndexedCSVDataSink(tmpPath, getConfig());
+    csvDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource csvDataSource = new IndexedCSVDataSource(tmpPath, getConfig(),
+      new org.apache.hadoop.conf.Configuration(), Long.MAX_VALUE);
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+    assertEquals(input.getVerticesByLabel("Person").count(),
+      output.getVerticesByLabel("Person").count());
+    assertEquals(input.getEdgesByLabel("knows").count(),
+      output.getEdgesByLabel("knows").count());
+  }
+
+  @Test
+  public void testOverwriteRemovesStaleFiles() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    File staleFile = new File(tmpPath, "Person.csv/99");
+    File stalePart = new File(tmpPath, "part-00001/Person.csv");
+    assertTrue(staleFile.getParentFile().mkdirs() && staleFile.createNewFile());
+    assertTrue(stalePart.mkdirs());
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    assertFalse(staleFile.exists());
+    assertFalse(stalePart.getParentFile().exists());
+
+    DataSource csvDataSource = new IndexedCSVDataSource(tmpPath, getConfig());
+    LogicalGraph output = csvDataSource.getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
+  @Test(expected = JobExecutionException.class)
+  public void testNoOverwriteFailsOnExistingFiles() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    assertTrue(new File(tmpPath, "Person.csv").mkdirs());
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).write(input, false);
+
+    getExecutionEnvironment().execute();
+  }
+
+  @Test
+  public void testWriteSharedLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getLoaderFromString("g[(a:Person)-[:Person]->(b:Person)]")
+      .getLogicalGraphByVariable("g");
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).write(input, true);
+
+    try {
+      getExecutionEnvironment().execute();
+      fail("Expected the job to fail for a label shared by vertices and edges");
+    } catch (JobExecutionException e) {
+      Throwable cause = e;
+      while (cause.getCause() != null && !(cause instanceof IllegalArgumentException)) {
+        cause = cause.getCause();
+      }
+      assertTrue(cause instanceof IllegalArgumentException);
+    }
+    assertFalse(new File(tmpPath, "Person.csv").exists());
+  }
+
+  @Test
+  public void testAppend() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    Vertex v1 = getConfig().getVertexFactory().createVertex("A");
+    v1.setProperty("a", 1);
+    LogicalGraph snapshot = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1), Lists.newArrayList());
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).write(snapshot);
+    getExecutionEnvironment().execute();
+
+    Vertex v2 = getConfig().getVertexFactory().createVertex("A");
+    v2.setProperty("a", 2L);
+    Vertex v3 = getConfig().getVertexFactory().createVertex("B");
+    Edge e = getConfig().getEdgeFactory().createEdge("a", v2.getId(), v1.getId());
+    e.setProperty("c", true);
+    LogicalGraph delta = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v2, v3), Lists.newArrayList(e));
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).append(delta);
+    getExecutionEnvironment().execute();
+
+    assertTrue(new File(tmpPath, "part-00001/A.csv").isDirectory());
+    assertTrue(new File(tmpPath, "part-00001/a.csv").isDirectory());
+
+    // the property of the first vertex is read using the widened type
+    v1.setProperty("a", 1L);
+    LogicalGraph expected = getConfig().getLogicalGraphFactory()
+      .fromCollections(Lists.newArrayList(v1, v2, v3), Lists.newArrayList(e));
+
+    LogicalGraph output = new IndexedCSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+    collectAndAssertTrue(expected.equalsByElementData(output));
+    assertEquals(2, output.getVerticesByLabel("A").count());
+
+    LogicalGraph sharedOutput = new IndexedCSVDataSource(tmpPath, getConfig(),
+      new org.apache.hadoop.conf.Configuration(), Long.MAX_VALUE).getLogicalGraph();
+    collectAndAssertTrue(expected.equalsByElementData(sharedOutput));
+  }
+}
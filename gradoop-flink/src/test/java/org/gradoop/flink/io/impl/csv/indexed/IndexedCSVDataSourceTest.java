@@ -15,12 +15,18 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.apache.hadoop.conf.Configuration;
 import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.edgelist.VertexLabeledEdgeListDataSourceTest;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
   @Test
@@ -40,4 +46,54 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByElementData(expected));
   }
+
+  @Test
+  public void testReadSmallLabels() throws Exception {
+    String csvPath = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/csv/input_indexed")
+      .getFile();
+
+    String gdlPath = IndexedCSVDataSourceTest.class
+      .getResource("/data/csv/expected/expected.gdl")
+      .getFile();
+
+    DataSource dataSource =
+      new IndexedCSVDataSource(csvPath, getConfig(), new Configuration(), Long.MAX_VALUE);
+    LogicalGraph input = dataSource.getLogicalGraph();
+    LogicalGraph expected = getLoaderFromFile(gdlPath)
+      .getLogicalGraphByVariable("expected");
+
+    collectAndAssertTrue(input.equalsByElementData(expected));
+    assertEquals(2, input.getVerticesByLabel("A").count());
+    assertEquals(3, input.getVerticesByLabel("B").count());
+    assertEquals(3, input.getEdgesByLabel("a").count());
+    assertEquals(3, input.getEdgesByLabel("b").count());
+  }
+
+  @Test
+  public void testReadWithUserDefinedJobParameters() throws Exception {
+    String csvPath = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/csv/input_indexed")
+      .getFile();
+
+    String gdlPath = IndexedCSVDataSourceTest.class
+      .getResource("/data/csv/expected/expected.gdl")
+      .getFile();
+
+    ExecutionConfig config = getExecutionEnvironment().getConfig();
+    ExecutionConfig.GlobalJobParameters previous = config.getGlobalJobParameters();
+    ParameterTool parameters = ParameterTool.fromArgs(new String[] {"--key", "value"});
+    config.setGlobalJobParameters(parameters);
+    try {
+      DataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig());
+      LogicalGraph input = dataSource.getLogicalGraph();
+      LogicalGraph expected = getLoaderFromFile(gdlPath)
+        .getLogicalGraphByVariable("expected");
+
+      collectAndAssertTrue(input.equalsByElementData(expected));
+      assertSame(parameters, config.getGlobalJobParameters());
+    } finally {
+      config.setGlobalJobParameters(previous);
+    }
+  }
 }
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class CSVElementInputFormatTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadEscapedVertex() throws Exception {
+    GradoopId id = GradoopId.get();
+    File file = writeLines(
+      id + ";A\\;B;a\\|b\\;c\\\\d|line1\\nline2\\r||42\r",
+      "");
+    List<Tuple2<String, String>> metaData = Collections.singletonList(
+      Tuple2.of("A;B", "s1:string,s2:string,s3:string,n:int"));
+
+    List<Vertex> vertices = getExecutionEnvironment()
+      .createInput(new CSVVertexInputFormat(file.getPath(), metaData),
+        TypeExtractor.createTypeInfo(Vertex.class))
+      .collect();
+
+    assertEquals(1, vertices.size());
+    Vertex vertex = vertices.get(0);
+    assertEquals(id, vertex.getId());
+    assertEquals("A;B", vertex.getLabel());
+    assertEquals("a|b;c\\d", vertex.getPropertyValue("s1").getString());
+    assertEquals("line1\nline2\r", vertex.getPropertyValue("s2").getString());
+    assertFalse(vertex.hasProperty("s3"));
+    assertEquals(42, vertex.getPropertyValue("n").getInt());
+  }
+
+  @Test
+  public void testReadEscapedEdge() throws Exception {
+    GradoopId id = GradoopId.get();
+    GradoopId sourceId = GradoopId.get();
+    GradoopId targetId = GradoopId.get();
+    File file = writeLines(
+      id + ";" + sourceId + ";" + targetId + ";a\\|b\\\\c;\\;x\\n|",
+      id + ";" + sourceId + ";" + targetId + ";a\\|b\\\\c;|y");
+    List<Tuple2<String, String>> metaData = Collections.singletonList(
+      Tuple2.of("a|b\\c", "s1:string,s2:string"));
+
+    List<Edge> edges = getExecutionEnvironment()
+      .createInput(new CSVEdgeInputFormat(file.getPath(), metaData),
+        TypeExtractor.createTypeInfo(Edge.class))
+      .collect();
+
+    assertEquals(2, edges.size());
+    for (Edge edge : edges) {
+      assertEquals(id, edge.getId());
+      assertEquals(sourceId, edge.getSourceId());
+      assertEquals(targetId, edge.getTargetId());
+      assertEquals("a|b\\c", edge.getLabel());
+      if (edge.hasProperty("s1")) {
+        assertEquals(";x\n", edge.getPropertyValue("s1").getString());
+        assertFalse(edge.hasProperty("s2"));
+      } else {
+        assertEquals("y", edge.getPropertyValue("s2").getString());
+      }
+    }
+  }
+
+  /**
+   * Writes the lines into a new file.
+   *
+   * @param lines lines
+   * @return file
+   * @throws Exception if the file cannot be written
+   */
+  private File writeLines(String... lines) throws Exception {
+    File file = temporaryFolder.newFile();
+    Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    return file;
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.metadata;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class MetaDataParserTest {
+
+  @Test
+  public void testParseLong() {
+    for (long value : new long[] {0L, 1L, -1L, 42L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      byte[] bytes = ("x" + value + "x").getBytes(StandardCharsets.US_ASCII);
+      assertEquals(value, MetaDataParser.parseLong(bytes, 1, bytes.length - 2));
+    }
+    byte[] bytes = "+23".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(23L, MetaDataParser.parseLong(bytes, 0, bytes.length));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseLongOverflow() {
+    byte[] bytes = "9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+    MetaDataParser.parseLong(bytes, 0, bytes.length);
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseLongInvalidCharacter() {
+    byte[] bytes = "12a".getBytes(StandardCharsets.US_ASCII);
+    MetaDataParser.parseLong(bytes, 0, bytes.length);
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testParseLongSignOnly() {
+    byte[] bytes = "-".getBytes(StandardCharsets.US_ASCII);
+    MetaDataParser.parseLong(bytes, 0, bytes.length);
+  }
+
+  @Test
+  public void testValueBytesParser() {
+    GradoopId id = GradoopId.get();
+    MetaData metaData = MetaDataParser.create(Lists.newArrayList(Tuple2.of("A",
+      "a:int,b:long,c:float,d:double,e:boolean,f:string,g:gradoopid")));
+    List<PropertyMetaData> propertyMetaData = metaData.getPropertyMetaData("A");
+
+    assertEquals(PropertyValue.create(-42), parse(propertyMetaData.get(0), "-42"));
+    assertEquals(PropertyValue.create(42L), parse(propertyMetaData.get(1), "42"));
+    assertEquals(PropertyValue.create(13.37f), parse(propertyMetaData.get(2), "13.37"));
+    assertEquals(PropertyValue.create(13.37d), parse(propertyMetaData.get(3), "13.37"));
+    assertEquals(PropertyValue.create(true), parse(propertyMetaData.get(4), "TRUE"));
+    assertEquals(PropertyValue.create(false), parse(propertyMetaData.get(4), "foo"));
+    assertEquals(PropertyValue.create("ä€"), parse(propertyMetaData.get(5), "ä€"));
+    assertEquals(PropertyValue.create(id), parse(propertyMetaData.get(6), id.toString()));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testValueBytesParserIntOverflow() {
+    MetaData metaData = MetaDataParser.create(Lists.newArrayList(Tuple2.of("A", "a:int")));
+    parse(metaData.getPropertyMetaData("A").get(0), "2147483648");
+  }
+
+  @Test
+  public void testMergePropertiesMetaData() {
+    assertEquals("b:int,a:long,c:string",
+      MetaDataParser.mergePropertiesMetaData("b:int,a:long",
+        Lists.newArrayList("a:int,c:string", "")));
+    assertEquals("a:long,b:double,c:double,d:string,e:string,f:boolean",
+      MetaDataParser.mergePropertiesMetaData("a:int,b:float,c:long,d:boolean,e:gradoopid",
+        Lists.newArrayList("a:long,b:double,c:float,d:string,e:int,f:boolean")));
+    assertEquals("a:int", MetaDataParser.mergePropertiesMetaData("", Lists.newArrayList("a:int")));
+  }
+
+  private PropertyValue parse(PropertyMetaData propertyMetaData, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    return propertyMetaData.getValueBytesParser().parse(bytes, 0, bytes.length);
+  }
+}
@@ -23,9 +23,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class DOTDataSinkTest extends GradoopFlinkTestBase {
@@ -96,4 +100,74 @@ public class DOTDataSinkTest extends GradoopFlinkTestBase {
     assertEquals("Wrong number of edge lines", 4, edgeLines);
     assertEquals("Wrong number of vertex lines", 3, vertexLines);
  }
+
+  @Test
+  public void testWriteParallel() throws Exception {
+    String gdlFile = DOTDataSinkTest.class.getResource("/data/dot/input.gdl").getFile();
+    LogicalGraph inputGraph = getLoaderFromFile(gdlFile).getLogicalGraphByVariable("input");
+    String dotDirectory = temporaryFolder.getRoot() + "/dot";
+
+    new DOTDataSink(dotDirectory, true, Integer.MAX_VALUE).write(inputGraph);
+    getExecutionEnvironment().execute();
+
+    int graphLines = 0;
+    int subgraphLines = 0;
+    int closingLines = 0;
+    int labelLines = 0;
+    int vertexLines = 0;
+    int edgeLines = 0;
+
+    for (String line : getExecutionEnvironment().readTextFile(dotDirectory).collect()) {
+      if (line.equals("digraph {")) {
+        graphLines++;
+      } else if (line.startsWith("subgraph cluster_g")) {
+        subgraphLines++;
+      } else if (line.equals("}")) {
+        closingLines++;
+      } else if (line.startsWith("label")) {
+        labelLines++;
+      } else if (line.contains("->")) {
+        edgeLines++;
+      } else if (line.startsWith("v")) {
+        vertexLines++;
+      }
+    }
+
+    assertTrue("Missing 'digraph'", graphLines > 0);
+    assertTrue("Missing subgraph", subgraphLines > 0);
+    assertEquals("Unbalanced blocks", graphLines + subgraphLines, closingLines);
+    assertEquals("Wrong number of graph head lines", 1, labelLines);
+    assertEquals("Wrong number of edge lines", 4, edgeLines);
+    assertEquals("Wrong number of vertex lines", 3, vertexLines);
+  }
+
+  @Test
+  public void testWriteParallelLimited() throws Exception {
+    String gdlFile = DOTDataSinkTest.class.getResource("/data/dot/input.gdl").getFile();
+    LogicalGraph inputGraph = getLoaderFromFile(gdlFile).getLogicalGraphByVariable("input");
+    String dotDirectory = temporaryFolder.getRoot() + "/dot";
+
+    new DOTDataSink(dotDirectory, false, 2).write(inputGraph);
+    getExecutionEnvironment().execute();
+
+    Set<String> nodes = new HashSet<>();
+    List<String> edgeLines = new ArrayList<>();
+    for (String line : getExecutionEnvironment().readTextFile(dotDirectory).collect()) {
+      if (line.contains("->")) {
+        edgeLines.add(line);
+      } else if (line.startsWith("v")) {
+        nodes.add(line.substring(0, line.indexOf(' ')));
+      }
+    }
+
+    // the limit is below the parallelism, each graph is written up to the limit nonetheless
+    assertEquals("Wrong number of vertex lines", 2, nodes.size());
+    assertFalse("No edge lines", edgeLines.isEmpty());
+    assertTrue("Too many edge lines", edgeLines.size() <= 2);
+    for (String edgeLine : edgeLines) {
+      String[] endpoints = edgeLine.substring(0, edgeLine.indexOf(' ')).split("->");
+      assertTrue("Edge to unwritten vertex", nodes.contains(endpoints[0]));
+      assertTrue("Edge to unwritten vertex", nodes.contains(endpoints[1]));
+    }
+  }
 }
@@ -15,14 +15,25 @@
  */
 package org.gradoop.flink.io.impl.edgelist;
 
+import org.apache.commons.io.FileUtils;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.BlockCompressedOutputStream;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 
 public class EdgeListDataSourceTest extends GradoopFlinkTestBase {
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void testRead() throws Exception {
     String edgeListFile = VertexLabeledEdgeListDataSourceTest.class
@@ -36,4 +47,24 @@ public class EdgeListDataSourceTest extends GradoopFlinkTestBase {
     LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
     collectAndAssertTrue(expected.equalsByElementData(result));
   }
+
+  @Test
+  public void testReadCompressed() throws Exception {
+    String edgeListFile = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/edgelist/basic/input").getFile();
+    String gdlFile = VertexLabeledEdgeListDataSourceTest.class
+      .getResource("/data/edgelist/basic/expected.gdl").getFile();
+
+    File compressedFile = temporaryFolder.newFile("input.gzb");
+    try (OutputStream out =
+      new BlockCompressedOutputStream(new FileOutputStream(compressedFile), 16)) {
+      out.write(FileUtils.readFileToByteArray(new File(edgeListFile)));
+    }
+
+    DataSource dataSource = new EdgeListDataSource(compressedFile.getPath(), ",", config);
+    LogicalGraph result = dataSource.getLogicalGraph();
+    FlinkAsciiGraphLoader loader = getLoaderFromFile(gdlFile);
+    LogicalGraph expected = loader.getLogicalGraphByVariable("expected");
+    collectAndAssertTrue(expected.equalsByElementData(result));
+  }
 }
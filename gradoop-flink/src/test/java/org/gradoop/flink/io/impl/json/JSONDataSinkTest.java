@@ -17,9 +17,14 @@ package org.gradoop.flink.io.impl.json;
 
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopIdList;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.compression.TextCompression;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
@@ -27,10 +32,17 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class JSONDataSinkTest extends GradoopFlinkTestBase {
 
@@ -80,4 +92,121 @@ public class JSONDataSinkTest extends GradoopFlinkTestBase {
     validateEPGMElementCollections(expectedEdges, loadedEdges);
     validateEPGMGraphElementCollections(expectedEdges, loadedEdges);
   }
+
+  @Test
+  public void testWriteSupportedPropertyTypes() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+    final String vertexFile = tmpDir + "/nodes.json";
+    final String edgeFile   = tmpDir + "/edges.json";
+    final String graphFile  = tmpDir + "/graphs.json";
+
+    Properties properties = Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES);
+    properties.set(GradoopTestUtils.KEY_a, GradoopTestUtils.LIST_VAL_a);
+
+    GraphHead graphHead = getConfig().getGraphHeadFactory()
+      .createGraphHead("Graph", properties);
+    GradoopIdList graphIds = GradoopIdList.fromExisting(graphHead.getId());
+    Vertex vertex = getConfig().getVertexFactory()
+      .createVertex("Vertex", properties, graphIds);
+    Edge edge = getConfig().getEdgeFactory()
+      .createEdge("Edge", vertex.getId(), vertex.getId(), properties, graphIds);
+
+    getConfig().getGraphCollectionFactory()
+      .fromCollections(Collections.singletonList(graphHead),
+        Collections.singletonList(vertex), Collections.singletonList(edge))
+      .writeTo(new JSONDataSink(graphFile, vertexFile, edgeFile, getConfig()));
+
+    getExecutionEnvironment().execute();
+
+    GraphCollection collection = new JSONDataSource(
+      graphFile, vertexFile, edgeFile, getConfig()).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads    = Lists.newArrayList();
+    Collection<Vertex>    loadedVertices      = Lists.newArrayList();
+    Collection<Edge>      loadedEdges         = Lists.newArrayList();
+
+    collection.getGraphHeads()
+      .output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices()
+      .output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges()
+      .output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals(properties, loadedGraphHeads.iterator().next().getProperties());
+    assertEquals(properties, loadedVertices.iterator().next().getProperties());
+    assertEquals(properties, loadedEdges.iterator().next().getProperties());
+    validateEPGMGraphElementCollections(Collections.singletonList(vertex), loadedVertices);
+    validateEPGMGraphElementCollections(Collections.singletonList(edge), loadedEdges);
+  }
+
+  @Test
+  public void testWriteMapKeyTypes() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    map.put(PropertyValue.create(1L), PropertyValue.create(1L));
+    map.put(PropertyValue.create(true), PropertyValue.create("boolean"));
+    map.put(PropertyValue.create("2"), PropertyValue.create(2));
+    map.put(PropertyValue.create(GradoopTestUtils.GRADOOP_ID_VAL_8),
+      PropertyValue.create(GradoopTestUtils.DATE_VAL_b));
+    Properties properties = Properties.create();
+    properties.set(GradoopTestUtils.KEY_9, map);
+
+    Vertex vertex = getConfig().getVertexFactory().createVertex("Vertex", properties);
+
+    getConfig().getLogicalGraphFactory()
+      .fromCollections(Collections.singletonList(vertex), Collections.emptyList())
+      .writeTo(new JSONDataSink(tmpDir, getConfig()));
+
+    getExecutionEnvironment().execute();
+
+    Collection<Vertex> loadedVertices = Lists.newArrayList();
+    new JSONDataSource(tmpDir, getConfig()).getLogicalGraph().getVertices()
+      .output(new LocalCollectionOutputFormat<>(loadedVertices));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals(properties, loadedVertices.iterator().next().getProperties());
+  }
+
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tmpDir = temporaryFolder.getRoot().toString();
+
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    loader.getDatabase()
+      .writeTo(new JSONDataSink(tmpDir, getConfig(), TextCompression.BLOCK_GZIP));
+
+    getExecutionEnvironment().execute();
+
+    File[] vertexFiles = new File(tmpDir, "vertices.json").listFiles();
+    assertNotNull(vertexFiles);
+    for (File vertexFile : vertexFiles) {
+      assertTrue(vertexFile.getName().endsWith(TextCompression.BLOCK_GZIP.getFileExtension()));
+    }
+
+    GraphCollection collection = new JSONDataSource(tmpDir, getConfig()).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads    = Lists.newArrayList();
+    Collection<Vertex>    loadedVertices      = Lists.newArrayList();
+    Collection<Edge>      loadedEdges         = Lists.newArrayList();
+
+    collection.getGraphHeads()
+      .output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices()
+      .output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges()
+      .output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+    validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+    validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+    validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+  }
 }
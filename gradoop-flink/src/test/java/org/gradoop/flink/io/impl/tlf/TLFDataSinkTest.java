@@ -19,18 +19,26 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.TextCompression;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Comparator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 public class TLFDataSinkTest extends GradoopFlinkTestBase {
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Test
   public void testWrite() throws Exception {
@@ -148,4 +156,34 @@ public class TLFDataSinkTest extends GradoopFlinkTestBase {
     assertEquals("Wrong vertex label", "1", vertexArray[1].getLabel());
     assertEquals("Wrong graph count", 2, graphTransactions.count());
   }
+
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tlfFileImport = TLFDataSinkTest.class
+      .getResource("/data/tlf/io_test.tlf").getFile();
+
+    String tlfFileExport = temporaryFolder.getRoot() + "/io_test_output";
+
+    // read from inputfile
+    DataSource dataSource = new TLFDataSource(tlfFileImport, config);
+    // write to output path
+    DataSink dataSink =
+      new TLFDataSink(tlfFileExport, getConfig(), TextCompression.BLOCK_GZIP);
+    dataSink.write(dataSource.getGraphCollection(), true);
+
+    getExecutionEnvironment().execute();
+
+    File[] files = new File(tlfFileExport).listFiles();
+    assertNotNull(files);
+    for (File file : files) {
+      assertTrue(file.getName().endsWith(TextCompression.BLOCK_GZIP.getFileExtension()));
+    }
+
+    // read from output path
+    DataSource dataSource2 = new TLFDataSource(tlfFileExport, config);
+
+    // compare original graph and written one
+    collectAndAssertTrue(dataSource.getGraphCollection()
+      .equalsByGraphElementData(dataSource2.getGraphCollection()));
+  }
 }
@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopInputFormat;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.io.impl.tlf.functions.GraphTransactionFromText;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TLFInputFormatTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testReadSplits() throws Exception {
+    String tlfFile = TLFInputFormatTest.class.getResource("/data/tlf/yeast.tlf").getFile();
+
+    Job splitJob = createJob(tlfFile, 1024);
+    assertTrue("expected multiple splits",
+      new TLFInputFormat().getSplits(splitJob).size() > 1);
+
+    List<String> expected = readGraphs(createJob(tlfFile, Long.MAX_VALUE));
+    List<String> graphs = readGraphs(splitJob);
+
+    assertEquals(100, expected.size());
+    assertEquals(expected, graphs);
+  }
+
+  /**
+   * Creates a job reading the specified file.
+   *
+   * @param tlfFile tlf file
+   * @param maxSplitSize maximum split size
+   * @return job
+   * @throws Exception on failure
+   */
+  private Job createJob(String tlfFile, long maxSplitSize) throws Exception {
+    Job job = Job.getInstance();
+    FileInputFormat.addInputPath(job, new Path(tlfFile));
+    FileInputFormat.setMaxInputSplitSize(job, maxSplitSize);
+    return job;
+  }
+
+  /**
+   * Reads the graphs and describes each one by its vertex and edge labels.
+   *
+   * @param job job reading the tlf file
+   * @return sorted graph descriptions
+   * @throws Exception on failure
+   */
+  private List<String> readGraphs(Job job) throws Exception {
+    List<GraphTransaction> transactions = getExecutionEnvironment()
+      .createInput(new HadoopInputFormat<>(
+        new TLFInputFormat(), LongWritable.class, Text.class, job))
+      .map(new GraphTransactionFromText(
+        getConfig().getGraphHeadFactory(),
+        getConfig().getVertexFactory(),
+        getConfig().getEdgeFactory()))
+      .collect();
+
+    return transactions.stream()
+      .map(transaction -> Stream
+        .concat(transaction.getVertices().stream(), transaction.getEdges().stream())
+        .map(GraphElement::getLabel)
+        .sorted()
+        .collect(Collectors.joining(",")))
+      .sorted()
+      .collect(Collectors.toList());
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.layouts.gve;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.gradoop.common.GradoopTestUtils;
@@ -22,12 +23,15 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.VertexAdjacency;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.representation.common.adjacencylist.AdjacencyListCell;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -87,6 +91,11 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isIndexedGVELayout());
   }
 
+  @Test
+  public void isAdjacencyGVELayout() throws Exception {
+    assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isAdjacencyGVELayout());
+  }
+
   @Test
   public void hasTransactionalLayout() throws Exception {
     assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isTransactionalLayout());
@@ -153,4 +162,31 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     GradoopTestUtils.validateEPGMGraphElementCollections(Sets.newHashSet(e0),
       from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).getIncomingEdges(v1.getId()).collect());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getVertexAdjacency() throws Exception {
+    GVELayout layout = from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    List<VertexAdjacency> adjacency = layout.getVertexAdjacency().collect();
+    assertEquals(3, adjacency.size());
+
+    for (VertexAdjacency vertexAdjacency : adjacency) {
+      List<AdjacencyListCell<Edge, Vertex>> outgoing =
+        Lists.newArrayList(vertexAdjacency.getOutgoing().getCells());
+      List<AdjacencyListCell<Edge, Vertex>> incoming =
+        Lists.newArrayList(vertexAdjacency.getIncoming().getCells());
+
+      if (vertexAdjacency.getVertex().equals(v0)) {
+        assertEquals(singletonList(new AdjacencyListCell<>(e0, v1)), outgoing);
+        assertTrue(incoming.isEmpty());
+      } else if (vertexAdjacency.getVertex().equals(v1)) {
+        assertEquals(singletonList(new AdjacencyListCell<>(e1, v2)), outgoing);
+        assertEquals(singletonList(new AdjacencyListCell<>(e0, v0)), incoming);
+      } else {
+        assertEquals(v2, vertexAdjacency.getVertex());
+        assertTrue(outgoing.isEmpty());
+        assertEquals(singletonList(new AdjacencyListCell<>(e1, v1)), incoming);
+      }
+    }
+  }
+}
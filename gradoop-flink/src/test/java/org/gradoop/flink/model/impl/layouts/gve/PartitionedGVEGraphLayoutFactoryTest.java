@@ -0,0 +1,129 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve;
+
+import org.apache.flink.api.common.Plan;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.optimizer.DataStatistics;
+import org.apache.flink.optimizer.Optimizer;
+import org.apache.flink.optimizer.costs.DefaultCostEstimator;
+import org.apache.flink.optimizer.plan.Channel;
+import org.apache.flink.optimizer.plan.OptimizedPlan;
+import org.apache.flink.optimizer.plan.PlanNode;
+import org.apache.flink.util.Visitor;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.LogicalGraphLayoutFactoryTest;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.VertexCount;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
+
+public class PartitionedGVEGraphLayoutFactoryTest extends LogicalGraphLayoutFactoryTest {
+  @Override
+  protected LogicalGraphLayoutFactory getFactory() {
+    PartitionedGVEGraphLayoutFactory logicalGraphLayoutFactory =
+      new PartitionedGVEGraphLayoutFactory();
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    config.setLogicalGraphLayoutFactory(logicalGraphLayoutFactory);
+    return logicalGraphLayoutFactory;
+  }
+
+  @Test
+  public void testFewerShuffles() throws Exception {
+    int shuffles = countShuffles(new GVEGraphLayoutFactory());
+    int partitionedShuffles = countShuffles(new PartitionedGVEGraphLayoutFactory());
+
+    assertTrue("expected less than " + shuffles + " shuffles, but was " + partitionedShuffles,
+      partitionedShuffles < shuffles);
+  }
+
+  @Test
+  public void testChainedOperators() throws Exception {
+    getConfig().setLogicalGraphLayoutFactory(new PartitionedGVEGraphLayoutFactory());
+    LogicalGraph partitioned = createPipeline();
+
+    getConfig().setLogicalGraphLayoutFactory(new GVEGraphLayoutFactory());
+    LogicalGraph expected = createPipeline();
+
+    collectAndAssertTrue(partitioned.equalsByElementData(expected));
+  }
+
+  /**
+   * Counts the network shuffles in the optimized plan of a typical pipeline.
+   *
+   * @param factory layout factory used for all graphs of the pipeline
+   * @return number of channels shipping data over the network
+   * @throws Exception on failure
+   */
+  private int countShuffles(LogicalGraphLayoutFactory factory) throws Exception {
+    getConfig().setLogicalGraphLayoutFactory(factory);
+    LogicalGraph output = createPipeline();
+    output.getVertices().output(new DiscardingOutputFormat<>());
+    output.getEdges().output(new DiscardingOutputFormat<>());
+
+    Plan plan = getExecutionEnvironment().createProgramPlan();
+    OptimizedPlan optimizedPlan = new Optimizer(
+      new DataStatistics(), new DefaultCostEstimator(), new Configuration()).compile(plan);
+
+    Set<PlanNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    int[] shuffles = new int[1];
+    optimizedPlan.accept(new Visitor<PlanNode>() {
+        @Override
+        public boolean preVisit(PlanNode node) {
+          if (!visited.add(node)) {
+            return false;
+          }
+          for (Channel channel : node.getInputs()) {
+            if (channel.getShipStrategy().isNetworkStrategy()) {
+              shuffles[0]++;
+            }
+          }
+          return true;
+        }
+
+        @Override
+        public void postVisit(PlanNode node) {
+        }
+      });
+    return shuffles[0];
+  }
+
+  /**
+   * Creates a subgraph of the social network and aggregates the neighborhood of its vertices.
+   *
+   * @return resulting graph
+   * @throws Exception on failure
+   */
+  private LogicalGraph createPipeline() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph graph = getConfig().getLogicalGraphFactory().fromDataSets(
+      getExecutionEnvironment().fromCollection(loader.getVertices()),
+      getExecutionEnvironment().fromCollection(loader.getEdges()));
+
+    return graph
+      .vertexInducedSubgraph(v -> v.getLabel().equals("Person"))
+      .reduceOnNeighbors(new VertexCount(), Neighborhood.EdgeDirection.OUT);
+  }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.gve.adjacency;
+
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayoutTest;
+import org.junit.Test;
+
+import java.util.Collection;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AdjacencyGVELayoutTest extends GVELayoutTest {
+
+  @Override
+  protected GVELayout from(Collection<GraphHead> graphHeads, Collection<Vertex> vertices,
+    Collection<Edge> edges) {
+    return new AdjacencyGVELayout(
+      getExecutionEnvironment().fromCollection(graphHeads),
+      getExecutionEnvironment().fromCollection(vertices),
+      getExecutionEnvironment().fromCollection(edges));
+  }
+
+  @Override
+  public void isAdjacencyGVELayout() throws Exception {
+    assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isAdjacencyGVELayout());
+  }
+
+  @Test
+  public void getVertexAdjacencyOnce() throws Exception {
+    GVELayout layout = from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    assertSame(layout.getVertexAdjacency(), layout.getVertexAdjacency());
+  }
+}
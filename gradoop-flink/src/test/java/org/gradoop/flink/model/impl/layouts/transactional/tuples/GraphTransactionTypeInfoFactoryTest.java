@@ -0,0 +1,96 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.transactional.tuples;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class GraphTransactionTypeInfoFactoryTest {
+
+  @Test
+  public void testTypeExtraction() {
+    TypeInformation<GraphTransaction> typeInfo =
+      TypeExtractor.createTypeInfo(GraphTransaction.class);
+
+    assertTrue(typeInfo instanceof TupleTypeInfo);
+    TupleTypeInfo<GraphTransaction> tupleTypeInfo = (TupleTypeInfo<GraphTransaction>) typeInfo;
+    assertEquals(GraphTransaction.class, tupleTypeInfo.getTypeClass());
+    assertTrue(tupleTypeInfo.getTypeAt(1) instanceof SetTypeInfo);
+    assertTrue(tupleTypeInfo.getTypeAt(2) instanceof SetTypeInfo);
+  }
+
+  @Test
+  public void testSerialization() throws IOException {
+    GraphHead graphHead = new GraphHeadFactory().createGraphHead("G");
+    Vertex v0 = new VertexFactory().createVertex("A");
+    Vertex v1 = new VertexFactory().createVertex("B");
+    Edge e0 = new EdgeFactory().createEdge("a", v0.getId(), v1.getId());
+    GraphTransaction transaction =
+      new GraphTransaction(graphHead, Sets.newHashSet(v0, v1), Sets.newHashSet(e0));
+
+    TypeSerializer<GraphTransaction> serializer = TypeExtractor
+      .createTypeInfo(GraphTransaction.class)
+      .createSerializer(new ExecutionConfig());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.serialize(transaction, new DataOutputViewStreamWrapper(out));
+    GraphTransaction result = serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray())));
+
+    assertEquals(graphHead, result.getGraphHead());
+    assertEquals(transaction.getVertices(), result.getVertices());
+    assertEquals(transaction.getEdges(), result.getEdges());
+    assertEquals(v0.getLabel(), result.getVertices().stream()
+      .filter(v -> v.getId().equals(v0.getId())).findFirst().get().getLabel());
+  }
+
+  @Test
+  public void testNullSets() throws IOException {
+    TypeSerializer<GraphTransaction> serializer = TypeExtractor
+      .createTypeInfo(GraphTransaction.class)
+      .createSerializer(new ExecutionConfig());
+
+    GraphTransaction transaction =
+      new GraphTransaction(new GraphHeadFactory().createGraphHead(), null, null);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.serialize(transaction, new DataOutputViewStreamWrapper(out));
+    GraphTransaction result = serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray())));
+
+    assertNull(result.getVertices());
+    assertNull(result.getEdges());
+  }
+}
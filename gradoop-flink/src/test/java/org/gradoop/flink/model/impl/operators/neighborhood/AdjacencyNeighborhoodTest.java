@@ -0,0 +1,50 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.neighborhood;
+
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.gve.adjacency.AdjacencyGVEGraphLayoutFactory;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the neighborhood tests on graphs using the adjacency layout.
+ */
+public class AdjacencyNeighborhoodTest extends NeighborhoodTest {
+
+  public AdjacencyNeighborhoodTest() {
+    getConfig().setLogicalGraphLayoutFactory(new AdjacencyGVEGraphLayoutFactory());
+  }
+
+  @Test
+  public void testAdjacencyLayoutIsUsed() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+      "(v0:Blue {a : 3})" +
+      "(v1:Blue {a : 2})" +
+      "(v0)-[{b : 2}]->(v1)" +
+      "]");
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+    assertTrue(input.isAdjacencyGVELayout());
+
+    LogicalGraph output = input
+      .reduceOnNeighbors(new SumVertexProperty("a"), Neighborhood.EdgeDirection.OUT);
+    assertTrue(output.isAdjacencyGVELayout());
+  }
+}
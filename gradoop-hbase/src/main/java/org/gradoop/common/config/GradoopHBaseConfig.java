@@ -24,6 +24,7 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.storage.api.GraphHeadHandler;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.util.HBaseConstants;
 import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
@@ -36,6 +37,8 @@ import org.gradoop.common.storage.impl.hbase.HBaseGraphHeadFactory;
 import org.gradoop.common.storage.impl.hbase.HBaseGraphHeadHandler;
 import org.gradoop.common.storage.impl.hbase.HBaseVertexFactory;
 import org.gradoop.common.storage.impl.hbase.HBaseVertexHandler;
+import org.gradoop.common.storage.impl.hbase.IdRowKeyStrategy;
+import org.gradoop.common.storage.impl.hbase.SaltedRowKeyStrategy;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -150,12 +153,27 @@ public class GradoopHBaseConfig
    */
   public static GradoopHBaseConfig<GraphHead, Vertex, Edge>
     getDefaultConfig(ExecutionEnvironment env) {
+    return getDefaultConfig(env, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a default Configuration using POJO handlers for vertices, edges
+   * and graph heads and default table names. The row keys of all tables are
+   * created by the given strategy, e.g. a {@link SaltedRowKeyStrategy} to
+   * distribute writes over multiple regions.
+   *
+   * @param env apache flink execution environment
+   * @param rowKeyStrategy creates the row keys from element identifiers
+   * @return Default Gradoop HBase configuration.
+   */
+  public static GradoopHBaseConfig<GraphHead, Vertex, Edge>
+    getDefaultConfig(ExecutionEnvironment env, RowKeyStrategy rowKeyStrategy) {
     GraphHeadHandler<GraphHead> graphHeadHandler =
-      new HBaseGraphHeadHandler<>(new GraphHeadFactory());
+      new HBaseGraphHeadHandler<>(new GraphHeadFactory(), rowKeyStrategy);
     VertexHandler<Vertex, Edge> vertexHandler =
-      new HBaseVertexHandler<>(new VertexFactory());
+      new HBaseVertexHandler<>(new VertexFactory(), rowKeyStrategy);
     EdgeHandler<Edge, Vertex> edgeHandler =
-      new HBaseEdgeHandler<>(new EdgeFactory());
+      new HBaseEdgeHandler<>(new EdgeFactory(), rowKeyStrategy);
 
     return new GradoopHBaseConfig<>(
       graphHeadHandler,
@@ -22,7 +22,9 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * The EPGM store is responsible for writing and reading graph heads, vertices
@@ -63,26 +65,56 @@ public interface EPGMStore
   String getGraphHeadName();
 
   /**
-   * Writes the given graph data into the graph store.
+   * Writes the given graph data into the graph store. Errors are printed and not rethrown, use the
+   * batch methods and {@link #flushBatch()} to handle them.
    *
    * @param graphData graph data to write
    */
   void writeGraphHead(final PersistentGraphHead graphData);
 
   /**
-   * Writes the given vertex data into the graph store.
+   * Writes the given vertex data into the graph store. Errors are printed and not rethrown, use the
+   * batch methods and {@link #flushBatch()} to handle them.
    *
    * @param vertexData vertex data to write
    */
   void writeVertex(final PersistentVertex<E> vertexData);
 
   /**
-   * Writes the given edge data into the graph store.
+   * Writes the given edge data into the graph store. Errors are printed and not rethrown, use the
+   * batch methods and {@link #flushBatch()} to handle them.
    *
    * @param edgeData edge data to write
    */
   void writeEdge(final PersistentEdge<V> edgeData);
 
+  /**
+   * Writes the given graph data into the graph store using a single batch.
+   *
+   * @param graphData graph data to write
+   * @throws IOException if the data could not be written
+   */
+  void writeGraphHeads(final Collection<? extends PersistentGraphHead> graphData)
+    throws IOException;
+
+  /**
+   * Writes the given vertex data into the graph store using a single batch.
+   *
+   * @param vertexData vertex data to write
+   * @throws IOException if the data could not be written
+   */
+  void writeVertices(final Collection<? extends PersistentVertex<E>> vertexData)
+    throws IOException;
+
+  /**
+   * Writes the given edge data into the graph store using a single batch.
+   *
+   * @param edgeData edge data to write
+   * @throws IOException if the data could not be written
+   */
+  void writeEdges(final Collection<? extends PersistentEdge<V>> edgeData)
+    throws IOException;
+
   /**
    * Reads a graph data entity from the EPGM store using the given graph
    * identifier. If {@code graphId} does not exist, {@code null} is returned.
@@ -113,6 +145,36 @@ public interface EPGMStore
    */
   E readEdge(final GradoopId edgeId);
 
+  /**
+   * Reads the graph data entities with the given identifiers from the EPGM
+   * store using a single batch. Identifiers which do not exist are skipped.
+   *
+   * @param graphIds graph identifiers
+   * @return graph data entities in the order of their identifiers
+   * @throws IOException if the data could not be read
+   */
+  List<G> readGraphs(final Collection<GradoopId> graphIds) throws IOException;
+
+  /**
+   * Reads the vertex data entities with the given identifiers from the EPGM
+   * store using a single batch. Identifiers which do not exist are skipped.
+   *
+   * @param vertexIds vertex identifiers
+   * @return vertex data entities in the order of their identifiers
+   * @throws IOException if the data could not be read
+   */
+  List<V> readVertices(final Collection<GradoopId> vertexIds) throws IOException;
+
+  /**
+   * Reads the edge data entities with the given identifiers from the EPGM
+   * store using a single batch. Identifiers which do not exist are skipped.
+   *
+   * @param edgeIds edge identifiers
+   * @return edge data entities in the order of their identifiers
+   * @throws IOException if the data could not be read
+   */
+  List<E> readEdges(final Collection<GradoopId> edgeIds) throws IOException;
+
   /**
    * Reads all vertices from the EPGM store. If EPGM store is empty, {@code
    * null} is returned.
@@ -179,12 +241,22 @@ public interface EPGMStore
   void setAutoFlush(boolean autoFlush);
 
   /**
-   * Flushes all buffered writes to the store.
+   * Flushes all buffered writes to the store. Errors are printed and not rethrown, use
+   * {@link #flushBatch()} to handle them.
    */
   void flush();
 
   /**
-   * Closes the graph store and flushes all writes.
+   * Flushes all buffered writes to the store. If auto flush is disabled, this has to be called
+   * after the batch writes to detect mutations which could not be written.
+   *
+   * @throws IOException if buffered writes failed
+   */
+  void flushBatch() throws IOException;
+
+  /**
+   * Closes the graph store and flushes all writes. Errors are printed and not rethrown, call
+   * {@link #flushBatch()} before to handle them.
    */
   void close();
 
@@ -50,6 +50,13 @@ public interface ElementHandler extends Serializable {
    */
   GradoopId getId(final byte[] rowKey) throws IOException;
 
+  /**
+   * Returns the strategy used to create row keys from identifiers.
+   *
+   * @return row key strategy
+   */
+  RowKeyStrategy getRowKeyStrategy();
+
   /**
    * Adds the labels to the given {@link Put} and returns it.
    *
@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.api;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.Serializable;
+
+/**
+ * Maps element identifiers to row keys and back. The strategy determines how the rows of a table
+ * are distributed over its key space and thus over the regions of the table.
+ */
+public interface RowKeyStrategy extends Serializable {
+
+  /**
+   * Creates the row key of an element.
+   *
+   * @param elementId element identifier (must not be {@code null})
+   * @return row key
+   */
+  byte[] getRowKey(GradoopId elementId);
+
+  /**
+   * Reads the element identifier from a row key.
+   *
+   * @param rowKey row key created by {@link #getRowKey(GradoopId)}
+   * @return element identifier
+   */
+  GradoopId getId(byte[] rowKey);
+
+  /**
+   * Returns the keys at which a new table is pre-split, so that the rows are evenly distributed
+   * over the regions from the beginning.
+   *
+   * @return split keys in ascending order or {@code null}, if the table is not pre-split
+   */
+  byte[][] getSplitKeys();
+}
@@ -53,6 +53,26 @@ public interface VertexHandler<V extends EPGMVertex, E extends EPGMEdge>
    */
   Put writeIncomingEdges(final Put put, final Set<E> edges) throws IOException;
 
+  /**
+   * Adds the identifier of the given outgoing edge to the given {@link Put}
+   * and returns it.
+   *
+   * @param put  {@link Put} of the source vertex
+   * @param edge outgoing edge
+   * @return put with edge identifier
+   */
+  Put writeOutgoingEdge(final Put put, final E edge) throws IOException;
+
+  /**
+   * Adds the identifier of the given incoming edge to the given {@link Put}
+   * and returns it.
+   *
+   * @param put  {@link Put} of the target vertex
+   * @param edge incoming edge
+   * @return put with edge identifier
+   */
+  Put writeIncomingEdge(final Put put, final E edge) throws IOException;
+
   /**
    * Reads the outgoing edge identifiers from the given {@link Result}.
    *
@@ -16,18 +16,25 @@
 package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Get;
-import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
 import org.gradoop.common.config.GradoopHBaseConfig;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.api.EPGMStore;
 import org.gradoop.common.storage.api.EdgeHandler;
+import org.gradoop.common.storage.api.ElementHandler;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
@@ -37,7 +44,10 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.VertexHandler;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
@@ -50,57 +60,88 @@ import java.util.Iterator;
 public class HBaseEPGMStore
   <G extends EPGMGraphHead, V extends EPGMVertex, E extends EPGMEdge>
   implements EPGMStore<G, V, E> {
-  /**
-   * Default value for clearing buffer on fail.
-   */
-  private static final boolean DEFAULT_CLEAR_BUFFER_ON_FAIL = true;
   /**
    * Default value for enabling auto flush in HBase.
    */
   private static final boolean DEFAULT_ENABLE_AUTO_FLUSH = true;
 
+  /**
+   * Rethrows mutations which failed after all retries, so that the next
+   * write or flush fails instead of losing the mutations silently.
+   */
+  private static final BufferedMutator.ExceptionListener FAIL_FAST_LISTENER =
+    (exception, mutator) -> {
+      throw exception;
+    };
+
   /**
    * Gradoop configuration.
    */
   private final GradoopHBaseConfig<G, V, E> config;
 
+  /**
+   * HBase connection shared by all tables.
+   */
+  private final Connection connection;
+
   /**
    * HBase table for storing graphs.
    */
-  private final HTable graphHeadTable;
+  private final Table graphHeadTable;
   /**
    * HBase table for storing vertex data.
    */
-  private final HTable vertexTable;
+  private final Table vertexTable;
   /**
    * HBase table for storing edge data.
    */
-  private final HTable edgeTable;
+  private final Table edgeTable;
+
+  /**
+   * Buffers writes to the graph table.
+   */
+  private final BufferedMutator graphHeadMutator;
+  /**
+   * Buffers writes to the vertex table.
+   */
+  private final BufferedMutator vertexMutator;
+  /**
+   * Buffers writes to the edge table.
+   */
+  private final BufferedMutator edgeMutator;
+
+  /**
+   * True, if buffered writes are flushed after each write.
+   */
+  private boolean autoFlush = DEFAULT_ENABLE_AUTO_FLUSH;
 
   /**
    * Creates a HBaseEPGMStore based on the given parameters. All parameters
-   * are mandatory and must not be {@code null}.
+   * are mandatory and must not be {@code null}. The store takes ownership of
+   * the connection and closes it on {@link #close()}.
    *
-   * @param graphHeadTable  HBase table to store graph data
-   * @param vertexTable     HBase table to store vertex data
-   * @param edgeTable       HBase table to store edge data
+   * @param connection      HBase connection
    * @param config          Gradoop Configuration
+   * @param writeBufferSize size of the write buffer of each table in bytes
+   * @throws IOException if the tables cannot be accessed
    */
-  HBaseEPGMStore(final HTable graphHeadTable,
-    final HTable vertexTable,
-    final HTable edgeTable,
-    final GradoopHBaseConfig<G, V, E> config) {
-    this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
-    this.vertexTable = Preconditions.checkNotNull(vertexTable);
-    this.edgeTable = Preconditions.checkNotNull(edgeTable);
+  HBaseEPGMStore(final Connection connection,
+    final GradoopHBaseConfig<G, V, E> config,
+    final long writeBufferSize) throws IOException {
+    this.connection = Preconditions.checkNotNull(connection);
     this.config = Preconditions.checkNotNull(config);
 
-    this.graphHeadTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
-    this.vertexTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
-    this.edgeTable
-      .setAutoFlush(DEFAULT_ENABLE_AUTO_FLUSH, DEFAULT_CLEAR_BUFFER_ON_FAIL);
+    TableName graphHeadTableName = TableName.valueOf(config.getGraphTableName());
+    TableName vertexTableName = TableName.valueOf(config.getVertexTableName());
+    TableName edgeTableName = TableName.valueOf(config.getEdgeTableName());
+
+    this.graphHeadTable = connection.getTable(graphHeadTableName);
+    this.vertexTable = connection.getTable(vertexTableName);
+    this.edgeTable = connection.getTable(edgeTableName);
+
+    this.graphHeadMutator = createMutator(graphHeadTableName, writeBufferSize);
+    this.vertexMutator = createMutator(vertexTableName, writeBufferSize);
+    this.edgeMutator = createMutator(edgeTableName, writeBufferSize);
   }
 
   /**
@@ -135,6 +176,16 @@ public class HBaseEPGMStore
     return graphHeadTable.getName().getNameAsString();
   }
 
+  /**
+   * Returns the HBase configuration the tables of this store were opened
+   * with.
+   *
+   * @return HBase configuration
+   */
+  public Configuration getHBaseConfiguration() {
+    return connection.getConfiguration();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -147,7 +198,7 @@ public class HBaseEPGMStore
       // write graph to Put
       put = graphHeadHandler.writeGraphHead(put, graphHead);
       // write to table
-      graphHeadTable.put(put);
+      write(graphHeadMutator, put);
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -165,7 +216,7 @@ public class HBaseEPGMStore
       // write vertex data to Put
       put = vertexHandler.writeVertex(put, vertexData);
       // write to table
-      vertexTable.put(put);
+      write(vertexMutator, put);
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -183,12 +234,56 @@ public class HBaseEPGMStore
       Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
       // write edge data to Put
       put = edgeHandler.writeEdge(put, edgeData);
-      edgeTable.put(put);
+      write(edgeMutator, put);
     } catch (IOException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeGraphHeads(final Collection<? extends PersistentGraphHead> graphHeads)
+    throws IOException {
+    GraphHeadHandler<G> graphHeadHandler = config.getGraphHeadHandler();
+    List<Put> puts = new ArrayList<>(graphHeads.size());
+    for (PersistentGraphHead graphHead : graphHeads) {
+      puts.add(graphHeadHandler.writeGraphHead(
+        new Put(graphHeadHandler.getRowKey(graphHead.getId())), graphHead));
+    }
+    write(graphHeadMutator, puts);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeVertices(final Collection<? extends PersistentVertex<E>> vertices)
+    throws IOException {
+    VertexHandler<V, E> vertexHandler = config.getVertexHandler();
+    List<Put> puts = new ArrayList<>(vertices.size());
+    for (PersistentVertex<E> vertex : vertices) {
+      puts.add(vertexHandler.writeVertex(
+        new Put(vertexHandler.getRowKey(vertex.getId())), vertex));
+    }
+    write(vertexMutator, puts);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeEdges(final Collection<? extends PersistentEdge<V>> edges)
+    throws IOException {
+    EdgeHandler<E, V> edgeHandler = config.getEdgeHandler();
+    List<Put> puts = new ArrayList<>(edges.size());
+    for (PersistentEdge<V> edge : edges) {
+      puts.add(edgeHandler.writeEdge(new Put(edgeHandler.getRowKey(edge.getId())), edge));
+    }
+    write(edgeMutator, puts);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -197,7 +292,7 @@ public class HBaseEPGMStore
     G graphData = null;
     try {
       GraphHeadHandler<G> graphHeadHandler = config.getGraphHeadHandler();
-      Result res = graphHeadTable.get(new Get(graphId.toByteArray()));
+      Result res = graphHeadTable.get(new Get(graphHeadHandler.getRowKey(graphId)));
       if (!res.isEmpty()) {
         graphData = graphHeadHandler.readGraphHead(res);
       }
@@ -245,6 +340,51 @@ public class HBaseEPGMStore
     return edgeData;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<G> readGraphs(final Collection<GradoopId> graphIds) throws IOException {
+    GraphHeadHandler<G> graphHeadHandler = config.getGraphHeadHandler();
+    List<G> graphHeads = new ArrayList<>(graphIds.size());
+    for (Result res : graphHeadTable.get(createGets(graphHeadHandler, graphIds))) {
+      if (!res.isEmpty()) {
+        graphHeads.add(graphHeadHandler.readGraphHead(res));
+      }
+    }
+    return graphHeads;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<V> readVertices(final Collection<GradoopId> vertexIds) throws IOException {
+    VertexHandler<V, E> vertexHandler = config.getVertexHandler();
+    List<V> vertices = new ArrayList<>(vertexIds.size());
+    for (Result res : vertexTable.get(createGets(vertexHandler, vertexIds))) {
+      if (!res.isEmpty()) {
+        vertices.add(vertexHandler.readVertex(res));
+      }
+    }
+    return vertices;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<E> readEdges(final Collection<GradoopId> edgeIds) throws IOException {
+    EdgeHandler<E, V> edgeHandler = config.getEdgeHandler();
+    List<E> edges = new ArrayList<>(edgeIds.size());
+    for (Result res : edgeTable.get(createGets(edgeHandler, edgeIds))) {
+      if (!res.isEmpty()) {
+        edges.add(edgeHandler.readEdge(res));
+      }
+    }
+    return edges;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -307,9 +447,7 @@ public class HBaseEPGMStore
    */
   @Override
   public void setAutoFlush(boolean autoFlush) {
-    vertexTable.setAutoFlush(autoFlush, true);
-    edgeTable.setAutoFlush(autoFlush, true);
-    graphHeadTable.setAutoFlush(autoFlush, true);
+    this.autoFlush = autoFlush;
   }
 
   /**
@@ -318,28 +456,104 @@ public class HBaseEPGMStore
   @Override
   public void flush() {
     try {
-      vertexTable.flushCommits();
-      edgeTable.flushCommits();
-      graphHeadTable.flushCommits();
+      flushBatch();
     } catch (IOException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flushBatch() throws IOException {
+    vertexMutator.flush();
+    edgeMutator.flush();
+    graphHeadMutator.flush();
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void close() {
     try {
+      // closing the mutators flushes the pending writes
+      vertexMutator.close();
+      edgeMutator.close();
+      graphHeadMutator.close();
       vertexTable.close();
       edgeTable.close();
       graphHeadTable.close();
+      connection.close();
     } catch (IOException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * Creates a buffered mutator for the given table.
+   *
+   * @param tableName       table name
+   * @param writeBufferSize size of the write buffer in bytes
+   * @return buffered mutator
+   * @throws IOException if the table cannot be accessed
+   */
+  private BufferedMutator createMutator(TableName tableName, long writeBufferSize)
+    throws IOException {
+    return connection.getBufferedMutator(new BufferedMutatorParams(tableName)
+      .writeBufferSize(writeBufferSize)
+      .listener(FAIL_FAST_LISTENER));
+  }
+
+  /**
+   * Buffers the given mutation and flushes the buffer if auto flush is
+   * enabled.
+   *
+   * @param mutator  buffered mutator of the table
+   * @param mutation mutation
+   * @throws IOException if buffered mutations failed
+   */
+  private void write(BufferedMutator mutator, Mutation mutation) throws IOException {
+    mutator.mutate(mutation);
+    if (autoFlush) {
+      mutator.flush();
+    }
+  }
+
+  /**
+   * Buffers the given mutations and flushes the buffer if auto flush is
+   * enabled.
+   *
+   * @param mutator   buffered mutator of the table
+   * @param mutations mutations
+   * @throws IOException if buffered mutations failed
+   */
+  private void write(BufferedMutator mutator, List<? extends Mutation> mutations)
+    throws IOException {
+    mutator.mutate(mutations);
+    if (autoFlush) {
+      mutator.flush();
+    }
+  }
+
+  /**
+   * Creates a get for the row of each identifier.
+   *
+   * @param handler element handler
+   * @param ids     element identifiers
+   * @return gets
+   * @throws IOException if a row key cannot be created
+   */
+  private static List<Get> createGets(ElementHandler handler, Collection<GradoopId> ids)
+    throws IOException {
+    List<Get> gets = new ArrayList<>(ids.size());
+    for (GradoopId id : ids) {
+      gets.add(new Get(handler.getRowKey(id)));
+    }
+    return gets;
+  }
+
   /**
    * Iterator helper class for iterating over HBase result scanner containing
    * graph data.
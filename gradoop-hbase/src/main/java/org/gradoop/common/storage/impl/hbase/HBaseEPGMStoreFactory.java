@@ -18,8 +18,9 @@ package org.gradoop.common.storage.impl.hbase;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.HBaseAdmin;
-import org.apache.hadoop.hbase.client.HTable;
 import org.gradoop.common.config.GradoopHBaseConfig;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
@@ -116,6 +117,29 @@ public class HBaseEPGMStoreFactory {
   HBaseEPGMStore<G, V, E> createOrOpenEPGMStore(
     final Configuration config,
     final GradoopHBaseConfig<G, V, E> gradoopHBaseConfig) {
+    return createOrOpenEPGMStore(config, gradoopHBaseConfig,
+      HBaseConstants.HBASE_DEFAULT_WRITE_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a graph store or opens an existing one based on the given
+   * parameters. If something goes wrong, {@code null} is returned.
+   *
+   * @param config              Hadoop cluster configuration
+   * @param gradoopHBaseConfig  Gradoop HBase configuration
+   * @param writeBufferSize     size of the write buffer of each table in bytes
+   * @param <G> EPGM graph head type
+   * @param <V> EPGM vertex type
+   * @param <E> EPGM edge type
+   *
+   * @return EPGM store instance or {@code null in the case of errors}
+   */
+  public static
+  <G extends EPGMGraphHead, V extends EPGMVertex, E extends EPGMEdge>
+  HBaseEPGMStore<G, V, E> createOrOpenEPGMStore(
+    final Configuration config,
+    final GradoopHBaseConfig<G, V, E> gradoopHBaseConfig,
+    final long writeBufferSize) {
     try {
       createTablesIfNotExists(config, gradoopHBaseConfig.getVertexHandler(),
         gradoopHBaseConfig.getEdgeHandler(),
@@ -124,15 +148,13 @@ public class HBaseEPGMStoreFactory {
         gradoopHBaseConfig.getEdgeTableName(),
         gradoopHBaseConfig.getGraphTableName());
 
-      HTable graphDataTable = new HTable(config,
-        gradoopHBaseConfig.getGraphTableName());
-      HTable vertexDataTable = new HTable(config,
-        gradoopHBaseConfig.getVertexTableName());
-      HTable edgeDataTable = new HTable(config,
-        gradoopHBaseConfig.getEdgeTableName());
-
-      return new HBaseEPGMStore<>(
-        graphDataTable, vertexDataTable, edgeDataTable, gradoopHBaseConfig);
+      Connection connection = ConnectionFactory.createConnection(config);
+      try {
+        return new HBaseEPGMStore<>(connection, gradoopHBaseConfig, writeBufferSize);
+      } catch (IOException e) {
+        connection.close();
+        throw e;
+      }
     } catch (IOException e) {
       e.printStackTrace();
       return null;
@@ -28,6 +28,7 @@ import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.api.EdgeHandler;
 import org.gradoop.common.storage.api.PersistentEdge;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.util.HBaseConstants;
 
 import java.io.IOException;
@@ -77,6 +78,17 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
    * @param edgeFactory edge data factory
    */
   public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory) {
+    this(edgeFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates an edge data handler.
+   *
+   * @param edgeFactory edge data factory
+   * @param rowKeyStrategy creates the row keys from identifiers
+   */
+  public HBaseEdgeHandler(EPGMEdgeFactory<E> edgeFactory, RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.edgeFactory = edgeFactory;
   }
 
@@ -88,7 +100,7 @@ public class HBaseEdgeHandler<E extends EPGMEdge, V extends EPGMVertex>
     throws IOException {
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
@@ -15,7 +15,10 @@
  */
 package org.gradoop.common.storage.impl.hbase;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.HBaseAdmin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -26,6 +29,7 @@ import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.storage.api.ElementHandler;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.util.HBaseConstants;
 
 import java.io.IOException;
@@ -52,12 +56,33 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(HBaseConstants.CF_PROPERTIES);
 
+  /**
+   * Creates the row keys from identifiers.
+   */
+  private final RowKeyStrategy rowKeyStrategy;
+
+  /**
+   * Creates a handler using the identifier bytes as row keys.
+   */
+  protected HBaseElementHandler() {
+    this(new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a handler.
+   *
+   * @param rowKeyStrategy creates the row keys from identifiers
+   */
+  protected HBaseElementHandler(RowKeyStrategy rowKeyStrategy) {
+    this.rowKeyStrategy = Preconditions.checkNotNull(rowKeyStrategy);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public byte[] getRowKey(final GradoopId elementId) throws IOException {
-    return elementId.toByteArray();
+    return rowKeyStrategy.getRowKey(elementId);
   }
 
   /**
@@ -68,7 +93,15 @@ public abstract class HBaseElementHandler implements ElementHandler {
     if (rowKey == null) {
       throw new IllegalArgumentException("rowKey must not be null");
     }
-    return GradoopId.fromByteArray(rowKey);
+    return rowKeyStrategy.getId(rowKey);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public RowKeyStrategy getRowKeyStrategy() {
+    return rowKeyStrategy;
   }
 
   /**
@@ -85,13 +118,7 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   @Override
   public Put writeProperty(final Put put, Property property) throws IOException {
-    PropertyValue value = property.getValue();
-    HBasePropertyValueWrapper wrapper = new HBasePropertyValueWrapper(value);
-
-    put.add(CF_PROPERTIES_BYTES,
-      Bytes.toBytes(property.getKey()),
-      Writables.getBytes(wrapper));
-    return put;
+    return writeProperty(put, property.getKey(), property.getValue());
   }
 
   /**
@@ -100,13 +127,29 @@ public abstract class HBaseElementHandler implements ElementHandler {
   @Override
   public Put writeProperties(final Put put, final EPGMElement entity) throws IOException {
     if (entity.getPropertyCount() > 0) {
-      for (Property property : entity.getProperties()) {
-        writeProperty(put, property);
-      }
+      entity.getProperties().forEachEntry((key, value) -> writeProperty(put, key, value));
     }
     return put;
   }
 
+  /**
+   * Adds the given property key and value to the given {@link Put}.
+   *
+   * @param put   put to add property to
+   * @param key   property key
+   * @param value property value
+   * @return put with property
+   * @throws IOException
+   */
+  private Put writeProperty(final Put put, String key, PropertyValue value) throws IOException {
+    HBasePropertyValueWrapper wrapper = new HBasePropertyValueWrapper(value);
+
+    put.add(CF_PROPERTIES_BYTES,
+      Bytes.toBytes(key),
+      Writables.getBytes(wrapper));
+    return put;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -176,6 +219,24 @@ public abstract class HBaseElementHandler implements ElementHandler {
    * @throws IOException
    */
   protected GradoopId readId(Result res) throws IOException {
-    return GradoopId.fromByteArray(res.getRow());
+    return rowKeyStrategy.getId(res.getRow());
+  }
+
+  /**
+   * Creates the table described by the given descriptor. The table is pre-split at the split keys
+   * of the row key strategy.
+   *
+   * @param admin           HBase admin
+   * @param tableDescriptor description of the table including its column families
+   * @throws IOException if the table cannot be created
+   */
+  protected void createPreSplitTable(final HBaseAdmin admin, final HTableDescriptor tableDescriptor)
+    throws IOException {
+    byte[][] splitKeys = rowKeyStrategy.getSplitKeys();
+    if (splitKeys == null) {
+      admin.createTable(tableDescriptor);
+    } else {
+      admin.createTable(tableDescriptor, splitKeys);
+    }
   }
 }
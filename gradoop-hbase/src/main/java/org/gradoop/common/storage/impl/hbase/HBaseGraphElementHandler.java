@@ -21,6 +21,7 @@ import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
 import org.gradoop.common.model.impl.id.GradoopIdList;
 import org.gradoop.common.storage.api.GraphElementHandler;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.util.HBaseConstants;
 
 import java.io.IOException;
@@ -37,6 +38,22 @@ public abstract class HBaseGraphElementHandler extends
   private static final byte[] COL_GRAPHS_BYTES =
     Bytes.toBytes(HBaseConstants.COL_GRAPHS);
 
+  /**
+   * Creates a handler using the identifier bytes as row keys.
+   */
+  protected HBaseGraphElementHandler() {
+    this(new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a handler.
+   *
+   * @param rowKeyStrategy creates the row keys from identifiers
+   */
+  protected HBaseGraphElementHandler(RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
+  }
+
   /**
    * {@inheritDoc}
    */
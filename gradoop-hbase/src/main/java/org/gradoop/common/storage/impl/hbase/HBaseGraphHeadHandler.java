@@ -25,6 +25,7 @@ import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.storage.api.PersistentGraphHead;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.util.HBaseConstants;
 import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
 
@@ -76,6 +77,18 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
    * @param graphHeadFactory used to create runtime graph data objects
    */
   public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory) {
+    this(graphHeadFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a graph handler.
+   *
+   * @param graphHeadFactory used to create runtime graph data objects
+   * @param rowKeyStrategy creates the row keys from identifiers
+   */
+  public HBaseGraphHeadHandler(EPGMGraphHeadFactory<G> graphHeadFactory,
+    RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.graphHeadFactory = graphHeadFactory;
   }
 
@@ -89,7 +102,7 @@ public class HBaseGraphHeadHandler<G extends EPGMGraphHead>
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_VERTICES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_EDGES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
@@ -26,6 +26,7 @@ import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
 import org.gradoop.common.storage.api.PersistentVertex;
+import org.gradoop.common.storage.api.RowKeyStrategy;
 import org.gradoop.common.storage.api.VertexHandler;
 import org.gradoop.common.util.HBaseConstants;
 
@@ -76,6 +77,17 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
    * @param vertexFactory used to create runtime vertex data objects
    */
   public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory) {
+    this(vertexFactory, new IdRowKeyStrategy());
+  }
+
+  /**
+   * Creates a vertex handler.
+   *
+   * @param vertexFactory used to create runtime vertex data objects
+   * @param rowKeyStrategy creates the row keys from identifiers
+   */
+  public HBaseVertexHandler(EPGMVertexFactory<V> vertexFactory, RowKeyStrategy rowKeyStrategy) {
+    super(rowKeyStrategy);
     this.vertexFactory = vertexFactory;
   }
 
@@ -89,7 +101,7 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTIES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_OUT_EDGES));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_IN_EDGES));
-    admin.createTable(tableDescriptor);
+    createPreSplitTable(admin, tableDescriptor);
   }
 
   /**
@@ -108,6 +120,22 @@ public class HBaseVertexHandler<V extends EPGMVertex, E extends EPGMEdge>
     return writeEdges(put, CF_IN_EDGES_BYTES, incomingEdgeData, false);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeOutgoingEdge(final Put put, final E edge) throws IOException {
+    return writeEdge(put, CF_OUT_EDGES_BYTES, edge, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeIncomingEdge(final Put put, final E edge) throws IOException {
+    return writeEdge(put, CF_IN_EDGES_BYTES, edge, false);
+  }
+
   /**
    * {@inheritDoc}
    */
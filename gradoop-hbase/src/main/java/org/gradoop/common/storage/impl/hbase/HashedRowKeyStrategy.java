@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.impl.hbase;
+
+/**
+ * Prefixes the element identifier by the first two bytes of its hash, which distributes the rows
+ * uniformly over the whole key space. New tables are pre-split into the given number of regions of
+ * equal size.
+ *
+ * Unlike {@link SaltedRowKeyStrategy}, the number of initial regions is not part of the row key,
+ * so regions can be split further without skewing the distribution.
+ */
+public class HashedRowKeyStrategy extends PrefixedRowKeyStrategy {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Number of prefix bytes.
+   */
+  private static final int PREFIX_LENGTH = 2;
+  /**
+   * Number of distinct prefixes.
+   */
+  private static final int PREFIX_RANGE = 1 << (8 * PREFIX_LENGTH);
+  /**
+   * Number of regions of a new table.
+   */
+  private final int regions;
+
+  /**
+   * Constructor.
+   *
+   * @param regions number of regions of a new table, at least 1
+   */
+  public HashedRowKeyStrategy(int regions) {
+    super(PREFIX_LENGTH);
+    if (regions < 1 || regions > PREFIX_RANGE) {
+      throw new IllegalArgumentException("Number of regions must be between 1 and " +
+        PREFIX_RANGE + ", was " + regions);
+    }
+    this.regions = regions;
+  }
+
+  @Override
+  void writePrefix(int hash, byte[] rowKey) {
+    rowKey[0] = (byte) (hash >>> 24);
+    rowKey[1] = (byte) (hash >>> 16);
+  }
+
+  @Override
+  public byte[][] getSplitKeys() {
+    if (regions == 1) {
+      return null;
+    }
+    byte[][] splitKeys = new byte[regions - 1][];
+    for (int region = 1; region < regions; region++) {
+      int prefix = (int) ((long) region * PREFIX_RANGE / regions);
+      splitKeys[region - 1] = new byte[] {(byte) (prefix >>> 8), (byte) prefix};
+    }
+    return splitKeys;
+  }
+
+  public int getRegions() {
+    return regions;
+  }
+}
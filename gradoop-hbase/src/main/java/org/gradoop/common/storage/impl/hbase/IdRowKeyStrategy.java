@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.impl.hbase;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.api.RowKeyStrategy;
+
+/**
+ * Uses the bytes of the element identifier as row key.
+ *
+ * As identifiers start with a timestamp, new elements are always written to the region at the end
+ * of the key space. Use {@link SaltedRowKeyStrategy} or {@link HashedRowKeyStrategy} to distribute
+ * the writes over multiple regions.
+ */
+public class IdRowKeyStrategy implements RowKeyStrategy {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public byte[] getRowKey(GradoopId elementId) {
+    return elementId.toByteArray();
+  }
+
+  @Override
+  public GradoopId getId(byte[] rowKey) {
+    return GradoopId.fromByteArray(rowKey);
+  }
+
+  @Override
+  public byte[][] getSplitKeys() {
+    return null;
+  }
+}
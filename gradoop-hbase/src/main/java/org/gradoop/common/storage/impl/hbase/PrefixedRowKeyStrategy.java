@@ -0,0 +1,83 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.impl.hbase;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.api.RowKeyStrategy;
+
+/**
+ * Base class for row keys consisting of a prefix derived from a hash of the element identifier,
+ * followed by the bytes of the identifier. The prefix distributes consecutive identifiers over the
+ * key space.
+ */
+public abstract class PrefixedRowKeyStrategy implements RowKeyStrategy {
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Number of prefix bytes.
+   */
+  private final int prefixLength;
+
+  /**
+   * Constructor.
+   *
+   * @param prefixLength number of prefix bytes
+   */
+  PrefixedRowKeyStrategy(int prefixLength) {
+    this.prefixLength = prefixLength;
+  }
+
+  @Override
+  public byte[] getRowKey(GradoopId elementId) {
+    byte[] rowKey = new byte[prefixLength + GradoopId.ID_SIZE];
+    writePrefix(hash(elementId), rowKey);
+    elementId.copyTo(rowKey, prefixLength);
+    return rowKey;
+  }
+
+  @Override
+  public GradoopId getId(byte[] rowKey) {
+    return GradoopId.fromByteArray(rowKey, prefixLength);
+  }
+
+  /**
+   * Writes the prefix into the first bytes of the row key.
+   *
+   * @param hash hash of the element identifier
+   * @param rowKey row key
+   */
+  abstract void writePrefix(int hash, byte[] rowKey);
+
+  /**
+   * Returns a well distributed hash of the identifier. Identifiers differ mainly in their
+   * trailing counter bytes, so the bits of their hash code are mixed with the finalizer of
+   * MurmurHash3.
+   *
+   * @param elementId element identifier
+   * @return hash
+   */
+  private static int hash(GradoopId elementId) {
+    int hash = elementId.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+}
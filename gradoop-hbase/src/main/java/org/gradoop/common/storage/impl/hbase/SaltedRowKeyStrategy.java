@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.impl.hbase;
+
+/**
+ * Prefixes the element identifier by a salt byte, which assigns each row to one of a fixed number
+ * of buckets. New tables are pre-split at the bucket boundaries, so that writes are distributed
+ * over one region per bucket and scans run in parallel per bucket.
+ *
+ * The number of buckets must not change once data has been written.
+ */
+public class SaltedRowKeyStrategy extends PrefixedRowKeyStrategy {
+  /**
+   * Maximum number of buckets, the salt is stored in a single byte.
+   */
+  public static final int MAX_BUCKETS = 256;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Number of buckets.
+   */
+  private final int buckets;
+
+  /**
+   * Constructor.
+   *
+   * @param buckets number of buckets, between 1 and {@value #MAX_BUCKETS}
+   */
+  public SaltedRowKeyStrategy(int buckets) {
+    super(1);
+    if (buckets < 1 || buckets > MAX_BUCKETS) {
+      throw new IllegalArgumentException("Number of buckets must be between 1 and " +
+        MAX_BUCKETS + ", was " + buckets);
+    }
+    this.buckets = buckets;
+  }
+
+  @Override
+  void writePrefix(int hash, byte[] rowKey) {
+    rowKey[0] = (byte) ((hash & Integer.MAX_VALUE) % buckets);
+  }
+
+  @Override
+  public byte[][] getSplitKeys() {
+    if (buckets == 1) {
+      return null;
+    }
+    byte[][] splitKeys = new byte[buckets - 1][];
+    for (int bucket = 1; bucket < buckets; bucket++) {
+      splitKeys[bucket - 1] = new byte[] {(byte) bucket};
+    }
+    return splitKeys;
+  }
+
+  public int getBuckets() {
+    return buckets;
+  }
+}
@@ -95,6 +95,11 @@ public final class HBaseConstants {
    * Default cache size for scans in HBase.
    */
   public static final int HBASE_DEFAULT_SCAN_CACHE_SIZE = 500;
+
+  /**
+   * Default size of the write buffer of each table in bytes.
+   */
+  public static final long HBASE_DEFAULT_WRITE_BUFFER_SIZE = 2 * 1024 * 1024;
   /**
    * Default label of an EPGM database graph.
    */
@@ -15,10 +15,19 @@
  */
 package org.gradoop.flink.io.impl.hbase;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -29,28 +38,42 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
-import org.gradoop.common.storage.api.PersistentVertex;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.hbase.functions.*;
+import org.gradoop.flink.io.impl.hbase.outputformats.HFileBulkLoadOutputFormat;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.TargetId;
 import org.gradoop.flink.model.impl.functions.graphcontainment.PairGraphIdWithElementId;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Converts runtime representation of EPGM elements into persistent
  * representations and writes them to HBase.
+ *
+ * By default, the elements are written as puts through the region servers.
+ * In bulk load mode, the mutations are sorted by row key, written to HFiles
+ * and loaded into the tables after the job has finished. This bypasses the
+ * write path of the region servers and is meant for initial loads of whole
+ * graphs.
  */
 public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
   implements DataSink {
 
+  /**
+   * Directory to write HFiles for bulk loading to, {@code null} if the
+   * elements are written as puts.
+   */
+  private final String bulkLoadPath;
+
   /**
    * Creates a new HBase data sink.
    *
@@ -60,6 +83,22 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
   public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
       GradoopFlinkConfig config) {
     super(epgmStore, config);
+    this.bulkLoadPath = null;
+  }
+
+  /**
+   * Creates a new HBase data sink which bulk loads the elements. The HFiles
+   * of each table are written to a sub directory of the given path, which is
+   * deleted after the bulk load.
+   *
+   * @param epgmStore     store implementation
+   * @param config        Gradoop Flink configuration
+   * @param bulkLoadPath  directory to write HFiles to
+   */
+  public HBaseDataSink(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
+      GradoopFlinkConfig config, String bulkLoadPath) {
+    super(epgmStore, config);
+    this.bulkLoadPath = Objects.requireNonNull(bulkLoadPath);
   }
 
   @Override
@@ -127,58 +166,35 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentGraphHead<>(getHBaseConfig().getPersistentGraphHeadFactory()));
 
     // write (persistent-graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(
-      TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName());
-
-    persistentGraphDataSet
+    writeMutations(persistentGraphDataSet
     // FIXME remove forced cast...
       .map(new BuildGraphHeadMutation((GraphHeadHandler<PersistentGraphHead>)
-((Object) getHBaseConfig().getGraphHeadHandler())))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+((Object) getHBaseConfig().getGraphHeadHandler()))),
+      getHBaseConfig().getGraphTableName());
   }
 
   /**
-   * Converts runtime vertex data to persistent vertex data (includes
-   * incoming and outgoing edge data) and writes it to HBase.
+   * Converts runtime vertex data to persistent vertex data and writes it to
+   * HBase. Outgoing and incoming edges are written as separate mutations
+   * per edge, which HBase merges into the vertex rows.
    *
    * @param collection Graph collection
    * @throws IOException
    */
   private void writeVertices(final GraphCollection collection) throws IOException {
 
-    // group edges by source vertex id (vertex-id, [out-edge])
-    DataSet<Tuple2<GradoopId, Set<Edge>>> vertexToOutgoingEdges = collection.getEdges()
-      .groupBy(new SourceId<>())
-      .reduceGroup(new EdgeSetBySourceId<>());
+    // (vertex-data) without edges
+    DataSet<Tuple2<GradoopId, Mutation>> vertexMutations = collection.getVertices()
+      .map(new BuildPersistentVertex<>(getHBaseConfig().getPersistentVertexFactory()))
+      .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler()));
 
-    // group edges by target vertex id (vertex-id, [in-edge])
-    DataSet<Tuple2<GradoopId, Set<Edge>>> vertexToIncomingEdges = collection.getEdges()
-      .groupBy(new TargetId<>())
-      .reduceGroup(new EdgeSetByTargetId<>());
-
-    // co-group (vertex-data) with (vertex-id, [out-edge])
-    DataSet<Tuple2<Vertex, Set<Edge>>> vertexDataWithOutgoingEdges = collection
-      .getVertices()
-      .coGroup(vertexToOutgoingEdges)
-      .where(new Id<Vertex>()).equalTo(0)
-      .with(new BuildVertexDataWithEdges<>());
-
-    // co-group
-    // (vertex, (vertex-id, [out-edge])) with (vertex-id, [in-edge])
-    DataSet<PersistentVertex<Edge>> persistentVertexDataSet = vertexDataWithOutgoingEdges
-      .coGroup(vertexToIncomingEdges)
-      .where("f0.id").equalTo(0)
-      .with(new BuildPersistentVertex<>(getHBaseConfig().getPersistentVertexFactory()));
+    // (vertex-id, out-edge) and (vertex-id, in-edge) for each edge
+    DataSet<Tuple2<GradoopId, Mutation>> adjacencyMutations = collection.getEdges()
+      .flatMap(new BuildAdjacencyMutations<>(getHBaseConfig().getVertexHandler()));
 
     // write (persistent-vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName());
-
-    persistentVertexDataSet
-      .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    writeMutations(Arrays.asList(vertexMutations, adjacencyMutations),
+      getHBaseConfig().getVertexTableName());
   }
 
   /**
@@ -204,11 +220,70 @@ public class HBaseDataSink extends HBaseBase<GraphHead, Vertex, Edge>
       .with(new BuildPersistentEdge<>(getHBaseConfig().getPersistentEdgeFactory()));
 
     // write (persistent-edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName());
+    writeMutations(persistentEdgeDataSet
+      .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName());
+  }
+
+  /**
+   * Writes mutations to a HBase table, either as puts or by bulk loading
+   * HFiles.
+   *
+   * @param mutations (element-id, mutation) tuples
+   * @param tableName name of the table
+   * @throws IOException
+   */
+  private void writeMutations(DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    String tableName) throws IOException {
+    writeMutations(Collections.singletonList(mutations), tableName);
+  }
+
+  /**
+   * Writes multiple data sets of mutations to a HBase table, either as puts
+   * or by bulk loading HFiles. The mutations are not unioned before they are
+   * converted, which keeps them from being serialized.
+   *
+   * @param mutations data sets of (element-id, mutation) tuples
+   * @param tableName name of the table
+   * @throws IOException
+   */
+  private void writeMutations(List<DataSet<Tuple2<GradoopId, Mutation>>> mutations,
+    String tableName) throws IOException {
+
+    if (bulkLoadPath == null) {
+      for (DataSet<Tuple2<GradoopId, Mutation>> mutationSet : mutations) {
+        Job job = Job.getInstance();
+        job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName);
+
+        mutationSet.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+      }
+      return;
+    }
+
+    Configuration hbaseConfig = getStore().getHBaseConfiguration();
+    TableName table = TableName.valueOf(tableName);
+    byte[][] startKeys;
+    try (Connection connection = ConnectionFactory.createConnection(hbaseConfig);
+      RegionLocator locator = connection.getRegionLocator(table)) {
+      startKeys = locator.getStartKeys();
+    }
+
+    // (row, family, qualifier, value) cells
+    DataSet<Tuple4<String, String, String, byte[]>> cells = null;
+    for (DataSet<Tuple2<GradoopId, Mutation>> mutationSet : mutations) {
+      DataSet<Tuple4<String, String, String, byte[]>> mutationCells =
+        mutationSet.flatMap(new BuildCells());
+      cells = cells == null ? mutationCells : cells.union(mutationCells);
+    }
 
-    persistentEdgeDataSet
-      .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    // sorted per region range
+    cells
+      .partitionCustom(new RegionPartitioner(startKeys), 0)
+      .sortPartition(0, Order.ASCENDING)
+      .sortPartition(1, Order.ASCENDING)
+      .sortPartition(2, Order.ASCENDING)
+      .map(new BuildKeyValue())
+      .output(new HFileBulkLoadOutputFormat(hbaseConfig, tableName,
+        new Path(bulkLoadPath, table.getQualifierAsString()).toString()));
   }
 }
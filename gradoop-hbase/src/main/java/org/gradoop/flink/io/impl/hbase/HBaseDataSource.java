@@ -35,12 +35,32 @@ import org.gradoop.flink.model.impl.functions.tuple.ValueOf1;
 import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.util.Objects;
+
 /**
  * Creates an EPGM instance from HBase.
+ *
+ * The graph heads, vertices and edges to read can be restricted by
+ * {@link HBaseElementFilter}s, which are evaluated by the region servers.
  */
 public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
   implements DataSource {
 
+  /**
+   * Restricts the graph heads to read.
+   */
+  private final HBaseElementFilter graphHeadFilter;
+
+  /**
+   * Restricts the vertices to read.
+   */
+  private final HBaseElementFilter vertexFilter;
+
+  /**
+   * Restricts the edges to read.
+   */
+  private final HBaseElementFilter edgeFilter;
+
   /**
    * Creates a new HBase data source.
    *
@@ -49,7 +69,27 @@ public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
    */
   public HBaseDataSource(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
           GradoopFlinkConfig config) {
+    this(epgmStore, config, new HBaseElementFilter(), new HBaseElementFilter(),
+      new HBaseElementFilter());
+  }
+
+  /**
+   * Creates a new HBase data source which reads the elements passing the
+   * given filters.
+   *
+   * @param epgmStore       HBase store
+   * @param config          Gradoop Flink configuration
+   * @param graphHeadFilter restricts the graph heads to read
+   * @param vertexFilter    restricts the vertices to read
+   * @param edgeFilter      restricts the edges to read
+   */
+  public HBaseDataSource(HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore,
+    GradoopFlinkConfig config, HBaseElementFilter graphHeadFilter,
+    HBaseElementFilter vertexFilter, HBaseElementFilter edgeFilter) {
     super(epgmStore, config);
+    this.graphHeadFilter = Objects.requireNonNull(graphHeadFilter);
+    this.vertexFilter = Objects.requireNonNull(vertexFilter);
+    this.edgeFilter = Objects.requireNonNull(edgeFilter);
   }
 
   @Override
@@ -77,15 +117,15 @@ public class HBaseDataSource extends HBaseBase<GraphHead, Vertex, Edge>
 
     DataSet<Tuple1<GraphHead>> graphHeads = config.getExecutionEnvironment()
       .createInput(new GraphHeadTableInputFormat<>(config.getGraphHeadHandler(),
-        store.getGraphHeadName()), graphTypeInfo);
+        store.getGraphHeadName(), graphHeadFilter), graphTypeInfo);
 
     DataSet<Tuple1<Vertex>> vertices = config.getExecutionEnvironment()
       .createInput(new VertexTableInputFormat<>(config.getVertexHandler(),
-          store.getVertexTableName()), vertexTypeInfo);
+          store.getVertexTableName(), vertexFilter), vertexTypeInfo);
 
     DataSet<Tuple1<Edge>> edges = config.getExecutionEnvironment().createInput(
       new EdgeTableInputFormat<>(config.getEdgeHandler(),
-        store.getEdgeTableName()), edgeTypeInfo);
+        store.getEdgeTableName(), edgeFilter), edgeTypeInfo);
 
     return config.getGraphCollectionFactory().fromDataSets(
       graphHeads.map(new ValueOf1<>()),
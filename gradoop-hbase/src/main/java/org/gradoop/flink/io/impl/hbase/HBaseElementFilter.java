@@ -0,0 +1,328 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase;
+
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.CompareFilter;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.RegexStringComparator;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Writables;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdList;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.storage.api.RowKeyStrategy;
+import org.gradoop.common.storage.impl.hbase.HBasePropertyValueWrapper;
+import org.gradoop.common.util.HBaseConstants;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Restricts the elements and properties read from a HBase table. The restrictions are translated
+ * into HBase filters and column selections, so they are evaluated by the region servers and
+ * filtered elements are not transferred.
+ *
+ * All restrictions are combined by conjunction. A filter without restrictions reads all elements
+ * with all properties.
+ *
+ * Note, that the restrictions are applied to each element table separately, e.g. filtering
+ * vertices by label does not remove the edges of the filtered vertices.
+ */
+public class HBaseElementFilter implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Byte representation of the meta column family.
+   */
+  private static final byte[] CF_META_BYTES = Bytes.toBytes(HBaseConstants.CF_META);
+
+  /**
+   * Byte representation of the label column identifier.
+   */
+  private static final byte[] COL_LABEL_BYTES = Bytes.toBytes(HBaseConstants.COL_LABEL);
+
+  /**
+   * Byte representation of the graphs column identifier.
+   */
+  private static final byte[] COL_GRAPHS_BYTES = Bytes.toBytes(HBaseConstants.COL_GRAPHS);
+
+  /**
+   * Byte representation of the properties column family.
+   */
+  private static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(HBaseConstants.CF_PROPERTIES);
+
+  /**
+   * Labels of the elements to read, empty to read all labels.
+   */
+  private final Set<String> labels = new HashSet<>();
+
+  /**
+   * Identifiers of the graphs to read elements from, {@code null} to read all elements.
+   */
+  private GradoopIdList graphIds;
+
+  /**
+   * Keys of the properties to read, {@code null} to read all properties.
+   */
+  private Set<String> propertyKeys;
+
+  /**
+   * Property comparisons the elements have to satisfy.
+   */
+  private final List<PropertyComparison> comparisons = new ArrayList<>();
+
+  /**
+   * Restricts the elements to the given labels. Multiple calls extend the set of labels.
+   *
+   * @param elementLabels labels of the elements to read
+   * @return this filter
+   */
+  public HBaseElementFilter withLabels(String... elementLabels) {
+    labels.addAll(Arrays.asList(elementLabels));
+    return this;
+  }
+
+  /**
+   * Restricts the elements to those contained in at least one of the given graphs. Applied to
+   * graph heads, the graph heads with the given identifiers are read. Multiple calls extend the
+   * set of graphs.
+   *
+   * @param graphIdentifiers graph identifiers
+   * @return this filter
+   */
+  public HBaseElementFilter inGraphs(GradoopId... graphIdentifiers) {
+    if (graphIds == null) {
+      graphIds = new GradoopIdList();
+    }
+    for (GradoopId graphId : graphIdentifiers) {
+      graphIds.add(Objects.requireNonNull(graphId));
+    }
+    return this;
+  }
+
+  /**
+   * Restricts the properties read for each element to the given keys. Properties used in
+   * comparisons are read as well. Multiple calls extend the set of keys.
+   *
+   * @param keys property keys
+   * @return this filter
+   */
+  public HBaseElementFilter withPropertyKeys(String... keys) {
+    if (propertyKeys == null) {
+      propertyKeys = new HashSet<>();
+    }
+    propertyKeys.addAll(Arrays.asList(keys));
+    return this;
+  }
+
+  /**
+   * Restricts the elements to those having a property with the given key and value.
+   *
+   * @param key property key
+   * @param value property value
+   * @return this filter
+   */
+  public HBaseElementFilter wherePropertyEquals(String key, PropertyValue value) {
+    comparisons.add(new PropertyComparison(key, value, true));
+    return this;
+  }
+
+  /**
+   * Restricts the elements to those having a property with the given key and a different value.
+   * Elements without the property are not read.
+   *
+   * @param key property key
+   * @param value property value
+   * @return this filter
+   */
+  public HBaseElementFilter wherePropertyNotEquals(String key, PropertyValue value) {
+    comparisons.add(new PropertyComparison(key, value, false));
+    return this;
+  }
+
+  /**
+   * Applies the restrictions to a scan of a vertex or edge table.
+   *
+   * @param scan scan of the table
+   * @throws IOException if a property value cannot be encoded
+   */
+  public void applyToGraphElementScan(Scan scan) throws IOException {
+    FilterList filters = createFilters();
+    if (graphIds != null) {
+      // the graph column contains the concatenated identifiers, thus an identifier must start at
+      // a multiple of the identifier size
+      StringBuilder expression = new StringBuilder("^(?:.{")
+        .append(GradoopId.ID_SIZE)
+        .append("})*(?:");
+      String separator = "";
+      for (GradoopId graphId : graphIds) {
+        expression.append(separator)
+          .append(Pattern.quote(new String(graphId.toByteArray(), StandardCharsets.ISO_8859_1)));
+        separator = "|";
+      }
+      expression.append(')');
+
+      RegexStringComparator comparator =
+        new RegexStringComparator(expression.toString(), Pattern.DOTALL);
+      comparator.setCharset(StandardCharsets.ISO_8859_1);
+      filters.addFilter(createValueFilter(CF_META_BYTES, COL_GRAPHS_BYTES,
+        CompareFilter.CompareOp.EQUAL, comparator));
+    }
+    apply(scan, filters);
+  }
+
+  /**
+   * Applies the restrictions to a scan of a graph head table.
+   *
+   * @param scan scan of the table
+   * @param rowKeyStrategy row key strategy of the table
+   * @throws IOException if a property value cannot be encoded
+   */
+  public void applyToGraphHeadScan(Scan scan, RowKeyStrategy rowKeyStrategy) throws IOException {
+    FilterList filters = createFilters();
+    if (graphIds != null) {
+      FilterList rows = new FilterList(FilterList.Operator.MUST_PASS_ONE);
+      for (GradoopId graphId : graphIds) {
+        rows.addFilter(new RowFilter(CompareFilter.CompareOp.EQUAL,
+          new BinaryComparator(rowKeyStrategy.getRowKey(graphId))));
+      }
+      filters.addFilter(rows);
+    }
+    apply(scan, filters);
+  }
+
+  /**
+   * Creates the label and property filters shared by all element types.
+   *
+   * @return filters which all have to pass
+   * @throws IOException if a property value cannot be encoded
+   */
+  private FilterList createFilters() throws IOException {
+    FilterList filters = new FilterList(FilterList.Operator.MUST_PASS_ALL);
+    if (!labels.isEmpty()) {
+      FilterList labelFilters = new FilterList(FilterList.Operator.MUST_PASS_ONE);
+      for (String label : labels) {
+        labelFilters.addFilter(createValueFilter(CF_META_BYTES, COL_LABEL_BYTES,
+          CompareFilter.CompareOp.EQUAL, new BinaryComparator(Bytes.toBytes(label))));
+      }
+      filters.addFilter(labelFilters);
+    }
+    for (PropertyComparison comparison : comparisons) {
+      filters.addFilter(createValueFilter(CF_PROPERTIES_BYTES, Bytes.toBytes(comparison.key),
+        comparison.equal ? CompareFilter.CompareOp.EQUAL : CompareFilter.CompareOp.NOT_EQUAL,
+        new BinaryComparator(Writables.getBytes(new HBasePropertyValueWrapper(comparison.value)))));
+    }
+    return filters;
+  }
+
+  /**
+   * Selects the columns to read and sets the filters. Only the meta and properties families are
+   * read, which contain all data needed to create the elements.
+   *
+   * @param scan scan
+   * @param filters filters which all have to pass
+   */
+  private void apply(Scan scan, FilterList filters) {
+    scan.addFamily(CF_META_BYTES);
+    if (propertyKeys == null) {
+      scan.addFamily(CF_PROPERTIES_BYTES);
+    } else {
+      Set<String> keys = new HashSet<>(propertyKeys);
+      for (PropertyComparison comparison : comparisons) {
+        keys.add(comparison.key);
+      }
+      for (String key : keys) {
+        scan.addColumn(CF_PROPERTIES_BYTES, Bytes.toBytes(key));
+      }
+    }
+    if (!filters.getFilters().isEmpty()) {
+      scan.setFilter(filters);
+    }
+  }
+
+  /**
+   * Creates a filter on the value of a column. Rows without the column are filtered.
+   *
+   * @param family column family
+   * @param qualifier column qualifier
+   * @param op compare operator
+   * @param comparator value comparator
+   * @return filter
+   */
+  private static Filter createValueFilter(byte[] family, byte[] qualifier,
+    CompareFilter.CompareOp op, ByteArrayComparable comparator) {
+    SingleColumnValueFilter filter = new SingleColumnValueFilter(family, qualifier, op, comparator);
+    filter.setFilterIfMissing(true);
+    return filter;
+  }
+
+  /**
+   * Comparison of a property with a value.
+   */
+  private static class PropertyComparison implements Serializable {
+
+    /**
+     * serial version uid
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Property key.
+     */
+    private final String key;
+
+    /**
+     * Property value.
+     */
+    private final PropertyValue value;
+
+    /**
+     * True, if the property has to be equal to the value, false if it has to be different.
+     */
+    private final boolean equal;
+
+    /**
+     * Constructor.
+     *
+     * @param key property key
+     * @param value property value
+     * @param equal true for equality, false for inequality
+     */
+    PropertyComparison(String key, PropertyValue value, boolean equal) {
+      this.key = Objects.requireNonNull(key);
+      this.value = Objects.requireNonNull(value);
+      this.equal = equal;
+    }
+  }
+}
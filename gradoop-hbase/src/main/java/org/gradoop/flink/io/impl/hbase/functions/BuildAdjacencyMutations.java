@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.storage.api.VertexHandler;
+
+/**
+ * Creates HBase {@link Mutation}s which add the identifier of an edge to the
+ * rows of its source and target vertex using vertex data handler. HBase
+ * merges these mutations with the ones containing the vertex data, thus the
+ * edges of a vertex never have to be collected.
+ *
+ * edge -> (sourceId, put), (targetId, put)
+ *
+ * @param <V> EPGM vertex type
+ * @param <E> EPGM edge type
+ */
+public class BuildAdjacencyMutations<V extends EPGMVertex, E extends EPGMEdge>
+  implements FlatMapFunction<E, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Vertex data handler to create Mutations.
+   */
+  private final VertexHandler<V, E> vertexHandler;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<GradoopId, Mutation> reuseTuple = new Tuple2<>();
+
+  /**
+   * Creates flat map function.
+   *
+   * @param vertexHandler vertex data handler
+   */
+  public BuildAdjacencyMutations(VertexHandler<V, E> vertexHandler) {
+    this.vertexHandler = vertexHandler;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flatMap(E edge, Collector<Tuple2<GradoopId, Mutation>> out)
+    throws Exception {
+    reuseTuple.f0 = edge.getSourceId();
+    reuseTuple.f1 = vertexHandler.writeOutgoingEdge(
+      new Put(vertexHandler.getRowKey(edge.getSourceId())), edge);
+    out.collect(reuseTuple);
+
+    reuseTuple.f0 = edge.getTargetId();
+    reuseTuple.f1 = vertexHandler.writeIncomingEdge(
+      new Put(vertexHandler.getRowKey(edge.getTargetId())), edge);
+    out.collect(reuseTuple);
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Splits HBase {@link Mutation}s into their cells.
+ *
+ * (id, mutation) -> (row, family, qualifier, value)+
+ *
+ * Row, family and qualifier are decoded as ISO-8859-1 strings. Each byte maps to a single
+ * character and strings compare like unsigned bytes, so sorting the cells by these fields
+ * yields the order HBase expects in a HFile.
+ */
+public class BuildCells implements
+  FlatMapFunction<Tuple2<GradoopId, Mutation>, Tuple4<String, String, String, byte[]>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple4<String, String, String, byte[]> reuseTuple = new Tuple4<>();
+
+  @Override
+  public void flatMap(Tuple2<GradoopId, Mutation> mutation,
+    Collector<Tuple4<String, String, String, byte[]>> out) throws Exception {
+    reuseTuple.f0 = new String(mutation.f1.getRow(), StandardCharsets.ISO_8859_1);
+    for (List<Cell> cells : mutation.f1.getFamilyCellMap().values()) {
+      for (Cell cell : cells) {
+        reuseTuple.f1 = new String(CellUtil.cloneFamily(cell), StandardCharsets.ISO_8859_1);
+        reuseTuple.f2 = new String(CellUtil.cloneQualifier(cell), StandardCharsets.ISO_8859_1);
+        reuseTuple.f3 = CellUtil.cloneValue(cell);
+        out.collect(reuseTuple);
+      }
+    }
+  }
+}
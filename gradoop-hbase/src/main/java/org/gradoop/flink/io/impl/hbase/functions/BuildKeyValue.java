@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Creates a {@link KeyValue} from the cell fields created by {@link BuildCells}.
+ *
+ * (row, family, qualifier, value) -> (row, keyValue)
+ */
+public class BuildKeyValue implements
+  MapFunction<Tuple4<String, String, String, byte[]>, Tuple2<ImmutableBytesWritable, Cell>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<ImmutableBytesWritable, Cell> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<ImmutableBytesWritable, Cell> map(Tuple4<String, String, String, byte[]> cell)
+    throws Exception {
+    byte[] row = cell.f0.getBytes(StandardCharsets.ISO_8859_1);
+    reuseTuple.f0 = new ImmutableBytesWritable(row);
+    reuseTuple.f1 = new KeyValue(row,
+      cell.f1.getBytes(StandardCharsets.ISO_8859_1),
+      cell.f2.getBytes(StandardCharsets.ISO_8859_1),
+      cell.f3);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.functions;
+
+import org.apache.flink.api.common.functions.Partitioner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Partitions row keys, encoded as ISO-8859-1 strings by {@link BuildCells}, by the region of a
+ * table they belong to. Consecutive regions are assigned to the same partition, so each
+ * partition covers a contiguous range of row keys.
+ */
+public class RegionPartitioner implements Partitioner<String> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Sorted start keys of the regions, the first one is empty.
+   */
+  private final String[] startKeys;
+
+  /**
+   * Constructor.
+   *
+   * @param regionStartKeys start keys of the table regions
+   */
+  public RegionPartitioner(byte[][] regionStartKeys) {
+    startKeys = new String[regionStartKeys.length];
+    for (int i = 0; i < regionStartKeys.length; i++) {
+      startKeys[i] = new String(regionStartKeys[i], StandardCharsets.ISO_8859_1);
+    }
+    Arrays.sort(startKeys);
+  }
+
+  @Override
+  public int partition(String rowKey, int numPartitions) {
+    int position = Arrays.binarySearch(startKeys, rowKey);
+    // a row key which is not a start key belongs to the region before its insertion point
+    int region = position >= 0 ? position : -position - 2;
+    return (int) ((long) region * numPartitions / startKeys.length);
+  }
+}
@@ -23,6 +23,10 @@ import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.EdgeHandler;
 import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.impl.hbase.HBaseElementFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Reads edge data from HBase.
@@ -43,6 +47,11 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   private final String edgeTableName;
 
+  /**
+   * Restricts the elements and properties to read.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an edge table input format.
    *
@@ -51,8 +60,21 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
    */
   public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
     String edgeTableName) {
+    this(edgeHandler, edgeTableName, new HBaseElementFilter());
+  }
+
+  /**
+   * Creates an edge table input format using the given filter.
+   *
+   * @param edgeHandler   edge data handler
+   * @param edgeTableName edge data table name
+   * @param filter        restricts the elements and properties to read
+   */
+  public EdgeTableInputFormat(EdgeHandler<E, V> edgeHandler,
+    String edgeTableName, HBaseElementFilter filter) {
     this.edgeHandler = edgeHandler;
     this.edgeTableName = edgeTableName;
+    this.filter = filter;
   }
 
   /**
@@ -62,6 +84,11 @@ public class EdgeTableInputFormat<E extends EPGMEdge, V extends EPGMVertex>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
+    try {
+      filter.applyToGraphElementScan(scan);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
     return scan;
   }
 
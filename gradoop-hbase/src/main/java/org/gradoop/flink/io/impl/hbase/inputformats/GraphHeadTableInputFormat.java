@@ -22,6 +22,10 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.storage.api.GraphHeadHandler;
 import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.impl.hbase.HBaseElementFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Reads graph data from HBase.
@@ -41,6 +45,11 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
    */
   private final String graphHeadTableName;
 
+  /**
+   * Restricts the elements and properties to read.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an graph table input format.
    *
@@ -49,8 +58,21 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
    */
   public GraphHeadTableInputFormat(GraphHeadHandler<G> graphHeadHandler,
     String graphHeadTableName) {
+    this(graphHeadHandler, graphHeadTableName, new HBaseElementFilter());
+  }
+
+  /**
+   * Creates an graph table input format using the given filter.
+   *
+   * @param graphHeadHandler   graph data handler
+   * @param graphHeadTableName graph data table name
+   * @param filter             restricts the elements and properties to read
+   */
+  public GraphHeadTableInputFormat(GraphHeadHandler<G> graphHeadHandler,
+    String graphHeadTableName, HBaseElementFilter filter) {
     this.graphHeadHandler = graphHeadHandler;
     this.graphHeadTableName = graphHeadTableName;
+    this.filter = filter;
   }
 
   /**
@@ -60,6 +82,11 @@ public class GraphHeadTableInputFormat<G extends EPGMGraphHead>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
+    try {
+      filter.applyToGraphHeadScan(scan, graphHeadHandler.getRowKeyStrategy());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
     return scan;
   }
 
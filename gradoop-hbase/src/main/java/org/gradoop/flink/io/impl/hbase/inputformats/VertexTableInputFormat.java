@@ -23,6 +23,10 @@ import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.storage.api.VertexHandler;
 import org.gradoop.common.util.HBaseConstants;
+import org.gradoop.flink.io.impl.hbase.HBaseElementFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Reads vertex data from HBase.
@@ -43,6 +47,11 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   private final String vertexTableName;
 
+  /**
+   * Restricts the elements and properties to read.
+   */
+  private final HBaseElementFilter filter;
+
   /**
    * Creates an vertex table input format.
    *
@@ -51,8 +60,21 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
    */
   public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
     String vertexTableName) {
+    this(vertexHandler, vertexTableName, new HBaseElementFilter());
+  }
+
+  /**
+   * Creates an vertex table input format using the given filter.
+   *
+   * @param vertexHandler   vertex data handler
+   * @param vertexTableName vertex data table name
+   * @param filter          restricts the elements and properties to read
+   */
+  public VertexTableInputFormat(VertexHandler<V, E> vertexHandler,
+    String vertexTableName, HBaseElementFilter filter) {
     this.vertexHandler = vertexHandler;
     this.vertexTableName = vertexTableName;
+    this.filter = filter;
   }
 
   /**
@@ -62,6 +84,11 @@ public class VertexTableInputFormat<V extends EPGMVertex, E extends EPGMEdge>
   protected Scan getScanner() {
     Scan scan = new Scan();
     scan.setCaching(HBaseConstants.HBASE_DEFAULT_SCAN_CACHE_SIZE);
+    try {
+      filter.applyToGraphElementScan(scan);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
     return scan;
   }
 
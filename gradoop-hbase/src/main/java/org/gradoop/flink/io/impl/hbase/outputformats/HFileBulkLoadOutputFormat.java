@@ -0,0 +1,127 @@
+/**
+ * Copyright © 2014 - 2017 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.hbase.outputformats;
+
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.ImmutableBytesWritable;
+import org.apache.hadoop.hbase.mapreduce.HFileOutputFormat2;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Writes cells of a HBase table into HFiles and bulk loads them into the table after all tasks
+ * have finished.
+ *
+ * Each task writes its cells into separate HFiles, so the cells of a task have to be sorted by
+ * row key, family and qualifier. HFiles which span multiple regions are split by the bulk load.
+ * The HFile directory is deleted after a successful bulk load.
+ */
+public class HFileBulkLoadOutputFormat extends HadoopOutputFormat<ImmutableBytesWritable, Cell> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Name of the table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Directory to write the HFiles to.
+   */
+  private final String hFilePath;
+
+  /**
+   * Constructor.
+   *
+   * @param config HBase configuration
+   * @param tableName name of the table to load the HFiles into
+   * @param hFilePath directory to write the HFiles to
+   * @throws IOException if the table cannot be accessed
+   */
+  public HFileBulkLoadOutputFormat(Configuration config, String tableName, String hFilePath)
+    throws IOException {
+    super(new HFileOutputFormat2(), createJob(config, tableName, hFilePath));
+    this.tableName = tableName;
+    this.hFilePath = hFilePath;
+  }
+
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    // commits the HFiles of all tasks
+    super.finalizeGlobal(parallelism);
+
+    Configuration config = getConfiguration();
+    Path outputPath = new Path(hFilePath);
+    TableName name = TableName.valueOf(tableName);
+    try (Connection connection = ConnectionFactory.createConnection(config);
+      Admin admin = connection.getAdmin();
+      Table table = connection.getTable(name);
+      RegionLocator locator = connection.getRegionLocator(name)) {
+      createLoader(config).doBulkLoad(outputPath, admin, table, locator);
+    }
+    outputPath.getFileSystem(config).delete(outputPath, true);
+  }
+
+  /**
+   * Creates a job which writes HFiles using the column family settings of the table.
+   *
+   * @param config HBase configuration
+   * @param tableName name of the table
+   * @param hFilePath directory to write the HFiles to
+   * @return job
+   * @throws IOException if the table cannot be accessed
+   */
+  private static Job createJob(Configuration config, String tableName, String hFilePath)
+    throws IOException {
+    Job job = Job.getInstance(config);
+    try (Connection connection = ConnectionFactory.createConnection(config);
+      Table table = connection.getTable(TableName.valueOf(tableName))) {
+      HFileOutputFormat2.configureIncrementalLoadMap(job, table);
+    }
+    FileOutputFormat.setOutputPath(job, new Path(hFilePath));
+    return job;
+  }
+
+  /**
+   * Creates the bulk loader.
+   *
+   * @param config HBase configuration
+   * @return bulk loader
+   * @throws IOException if the loader cannot be initialized
+   */
+  private static LoadIncrementalHFiles createLoader(Configuration config) throws IOException {
+    try {
+      return new LoadIncrementalHFiles(config);
+    } catch (Exception e) {
+      throw new IOException("Could not initialize the bulk loader.", e);
+    }
+  }
+}
@@ -17,8 +17,11 @@ package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.TableName;
 import org.gradoop.GradoopHBaseTestBase;
 import org.gradoop.common.config.GradoopConfig;
+import org.gradoop.common.config.GradoopHBaseConfig;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
@@ -36,6 +39,7 @@ import org.gradoop.common.storage.api.PersistentVertex;
 import org.gradoop.common.storage.api.PersistentVertexFactory;
 import org.gradoop.common.storage.exceptions.UnsupportedTypeException;
 import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.common.util.HBaseConstants;
 import org.junit.Test;
 
 import java.io.IOException;
@@ -111,6 +115,49 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Writes data with salted row keys to pre-split tables and reads/validates
+   * the data.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void saltedRowKeyTest() throws IOException {
+    Configuration config = utility.getConfiguration();
+    String prefix = "salted_";
+    HBaseEPGMStoreFactory.deleteEPGMStore(config,
+      prefix + HBaseConstants.DEFAULT_TABLE_VERTICES,
+      prefix + HBaseConstants.DEFAULT_TABLE_EDGES,
+      prefix + HBaseConstants.DEFAULT_TABLE_GRAPHS);
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore =
+      HBaseEPGMStoreFactory.createOrOpenEPGMStore(config, GradoopHBaseConfig
+        .getDefaultConfig(getExecutionEnvironment(), new SaltedRowKeyStrategy(4)), prefix);
+
+    assertEquals("Wrong number of regions", 4, utility.getHBaseAdmin()
+      .getTableRegions(TableName.valueOf(graphStore.getVertexTableName())).size());
+
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader =
+      getMinimalFullFeaturedGraphLoader();
+
+    GraphHead graphHead = loader.getGraphHeads().iterator().next();
+    Vertex vertex = loader.getVertices().iterator().next();
+    Edge edge = loader.getEdges().iterator().next();
+
+    writeGraphHead(graphStore, graphHead, vertex, edge);
+    writeVertex(graphStore, vertex, edge);
+    writeEdge(graphStore, vertex, edge);
+
+    graphStore.flush();
+
+    validateGraphHead(graphStore, graphHead);
+    validateVertex(graphStore, vertex);
+    validateEdge(graphStore, edge);
+    validateEPGMElementCollections(Lists.newArrayList(vertex),
+      Lists.newArrayList(graphStore.getVertexSpace()));
+
+    graphStore.close();
+  }
+
   /**
    * Stores social network data, loads it again and checks for element data
    * equality.
@@ -171,6 +218,59 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Stores social network data in batches with a small write buffer, reads it
+   * again in batches and checks for element data equality.
+   *
+   * @throws IOException
+   */
+  @Test
+  public void batchWriteReadTest() throws IOException {
+    createEmptyEPGMStore(getExecutionEnvironment()).close();
+    HBaseEPGMStore<GraphHead, Vertex, Edge> graphStore = HBaseEPGMStoreFactory
+      .createOrOpenEPGMStore(utility.getConfiguration(),
+        GradoopHBaseConfig.getDefaultConfig(getExecutionEnvironment()), 1024);
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    List<PersistentEdge<Vertex>> edges =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentEdges());
+    List<PersistentGraphHead> graphHeads =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentGraphHeads());
+
+    graphStore.setAutoFlush(false);
+    graphStore.writeGraphHeads(graphHeads);
+    graphStore.writeVertices(vertices);
+    graphStore.writeEdges(edges);
+    graphStore.flushBatch();
+
+    List<GradoopId> graphIds = Lists.newArrayList();
+    graphHeads.forEach(g -> graphIds.add(g.getId()));
+    List<GradoopId> vertexIds = Lists.newArrayList();
+    vertices.forEach(v -> vertexIds.add(v.getId()));
+    List<GradoopId> edgeIds = Lists.newArrayList();
+    edges.forEach(e -> edgeIds.add(e.getId()));
+
+    // unknown identifiers are skipped
+    vertexIds.add(GradoopId.get());
+
+    List<GraphHead> loadedGraphHeads = graphStore.readGraphs(graphIds);
+    List<Vertex> loadedVertices = graphStore.readVertices(vertexIds);
+    List<Edge> loadedEdges = graphStore.readEdges(edgeIds);
+
+    assertEquals(graphHeads.size(), loadedGraphHeads.size());
+    assertEquals(vertices.size(), loadedVertices.size());
+    assertEquals(edges.size(), loadedEdges.size());
+
+    validateEPGMElementCollections(graphHeads, loadedGraphHeads);
+    validateEPGMElementCollections(vertices, loadedVertices);
+    validateEPGMGraphElementCollections(vertices, loadedVertices);
+    validateEPGMElementCollections(edges, loadedEdges);
+    validateEPGMGraphElementCollections(edges, loadedEdges);
+
+    graphStore.close();
+  }
+
   /**
    * Tries to add an unsupported property type {@link List} as property value.
    */
@@ -16,33 +16,54 @@
 package org.gradoop.flink.io.impl.hbase;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.storage.api.PersistentEdge;
 import org.gradoop.common.storage.api.PersistentGraphHead;
 import org.gradoop.common.storage.api.PersistentVertex;
+import org.gradoop.common.storage.api.VertexHandler;
 import org.gradoop.common.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.common.util.HBaseConstants;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.EPGMDatabase;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.gradoop.GradoopHBaseTestBase.createEmptyEPGMStore;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.common.storage.impl.hbase.GradoopHBaseTestUtils.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Test
   public void testRead() throws Exception {
@@ -88,6 +109,74 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     epgmStore.close();
   }
 
+  @Test
+  public void testReadFiltered() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = createEmptyEPGMStore(getExecutionEnvironment());
+
+    List<PersistentVertex<Edge>> vertices = Lists.newArrayList(getSocialPersistentVertices());
+    List<PersistentEdge<Vertex>> edges = Lists.newArrayList(getSocialPersistentEdges());
+    List<PersistentGraphHead> graphHeads = Lists.newArrayList(getSocialPersistentGraphHeads());
+
+    // write social graph to HBase
+    for (PersistentGraphHead g : graphHeads) {
+      epgmStore.writeGraphHead(g);
+    }
+    for (PersistentVertex<Edge> v : vertices) {
+      epgmStore.writeVertex(v);
+    }
+    for (PersistentEdge<Vertex> e : edges) {
+      epgmStore.writeEdge(e);
+    }
+
+    epgmStore.flush();
+
+    GradoopId graphId = graphHeads.get(0).getId();
+    PropertyValue city = PropertyValue.create("Leipzig");
+
+    // read persons outside of Leipzig and the graph head and edges of one graph
+    GraphCollection collection = new HBaseDataSource(epgmStore, config,
+      new HBaseElementFilter().inGraphs(graphId).withPropertyKeys("interest"),
+      new HBaseElementFilter().withLabels("Person").wherePropertyNotEquals("city", city)
+        .withPropertyKeys("name"),
+      new HBaseElementFilter().inGraphs(graphId)).getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads    = Lists.newArrayList();
+    Collection<Vertex>    loadedVertices      = Lists.newArrayList();
+    Collection<Edge>      loadedEdges         = Lists.newArrayList();
+
+    collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+    collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+    collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+    getExecutionEnvironment().execute();
+
+    assertEquals(1, loadedGraphHeads.size());
+    GraphHead loadedGraphHead = loadedGraphHeads.iterator().next();
+    assertEquals(graphId, loadedGraphHead.getId());
+    assertEquals(Sets.newHashSet("interest"), Sets.newHashSet(loadedGraphHead.getPropertyKeys()));
+
+    Set<GradoopId> expectedVertexIds = vertices.stream()
+      .filter(v -> v.getLabel().equals("Person") && !v.getPropertyValue("city").equals(city))
+      .map(v -> v.getId())
+      .collect(Collectors.toSet());
+    assertEquals(expectedVertexIds,
+      loadedVertices.stream().map(Vertex::getId).collect(Collectors.toSet()));
+    for (Vertex vertex : loadedVertices) {
+      // properties used in comparisons are read as well
+      assertEquals(Sets.newHashSet("name", "city"), Sets.newHashSet(vertex.getPropertyKeys()));
+    }
+
+    Set<GradoopId> expectedEdgeIds = edges.stream()
+      .filter(e -> e.getGraphIds().contains(graphId))
+      .map(e -> e.getId())
+      .collect(Collectors.toSet());
+    assertEquals(expectedEdgeIds,
+      loadedEdges.stream().map(Edge::getId).collect(Collectors.toSet()));
+
+    epgmStore.close();
+  }
+
   @Test
   public void testWrite() throws Exception {
     GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
@@ -138,4 +227,88 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
 
     epgmStore.close();
   }
+
+  @Test
+  public void testWriteAdjacency() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = createEmptyEPGMStore(getExecutionEnvironment());
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+
+    loader.initDatabaseFromStream(inputStream);
+
+    loader.getDatabase().writeTo(new HBaseDataSink(epgmStore, config));
+
+    getExecutionEnvironment().execute();
+
+    // each vertex row contains one column per outgoing and incoming edge
+    byte[] outEdges = Bytes.toBytes(HBaseConstants.CF_OUT_EDGES);
+    byte[] inEdges = Bytes.toBytes(HBaseConstants.CF_IN_EDGES);
+    VertexHandler<Vertex, Edge> vertexHandler = epgmStore.getConfig().getVertexHandler();
+    try (Connection connection = ConnectionFactory.createConnection(epgmStore.getHBaseConfiguration());
+      Table table = connection.getTable(TableName.valueOf(epgmStore.getVertexTableName()))) {
+      for (Vertex vertex : loader.getVertices()) {
+        Result result = table.get(new Get(vertexHandler.getRowKey(vertex.getId())));
+        long outDegree = loader.getEdges().stream()
+          .filter(e -> e.getSourceId().equals(vertex.getId())).count();
+        long inDegree = loader.getEdges().stream()
+          .filter(e -> e.getTargetId().equals(vertex.getId())).count();
+        assertEquals(outDegree, result.getFamilyMap(outEdges).size());
+        assertEquals(inDegree, result.getFamilyMap(inEdges).size());
+      }
+    }
+
+    epgmStore.close();
+  }
+
+  @Test
+  public void testWriteBulkLoad() throws Exception {
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    // create empty EPGM store
+    HBaseEPGMStore<GraphHead, Vertex, Edge> epgmStore = createEmptyEPGMStore(getExecutionEnvironment());
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+
+    loader.initDatabaseFromStream(inputStream);
+
+    String bulkLoadPath = temporaryFolder.getRoot().toURI().toString() + "hfiles";
+
+    // bulk load social graph into HBase via EPGM database
+    loader.getDatabase().writeTo(new HBaseDataSink(epgmStore, config, bulkLoadPath));
+
+    getExecutionEnvironment().execute();
+
+    // read social network from HBase
+    validateEPGMElementCollections(
+      loader.getGraphHeads(),
+      Lists.newArrayList(epgmStore.getGraphSpace())
+    );
+    validateEPGMElementCollections(
+      loader.getVertices(),
+      Lists.newArrayList(epgmStore.getVertexSpace())
+    );
+    validateEPGMGraphElementCollections(
+      loader.getVertices(),
+      Lists.newArrayList(epgmStore.getVertexSpace())
+    );
+    validateEPGMElementCollections(
+      loader.getEdges(),
+      Lists.newArrayList(epgmStore.getEdgeSpace())
+    );
+    validateEPGMGraphElementCollections(
+      loader.getEdges(),
+      Lists.newArrayList(epgmStore.getEdgeSpace())
+    );
+
+    // the HFiles have been removed after loading
+    assertFalse(new File(temporaryFolder.getRoot(), "hfiles").exists());
+
+    epgmStore.close();
+  }
 }